@@ -1,13 +1,9 @@
 package eu.bittrade.libs.steemj;
 
 import java.security.InvalidParameterException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TimeZone;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.bitcoinj.core.ECKey;
@@ -15,9 +11,6 @@ import org.bitcoinj.core.Sha256Hash;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-
-import eu.bittrade.libs.steemj.apis.follow.FollowApi;
 import eu.bittrade.libs.steemj.apis.follow.enums.FollowType;
 import eu.bittrade.libs.steemj.apis.follow.model.AccountReputation;
 import eu.bittrade.libs.steemj.apis.follow.model.BlogEntry;
@@ -27,7 +20,6 @@ import eu.bittrade.libs.steemj.apis.follow.model.FeedEntry;
 import eu.bittrade.libs.steemj.apis.follow.model.FollowApiObject;
 import eu.bittrade.libs.steemj.apis.follow.model.FollowCountApiObject;
 import eu.bittrade.libs.steemj.apis.follow.model.PostsPerAuthorPair;
-import eu.bittrade.libs.steemj.apis.market.history.MarketHistoryApi;
 import eu.bittrade.libs.steemj.apis.market.history.model.Bucket;
 import eu.bittrade.libs.steemj.apis.market.history.model.MarketTicker;
 import eu.bittrade.libs.steemj.apis.market.history.model.MarketTrade;
@@ -70,18 +62,32 @@ import eu.bittrade.libs.steemj.enums.RequestMethods;
 import eu.bittrade.libs.steemj.enums.RewardFundType;
 import eu.bittrade.libs.steemj.enums.SteemApis;
 import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
-import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.streaming.BlockOperations;
+import eu.bittrade.libs.steemj.streaming.OperationFilter;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
  * This class is a wrapper for the Steem web socket API.
  * 
+ * <p>
+ * An instance keeps its connections to the configured Steem Nodes open until
+ * {@link #close() close()} is called, so it should be closed once it is not
+ * needed anymore, e.g. by using a try-with-resources statement:
+ * </p>
+ * 
+ * <pre>
+ * try (SteemJ steemJ = new SteemJ()) {
+ *     steemJ.getDynamicGlobalProperties();
+ * }
+ * </pre>
+ * 
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
-public class SteemJ {
+public class SteemJ implements AutoCloseable {
     private static final Logger LOGGER = LoggerFactory.getLogger(SteemJ.class);
 
     private CommunicationHandler communicationHandler;
+    private SteemJAsync asyncApi;
 
     /**
      * Initialize the SteemJ.
@@ -100,6 +106,7 @@ public class SteemJ {
      */
     public SteemJ() throws SteemCommunicationException {
         this.communicationHandler = new CommunicationHandler();
+        this.asyncApi = new SteemJAsync(communicationHandler);
 
         if (!("").equals(String.valueOf(SteemJConfig.getInstance().getApiPassword()))
                 && !SteemJConfig.getInstance().getApiUsername().isEmpty()) {
@@ -125,6 +132,69 @@ public class SteemJ {
         }
     }
 
+    /**
+     * Create a SteemJ instance which uses the given communication handler.
+     * 
+     * @param communicationHandler
+     *            The communication handler to use.
+     */
+    private SteemJ(CommunicationHandler communicationHandler) {
+        this.communicationHandler = communicationHandler;
+        this.asyncApi = new SteemJAsync(communicationHandler);
+    }
+
+    /**
+     * Get a SteemJ instance which shares the connections of this instance,
+     * but waits at most the given time for each response instead of the
+     * configured default (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setTimeout(long)
+     * setTimeout}).
+     * 
+     * Example:
+     * 
+     * <pre>
+     * steemJ.withTimeout(200).getDynamicGlobalProperties();
+     * steemJ.withTimeout(30000).getAccountHistory(accountName, -1, 10000);
+     * </pre>
+     * 
+     * @param timeout
+     *            The timeout in milliseconds. <code>0</code> disables the
+     *            timeout mechanism.
+     * @return A SteemJ instance using the given timeout.
+     * @throws IllegalArgumentException
+     *             If the value of timeout is negative.
+     */
+    public SteemJ withTimeout(long timeout) {
+        return new SteemJ(communicationHandler.withTimeout(timeout));
+    }
+
+    /**
+     * Get the asynchronous API of this SteemJ instance. All requests performed
+     * by the returned object share the connection of this instance.
+     * 
+     * @return The asynchronous API.
+     */
+    public SteemJAsync getAsyncApi() {
+        return asyncApi;
+    }
+
+    /**
+     * Close the connections of this instance. Requests which are still
+     * waiting for their response fail with a
+     * {@link eu.bittrade.libs.steemj.exceptions.SteemConnectionException
+     * SteemConnectionException} and all requests made afterwards fail, too.
+     * 
+     * <p>
+     * The connections are shared with the instances created by
+     * {@link #withTimeout(long) withTimeout(long)} and with the
+     * {@link #getAsyncApi() asynchronous API}, so those are closed as well.
+     * </p>
+     */
+    @Override
+    public void close() {
+        communicationHandler.close();
+    }
+
     /**
      * Broadcast a transaction on the Steem blockchain.
      * 
@@ -143,15 +213,7 @@ public class SteemJ {
      *             </ul>
      */
     public void broadcastTransaction(SignedTransaction transaction) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.BROADCAST_TRANSACTION);
-        requestObject.setSteemApi(SteemApis.NETWORK_BROADCAST_API);
-
-        // TODO: transaction.sign();
-        Object[] parameters = { transaction };
-        requestObject.setAdditionalParameters(parameters);
-
-        communicationHandler.performRequest(requestObject, Object.class);
+        CommunicationHandler.await(asyncApi.broadcastTransaction(transaction));
     }
 
     // TODO implement this!
@@ -182,13 +244,7 @@ public class SteemJ {
      *             </ul>
      */
     public int getAccountCount() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_COUNT);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Integer.class).get(0);
+        return CommunicationHandler.await(asyncApi.getAccountCount());
     }
 
     /**
@@ -216,21 +272,7 @@ public class SteemJ {
      */
     public Map<Integer, AppliedOperation> getAccountHistory(AccountName accountName, int from, int limit)
             throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_HISTORY);
-        String[] parameters = { accountName.getName(), String.valueOf(from), String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        Map<Integer, AppliedOperation> accountActivities = new HashMap<>();
-
-        for (Object[] accountActivity : communicationHandler.performRequest(requestObject, Object[].class)) {
-            accountActivities.put((Integer) accountActivity[0], CommunicationHandler.getObjectMapper()
-                    .convertValue(accountActivity[1], new TypeReference<AppliedOperation>() {
-                    }));
-        }
-
-        return accountActivities;
+        return CommunicationHandler.await(asyncApi.getAccountHistory(accountName, from, limit));
     }
 
     /**
@@ -251,20 +293,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<ExtendedAccount> getAccounts(List<AccountName> accountNames) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        requestObject.setApiMethod(RequestMethods.GET_ACCOUNTS);
-
-        // The API expects an array of arrays here.
-        String[] innerParameters = new String[accountNames.size()];
-        for (int i = 0; i < accountNames.size(); i++) {
-            innerParameters[i] = accountNames.get(i).getName();
-        }
-
-        String[][] parameters = { innerParameters };
-
-        requestObject.setAdditionalParameters(parameters);
-        return communicationHandler.performRequest(requestObject, ExtendedAccount.class);
+        return CommunicationHandler.await(asyncApi.getAccounts(accountNames));
     }
 
     /**
@@ -286,13 +315,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<Vote> getAccountVotes(AccountName accountName) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_VOTES);
-        String[] parameters = { accountName.getName() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Vote.class);
+        return CommunicationHandler.await(asyncApi.getAccountVotes(accountName));
     }
 
     /**
@@ -316,13 +339,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<VoteState> getActiveVotes(AccountName author, Permlink permlink) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_ACTIVE_VOTES);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { author.getName(), permlink.getLink() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, VoteState.class);
+        return CommunicationHandler.await(asyncApi.getActiveVotes(author, permlink));
     }
 
     /**
@@ -342,13 +359,7 @@ public class SteemJ {
      *             </ul>
      */
     public String[] getActiveWitnesses() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_ACTIVE_WITNESSES);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, String[].class).get(0);
+        return CommunicationHandler.await(asyncApi.getActiveWitnesses());
     }
 
     /**
@@ -372,18 +383,7 @@ public class SteemJ {
      *             </ul>
      */
     public Integer getApiByName(String apiName) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_API_BY_NAME);
-        requestObject.setSteemApi(SteemApis.LOGIN_API);
-        String[] parameters = { apiName };
-        requestObject.setAdditionalParameters(parameters);
-
-        List<Integer> response = communicationHandler.performRequest(requestObject, Integer.class);
-        if (!response.isEmpty()) {
-            return response.get(0);
-        }
-
-        return null;
+        return CommunicationHandler.await(asyncApi.getApiByName(apiName));
     }
 
     /**
@@ -406,13 +406,61 @@ public class SteemJ {
      *             </ul>
      */
     public SignedBlockWithInfo getBlock(long blockNumber) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_BLOCK);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { String.valueOf(blockNumber) };
-        requestObject.setAdditionalParameters(parameters);
+        return CommunicationHandler.await(asyncApi.getBlock(blockNumber));
+    }
 
-        return communicationHandler.performRequest(requestObject, SignedBlockWithInfo.class).get(0);
+    /**
+     * Like {@link #getBlock(long) getBlock(...)}, but only the operations of
+     * the block which are accepted by the given filter are transformed. All
+     * other operations are skipped while the response is read.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param operationFilter
+     *            The filter which selects the operations.
+     * @return The accepted operations of the block or null, if the block does
+     *         not exist yet.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setTimeout(long)
+     *             setTimeout})</li>
+     *             <li>If there is a connection problem.</li>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public BlockOperations getBlockOperations(long blockNumber, OperationFilter operationFilter)
+            throws SteemCommunicationException {
+        return CommunicationHandler.await(asyncApi.getBlockOperations(blockNumber, operationFilter));
+    }
+
+    /**
+     * Get multiple complete blocks at once. All blocks are requested using a
+     * single JSON-RPC batch, so only one round trip is needed.
+     * 
+     * @param firstBlockNumber
+     *            The number of the first block to request.
+     * @param numberOfBlocks
+     *            The number of blocks to request.
+     * @return The complete blocks in the order of their block numbers.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setTimeout(long)
+     *             setTimeout})</li>
+     *             <li>If there is a connection problem.</li>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public List<SignedBlockWithInfo> getBlocks(long firstBlockNumber, int numberOfBlocks)
+            throws SteemCommunicationException {
+        return CommunicationHandler.await(asyncApi.getBlocks(firstBlockNumber, numberOfBlocks));
     }
 
     /**
@@ -434,13 +482,7 @@ public class SteemJ {
      *             </ul>
      */
     public BlockHeader getBlockHeader(long blockNumber) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_BLOCK_HEADER);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { String.valueOf(blockNumber) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, BlockHeader.class).get(0);
+        return CommunicationHandler.await(asyncApi.getBlockHeader(blockNumber));
     }
 
     /**
@@ -460,13 +502,7 @@ public class SteemJ {
      *             </ul>
      */
     public ChainProperties getChainProperties() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_CHAIN_PROPERTIES);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, ChainProperties.class).get(0);
+        return CommunicationHandler.await(asyncApi.getChainProperties());
     }
 
     /**
@@ -486,13 +522,7 @@ public class SteemJ {
      *             </ul>
      */
     public Config getConfig() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_CONFIG);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Config.class).get(0);
+        return CommunicationHandler.await(asyncApi.getConfig());
     }
 
     /**
@@ -516,13 +546,7 @@ public class SteemJ {
      *             </ul>
      */
     public Discussion getContent(AccountName author, Permlink permlink) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_CONTENT);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { author.getName(), permlink.getLink() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Discussion.class).get(0);
+        return CommunicationHandler.await(asyncApi.getContent(author, permlink));
     }
 
     /**
@@ -547,13 +571,7 @@ public class SteemJ {
      */
     public List<Discussion> getContentReplies(AccountName author, Permlink permlink)
             throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_CONTENT_REPLIES);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { author.getName(), permlink.getLink() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return CommunicationHandler.await(asyncApi.getContentReplies(author, permlink));
     }
 
     /**
@@ -575,13 +593,7 @@ public class SteemJ {
      *             </ul>
      */
     public Object[] getConversionRequests(AccountName account) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_CONVERSION_REQUESTS);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { account.getName() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Object[].class).get(0);
+        return CommunicationHandler.await(asyncApi.getConversionRequests(account));
     }
 
     /**
@@ -601,13 +613,7 @@ public class SteemJ {
      *             </ul>
      */
     public Price getCurrentMedianHistoryPrice() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_CURRENT_MEDIAN_HISTORY_PRICE);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Price.class).get(0);
+        return CommunicationHandler.await(asyncApi.getCurrentMedianHistoryPrice());
     }
 
     /**
@@ -632,14 +638,7 @@ public class SteemJ {
      */
     public List<Discussion> getDiscussionsBy(DiscussionQuery discussionQuery, DiscussionSortType sortBy)
             throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-
-        requestObject.setApiMethod(RequestMethods.valueOf(sortBy.name()));
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        Object[] parameters = { discussionQuery };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return CommunicationHandler.await(asyncApi.getDiscussionsBy(discussionQuery, sortBy));
     }
 
     /**
@@ -669,26 +668,7 @@ public class SteemJ {
      */
     public List<Discussion> getDiscussionsByAuthorBeforeDate(AccountName author, Permlink permlink, String date,
             int limit) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-
-        requestObject.setApiMethod(RequestMethods.GET_DISCUSSIONS_BY_AUTHOR_BEFORE_DATE);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-
-        // Verify that the date has the correct format.
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(SteemJConfig.getInstance().getDateTimePattern());
-        simpleDateFormat.setTimeZone(TimeZone.getTimeZone(SteemJConfig.getInstance().getTimeZoneId()));
-        Date beforeDate;
-        try {
-            beforeDate = simpleDateFormat.parse(date);
-        } catch (ParseException e) {
-            throw new SteemTransformationException("Could not parse the received date to a Date object.", e);
-        }
-
-        String[] parameters = { author.getName(), permlink.getLink(), simpleDateFormat.format(beforeDate),
-                String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return CommunicationHandler.await(asyncApi.getDiscussionsByAuthorBeforeDate(author, permlink, date, limit));
     }
 
     /**
@@ -708,13 +688,7 @@ public class SteemJ {
      *             </ul>
      */
     public GlobalProperties getDynamicGlobalProperties() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, GlobalProperties.class).get(0);
+        return CommunicationHandler.await(asyncApi.getDynamicGlobalProperties());
     }
 
     /**
@@ -735,13 +709,7 @@ public class SteemJ {
      *             </ul>
      */
     public FeedHistory getFeedHistory() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_FEED_HISTORY);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, FeedHistory.class).get(0);
+        return CommunicationHandler.await(asyncApi.getFeedHistory());
     }
 
     /**
@@ -761,13 +729,7 @@ public class SteemJ {
      *             </ul>
      */
     public String getHardforkVersion() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_HARDFORK_VERSION);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, String.class).get(0);
+        return CommunicationHandler.await(asyncApi.getHardforkVersion());
     }
 
     /**
@@ -789,13 +751,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<String[]> getKeyReferences(String[] publicKeys) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_KEY_REFERENCES);
-        requestObject.setSteemApi(SteemApis.ACCOUNT_BY_KEY_API);
-        Object[] parameters = { publicKeys };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, String[].class);
+        return CommunicationHandler.await(asyncApi.getKeyReferences(publicKeys));
     }
 
     /**
@@ -821,13 +777,7 @@ public class SteemJ {
      */
     public List<LiquidityBalance> getLiquidityQueue(AccountName accoutName, int limit)
             throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_LIQUIDITY_QUEUE);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        Object[] parameters = { accoutName.getName(), String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, LiquidityBalance.class);
+        return CommunicationHandler.await(asyncApi.getLiquidityQueue(accoutName, limit));
     }
 
     /**
@@ -847,13 +797,7 @@ public class SteemJ {
      *             </ul>
      */
     public String[] getMinerQueue() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_MINER_QUEUE);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, String[].class).get(0);
+        return CommunicationHandler.await(asyncApi.getMinerQueue());
     }
 
     /**
@@ -874,13 +818,7 @@ public class SteemJ {
      *             </ul>
      */
     public HardforkSchedule getNextScheduledHarfork() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_NEXT_SCHEDULED_HARDFORK);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, HardforkSchedule.class).get(0);
+        return CommunicationHandler.await(asyncApi.getNextScheduledHarfork());
     }
 
     /**
@@ -903,13 +841,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<ExtendedLimitOrder> getOpenOrders(AccountName accountName) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_OPEN_ORDERS);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { accountName.getName() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, ExtendedLimitOrder.class);
+        return CommunicationHandler.await(asyncApi.getOpenOrders(accountName));
     }
 
     /**
@@ -931,13 +863,7 @@ public class SteemJ {
      *             </ul>
      */
     public OrderBook getOrderBookUsingDatabaseApi(int limit) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_ORDER_BOOK);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, OrderBook.class).get(0);
+        return CommunicationHandler.await(asyncApi.getOrderBookUsingDatabaseApi(limit));
     }
 
     /**
@@ -962,13 +888,36 @@ public class SteemJ {
      */
     public List<AppliedOperation> getOpsInBlock(int blockNumber, boolean onlyVirtual)
             throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_OPS_IN_BLOCK);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { String.valueOf(blockNumber), String.valueOf(onlyVirtual) };
-        requestObject.setAdditionalParameters(parameters);
+        return CommunicationHandler.await(asyncApi.getOpsInBlock(blockNumber, onlyVirtual));
+    }
 
-        return communicationHandler.performRequest(requestObject, AppliedOperation.class);
+    /**
+     * Like {@link #getOpsInBlock(int, boolean) getOpsInBlock(...)}, but only
+     * the operations accepted by the given filter are transformed. All other
+     * operations are skipped while the response is read.
+     * 
+     * @param blockNumber
+     *            The block number.
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned or not.
+     * @param operationFilter
+     *            The filter which selects the operations.
+     * @return A list of the accepted operations for a given block number.
+     * @throws SteemCommunicationException
+     *             <ul>
+     *             <li>If the server was not able to answer the request in the
+     *             given time (see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setTimeout(long)
+     *             setTimeout})</li>
+     *             <li>If there is a connection problem.</li>
+     *             <li>If the SteemJ is unable to transform the JSON response
+     *             into a Java object.</li>
+     *             <li>If the Server returned an error object.</li>
+     *             </ul>
+     */
+    public List<AppliedOperation> getOpsInBlock(int blockNumber, boolean onlyVirtual, OperationFilter operationFilter)
+            throws SteemCommunicationException {
+        return CommunicationHandler.await(asyncApi.getOpsInBlock(blockNumber, onlyVirtual, operationFilter));
     }
 
     // TODO implement this!
@@ -1007,13 +956,7 @@ public class SteemJ {
      */
     public List<Discussion> getRepliesByLastUpdate(AccountName username, Permlink permlink, int limit)
             throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_REPLIES_BY_LAST_UPDATE);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        Object[] parameters = { username, permlink.getLink(), String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Discussion.class);
+        return CommunicationHandler.await(asyncApi.getRepliesByLastUpdate(username, permlink, limit));
     }
 
     /**
@@ -1037,13 +980,7 @@ public class SteemJ {
      *             </ul>
      */
     public RewardFund getRewardFund(RewardFundType rewordFundType) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_REWARD_FUND);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        Object[] parameters = { rewordFundType.name().toLowerCase() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, RewardFund.class).get(0);
+        return CommunicationHandler.await(asyncApi.getRewardFund(rewordFundType));
     }
 
     /**
@@ -1067,14 +1004,7 @@ public class SteemJ {
      *             </ul>
      */
     public String getTransactionHex(SignedTransaction signedTransaction) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_TRANSACTION_HEX);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-
-        Object[] parameters = { signedTransaction };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, String.class).get(0);
+        return CommunicationHandler.await(asyncApi.getTransactionHex(signedTransaction));
     }
 
     /**
@@ -1099,13 +1029,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<TrendingTag> getTrendingTags(String firstTag, int limit) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_TRENDING_TAGS);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { firstTag, String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, TrendingTag.class);
+        return CommunicationHandler.await(asyncApi.getTrendingTags(firstTag, limit));
     }
 
     /**
@@ -1125,13 +1049,7 @@ public class SteemJ {
      *             </ul>
      */
     public SteemVersionInfo getVersion() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_VERSION);
-        requestObject.setSteemApi(SteemApis.LOGIN_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, SteemVersionInfo.class).get(0);
+        return CommunicationHandler.await(asyncApi.getVersion());
     }
 
     /**
@@ -1153,13 +1071,7 @@ public class SteemJ {
      *             </ul>
      */
     public Witness getWitnessByAccount(AccountName witnessName) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_WITNESS_BY_ACCOUNT);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { witnessName.getName() };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Witness.class).get(0);
+        return CommunicationHandler.await(asyncApi.getWitnessByAccount(witnessName));
     }
 
     /**
@@ -1185,13 +1097,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<Witness> getWitnessByVote(AccountName witnessName, int limit) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_WITNESSES_BY_VOTE);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { witnessName.getName(), String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Witness.class);
+        return CommunicationHandler.await(asyncApi.getWitnessByVote(witnessName, limit));
     }
 
     /**
@@ -1211,13 +1117,7 @@ public class SteemJ {
      *             </ul>
      */
     public int getWitnessCount() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_WITNESS_COUNT);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Integer.class).get(0);
+        return CommunicationHandler.await(asyncApi.getWitnessCount());
     }
 
     /**
@@ -1237,13 +1137,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<Witness> getWitnesses() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_WITNESSES);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Witness.class);
+        return CommunicationHandler.await(asyncApi.getWitnesses());
     }
 
     /**
@@ -1263,13 +1157,7 @@ public class SteemJ {
      *             </ul>
      */
     public WitnessSchedule getWitnessSchedule() throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.GET_WITNESS_SCHEDULE);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = {};
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, WitnessSchedule.class).get(0);
+        return CommunicationHandler.await(asyncApi.getWitnessSchedule());
     }
 
     /**
@@ -1295,8 +1183,7 @@ public class SteemJ {
      *             </ul>
      */
     public Boolean login() throws SteemCommunicationException {
-        return login(SteemJConfig.getInstance().getApiUsername(),
-                String.valueOf(SteemJConfig.getInstance().getApiPassword()));
+        return CommunicationHandler.await(asyncApi.login());
     }
 
     /**
@@ -1325,13 +1212,7 @@ public class SteemJ {
      *             </ul>
      */
     public Boolean login(AccountName accountName, String password) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.LOGIN);
-        requestObject.setSteemApi(SteemApis.LOGIN_API);
-        String[] parameters = { accountName.getName(), password };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, Boolean.class).get(0);
+        return CommunicationHandler.await(asyncApi.login(accountName, password));
     }
 
     /**
@@ -1355,13 +1236,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<String> lookupAccounts(String pattern, int limit) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.LOOKUP_ACCOUNTS);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { pattern, String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, String.class);
+        return CommunicationHandler.await(asyncApi.lookupAccounts(pattern, limit));
     }
 
     /**
@@ -1385,13 +1260,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<String> lookupWitnessAccounts(String pattern, int limit) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.LOOKUP_WITNESS_ACCOUNTS);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-        String[] parameters = { pattern, String.valueOf(limit) };
-        requestObject.setAdditionalParameters(parameters);
-
-        return communicationHandler.performRequest(requestObject, String.class);
+        return CommunicationHandler.await(asyncApi.lookupWitnessAccounts(pattern, limit));
     }
 
     /**
@@ -1415,16 +1284,7 @@ public class SteemJ {
      *             </ul>
      */
     public Boolean verifyAuthority(SignedTransaction signedTransaction) throws SteemCommunicationException {
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.VERIFY_AUTHORITY);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-
-        Object[] parameters = { signedTransaction };
-        requestObject.setAdditionalParameters(parameters);
-        // TODO: The method does not simply return false, it throws an error
-        // describing the problem. The reason should be logged as info and the
-        // this method should only return false.
-        return communicationHandler.performRequest(requestObject, Boolean.class).get(0);
+        return CommunicationHandler.await(asyncApi.verifyAuthority(signedTransaction));
     }
 
     /**
@@ -1438,9 +1298,13 @@ public class SteemJ {
      * multiple times with different callback methods, only the last one will be
      * called.
      * 
-     * Beside that there is currently no way to cancel a subscription. Once
-     * you've registered a callback it will be called until the connection has
-     * been closed.
+     * Once you've registered a callback it will be called until it is removed
+     * through {@link #removeBlockAppliedCallback(BlockAppliedCallback)
+     * removeBlockAppliedCallback}, even if the connection to the Steem Node
+     * has to be reestablished in the meantime. The callback is called by the
+     * configured executor (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setCallbackExecutor(java.util.concurrent.Executor)
+     * setCallbackExecutor}), not by the thread receiving the notifications.
      * </p>
      * 
      * @param blockAppliedCallback
@@ -1460,18 +1324,23 @@ public class SteemJ {
      *             </ul>
      */
     public void setBlockAppliedCallback(BlockAppliedCallback blockAppliedCallback) throws SteemCommunicationException {
-        // Register the given callback at the callback hub.
-        CallbackHub.getInstance().addCallback(blockAppliedCallback);
-
-        // Register the callback at the steem node.
-        RequestWrapperDTO requestObject = new RequestWrapperDTO();
-        requestObject.setApiMethod(RequestMethods.SET_BLOCK_APPLIED_CALLBACK);
-        requestObject.setSteemApi(SteemApis.DATABASE_API);
-
-        Object[] parameters = { blockAppliedCallback.getUuid() };
-        requestObject.setAdditionalParameters(parameters);
+        CommunicationHandler.await(asyncApi.setBlockAppliedCallback(blockAppliedCallback));
+    }
 
-        communicationHandler.performRequest(requestObject, Object.class);
+    /**
+     * Remove a callback which has been registered through
+     * {@link #setBlockAppliedCallback(BlockAppliedCallback)
+     * setBlockAppliedCallback}, so it will not be called anymore. As the Steem
+     * Node does not offer a way to cancel a subscription, further
+     * notifications for this callback are discarded by SteemJ.
+     * 
+     * @param blockAppliedCallback
+     *            The callback to remove.
+     * @return True if the callback has been removed, false if it has not been
+     *         registered.
+     */
+    public boolean removeBlockAppliedCallback(BlockAppliedCallback blockAppliedCallback) {
+        return CallbackHub.getInstance().removeCallback(blockAppliedCallback);
     }
 
     // #########################################################################
@@ -1509,7 +1378,7 @@ public class SteemJ {
      */
     public List<FollowApiObject> getFollowers(AccountName following, AccountName startFollower, FollowType type,
             short limit) throws SteemCommunicationException {
-        return FollowApi.getFollowers(communicationHandler, following, startFollower, type, limit);
+        return CommunicationHandler.await(asyncApi.getFollowers(following, startFollower, type, limit));
     }
 
     /**
@@ -1544,7 +1413,7 @@ public class SteemJ {
      */
     public List<FollowApiObject> getFollowing(AccountName follower, AccountName startFollowing, FollowType type,
             short limit) throws SteemCommunicationException {
-        return FollowApi.getFollowing(communicationHandler, follower, startFollowing, type, limit);
+        return CommunicationHandler.await(asyncApi.getFollowing(follower, startFollowing, type, limit));
     }
 
     /**
@@ -1569,7 +1438,7 @@ public class SteemJ {
      *             </ul>
      */
     public FollowCountApiObject getFollowCount(AccountName account) throws SteemCommunicationException {
-        return FollowApi.getFollowCount(communicationHandler, account);
+        return CommunicationHandler.await(asyncApi.getFollowCount(account));
     }
 
     /**
@@ -1601,7 +1470,7 @@ public class SteemJ {
      */
     public List<FeedEntry> getFeedEntries(AccountName account, int entryId, short limit)
             throws SteemCommunicationException {
-        return FollowApi.getFeedEntries(communicationHandler, account, entryId, limit);
+        return CommunicationHandler.await(asyncApi.getFeedEntries(account, entryId, limit));
     }
 
     /**
@@ -1632,7 +1501,7 @@ public class SteemJ {
      */
     public List<CommentFeedEntry> getFeed(AccountName account, int entryId, short limit)
             throws SteemCommunicationException {
-        return FollowApi.getFeed(communicationHandler, account, entryId, limit);
+        return CommunicationHandler.await(asyncApi.getFeed(account, entryId, limit));
     }
 
     /**
@@ -1685,8 +1554,7 @@ public class SteemJ {
      */
     public List<BlogEntry> getBlogEntries(AccountName account, int entryId, short limit)
             throws SteemCommunicationException {
-        return FollowApi.getBlogEntries(communicationHandler, account, entryId, limit);
-
+        return CommunicationHandler.await(asyncApi.getBlogEntries(account, entryId, limit));
     }
 
     /**
@@ -1717,7 +1585,7 @@ public class SteemJ {
      */
     public List<CommentBlogEntry> getBlog(AccountName account, int entryId, short limit)
             throws SteemCommunicationException {
-        return FollowApi.getBlog(communicationHandler, account, entryId, limit);
+        return CommunicationHandler.await(asyncApi.getBlog(account, entryId, limit));
     }
 
     /**
@@ -1763,7 +1631,7 @@ public class SteemJ {
      */
     public List<AccountReputation> getAccountReputations(AccountName accountName, int limit)
             throws SteemCommunicationException {
-        return FollowApi.getAccountReputations(communicationHandler, accountName, limit);
+        return CommunicationHandler.await(asyncApi.getAccountReputations(accountName, limit));
     }
 
     /**
@@ -1787,7 +1655,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<AccountName> getRebloggedBy(AccountName author, Permlink permlink) throws SteemCommunicationException {
-        return FollowApi.getRebloggedBy(communicationHandler, author, permlink);
+        return CommunicationHandler.await(asyncApi.getRebloggedBy(author, permlink));
     }
 
     /**
@@ -1812,7 +1680,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<PostsPerAuthorPair> getBlogAuthors(AccountName blogAccount) throws SteemCommunicationException {
-        return FollowApi.getBlogAuthors(communicationHandler, blogAccount);
+        return CommunicationHandler.await(asyncApi.getBlogAuthors(blogAccount));
     }
 
     // #########################################################################
@@ -1834,7 +1702,7 @@ public class SteemJ {
      *             </ul>
      */
     public MarketTicker getTicker() throws SteemCommunicationException {
-        return MarketHistoryApi.getTicker(communicationHandler);
+        return CommunicationHandler.await(asyncApi.getTicker());
     }
 
     /**
@@ -1852,7 +1720,7 @@ public class SteemJ {
      *             </ul>
      */
     public MarketVolume getVolume() throws SteemCommunicationException {
-        return MarketHistoryApi.getVolume(communicationHandler);
+        return CommunicationHandler.await(asyncApi.getVolume());
     }
 
     /**
@@ -1876,7 +1744,7 @@ public class SteemJ {
      */
     public eu.bittrade.libs.steemj.apis.market.history.model.OrderBook getOrderBookUsingMarketApi(short limit)
             throws SteemCommunicationException {
-        return MarketHistoryApi.getOrderBook(communicationHandler, limit);
+        return CommunicationHandler.await(asyncApi.getOrderBookUsingMarketApi(limit));
     }
 
     /**
@@ -1905,7 +1773,7 @@ public class SteemJ {
      */
     public List<MarketTrade> getTradeHistory(TimePointSec start, TimePointSec end, short limit)
             throws SteemCommunicationException {
-        return MarketHistoryApi.getTradeHistory(communicationHandler, start, end, limit);
+        return CommunicationHandler.await(asyncApi.getTradeHistory(start, end, limit));
     }
 
     /**
@@ -1930,7 +1798,7 @@ public class SteemJ {
      *             If the limit is less than 0 or greater than 500.
      */
     public List<MarketTrade> getRecentTrades(short limit) throws SteemCommunicationException {
-        return MarketHistoryApi.getRecentTrades(communicationHandler, limit);
+        return CommunicationHandler.await(asyncApi.getRecentTrades(limit));
     }
 
     /**
@@ -1960,7 +1828,7 @@ public class SteemJ {
      */
     public List<Bucket> getMarketHistory(long bucketSeconds, TimePointSec start, TimePointSec end)
             throws SteemCommunicationException {
-        return MarketHistoryApi.getMarketHistory(communicationHandler, bucketSeconds, start, end);
+        return CommunicationHandler.await(asyncApi.getMarketHistory(bucketSeconds, start, end));
     }
 
     /**
@@ -1978,7 +1846,7 @@ public class SteemJ {
      *             </ul>
      */
     public List<Integer> getMarketHistoryBuckets() throws SteemCommunicationException {
-        return MarketHistoryApi.getMarketHistoryBuckets(communicationHandler);
+        return CommunicationHandler.await(asyncApi.getMarketHistoryBuckets());
     }
 
     // #########################################################################
@@ -0,0 +1,1533 @@
+package eu.bittrade.libs.steemj;
+
+import java.io.ByteArrayOutputStream;
+import java.security.InvalidParameterException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import eu.bittrade.libs.steemj.apis.follow.FollowApi;
+import eu.bittrade.libs.steemj.apis.follow.enums.FollowType;
+import eu.bittrade.libs.steemj.apis.follow.model.AccountReputation;
+import eu.bittrade.libs.steemj.apis.follow.model.BlogEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.CommentBlogEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.CommentFeedEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.FeedEntry;
+import eu.bittrade.libs.steemj.apis.follow.model.FollowApiObject;
+import eu.bittrade.libs.steemj.apis.follow.model.FollowCountApiObject;
+import eu.bittrade.libs.steemj.apis.follow.model.PostsPerAuthorPair;
+import eu.bittrade.libs.steemj.apis.market.history.MarketHistoryApi;
+import eu.bittrade.libs.steemj.apis.market.history.model.Bucket;
+import eu.bittrade.libs.steemj.apis.market.history.model.MarketTicker;
+import eu.bittrade.libs.steemj.apis.market.history.model.MarketTrade;
+import eu.bittrade.libs.steemj.apis.market.history.model.MarketVolume;
+import eu.bittrade.libs.steemj.base.models.AccountHistoryPage;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.BlockHeader;
+import eu.bittrade.libs.steemj.base.models.ChainProperties;
+import eu.bittrade.libs.steemj.base.models.Config;
+import eu.bittrade.libs.steemj.base.models.Discussion;
+import eu.bittrade.libs.steemj.base.models.DiscussionQuery;
+import eu.bittrade.libs.steemj.base.models.ExtendedAccount;
+import eu.bittrade.libs.steemj.base.models.ExtendedLimitOrder;
+import eu.bittrade.libs.steemj.base.models.FeedHistory;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.HardforkSchedule;
+import eu.bittrade.libs.steemj.base.models.LiquidityBalance;
+import eu.bittrade.libs.steemj.base.models.OrderBook;
+import eu.bittrade.libs.steemj.base.models.Permlink;
+import eu.bittrade.libs.steemj.base.models.Price;
+import eu.bittrade.libs.steemj.base.models.RewardFund;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.base.models.SignedTransaction;
+import eu.bittrade.libs.steemj.base.models.SteemVersionInfo;
+import eu.bittrade.libs.steemj.base.models.TimePointSec;
+import eu.bittrade.libs.steemj.base.models.TrendingTag;
+import eu.bittrade.libs.steemj.base.models.Vote;
+import eu.bittrade.libs.steemj.base.models.VoteState;
+import eu.bittrade.libs.steemj.base.models.Witness;
+import eu.bittrade.libs.steemj.base.models.WitnessSchedule;
+import eu.bittrade.libs.steemj.communication.BlockAppliedCallback;
+import eu.bittrade.libs.steemj.communication.CallbackHub;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.communication.RequestBatch;
+import eu.bittrade.libs.steemj.communication.dto.AccountHistoryEntryDTO;
+import eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.DiscussionSortType;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.RewardFundType;
+import eu.bittrade.libs.steemj.enums.SteemApis;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.streaming.BlockOperations;
+import eu.bittrade.libs.steemj.streaming.OperationFilter;
+
+/**
+ * This class is the asynchronous counterpart of the {@link SteemJ SteemJ}
+ * class.
+ * 
+ * <p>
+ * Instead of blocking the calling thread until the node has answered, all
+ * methods of this class return a {@link CompletableFuture CompletableFuture}
+ * as soon as the request has been written to the connection. The futures are
+ * completed on the executor configured via
+ * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setResponseExecutor(java.util.concurrent.Executor)
+ * setResponseExecutor}. If a request fails, the future is completed
+ * exceptionally with a
+ * {@link eu.bittrade.libs.steemj.exceptions.SteemCommunicationException
+ * SteemCommunicationException} (e.g. a
+ * {@link eu.bittrade.libs.steemj.exceptions.SteemTimeoutException
+ * SteemTimeoutException} if the node was not able to answer in time).
+ * </p>
+ * 
+ * <p>
+ * The returned futures can be cancelled. A cancelled request is removed from
+ * the list of pending requests and its response is discarded once it
+ * arrives.
+ * </p>
+ * 
+ * <p>
+ * An instance of this class can be obtained using {@link SteemJ#getAsyncApi()
+ * getAsyncApi()} and shares the connection with the {@link SteemJ SteemJ}
+ * instance that created it. The requests are only built by this class: the
+ * blocking methods of {@link SteemJ SteemJ} wait for the futures returned by
+ * the methods of the same name. Closing this instance (see {@link #close()
+ * close()}) also closes the {@link SteemJ SteemJ} instance and vice versa.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SteemJAsync implements AutoCloseable {
+    private final CommunicationHandler communicationHandler;
+
+    /**
+     * Create a new asynchronous API which uses the given
+     * <code>communicationHandler</code> to perform its requests.
+     * 
+     * @param communicationHandler
+     *            The communication handler to use.
+     */
+    SteemJAsync(CommunicationHandler communicationHandler) {
+        this.communicationHandler = communicationHandler;
+    }
+
+    /**
+     * Get an asynchronous API which shares the connections of this instance,
+     * but fails each request that has not been answered in the given time
+     * instead of the configured default (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setTimeout(long)
+     * setTimeout}).
+     * 
+     * @param timeout
+     *            The timeout in milliseconds. <code>0</code> disables the
+     *            timeout mechanism.
+     * @return An asynchronous API using the given timeout.
+     * @throws IllegalArgumentException
+     *             If the value of timeout is negative.
+     */
+    public SteemJAsync withTimeout(long timeout) {
+        return new SteemJAsync(communicationHandler.withTimeout(timeout));
+    }
+
+    /**
+     * Close the connections of this instance. All futures of requests which
+     * are still waiting for their response are completed exceptionally with a
+     * {@link eu.bittrade.libs.steemj.exceptions.SteemConnectionException
+     * SteemConnectionException} and all requests made afterwards fail, too.
+     * As the connections are shared, this also closes the instances created
+     * by {@link #withTimeout(long) withTimeout(long)}.
+     */
+    @Override
+    public void close() {
+        communicationHandler.close();
+    }
+
+    /**
+     * Broadcast a transaction on the Steem blockchain.
+     * 
+     * @param transaction
+     *            A transaction object that has been signed.
+     * @return A future which will be completed as soon as the request has been
+     *         processed.
+     */
+    public CompletableFuture<Void> broadcastTransaction(SignedTransaction transaction) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.BROADCAST_TRANSACTION);
+        requestObject.setSteemApi(SteemApis.NETWORK_BROADCAST_API);
+
+        Object[] parameters = { transaction };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Object.class).thenApply(result -> null);
+    }
+
+    /**
+     * Get the current number of registered Steem accounts.
+     * 
+     * @return A future which will be completed with the number of accounts.
+     */
+    public CompletableFuture<Integer> getAccountCount() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_COUNT);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Integer.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get all operations performed by the specified account.
+     * 
+     * @param accountName
+     *            The user name of the account.
+     * @param from
+     *            The starting point.
+     * @param limit
+     *            The maximum number of entries.
+     * @return A future which will be completed with a map containing the
+     *         activities. The key is the id of the activity.
+     */
+    public CompletableFuture<Map<Integer, AppliedOperation>> getAccountHistory(AccountName accountName, int from,
+            int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_HISTORY);
+        String[] parameters = { accountName.getName(), String.valueOf(from), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, AccountHistoryEntryDTO.class)
+                .thenApply(result -> {
+                    Map<Integer, AppliedOperation> accountActivities = new HashMap<>();
+
+                    for (AccountHistoryEntryDTO accountActivity : result) {
+                        accountActivities.put(accountActivity.getIndex(), accountActivity.getAppliedOperation());
+                    }
+
+                    return accountActivities;
+                });
+    }
+
+    /**
+     * Like {@link #getAccountHistory(AccountName, int, int)
+     * getAccountHistory(...)}, but the entries are returned in a compact
+     * {@link AccountHistoryPage AccountHistoryPage} sorted by their sequence
+     * number instead of a map.
+     * 
+     * @param accountName
+     *            The user name of the account.
+     * @param from
+     *            The sequence number of the last entry to return or
+     *            <code>-1</code> for the newest entry.
+     * @param limit
+     *            The number of entries to return in front of the
+     *            <code>from</code> entry. Has to be lower than or equal to
+     *            <code>from</code> (unless <code>from</code> is
+     *            <code>-1</code>) and to 10000.
+     * @return A future which will be completed with the requested part of the
+     *         history.
+     */
+    public CompletableFuture<AccountHistoryPage> getAccountHistoryPage(AccountName accountName, int from, int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_HISTORY);
+        String[] parameters = { accountName.getName(), String.valueOf(from), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, AccountHistoryEntryDTO.class)
+                .thenApply(result -> {
+                    List<AccountHistoryEntryDTO> entries = result;
+                    // The Steem Nodes return the entries in ascending order, so
+                    // they only have to be sorted if this changes.
+                    for (int i = 1; i < result.size(); i++) {
+                        if (result.get(i - 1).getIndex() >= result.get(i).getIndex()) {
+                            entries = new ArrayList<>(result);
+                            entries.sort((first, second) -> Integer.compare(first.getIndex(), second.getIndex()));
+                            break;
+                        }
+                    }
+
+                    int[] indices = new int[entries.size()];
+                    AppliedOperation[] appliedOperations = new AppliedOperation[entries.size()];
+                    for (int i = 0; i < indices.length; i++) {
+                        indices[i] = entries.get(i).getIndex();
+                        appliedOperations[i] = entries.get(i).getAppliedOperation();
+                    }
+
+                    return new AccountHistoryPage(indices, appliedOperations);
+                });
+    }
+
+    /**
+     * 
+     * @param accountNames
+     *            A list of accounts you want to request the details for.
+     * @return A future which will be completed with a List of accounts found
+     *         for the given account names.
+     */
+    public CompletableFuture<List<ExtendedAccount>> getAccounts(List<AccountName> accountNames) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNTS);
+
+        // The API expects an array of arrays here.
+        String[] innerParameters = new String[accountNames.size()];
+        for (int i = 0; i < accountNames.size(); i++) {
+            innerParameters[i] = accountNames.get(i).getName();
+        }
+
+        String[][] parameters = { innerParameters };
+
+        requestObject.setAdditionalParameters(parameters);
+        return communicationHandler.performRequestAsync(requestObject, ExtendedAccount.class);
+    }
+
+    /**
+     * Get a list of all votes done by a specific account.
+     * 
+     * @param accountName
+     *            The user name of the account.
+     * @return A future which will be completed with a List of votes done by the
+     *         specified account.
+     */
+    public CompletableFuture<List<Vote>> getAccountVotes(AccountName accountName) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_VOTES);
+        String[] parameters = { accountName.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Vote.class);
+    }
+
+    /**
+     * Get the active votes for a given post of a given author.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @return A future which will be completed with a list of votes for a
+     *         specific article.
+     */
+    public CompletableFuture<List<VoteState>> getActiveVotes(AccountName author, Permlink permlink) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_ACTIVE_VOTES);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { author.getName(), permlink.getLink() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, VoteState.class);
+    }
+
+    /**
+     * Get the account names of the active witnesses.
+     * 
+     * @return A future which will be completed with a list of account names of
+     *         the active witnesses.
+     */
+    public CompletableFuture<String[]> getActiveWitnesses() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_ACTIVE_WITNESSES);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String[].class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Returns the id of an api or null if no api with the given name could be
+     * found.
+     * 
+     * @param apiName
+     *            The name of the api.
+     * @return A future which will be completed with the id for the given api
+     *         name or null, if the api is not active or does not exist.
+     */
+    public CompletableFuture<Integer> getApiByName(String apiName) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_API_BY_NAME);
+        requestObject.setSteemApi(SteemApis.LOGIN_API);
+        String[] parameters = { apiName };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Integer.class)
+                .thenApply(response -> response.isEmpty() ? null : response.get(0));
+    }
+
+    /**
+     * Get a complete block by a given block number including all transactions
+     * of this block.
+     * 
+     * @param blockNumber
+     *            The id of the block the header should be requested from.
+     * @return A future which will be completed with a complete block.
+     */
+    public CompletableFuture<SignedBlockWithInfo> getBlock(long blockNumber) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_BLOCK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, SignedBlockWithInfo.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link #getBlock(long) getBlock(...)}, but only the operations of
+     * the block which are accepted by the given filter are transformed. All
+     * other operations are skipped while the response is read.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param operationFilter
+     *            The filter which selects the operations.
+     * @return A future which will be completed with the accepted operations
+     *         of the block or null, if the block does not exist yet.
+     */
+    public CompletableFuture<BlockOperations> getBlockOperations(long blockNumber, OperationFilter operationFilter) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_BLOCK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler
+                .performRequestAsync(requestObject,
+                        parser -> Collections.singletonList(operationFilter.readBlockOperations(parser, blockNumber)))
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link #getBlock(long) getBlock(...)}, but the block is not
+     * transformed into an object. This allows to store the block exactly as
+     * it has been returned by the Steem Node.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @return A future which will be completed with the JSON representation
+     *         of the block encoded as UTF-8 or null, if the block does not
+     *         exist yet.
+     */
+    public CompletableFuture<byte[]> getRawBlock(long blockNumber) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_BLOCK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, parser -> {
+            ByteArrayOutputStream rawBlock = new ByteArrayOutputStream();
+            try (JsonGenerator generator = CommunicationHandler.getObjectMapper().getFactory()
+                    .createGenerator(rawBlock)) {
+                generator.copyCurrentStructure(parser);
+            }
+
+            return Collections.singletonList(rawBlock.toByteArray());
+        }).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Like {@link #getBlock(long) getBlock(...)}, but multiple blocks are
+     * requested using a single JSON-RPC batch, so only one round trip is
+     * needed.
+     * 
+     * @param firstBlockNumber
+     *            The number of the first block to request.
+     * @param numberOfBlocks
+     *            The number of blocks to request.
+     * @return A future which will be completed with the complete blocks in the
+     *         order of their block numbers.
+     */
+    public CompletableFuture<List<SignedBlockWithInfo>> getBlocks(long firstBlockNumber, int numberOfBlocks) {
+        RequestBatch requestBatch = new RequestBatch();
+        List<CompletableFuture<List<SignedBlockWithInfo>>> blocks = new ArrayList<>(numberOfBlocks);
+        for (long blockNumber = firstBlockNumber; blockNumber < firstBlockNumber + numberOfBlocks; blockNumber++) {
+            RequestWrapperDTO requestObject = new RequestWrapperDTO();
+            requestObject.setApiMethod(RequestMethods.GET_BLOCK);
+            requestObject.setSteemApi(SteemApis.DATABASE_API);
+            String[] parameters = { String.valueOf(blockNumber) };
+            requestObject.setAdditionalParameters(parameters);
+
+            blocks.add(requestBatch.add(requestObject, SignedBlockWithInfo.class));
+        }
+
+        return communicationHandler.performBatchRequestAsync(requestBatch)
+                .thenApply(result -> blocks.stream().map(block -> block.join().get(0)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Get only the header of a block instead of the complete one.
+     * 
+     * @param blockNumber
+     *            The id of the block the header should be requested from.
+     * @return A future which will be completed with the header of a block.
+     */
+    public CompletableFuture<BlockHeader> getBlockHeader(long blockNumber) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_BLOCK_HEADER);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, BlockHeader.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get the chain properties.
+     * 
+     * @return A future which will be completed with the chain properties.
+     */
+    public CompletableFuture<ChainProperties> getChainProperties() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_CHAIN_PROPERTIES);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, ChainProperties.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get the configuration.
+     * 
+     * @return A future which will be completed with the steem configuration.
+     */
+    public CompletableFuture<Config> getConfig() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_CONFIG);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Config.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get the details of a specific post.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @return A future which will be completed with the details of a specific
+     *         post.
+     */
+    public CompletableFuture<Discussion> getContent(AccountName author, Permlink permlink) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_CONTENT);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { author.getName(), permlink.getLink() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get the replies of a specific post.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @return A future which will be completed with a list of discussions or
+     *         null if the post has no replies.
+     */
+    public CompletableFuture<List<Discussion>> getContentReplies(AccountName author, Permlink permlink) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_CONTENT_REPLIES);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { author.getName(), permlink.getLink() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * TODO: Look up what this is used for and what it can return.
+     * 
+     * @param account
+     *            The account name.
+     * @return A future which will be completed with unknown
+     */
+    public CompletableFuture<Object[]> getConversionRequests(AccountName account) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_CONVERSION_REQUESTS);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { account.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Object[].class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Grab the current median conversion price of SBD / STEEM.
+     * 
+     * @return A future which will be completed with the current median price.
+     */
+    public CompletableFuture<Price> getCurrentMedianHistoryPrice() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_CURRENT_MEDIAN_HISTORY_PRICE);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Price.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get active discussions for a specified tag.
+     * 
+     * @param discussionQuery
+     *            A query defining specific search parameters.
+     * @param sortBy
+     *            Choose the method used for sorting the results.
+     * @return A future which will be completed with a list of discussions
+     *         matching the given conditions.
+     */
+    public CompletableFuture<List<Discussion>> getDiscussionsBy(DiscussionQuery discussionQuery,
+            DiscussionSortType sortBy) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+
+        requestObject.setApiMethod(RequestMethods.valueOf(sortBy.name()));
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        Object[] parameters = { discussionQuery };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * Get a list of discussion for a given author.
+     * 
+     * @param author
+     *            The authors name.
+     * @param permlink
+     *            The permlink of the article.
+     * @param date
+     *            Only return articles before this date. (This field seems to be
+     *            ignored by the Steem api)
+     * @param limit
+     *            The number of results you want to receive.
+     * @return A future which will be completed with a list of discussions.
+     */
+    public CompletableFuture<List<Discussion>> getDiscussionsByAuthorBeforeDate(AccountName author, Permlink permlink,
+            String date, int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+
+        requestObject.setApiMethod(RequestMethods.GET_DISCUSSIONS_BY_AUTHOR_BEFORE_DATE);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+
+        // Verify that the date has the correct format.
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(SteemJConfig.getInstance().getDateTimePattern());
+        simpleDateFormat.setTimeZone(TimeZone.getTimeZone(SteemJConfig.getInstance().getTimeZoneId()));
+        Date beforeDate;
+        try {
+            beforeDate = simpleDateFormat.parse(date);
+        } catch (ParseException e) {
+            CompletableFuture<List<Discussion>> failedRequest = new CompletableFuture<>();
+            failedRequest.completeExceptionally(
+                    new SteemTransformationException("Could not parse the received date to a Date object.", e));
+            return failedRequest;
+        }
+
+        String[] parameters = { author.getName(), permlink.getLink(), simpleDateFormat.format(beforeDate),
+                String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * Get the global properties.
+     * 
+     * @return A future which will be completed with the dynamic global
+     *         properties.
+     */
+    public CompletableFuture<GlobalProperties> getDynamicGlobalProperties() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, GlobalProperties.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get the current price and a list of history prices combined in one
+     * object.
+     * 
+     * @return A future which will be completed with the conversion history of
+     *         SBD / STEEM.
+     */
+    public CompletableFuture<FeedHistory> getFeedHistory() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_FEED_HISTORY);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, FeedHistory.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get the hardfork version the node you are connected to is using.
+     * 
+     * @return A future which will be completed with the hardfork version that
+     *         the connected node is running on.
+     */
+    public CompletableFuture<String> getHardforkVersion() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_HARDFORK_VERSION);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Search for users under the use of their public key(s).
+     * 
+     * @param publicKeys
+     *            An array containing one or more public keys.
+     * @return A future which will be completed with a list of arrays containing
+     *         the matching account names.
+     */
+    public CompletableFuture<List<String[]>> getKeyReferences(String[] publicKeys) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_KEY_REFERENCES);
+        requestObject.setSteemApi(SteemApis.ACCOUNT_BY_KEY_API);
+        Object[] parameters = { publicKeys };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String[].class);
+    }
+
+    /**
+     * Get the liquidity queue for a specified account.
+     * 
+     * @param accoutName
+     *            The name of the account you want to request the queue entries
+     *            for.
+     * @param limit
+     *            Number of results.
+     * @return A future which will be completed with a list of liquidity queue
+     *         entries.
+     */
+    public CompletableFuture<List<LiquidityBalance>> getLiquidityQueue(AccountName accoutName, int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_LIQUIDITY_QUEUE);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        Object[] parameters = { accoutName.getName(), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, LiquidityBalance.class);
+    }
+
+    /**
+     * Get the current miner queue.
+     * 
+     * @return A future which will be completed with a list of account names
+     *         that are in the mining queue.
+     */
+    public CompletableFuture<String[]> getMinerQueue() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_MINER_QUEUE);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String[].class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * TODO: Check what this method is supposed to do. In a fist test it seems
+     * to return the time since the current version is active.
+     * 
+     * @return A future which will be completed with ???
+     */
+    public CompletableFuture<HardforkSchedule> getNextScheduledHarfork() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_NEXT_SCHEDULED_HARDFORK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, HardforkSchedule.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * If specified user name has orders open on the internal STEEM market it
+     * will return them.
+     * 
+     * @param accountName
+     *            The name of the account.
+     * @return A future which will be completed with a list of open orders for
+     *         this account.
+     */
+    public CompletableFuture<List<ExtendedLimitOrder>> getOpenOrders(AccountName accountName) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_OPEN_ORDERS);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { accountName.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, ExtendedLimitOrder.class);
+    }
+
+    /**
+     * Returns a list of orders on the internal steem market.
+     * 
+     * @param limit
+     *            The maximum number of results for each category (asks / bids).
+     * @return A future which will be completed with a list of orders on the
+     *         internal steem market.
+     */
+    public CompletableFuture<OrderBook> getOrderBookUsingDatabaseApi(int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_ORDER_BOOK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, OrderBook.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get a list of all performed operations for a given block number.
+     * 
+     * @param blockNumber
+     *            The block number.
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned or not.
+     * @return A future which will be completed with a list of all performed
+     *         operations for a given block number.
+     */
+    public CompletableFuture<List<AppliedOperation>> getOpsInBlock(int blockNumber, boolean onlyVirtual) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_OPS_IN_BLOCK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber), String.valueOf(onlyVirtual) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, AppliedOperation.class);
+    }
+
+    /**
+     * Like {@link #getOpsInBlock(int, boolean) getOpsInBlock(...)}, but only
+     * the operations accepted by the given filter are transformed. All other
+     * operations are skipped while the response is read.
+     * 
+     * @param blockNumber
+     *            The block number.
+     * @param onlyVirtual
+     *            Define if only virtual operations should be returned or not.
+     * @param operationFilter
+     *            The filter which selects the operations.
+     * @return A future which will be completed with a list of the accepted
+     *         operations for a given block number.
+     */
+    public CompletableFuture<List<AppliedOperation>> getOpsInBlock(int blockNumber, boolean onlyVirtual,
+            OperationFilter operationFilter) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_OPS_IN_BLOCK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { String.valueOf(blockNumber), String.valueOf(onlyVirtual) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, operationFilter::readAppliedOperations);
+    }
+
+    /**
+     * /** Get a list of Content starting from the given post of the given user.
+     * The list will be sorted by the Date of the last update.
+     * 
+     * @param username
+     *            The name of the user.
+     * @param permlink
+     *            The permlink of an article.
+     * @param limit
+     *            Number of results.
+     * @return A future which will be completed with a list of Content objects.
+     */
+    public CompletableFuture<List<Discussion>> getRepliesByLastUpdate(AccountName username, Permlink permlink,
+            int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_REPLIES_BY_LAST_UPDATE);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        Object[] parameters = { username, permlink.getLink(), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Discussion.class);
+    }
+
+    /**
+     * Get detailed information of a specific reward fund.
+     * 
+     * @param rewordFundType
+     *            One of the {@link eu.bittrade.libs.steemj.enums.RewardFundType
+     *            RewardFundType}s.
+     * @return A future which will be completed with a refund object containing
+     *         detailed information about the requested reward fund.
+     */
+    public CompletableFuture<RewardFund> getRewardFund(RewardFundType rewordFundType) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_REWARD_FUND);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        Object[] parameters = { rewordFundType.name().toLowerCase() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, RewardFund.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Use the Steem API to receive the HEX representation of a signed
+     * transaction.
+     * 
+     * @param signedTransaction
+     *            The signed Transaction object you want to receive the HEX
+     *            representation for.
+     * @return A future which will be completed with the HEX representation.
+     */
+    public CompletableFuture<String> getTransactionHex(SignedTransaction signedTransaction) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_TRANSACTION_HEX);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+
+        Object[] parameters = { signedTransaction };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class).thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Returns detailed values for tags that match the given conditions.
+     * 
+     * @param firstTag
+     *            Start the list after this category. An empty String will
+     *            result in starting from the top.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of tags.
+     */
+    public CompletableFuture<List<TrendingTag>> getTrendingTags(String firstTag, int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_TRENDING_TAGS);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { firstTag, String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, TrendingTag.class);
+    }
+
+    /**
+     * Get the version information of the connected node.
+     * 
+     * @return A future which will be completed with the steem version that the
+     *         connected node is running.
+     */
+    public CompletableFuture<SteemVersionInfo> getVersion() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_VERSION);
+        requestObject.setSteemApi(SteemApis.LOGIN_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, SteemVersionInfo.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get the witness information for a given witness account name.
+     * 
+     * @param witnessName
+     *            The witness name.
+     * @return A future which will be completed with a list of witnesses.
+     */
+    public CompletableFuture<Witness> getWitnessByAccount(AccountName witnessName) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESS_BY_ACCOUNT);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { witnessName.getName() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Witness.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get a list of witnesses sorted by the amount of votes. The list begins
+     * with the given account name and contains the next witnesses with less
+     * votes than given one.
+     * 
+     * @param witnessName
+     *            The witness name to start from.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of witnesses.
+     */
+    public CompletableFuture<List<Witness>> getWitnessByVote(AccountName witnessName, int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESSES_BY_VOTE);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { witnessName.getName(), String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Witness.class);
+    }
+
+    /**
+     * Get the current number of active witnesses.
+     * 
+     * @return A future which will be completed with the number of witnesses.
+     */
+    public CompletableFuture<Integer> getWitnessCount() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESS_COUNT);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Integer.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Get all witnesses.
+     * 
+     * @return A future which will be completed with a list of witnesses.
+     */
+    public CompletableFuture<List<Witness>> getWitnesses() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESSES);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Witness.class);
+    }
+
+    /**
+     * Get the witness schedule.
+     * 
+     * @return A future which will be completed with the witness schedule.
+     */
+    public CompletableFuture<WitnessSchedule> getWitnessSchedule() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.GET_WITNESS_SCHEDULE);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = {};
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, WitnessSchedule.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Login under the use of the credentials which are stored in the config
+     * object.
+     * 
+     * <p>
+     * <b>Notice:</b> The login method is only needed to access protected apis.
+     * For some apis like the broadcast_api a call of this method with empty
+     * strings can be enough to access them.
+     * 
+     * @return A future which will be completed with true if the login was
+     *         successful. False otherwise.
+     */
+    public CompletableFuture<Boolean> login() {
+        return login(SteemJConfig.getInstance().getApiUsername(),
+                String.valueOf(SteemJConfig.getInstance().getApiPassword()));
+    }
+
+    /**
+     * Login under the use of the specified credentials.
+     * 
+     * <p>
+     * <b>Notice:</b> The login method is only needed to access protected apis.
+     * For some apis like the broadcast_api a call of this method with empty
+     * strings can be enough to access them.
+     * 
+     * @param accountName
+     *            The username used to login.
+     * @param password
+     *            The password.
+     * @return A future which will be completed with true if the login was
+     *         successful. False otherwise.
+     */
+    public CompletableFuture<Boolean> login(AccountName accountName, String password) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.LOGIN);
+        requestObject.setSteemApi(SteemApis.LOGIN_API);
+        String[] parameters = { accountName.getName(), password };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Boolean.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Search for accounts.
+     * 
+     * @param pattern
+     *            The lower case pattern you want to search for.
+     * @param limit
+     *            The maximum number of account names.
+     * @return A future which will be completed with a list of matching account
+     *         names.
+     */
+    public CompletableFuture<List<String>> lookupAccounts(String pattern, int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.LOOKUP_ACCOUNTS);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { pattern, String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class);
+    }
+
+    /**
+     * Search for witness accounts.
+     * 
+     * @param pattern
+     *            The lower case pattern you want to search for.
+     * @param limit
+     *            The maximum number of account names.
+     * @return A future which will be completed with a list of matching account
+     *         names.
+     */
+    public CompletableFuture<List<String>> lookupWitnessAccounts(String pattern, int limit) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.LOOKUP_WITNESS_ACCOUNTS);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        String[] parameters = { pattern, String.valueOf(limit) };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, String.class);
+    }
+
+    /**
+     * Use the Steem API to verify the required authorities for this
+     * transaction.
+     * 
+     * @param signedTransaction
+     *            A whole and signed transaction object.
+     * @return A future which will be completed with true if the given
+     *         transaction has been signed correctly or false if not.
+     */
+    public CompletableFuture<Boolean> verifyAuthority(SignedTransaction signedTransaction) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.VERIFY_AUTHORITY);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+
+        Object[] parameters = { signedTransaction };
+        requestObject.setAdditionalParameters(parameters);
+        // TODO: The method does not simply return false, it throws an error
+        // describing the problem. The reason should be logged as info and the
+        // this method should only return false.
+        return communicationHandler.performRequestAsync(requestObject, Boolean.class)
+                .thenApply(result -> result.get(0));
+    }
+
+    /**
+     * Use this method to register a callback method that is called whenever a
+     * new block has been applied.
+     * 
+     * <p>
+     * <b>Notice:</b>
+     * 
+     * That there can only be one active Callback. If you call this method
+     * multiple times with different callback methods, only the last one will be
+     * called.
+     * 
+     * Once you've registered a callback it will be called until it is removed
+     * through {@link #removeBlockAppliedCallback(BlockAppliedCallback)
+     * removeBlockAppliedCallback}, even if the connection to the Steem Node
+     * has to be reestablished in the meantime. The callback is called by the
+     * configured executor (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setCallbackExecutor(java.util.concurrent.Executor)
+     * setCallbackExecutor}), not by the thread receiving the notifications.
+     * </p>
+     * 
+     * @param blockAppliedCallback
+     *            A class implementing the
+     *            {@link eu.bittrade.libs.steemj.communication.BlockAppliedCallback
+     *            BlockAppliedCallback}.
+     * @return A future which will be completed as soon as the request has been
+     *         processed.
+     */
+    public CompletableFuture<Void> setBlockAppliedCallback(BlockAppliedCallback blockAppliedCallback) {
+        // Register the given callback at the callback hub.
+        CallbackHub.getInstance().addCallback(blockAppliedCallback);
+
+        // Register the callback at the steem node.
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setApiMethod(RequestMethods.SET_BLOCK_APPLIED_CALLBACK);
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+
+        Object[] parameters = { blockAppliedCallback.getUuid() };
+        requestObject.setAdditionalParameters(parameters);
+
+        return communicationHandler.performRequestAsync(requestObject, Object.class).thenApply(result -> null);
+    }
+
+    /**
+     * Remove a callback which has been registered through
+     * {@link #setBlockAppliedCallback(BlockAppliedCallback)
+     * setBlockAppliedCallback}, so it will not be called anymore. As the Steem
+     * Node does not offer a way to cancel a subscription, further
+     * notifications for this callback are discarded by SteemJ.
+     * 
+     * @param blockAppliedCallback
+     *            The callback to remove.
+     * @return True if the callback has been removed, false if it has not been
+     *         registered.
+     */
+    public boolean removeBlockAppliedCallback(BlockAppliedCallback blockAppliedCallback) {
+        return CallbackHub.getInstance().removeCallback(blockAppliedCallback);
+    }
+
+    // #########################################################################
+    // ## FOLLOW API ###########################################################
+    // #########################################################################
+
+    /**
+     * Get a list of account names which the <code>following</code> account is
+     * followed by.
+     * 
+     * @param following
+     *            The account name for whose followers should be returned.
+     * @param startFollower
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>following</code> account has been followed by the
+     *            <code>startFollower</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future which will be completed with a list of account names
+     *         that follow the <code>follower</code> account..
+     */
+    public CompletableFuture<List<FollowApiObject>> getFollowers(AccountName following, AccountName startFollower,
+            FollowType type, short limit) {
+        return FollowApi.getFollowersAsync(communicationHandler, following, startFollower, type, limit);
+    }
+
+    /**
+     * Get a list of account names which the <code>follower</code> account
+     * follows.
+     * 
+     * @param follower
+     *            The account name for which the account names should be
+     *            returned, that the <code>follower</code> is following.
+     * @param startFollowing
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>follower</code> account has followed the
+     *            <code>startFollowing</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future which will be completed with a list of account names the
+     *         <code>follower</code> account is following.
+     */
+    public CompletableFuture<List<FollowApiObject>> getFollowing(AccountName follower, AccountName startFollowing,
+            FollowType type, short limit) {
+        return FollowApi.getFollowingAsync(communicationHandler, follower, startFollowing, type, limit);
+    }
+
+    /**
+     * Get the amount of accounts following the given <code>account</code> and
+     * the number of accounts this <code>account</code> follows. Both values are
+     * wrapped in a FollowCountApiObject.
+     * 
+     * @param account
+     *            The account to get the number of followers / following
+     *            accounts for.
+     * @return A future which will be completed with the number of followers /
+     *         following accounts
+     */
+    public CompletableFuture<FollowCountApiObject> getFollowCount(AccountName account) {
+        return FollowApi.getFollowCountAsync(communicationHandler, account);
+    }
+
+    /**
+     * This method is like the {@link #getBlogEntries(AccountName, int, short)
+     * getBlogEntries(AccountName, int, short)} method, but instead of returning
+     * blog entries, the getFeedEntries method returns the feed of the given
+     * account.
+     * 
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of feed entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<FeedEntry>> getFeedEntries(AccountName account, int entryId, short limit) {
+        return FollowApi.getFeedEntriesAsync(communicationHandler, account, entryId, limit);
+    }
+
+    /**
+     * This method is like the {@link #getBlog(AccountName, int, short)
+     * getBlog(AccountName, int, short)} method, but instead of returning blog
+     * entries, the getFeed method returns the feed of the given account.
+     * 
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of feed entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<CommentFeedEntry>> getFeed(AccountName account, int entryId, short limit) {
+        return FollowApi.getFeedAsync(communicationHandler, account, entryId, limit);
+    }
+
+    /**
+     * Get the blog entries of the given <code>author</code> based on the given
+     * coniditions.
+     * 
+     * Each blog entry of an <code>author</code> (resteemed or posted on his/her
+     * own) has an <code>entryId</code>, while the <code>entryId</code> starts
+     * with 0 for the first blog entry and is increment by 1 for each resteem or
+     * post of the <code>author</code>.
+     * 
+     * Steem allows to use the <code>entryId</code> as a search criteria: The
+     * first entry of the returned list is the blog entry with the given
+     * <code>entryId</code>. Beside that, the <code>limit</code> can be used to
+     * limit the number of results.
+     * 
+     * So if the method is called with <code>entryId</code> set to 5 and the
+     * <code>limit</code> is set to 2, the returned list will contain 2 entries:
+     * The first one is the blog entry with <code>entryId</code> of 5, the
+     * second one has the <code>entryId</code> 4.
+     * 
+     * If the <code>entryId</code> is set to 0, the first returned item will be
+     * the latest blog entry of the given <code>author</code>.
+     * 
+     * So if a user has 50 blog entries and this method is called with an
+     * <code>entryId</code> set to 0 and a <code>limit</code> of 2, the returned
+     * list will contain the blog entries with the <code>entryId</code>s 50 and
+     * 49.
+     * 
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of blog entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<BlogEntry>> getBlogEntries(AccountName account, int entryId, short limit) {
+        return FollowApi.getBlogEntriesAsync(communicationHandler, account, entryId, limit);
+
+    }
+
+    /**
+     * Like {@link #getBlogEntries(AccountName, int, short)
+     * getBlogEntries(AccountName, int, short)}, but contains the whole content
+     * of the blog entry.
+     * 
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of blog entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public CompletableFuture<List<CommentBlogEntry>> getBlog(AccountName account, int entryId, short limit) {
+        return FollowApi.getBlogAsync(communicationHandler, account, entryId, limit);
+    }
+
+    /**
+     * Get the reputation for one or more accounts. This method will return the
+     * reputation of the {@code limit} number of accounts that mostly match the
+     * given {@code accountName}.
+     * 
+     * <p>
+     * <b>Example:</b>
+     * </p>
+     * <p>
+     * <code>getAccountReputations(new AccountName("dez1337"), 0);</code>
+     * </p>
+     * <p>
+     * This example will return the reputation of the account "dez1337".
+     * </p>
+     * <p>
+     * <code>getAccountReputations(new AccountName("dez1337"), 1);</code>
+     * </p>
+     * <p>
+     * This example will return the reputation of the account "dez1337" and
+     * "dez243", because "dez243" is the most similar account name to "dez1337".
+     * </p>
+     * 
+     * @param accountName
+     *            The first account name to get the reputation for.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of
+     *         {@link eu.bittrade.libs.steemj.apis.follow.model.AccountReputation AccountReputation}.
+     */
+    public CompletableFuture<List<AccountReputation>> getAccountReputations(AccountName accountName, int limit) {
+        return FollowApi.getAccountReputationsAsync(communicationHandler, accountName, limit);
+    }
+
+    /**
+     * Gets list of accounts that have reblogged a particular post.
+     * 
+     * @param author
+     *            The author of the post to get the rebloggers for.
+     * @param permlink
+     *            The permlink of the post to get the rebloggers for.
+     * @return A future which will be completed with a list of accounts that
+     *         have reblogged a particular post.
+     */
+    public CompletableFuture<List<AccountName>> getRebloggedBy(AccountName author, Permlink permlink) {
+        return FollowApi.getRebloggedByAsync(communicationHandler, author, permlink);
+    }
+
+    /**
+     * Use this method to find out how many posts of different authors have been
+     * resteemed by the given <code>blogAccount</code>.
+     * 
+     * @param blogAccount
+     *            The account whose blog should be analyzed.
+     * @return A future which will be completed with a list of pairs, while each
+     *         pair contains the author name and the number of blog entries from
+     *         this author published by the <code>blogAuthor</code>.
+     */
+    public CompletableFuture<List<PostsPerAuthorPair>> getBlogAuthors(AccountName blogAccount) {
+        return FollowApi.getBlogAuthorsAsync(communicationHandler, blogAccount);
+    }
+
+    // #########################################################################
+    // ## MARKET HISTORY API ###################################################
+    // #########################################################################
+
+    /**
+     * @return A future which will be completed with the market ticker for the
+     *         internal SBD:STEEM market.
+     */
+    public CompletableFuture<MarketTicker> getTicker() {
+        return MarketHistoryApi.getTickerAsync(communicationHandler);
+    }
+
+    /**
+     * @return A future which will be completed with the market volume for the
+     *         past 24 hours.
+     */
+    public CompletableFuture<MarketVolume> getVolume() {
+        return MarketHistoryApi.getVolumeAsync(communicationHandler);
+    }
+
+    /**
+     * @param limit
+     *            The number of orders to have on each side of the order book.
+     *            Maximum is 500.
+     * @return A future which will be completed with the current order book for
+     *         the internal SBD:STEEM market.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public CompletableFuture<eu.bittrade.libs.steemj.apis.market.history.model.OrderBook> getOrderBookUsingMarketApi(
+            short limit) {
+        return MarketHistoryApi.getOrderBookAsync(communicationHandler, limit);
+    }
+
+    /**
+     * Returns the trade history for the internal SBD:STEEM market.
+     * 
+     * @param start
+     *            The start time of the trade history.
+     * @param end
+     *            The end time of the trade history.
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future which will be completed with a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public CompletableFuture<List<MarketTrade>> getTradeHistory(TimePointSec start, TimePointSec end, short limit) {
+        return MarketHistoryApi.getTradeHistoryAsync(communicationHandler, start, end, limit);
+    }
+
+    /**
+     * Returns the <code>limit</code> most recent trades for the internal
+     * SBD:STEEM market.
+     *
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future which will be completed with a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public CompletableFuture<List<MarketTrade>> getRecentTrades(short limit) {
+        return MarketHistoryApi.getRecentTradesAsync(communicationHandler, limit);
+    }
+
+    /**
+     * Returns the market history for the internal SBD:STEEM market.
+     * 
+     * @param bucketSeconds
+     *            The size of buckets the history is broken into. The bucket
+     *            size must be configured in the plugin options.
+     * @param start
+     *            The start time to get market history.
+     * @param end
+     *            The end time to get market history.
+     * @return A future which will be completed with a list of market history
+     *         {@link eu.bittrade.libs.steemj.apis.market.history.model.Bucket Bucket}s.
+     */
+    public CompletableFuture<List<Bucket>> getMarketHistory(long bucketSeconds, TimePointSec start, TimePointSec end) {
+        return MarketHistoryApi.getMarketHistoryAsync(communicationHandler, bucketSeconds, start, end);
+    }
+
+    /**
+     * @return A future which will be completed with the bucket seconds being
+     *         tracked by the plugin.
+     */
+    public CompletableFuture<List<Integer>> getMarketHistoryBuckets() {
+        return MarketHistoryApi.getMarketHistoryBucketsAsync(communicationHandler);
+    }
+}
@@ -1,6 +1,7 @@
 package eu.bittrade.libs.steemj.apis.follow;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import eu.bittrade.libs.steemj.apis.follow.enums.FollowType;
 import eu.bittrade.libs.steemj.apis.follow.model.AccountReputation;
@@ -65,6 +66,36 @@ public class FollowApi {
      */
     public static List<FollowApiObject> getFollowers(CommunicationHandler communicationHandler, AccountName following,
             AccountName startFollower, FollowType type, short limit) throws SteemCommunicationException {
+        return CommunicationHandler
+                .await(getFollowersAsync(communicationHandler, following, startFollower, type, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getFollowers(CommunicationHandler, AccountName, AccountName, FollowType, short) getFollowers(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param following
+     *            The account name for whose followers should be returned.
+     * @param startFollower
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>following</code> account has been followed by the
+     *            <code>startFollower</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future which will be completed with a list of account names
+     *         that follow the <code>follower</code> account..
+     */
+    public static CompletableFuture<List<FollowApiObject>> getFollowersAsync(CommunicationHandler communicationHandler,
+            AccountName following, AccountName startFollower, FollowType type, short limit) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_FOLLOWERS);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -72,7 +103,7 @@ public class FollowApi {
         Object[] parameters = { following.getName(), startFollower.getName(), type.toString().toLowerCase(), limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, FollowApiObject.class);
+        return communicationHandler.performRequestAsync(requestObject, FollowApiObject.class);
     }
 
     /**
@@ -112,6 +143,37 @@ public class FollowApi {
      */
     public static List<FollowApiObject> getFollowing(CommunicationHandler communicationHandler, AccountName follower,
             AccountName startFollowing, FollowType type, short limit) throws SteemCommunicationException {
+        return CommunicationHandler
+                .await(getFollowingAsync(communicationHandler, follower, startFollowing, type, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getFollowing(CommunicationHandler, AccountName, AccountName, FollowType, short) getFollowing(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param follower
+     *            The account name for which the account names should be
+     *            returned, that the <code>follower</code> is following.
+     * @param startFollowing
+     *            A filter to limit the number of results. If not empty, the
+     *            method will only return account names after the
+     *            <code>follower</code> account has followed the
+     *            <code>startFollowing</code> account.
+     * @param type
+     *            The follow type.
+     * @param limit
+     *            The maximum number of results returned.
+     * @return A future which will be completed with a list of account names the
+     *         <code>follower</code> account is following.
+     */
+    public static CompletableFuture<List<FollowApiObject>> getFollowingAsync(CommunicationHandler communicationHandler,
+            AccountName follower, AccountName startFollowing, FollowType type, short limit) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_FOLLOWING);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -119,7 +181,7 @@ public class FollowApi {
         Object[] parameters = { follower.getName(), startFollowing.getName(), type.toString().toLowerCase(), limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, FollowApiObject.class);
+        return communicationHandler.performRequestAsync(requestObject, FollowApiObject.class);
     }
 
     /**
@@ -150,6 +212,27 @@ public class FollowApi {
      */
     public static FollowCountApiObject getFollowCount(CommunicationHandler communicationHandler, AccountName account)
             throws SteemCommunicationException {
+        return CommunicationHandler.await(getFollowCountAsync(communicationHandler, account));
+    }
+
+    /**
+     * Like
+     * {@link #getFollowCount(CommunicationHandler, AccountName) getFollowCount(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the number of followers / following
+     *            accounts for.
+     * @return A future which will be completed with the number of followers /
+     *         following accounts
+     */
+    public static CompletableFuture<FollowCountApiObject> getFollowCountAsync(
+            CommunicationHandler communicationHandler, AccountName account) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_FOLLOW_COUNT);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -157,7 +240,8 @@ public class FollowApi {
         Object[] parameters = { account.getName() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, FollowCountApiObject.class).get(0);
+        return communicationHandler.performRequestAsync(requestObject, FollowCountApiObject.class)
+                .thenApply(result -> result.get(0));
     }
 
     /**
@@ -195,6 +279,31 @@ public class FollowApi {
      */
     public static List<FeedEntry> getFeedEntries(CommunicationHandler communicationHandler, AccountName account,
             int entryId, short limit) throws SteemCommunicationException {
+        return CommunicationHandler.await(getFeedEntriesAsync(communicationHandler, account, entryId, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getFeedEntries(CommunicationHandler, AccountName, int, short) getFeedEntries(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of feed entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<FeedEntry>> getFeedEntriesAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_FEED_ENTRIES);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -202,7 +311,7 @@ public class FollowApi {
         Object[] parameters = { account.getName(), entryId, limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, FeedEntry.class);
+        return communicationHandler.performRequestAsync(requestObject, FeedEntry.class);
     }
 
     /**
@@ -240,6 +349,31 @@ public class FollowApi {
      */
     public static List<CommentFeedEntry> getFeed(CommunicationHandler communicationHandler, AccountName account,
             int entryId, short limit) throws SteemCommunicationException {
+        return CommunicationHandler.await(getFeedAsync(communicationHandler, account, entryId, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getFeed(CommunicationHandler, AccountName, int, short) getFeed(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the feed entries for.
+     * @param entryId
+     *            The first feed entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of feed entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<CommentFeedEntry>> getFeedAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_FEED);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -247,7 +381,7 @@ public class FollowApi {
         Object[] parameters = { account.getName(), entryId, limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, CommentFeedEntry.class);
+        return communicationHandler.performRequestAsync(requestObject, CommentFeedEntry.class);
     }
 
     /**
@@ -305,6 +439,31 @@ public class FollowApi {
      */
     public static List<BlogEntry> getBlogEntries(CommunicationHandler communicationHandler, AccountName account,
             int entryId, short limit) throws SteemCommunicationException {
+        return CommunicationHandler.await(getBlogEntriesAsync(communicationHandler, account, entryId, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getBlogEntries(CommunicationHandler, AccountName, int, short) getBlogEntries(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of blog entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<BlogEntry>> getBlogEntriesAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_BLOG_ENTRIES);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -312,7 +471,7 @@ public class FollowApi {
         Object[] parameters = { account.getName(), entryId, limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, BlogEntry.class);
+        return communicationHandler.performRequestAsync(requestObject, BlogEntry.class);
 
     }
 
@@ -350,6 +509,31 @@ public class FollowApi {
      */
     public static List<CommentBlogEntry> getBlog(CommunicationHandler communicationHandler, AccountName account,
             int entryId, short limit) throws SteemCommunicationException {
+        return CommunicationHandler.await(getBlogAsync(communicationHandler, account, entryId, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getBlog(CommunicationHandler, AccountName, int, short) getBlog(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param account
+     *            The account to get the blog entries for.
+     * @param entryId
+     *            The first blog entry id to return.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of blog entries from
+     *         the given <code>author</code> based on the given conditions
+     *         (<code>entryId</code> and <code>limit</code>).
+     */
+    public static CompletableFuture<List<CommentBlogEntry>> getBlogAsync(CommunicationHandler communicationHandler,
+            AccountName account, int entryId, short limit) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_BLOG);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -357,7 +541,7 @@ public class FollowApi {
         Object[] parameters = { account.getName(), entryId, limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, CommentBlogEntry.class);
+        return communicationHandler.performRequestAsync(requestObject, CommentBlogEntry.class);
     }
 
     /**
@@ -408,6 +592,28 @@ public class FollowApi {
      */
     public static List<AccountReputation> getAccountReputations(CommunicationHandler communicationHandler,
             AccountName accountName, int limit) throws SteemCommunicationException {
+        return CommunicationHandler.await(getAccountReputationsAsync(communicationHandler, accountName, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getAccountReputations(CommunicationHandler, AccountName, int) getAccountReputations(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param accountName
+     *            The first account name to get the reputation for.
+     * @param limit
+     *            The number of results.
+     * @return A future which will be completed with a list of
+     *         {@link eu.bittrade.libs.steemj.apis.follow.model.AccountReputation AccountReputation}.
+     */
+    public static CompletableFuture<List<AccountReputation>> getAccountReputationsAsync(
+            CommunicationHandler communicationHandler, AccountName accountName, int limit) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_ACCOUNT_REPUTATIONS);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -415,7 +621,7 @@ public class FollowApi {
         Object[] parameters = { accountName.getName(), limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, AccountReputation.class);
+        return communicationHandler.performRequestAsync(requestObject, AccountReputation.class);
     }
 
     /**
@@ -445,6 +651,28 @@ public class FollowApi {
      */
     public static List<AccountName> getRebloggedBy(CommunicationHandler communicationHandler, AccountName author,
             Permlink permlink) throws SteemCommunicationException {
+        return CommunicationHandler.await(getRebloggedByAsync(communicationHandler, author, permlink));
+    }
+
+    /**
+     * Like
+     * {@link #getRebloggedBy(CommunicationHandler, AccountName, Permlink) getRebloggedBy(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param author
+     *            The author of the post to get the rebloggers for.
+     * @param permlink
+     *            The permlink of the post to get the rebloggers for.
+     * @return A future which will be completed with a list of accounts that
+     *         have reblogged a particular post.
+     */
+    public static CompletableFuture<List<AccountName>> getRebloggedByAsync(CommunicationHandler communicationHandler,
+            AccountName author, Permlink permlink) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_REBLOGGED_BY);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -452,7 +680,7 @@ public class FollowApi {
         Object[] parameters = { author.getName(), permlink.getLink() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, AccountName.class);
+        return communicationHandler.performRequestAsync(requestObject, AccountName.class);
     }
 
     /**
@@ -483,6 +711,27 @@ public class FollowApi {
      */
     public static List<PostsPerAuthorPair> getBlogAuthors(CommunicationHandler communicationHandler,
             AccountName blogAccount) throws SteemCommunicationException {
+        return CommunicationHandler.await(getBlogAuthorsAsync(communicationHandler, blogAccount));
+    }
+
+    /**
+     * Like
+     * {@link #getBlogAuthors(CommunicationHandler, AccountName) getBlogAuthors(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param blogAccount
+     *            The account whose blog should be analyzed.
+     * @return A future which will be completed with a list of pairs, while each
+     *         pair contains the author name and the number of blog entries from
+     *         this author published by the <code>blogAuthor</code>.
+     */
+    public static CompletableFuture<List<PostsPerAuthorPair>> getBlogAuthorsAsync(
+            CommunicationHandler communicationHandler, AccountName blogAccount) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_BLOG_AUTHORS);
         requestObject.setSteemApi(SteemApis.FOLLOW_API);
@@ -490,6 +739,6 @@ public class FollowApi {
         Object[] parameters = { blogAccount.getName() };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, PostsPerAuthorPair.class);
+        return communicationHandler.performRequestAsync(requestObject, PostsPerAuthorPair.class);
     }
 }
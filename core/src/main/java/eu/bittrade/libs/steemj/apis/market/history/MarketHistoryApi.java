@@ -2,6 +2,7 @@ package eu.bittrade.libs.steemj.apis.market.history;
 
 import java.security.InvalidParameterException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import eu.bittrade.libs.steemj.apis.market.history.model.Bucket;
 import eu.bittrade.libs.steemj.apis.market.history.model.MarketTicker;
@@ -45,6 +46,22 @@ public class MarketHistoryApi {
      *             </ul>
      */
     public static MarketTicker getTicker(CommunicationHandler communicationHandler) throws SteemCommunicationException {
+        return CommunicationHandler.await(getTickerAsync(communicationHandler));
+    }
+
+    /**
+     * Like {@link #getTicker(CommunicationHandler) getTicker(...)}, but the
+     * request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @return A future which will be completed with the market ticker for the
+     *         internal SBD:STEEM market.
+     */
+    public static CompletableFuture<MarketTicker> getTickerAsync(CommunicationHandler communicationHandler) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_TICKER);
         requestObject.setSteemApi(SteemApis.MARKET_HISTORY_API);
@@ -52,7 +69,8 @@ public class MarketHistoryApi {
         Object[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, MarketTicker.class).get(0);
+        return communicationHandler.performRequestAsync(requestObject, MarketTicker.class)
+                .thenApply(result -> result.get(0));
     }
 
     /**
@@ -75,6 +93,22 @@ public class MarketHistoryApi {
      *             </ul>
      */
     public static MarketVolume getVolume(CommunicationHandler communicationHandler) throws SteemCommunicationException {
+        return CommunicationHandler.await(getVolumeAsync(communicationHandler));
+    }
+
+    /**
+     * Like {@link #getVolume(CommunicationHandler) getVolume(...)}, but the
+     * request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @return A future which will be completed with the market volume for the
+     *         past 24 hours.
+     */
+    public static CompletableFuture<MarketVolume> getVolumeAsync(CommunicationHandler communicationHandler) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_VOLUME);
         requestObject.setSteemApi(SteemApis.MARKET_HISTORY_API);
@@ -82,7 +116,8 @@ public class MarketHistoryApi {
         Object[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, MarketVolume.class).get(0);
+        return communicationHandler.performRequestAsync(requestObject, MarketVolume.class)
+                .thenApply(result -> result.get(0));
     }
 
     /**
@@ -111,6 +146,29 @@ public class MarketHistoryApi {
      */
     public static OrderBook getOrderBook(CommunicationHandler communicationHandler, short limit)
             throws SteemCommunicationException {
+        return CommunicationHandler.await(getOrderBookAsync(communicationHandler, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getOrderBook(CommunicationHandler, short) getOrderBook(...)}, but
+     * the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param limit
+     *            The number of orders to have on each side of the order book.
+     *            Maximum is 500.
+     * @return A future which will be completed with the current order book for
+     *         the internal SBD:STEEM market.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public static CompletableFuture<OrderBook> getOrderBookAsync(CommunicationHandler communicationHandler,
+            short limit) {
         if (limit < 0 || limit > 500) {
             throw new InvalidParameterException("The limit can't be less than 0 or greater than 500.");
         }
@@ -122,7 +180,8 @@ public class MarketHistoryApi {
         Object[] parameters = { limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, OrderBook.class).get(0);
+        return communicationHandler.performRequestAsync(requestObject, OrderBook.class)
+                .thenApply(result -> result.get(0));
     }
 
     /**
@@ -156,6 +215,31 @@ public class MarketHistoryApi {
      */
     public static List<MarketTrade> getTradeHistory(CommunicationHandler communicationHandler, TimePointSec start,
             TimePointSec end, short limit) throws SteemCommunicationException {
+        return CommunicationHandler.await(getTradeHistoryAsync(communicationHandler, start, end, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getTradeHistory(CommunicationHandler, TimePointSec, TimePointSec, short) getTradeHistory(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param start
+     *            The start time of the trade history.
+     * @param end
+     *            The end time of the trade history.
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future which will be completed with a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public static CompletableFuture<List<MarketTrade>> getTradeHistoryAsync(CommunicationHandler communicationHandler,
+            TimePointSec start, TimePointSec end, short limit) {
         if (limit < 0 || limit > 1000) {
             throw new InvalidParameterException("The limit can't be less than 0 or greater than 1000.");
         }
@@ -167,7 +251,7 @@ public class MarketHistoryApi {
         Object[] parameters = { start, end, limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, MarketTrade.class);
+        return communicationHandler.performRequestAsync(requestObject, MarketTrade.class);
     }
 
     /**
@@ -198,6 +282,27 @@ public class MarketHistoryApi {
      */
     public static List<MarketTrade> getRecentTrades(CommunicationHandler communicationHandler, short limit)
             throws SteemCommunicationException {
+        return CommunicationHandler.await(getRecentTradesAsync(communicationHandler, limit));
+    }
+
+    /**
+     * Like
+     * {@link #getRecentTrades(CommunicationHandler, short) getRecentTrades(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param limit
+     *            The number of trades to return. Maximum is 1000.
+     * @return A future which will be completed with a list of completed trades.
+     * @throws InvalidParameterException
+     *             If the limit is less than 0 or greater than 500.
+     */
+    public static CompletableFuture<List<MarketTrade>> getRecentTradesAsync(CommunicationHandler communicationHandler,
+            short limit) {
         if (limit < 0 || limit > 1000) {
             throw new InvalidParameterException("The limit can't be less than 0 or greater than 500.");
         }
@@ -209,7 +314,7 @@ public class MarketHistoryApi {
         Object[] parameters = { limit };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, MarketTrade.class);
+        return communicationHandler.performRequestAsync(requestObject, MarketTrade.class);
     }
 
     /**
@@ -244,6 +349,31 @@ public class MarketHistoryApi {
      */
     public static List<Bucket> getMarketHistory(CommunicationHandler communicationHandler, long bucketSeconds,
             TimePointSec start, TimePointSec end) throws SteemCommunicationException {
+        return CommunicationHandler.await(getMarketHistoryAsync(communicationHandler, bucketSeconds, start, end));
+    }
+
+    /**
+     * Like
+     * {@link #getMarketHistory(CommunicationHandler, long, TimePointSec, TimePointSec) getMarketHistory(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @param bucketSeconds
+     *            The size of buckets the history is broken into. The bucket
+     *            size must be configured in the plugin options.
+     * @param start
+     *            The start time to get market history.
+     * @param end
+     *            The end time to get market history.
+     * @return A future which will be completed with a list of market history
+     *         {@link eu.bittrade.libs.steemj.apis.market.history.model.Bucket Bucket}s.
+     */
+    public static CompletableFuture<List<Bucket>> getMarketHistoryAsync(CommunicationHandler communicationHandler,
+            long bucketSeconds, TimePointSec start, TimePointSec end) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_MARKET_HISTORY);
         requestObject.setSteemApi(SteemApis.MARKET_HISTORY_API);
@@ -251,7 +381,7 @@ public class MarketHistoryApi {
         Object[] parameters = { bucketSeconds, start, end };
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Bucket.class);
+        return communicationHandler.performRequestAsync(requestObject, Bucket.class);
     }
 
     /**
@@ -275,6 +405,24 @@ public class MarketHistoryApi {
      */
     public static List<Integer> getMarketHistoryBuckets(CommunicationHandler communicationHandler)
             throws SteemCommunicationException {
+        return CommunicationHandler.await(getMarketHistoryBucketsAsync(communicationHandler));
+    }
+
+    /**
+     * Like
+     * {@link #getMarketHistoryBuckets(CommunicationHandler) getMarketHistoryBuckets(...)},
+     * but the request is performed asynchronously.
+     * 
+     * @param communicationHandler
+     *            A
+     *            {@link eu.bittrade.libs.steemj.communication.CommunicationHandler
+     *            CommunicationHandler} instance that should be used to send the
+     *            request.
+     * @return A future which will be completed with the bucket seconds being
+     *         tracked by the plugin.
+     */
+    public static CompletableFuture<List<Integer>> getMarketHistoryBucketsAsync(
+            CommunicationHandler communicationHandler) {
         RequestWrapperDTO requestObject = new RequestWrapperDTO();
         requestObject.setApiMethod(RequestMethods.GET_MARKET_HISTORY_BUCKETS);
         requestObject.setSteemApi(SteemApis.MARKET_HISTORY_API);
@@ -282,6 +430,6 @@ public class MarketHistoryApi {
         Object[] parameters = {};
         requestObject.setAdditionalParameters(parameters);
 
-        return communicationHandler.performRequest(requestObject, Integer.class);
+        return communicationHandler.performRequestAsync(requestObject, Integer.class);
     }
 }
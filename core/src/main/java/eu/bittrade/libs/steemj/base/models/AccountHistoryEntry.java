@@ -0,0 +1,51 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A single entry of the history of an account, consisting of the sequence
+ * number of the entry and the operation that has been applied.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountHistoryEntry {
+    private final int index;
+    private final AppliedOperation appliedOperation;
+
+    /**
+     * Create a new entry.
+     * 
+     * @param index
+     *            The sequence number of the entry in the history of the
+     *            account.
+     * @param appliedOperation
+     *            The operation of the entry.
+     */
+    public AccountHistoryEntry(int index, AppliedOperation appliedOperation) {
+        this.index = index;
+        this.appliedOperation = appliedOperation;
+    }
+
+    /**
+     * Get the sequence number of this entry in the history of the account.
+     * 
+     * @return The index of this entry.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the operation of this entry.
+     * 
+     * @return The applied operation.
+     */
+    public AppliedOperation getAppliedOperation() {
+        return appliedOperation;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
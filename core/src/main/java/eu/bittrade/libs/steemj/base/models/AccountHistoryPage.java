@@ -0,0 +1,129 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * A consecutive part of the history of an account, as returned by a single
+ * <code>get_account_history</code> request.
+ * 
+ * <p>
+ * In contrast to a map, the entries are stored in two arrays sorted by their
+ * sequence number, so the indices are not boxed and the entries can be
+ * accessed in order.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountHistoryPage {
+    private final int[] indices;
+    private final AppliedOperation[] appliedOperations;
+
+    /**
+     * Create a new page. The arrays are not copied and must not be modified
+     * afterwards.
+     * 
+     * @param indices
+     *            The sequence numbers of the entries in ascending order.
+     * @param appliedOperations
+     *            The operations of the entries in the same order as the
+     *            <code>indices</code>.
+     * @throws IllegalArgumentException
+     *             If the arrays have a different length.
+     */
+    public AccountHistoryPage(int[] indices, AppliedOperation[] appliedOperations) {
+        if (indices.length != appliedOperations.length) {
+            throw new IllegalArgumentException("The number of indices and operations has to be equal.");
+        }
+
+        this.indices = indices;
+        this.appliedOperations = appliedOperations;
+    }
+
+    /**
+     * @return The number of entries of this page.
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * @return True if this page does not contain any entry.
+     */
+    public boolean isEmpty() {
+        return indices.length == 0;
+    }
+
+    /**
+     * Get the sequence number of the entry at the given position.
+     * 
+     * @param position
+     *            The position of the entry in this page, starting at 0.
+     * @return The sequence number of the entry.
+     * @throws ArrayIndexOutOfBoundsException
+     *             If the position is outside of this page.
+     */
+    public int getIndex(int position) {
+        return indices[position];
+    }
+
+    /**
+     * Get the operation of the entry at the given position.
+     * 
+     * @param position
+     *            The position of the entry in this page, starting at 0.
+     * @return The operation of the entry.
+     * @throws ArrayIndexOutOfBoundsException
+     *             If the position is outside of this page.
+     */
+    public AppliedOperation getAppliedOperation(int position) {
+        return appliedOperations[position];
+    }
+
+    /**
+     * Get the entry at the given position.
+     * 
+     * @param position
+     *            The position of the entry in this page, starting at 0.
+     * @return The entry.
+     * @throws ArrayIndexOutOfBoundsException
+     *             If the position is outside of this page.
+     */
+    public AccountHistoryEntry getEntry(int position) {
+        return new AccountHistoryEntry(indices[position], appliedOperations[position]);
+    }
+
+    /**
+     * Get the operation with the given sequence number.
+     * 
+     * @param index
+     *            The sequence number of the entry.
+     * @return The operation, or null if this page does not contain the entry.
+     */
+    public AppliedOperation getAppliedOperationByIndex(int index) {
+        int position = Arrays.binarySearch(indices, index);
+        return position < 0 ? null : appliedOperations[position];
+    }
+
+    /**
+     * @return The lowest sequence number of this page, or -1 if this page is
+     *         empty.
+     */
+    public int getFirstIndex() {
+        return isEmpty() ? -1 : indices[0];
+    }
+
+    /**
+     * @return The highest sequence number of this page, or -1 if this page is
+     *         empty.
+     */
+    public int getLastIndex() {
+        return isEmpty() ? -1 : indices[indices.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
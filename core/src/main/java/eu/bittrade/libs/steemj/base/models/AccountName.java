@@ -8,8 +8,11 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -101,6 +104,25 @@ public class AccountName implements ByteTransformable, SignatureObject {
         return SteemJUtils.transformStringToVarIntByteArray(this.getName());
     }
 
+    @Override
+    public void writeTo(ByteSink byteSink) {
+        byteSink.writeString(this.getName());
+    }
+
+    /**
+     * Read an account name from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the account name from.
+     * @return The account name.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid account name.
+     */
+    public static AccountName fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        return new AccountName(byteSource.readString());
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -2,6 +2,7 @@ package eu.bittrade.libs.steemj.base.models;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.base.models.operations.Operation;
@@ -27,7 +28,7 @@ public class AppliedOperation {
     @JsonProperty("virtual_op")
     private long virtualOp;
     private TimePointSec timestamp;
-    private Operation op;
+    private LazyOperation op;
 
     /**
      * This object is only used to wrap the JSON response in a POJO, so
@@ -91,12 +92,28 @@ public class AppliedOperation {
     }
 
     /**
-     * Get the whole operation object.
+     * Get the whole operation object. If the lazy decoding is enabled (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setLazyOperationDecodingEnabled(boolean)
+     * setLazyOperationDecodingEnabled}), the operation is decoded on the first
+     * call of this method.
      * 
      * @return The operation object.
      */
     public Operation getOp() {
-        return op;
+        return op == null ? null : op.getOperation();
+    }
+
+    /**
+     * Get the name of the operation type without decoding the operation. The
+     * type is already part of the "op" property, so it is not serialized
+     * again.
+     * 
+     * @return The name of the type as used in the JSON representation (e.g.
+     *         "transfer").
+     */
+    @JsonIgnore
+    public String getOpType() {
+        return op == null ? null : op.getTypeName();
     }
 
     @Override
@@ -1,8 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -10,11 +7,12 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import eu.bittrade.libs.steemj.base.models.deserializer.AssetDeserializer;
 import eu.bittrade.libs.steemj.base.models.serializer.AssetSerializer;
-import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class is the java implementation of the <a href=
@@ -112,23 +110,59 @@ public class Asset implements ByteTransformable {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAsset = new ByteArrayOutputStream()) {
-            serializedAsset.write(SteemJUtils.transformLongToByteArray(this.amount));
-            serializedAsset.write(SteemJUtils.transformByteToLittleEndian(this.precision));
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeLong(this.amount);
+        byteSink.writeByte(this.precision);
+
+        // The symbol names only consist of upper case ASCII letters, so they
+        // can be written char by char and are filled up to 7 bytes with zeros.
+        String assetSymbol = this.symbol.name();
+        for (int i = 0; i < assetSymbol.length(); i++) {
+            byteSink.writeByte(assetSymbol.charAt(i));
+        }
 
-            serializedAsset
-                    .write(this.symbol.name().toUpperCase().getBytes(SteemJConfig.getInstance().getEncodingCharset()));
-            String filledAssetSymbol = this.symbol.name().toUpperCase();
+        for (int i = assetSymbol.length(); i < 7; i++) {
+            byteSink.writeByte(0x00);
+        }
+    }
 
-            for (int i = filledAssetSymbol.length(); i < 7; i++) {
-                serializedAsset.write(0x00);
+    /**
+     * Read an asset from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the asset from.
+     * @return The asset.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid asset.
+     */
+    public static Asset fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        long amount = byteSource.readLong();
+        byte precision = byteSource.readByte();
+
+        // The symbol is filled up to 7 bytes with zeros.
+        StringBuilder symbolName = new StringBuilder(7);
+        for (int i = 0; i < 7; i++) {
+            byte symbolCharacter = byteSource.readByte();
+            if (symbolCharacter != 0x00) {
+                symbolName.append((char) symbolCharacter);
             }
+        }
 
-            return serializedAsset.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming an asset into a byte array.", e);
+        Asset asset = new Asset();
+        try {
+            asset.setSymbol(AssetSymbolType.valueOf(symbolName.toString()));
+        } catch (IllegalArgumentException e) {
+            throw new SteemTransformationException("The asset symbol '" + symbolName + "' is not supported.", e);
         }
+        asset.setAmount(amount);
+        asset.precision = precision;
+
+        return asset;
     }
 
     @Override
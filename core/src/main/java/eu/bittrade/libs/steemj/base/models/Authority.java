@@ -1,11 +1,10 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -17,9 +16,11 @@ import eu.bittrade.libs.steemj.base.models.deserializer.PublicKeyHashMapDeserial
 import eu.bittrade.libs.steemj.base.models.serializer.AccountAuthHashMapSerializer;
 import eu.bittrade.libs.steemj.base.models.serializer.PublicKeyHashMapSerializer;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class is the java implementation of the Steem "authority" object.
@@ -123,28 +124,58 @@ public class Authority implements ByteTransformable, SignatureObject {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAuthority = new ByteArrayOutputStream()) {
-            serializedAuthority.write(SteemJUtils.transformIntToByteArray((int) this.getWeightThreshold()));
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeInt((int) this.getWeightThreshold());
 
-            serializedAuthority.write(SteemJUtils.transformLongToVarIntByteArray(this.getAccountAuths().size()));
+        byteSink.writeVarLong(this.getAccountAuths().size());
 
-            for (Entry<AccountName, Integer> accountAuth : this.getAccountAuths().entrySet()) {
-                serializedAuthority.write(accountAuth.getKey().toByteArray());
-                serializedAuthority.write(SteemJUtils.transformShortToByteArray(accountAuth.getValue()));
-            }
+        for (Entry<AccountName, Integer> accountAuth : this.getAccountAuths().entrySet()) {
+            accountAuth.getKey().writeTo(byteSink);
+            byteSink.writeShort(accountAuth.getValue());
+        }
+
+        byteSink.writeVarLong(this.getKeyAuths().size());
 
-            serializedAuthority.write(SteemJUtils.transformLongToVarIntByteArray(this.getKeyAuths().size()));
+        for (Entry<PublicKey, Integer> keyAuth : this.getKeyAuths().entrySet()) {
+            keyAuth.getKey().writeTo(byteSink);
+            byteSink.writeShort(keyAuth.getValue());
+        }
+    }
 
-            for (Entry<PublicKey, Integer> keyAuth : this.getKeyAuths().entrySet()) {
-                serializedAuthority.write(keyAuth.getKey().toByteArray());
-                serializedAuthority.write(SteemJUtils.transformShortToByteArray(keyAuth.getValue()));
-            }
+    /**
+     * Read an authority from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the authority from.
+     * @return The authority.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid authority.
+     */
+    public static Authority fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        Authority authority = new Authority();
+        authority.setWeightThreshold(byteSource.readUnsignedInt());
+
+        // Keep the order of the entries, as it is part of the signed data.
+        int numberOfAccountAuths = byteSource.readLength();
+        Map<AccountName, Integer> accountAuths = new LinkedHashMap<>(numberOfAccountAuths * 2);
+        for (int i = 0; i < numberOfAccountAuths; i++) {
+            accountAuths.put(AccountName.fromBytes(byteSource), byteSource.readUnsignedShort());
+        }
+        authority.setAccountAuths(accountAuths);
 
-            return serializedAuthority.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming an asset into a byte array.", e);
+        int numberOfKeyAuths = byteSource.readLength();
+        Map<PublicKey, Integer> keyAuths = new LinkedHashMap<>(numberOfKeyAuths * 2);
+        for (int i = 0; i < numberOfKeyAuths; i++) {
+            keyAuths.put(PublicKey.fromBytes(byteSource), byteSource.readUnsignedShort());
         }
+        authority.setKeyAuths(keyAuths);
+
+        return authority;
     }
 
     @Override
@@ -1,13 +1,12 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents a Steem "beneficiary_route_type" object
@@ -61,15 +60,31 @@ public class BeneficiaryRouteType implements ByteTransformable {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedBeneficiaryRouteType = new ByteArrayOutputStream()) {
-            serializedBeneficiaryRouteType.write(this.getAccount().toByteArray());
-            serializedBeneficiaryRouteType.write(SteemJUtils.transformShortToByteArray(this.getWeight()));
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        this.getAccount().writeTo(byteSink);
+        byteSink.writeShort(this.getWeight());
+    }
+
+    /**
+     * Read a beneficiary from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the beneficiary from.
+     * @return The beneficiary.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid beneficiary.
+     */
+    public static BeneficiaryRouteType fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        BeneficiaryRouteType beneficiaryRouteType = new BeneficiaryRouteType();
+        beneficiaryRouteType.setAccount(AccountName.fromBytes(byteSource));
+        beneficiaryRouteType.setWeight(byteSource.readShort());
 
-            return serializedBeneficiaryRouteType.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return beneficiaryRouteType;
     }
 
     @Override
@@ -4,11 +4,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.bitcoinj.core.Sha256Hash;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import eu.bittrade.libs.steemj.enums.BlockHeaderExtentsionsType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSink;
 
 /**
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
@@ -110,11 +113,59 @@ public class BlockHeader implements ByteTransformable {
         return ToStringBuilder.reflectionToString(this);
     }
 
+    /**
+     * Calculate the digest of this block header as the Steem Nodes do. The
+     * digest is the SHA-256 hash of the serialized header without the witness
+     * signature and is signed by the witness producing the block.
+     * 
+     * @return The digest.
+     * @throws SteemInvalidTransactionException
+     *             If the header can not be serialized.
+     */
+    public byte[] getDigest() throws SteemInvalidTransactionException {
+        return Sha256Hash.hash(ByteSink.toByteArray(this::writeHeaderTo));
+    }
+
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        // TODO Auto-generated method stub
-        // serializedRecoverAccountOperation
-        // .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-        return null;
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        writeHeaderTo(byteSink);
+    }
+
+    /**
+     * Write the fields of the "block_header" object, also if this is a signed
+     * block header.
+     * 
+     * @param byteSink
+     *            The sink to write to.
+     * @throws SteemInvalidTransactionException
+     *             If the header can not be serialized.
+     */
+    private void writeHeaderTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        this.getPrevious().writeTo(byteSink);
+        this.getTimestamp().writeTo(byteSink);
+        byteSink.writeString(this.getWitness());
+        this.getTransactionMerkleRoot().writeTo(byteSink);
+
+        byteSink.writeVarInt(this.getExtensions().size());
+        for (BlockHeaderExtensions blockHeaderExtension : this.getExtensions()) {
+            if (blockHeaderExtension == null) {
+                // The deserializer maps the "void_t" extension to null.
+                byteSink.writeVarInt(BlockHeaderExtentsionsType.VOID_T.ordinal());
+            } else if (blockHeaderExtension instanceof HardforkVersionVote) {
+                byteSink.writeVarInt(BlockHeaderExtentsionsType.HARDFORK_VERSION_VOTE.ordinal());
+                blockHeaderExtension.writeTo(byteSink);
+            } else if (blockHeaderExtension instanceof Version) {
+                byteSink.writeVarInt(BlockHeaderExtentsionsType.VERSION.ordinal());
+                blockHeaderExtension.writeTo(byteSink);
+            } else {
+                throw new SteemInvalidTransactionException("Unknown extension type class '"
+                        + blockHeaderExtension.getClass().getSimpleName() + "'.");
+            }
+        }
     }
 }
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -10,8 +8,10 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "chain_properties" object.
@@ -124,16 +124,30 @@ public class ChainProperties implements ByteTransformable {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedChainProperties = new ByteArrayOutputStream()) {
-            serializedChainProperties.write(this.getAccountCreationFee().toByteArray());
-            serializedChainProperties.write(SteemJUtils.transformIntToByteArray((int) this.getMaximumBlockSize()));
-            serializedChainProperties.write(SteemJUtils.transformShortToByteArray(this.getSdbInterestRate()));
-
-            return serializedChainProperties.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        this.getAccountCreationFee().writeTo(byteSink);
+        byteSink.writeInt((int) this.getMaximumBlockSize());
+        byteSink.writeShort(this.getSdbInterestRate());
+    }
+
+    /**
+     * Read the chain properties from their binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the chain properties from.
+     * @return The chain properties.
+     * @throws SteemTransformationException
+     *             If the source does not contain valid chain properties.
+     */
+    public static ChainProperties fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        Asset accountCreationFee = Asset.fromBytes(byteSource);
+        long maximumBlockSize = byteSource.readUnsignedInt();
+        return new ChainProperties(accountCreationFee, maximumBlockSize, byteSource.readUnsignedShort());
     }
 
     @Override
@@ -16,4 +16,12 @@ public class Checksum extends Ripemd160 {
     public Checksum(String hashValue) {
         super(hashValue);
     }
+
+    /**
+     * @param hashValue
+     *            The decoded ripemd160 hash.
+     */
+    public Checksum(byte[] hashValue) {
+        super(hashValue);
+    }
 }
@@ -7,7 +7,10 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import eu.bittrade.libs.steemj.base.models.deserializer.CommentOptionsExtensionDeserializer;
 import eu.bittrade.libs.steemj.base.models.serializer.CommentOptionsExtensionSerializer;
+import eu.bittrade.libs.steemj.enums.CommentOptionsExtensionsType;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class repesents a Steem "comment_options_extenson" object.
@@ -29,6 +32,28 @@ import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 @JsonDeserialize(using = CommentOptionsExtensionDeserializer.class)
 @JsonSerialize(using = CommentOptionsExtensionSerializer.class)
 public abstract class CommentOptionsExtension implements ByteTransformable {
+    /**
+     * Read an extension from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the extension from.
+     * @return The extension.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid extension.
+     */
+    public static CommentOptionsExtension fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        int position = byteSource.getPosition();
+        long type = byteSource.readVarInt();
+        byteSource.setPosition(position);
+
+        if (type == CommentOptionsExtensionsType.COMMENT_PAYOUT_BENEFICIARIES.ordinal()) {
+            return CommentPayoutBeneficiaries.fromBytes(byteSource);
+        }
+
+        throw new SteemTransformationException("The comment options extension type " + type + " is not supported.");
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -1,7 +1,6 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -11,7 +10,9 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import eu.bittrade.libs.steemj.enums.CommentOptionsExtensionsType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents a Steem "comment_payout_beneficiaries" object
@@ -40,24 +41,48 @@ public class CommentPayoutBeneficiaries extends CommentOptionsExtension {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCommentPayoutBeneficiaries = new ByteArrayOutputStream()) {
-            serializedCommentPayoutBeneficiaries.write(SteemJUtils.transformIntToVarIntByteArray(
-                    CommentOptionsExtensionsType.COMMENT_PAYOUT_BENEFICIARIES.ordinal()));
+        return ByteSink.toByteArray(this);
+    }
 
-            serializedCommentPayoutBeneficiaries
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getBeneficiaries().size()));
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(CommentOptionsExtensionsType.COMMENT_PAYOUT_BENEFICIARIES.ordinal());
 
-            for (BeneficiaryRouteType beneficiaryRouteType : this.getBeneficiaries()) {
-                serializedCommentPayoutBeneficiaries.write(beneficiaryRouteType.toByteArray());
-            }
+        byteSink.writeVarLong(this.getBeneficiaries().size());
 
-            return serializedCommentPayoutBeneficiaries.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        for (BeneficiaryRouteType beneficiaryRouteType : this.getBeneficiaries()) {
+            beneficiaryRouteType.writeTo(byteSink);
         }
     }
 
+    /**
+     * Read the beneficiaries from their binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the beneficiaries from.
+     * @return The beneficiaries.
+     * @throws SteemTransformationException
+     *             If the source does not contain valid beneficiaries.
+     */
+    public static CommentPayoutBeneficiaries fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        long type = byteSource.readVarInt();
+        if (type != CommentOptionsExtensionsType.COMMENT_PAYOUT_BENEFICIARIES.ordinal()) {
+            throw new SteemTransformationException("Expected comment payout beneficiaries, but found the type " + type
+                    + ".");
+        }
+
+        int numberOfBeneficiaries = byteSource.readLength();
+        List<BeneficiaryRouteType> beneficiaries = new ArrayList<>(numberOfBeneficiaries);
+        for (int i = 0; i < numberOfBeneficiaries; i++) {
+            beneficiaries.add(BeneficiaryRouteType.fromBytes(byteSource));
+        }
+
+        CommentPayoutBeneficiaries commentPayoutBeneficiaries = new CommentPayoutBeneficiaries();
+        commentPayoutBeneficiaries.setBeneficiaries(beneficiaries);
+        return commentPayoutBeneficiaries;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
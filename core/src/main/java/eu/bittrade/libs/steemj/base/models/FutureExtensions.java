@@ -1,15 +1,15 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import eu.bittrade.libs.steemj.base.models.serializer.FutureExtensionsSerializer;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents a "future_extensions_type" object which has no member
@@ -21,15 +21,32 @@ import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 public class FutureExtensions implements ByteTransformable {
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedFutureExtensions = new ByteArrayOutputStream()) {
-            byte[] extension = { 0x00 };
-            serializedFutureExtensions.write(extension);
-
-            return serializedFutureExtensions.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeByte(0x00);
+    }
+
+    /**
+     * Read an extension from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the extension from.
+     * @return The extension.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid extension.
+     */
+    public static FutureExtensions fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        // The extension is a "static_variant" whose only type has no members.
+        long type = byteSource.readVarInt();
+        if (type != 0) {
+            throw new SteemTransformationException("The extension type " + type + " is not supported.");
         }
+
+        return new FutureExtensions();
     }
 
     @Override
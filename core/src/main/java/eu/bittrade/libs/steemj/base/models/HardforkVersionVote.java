@@ -1,8 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.IOException;
-
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,6 +8,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.util.ByteSink;
 
 /**
  * This class is the java implementation of the Steem "hardfork_version_vote"
@@ -78,14 +76,12 @@ public class HardforkVersionVote extends BlockHeaderExtensions {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedHardforkVersionVoteExtension = new ByteArrayOutputStream()) {
-            serializedHardforkVersionVoteExtension.write(this.getHfVersion().toByteArray());
-            serializedHardforkVersionVoteExtension.write(this.getHfTime().toByteArray());
+        return ByteSink.toByteArray(this);
+    }
 
-            return serializedHardforkVersionVoteExtension.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        this.getHfVersion().writeTo(byteSink);
+        this.getHfTime().writeTo(byteSink);
     }
 }
@@ -0,0 +1,139 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import eu.bittrade.libs.steemj.base.models.deserializer.LazyOperationDeserializer;
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * This class wraps a single operation which is only transformed into an
+ * {@link Operation Operation} object when it is accessed for the first time.
+ * Until then, only the name of its type and its JSON tokens are kept.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@JsonDeserialize(using = LazyOperationDeserializer.class)
+public final class LazyOperation {
+    private static final ObjectReader OPERATION_READER = CommunicationHandler.getObjectMapper()
+            .readerFor(Operation.class);
+    /** The JSON name of each operation type, keyed by its class. */
+    private static final Map<Class<?>, String> TYPE_NAMES = createTypeNames();
+
+    private final String typeName;
+    /** The tokens of the operation, or null once it has been decoded. */
+    private TokenBuffer tokens;
+    private volatile Operation operation;
+
+    /**
+     * Wrap an operation that has not been decoded yet.
+     * 
+     * @param typeName
+     *            The name of the operation type as used in the JSON
+     *            representation (e.g. "transfer").
+     * @param tokens
+     *            The JSON tokens of the whole operation, including its type.
+     */
+    public LazyOperation(String typeName, TokenBuffer tokens) {
+        this.typeName = typeName;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Wrap an operation that is already available as an object.
+     * 
+     * @param operation
+     *            The operation.
+     */
+    public LazyOperation(Operation operation) {
+        this.typeName = getTypeName(operation);
+        this.operation = operation;
+    }
+
+    /**
+     * Get the name of the operation type without decoding the operation.
+     * 
+     * @return The name of the type as used in the JSON representation (e.g.
+     *         "transfer").
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Get the operation. The operation is decoded on the first call of this
+     * method.
+     * 
+     * @return The operation.
+     * @throws IllegalStateException
+     *             If the operation could not be decoded.
+     */
+    public Operation getOperation() {
+        Operation decodedOperation = operation;
+        if (decodedOperation == null) {
+            synchronized (this) {
+                decodedOperation = operation;
+                if (decodedOperation == null) {
+                    try {
+                        decodedOperation = OPERATION_READER.readValue(tokens.asParser());
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Could not transform the " + typeName + " operation.", e);
+                    }
+                    operation = decodedOperation;
+                    // The tokens are not needed anymore.
+                    tokens = null;
+                }
+            }
+        }
+
+        return decodedOperation;
+    }
+
+    /**
+     * Check if the operation has already been decoded.
+     * 
+     * @return True if the operation has been decoded.
+     */
+    public boolean isDecoded() {
+        return operation != null;
+    }
+
+    @Override
+    public String toString() {
+        return isDecoded() ? operation.toString() : typeName + " (not decoded)";
+    }
+
+    /**
+     * Get the name of the type of the given operation as used in the JSON
+     * representation.
+     * 
+     * @param operation
+     *            The operation.
+     * @return The name of the type, or null if the type is unknown.
+     */
+    public static String getTypeName(Operation operation) {
+        return operation == null ? null : TYPE_NAMES.get(operation.getClass());
+    }
+
+    /**
+     * Collect the names of all operation types registered for the
+     * {@link Operation Operation} class.
+     * 
+     * @return The names, keyed by the class of the operation.
+     */
+    private static Map<Class<?>, String> createTypeNames() {
+        Map<Class<?>, String> typeNames = new HashMap<>();
+        for (JsonSubTypes.Type type : Operation.class.getAnnotation(JsonSubTypes.class).value()) {
+            typeNames.put(type.value(), type.name());
+        }
+
+        return typeNames;
+    }
+}
@@ -0,0 +1,154 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+
+/**
+ * A list of operations which are only decoded when they are accessed for the
+ * first time (see {@link LazyOperation LazyOperation}). The list can be
+ * modified like a normal list, but replacing or removing an operation never
+ * decodes it: {@link #set(int, Operation) set} and {@link #remove(int) remove}
+ * only return the previous operation if it has already been decoded.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class LazyOperationList extends AbstractList<Operation> implements RandomAccess {
+    private final List<LazyOperation> lazyOperations;
+
+    /**
+     * Create a new list backed by the given operations.
+     * 
+     * @param lazyOperations
+     *            The operations.
+     */
+    public LazyOperationList(List<LazyOperation> lazyOperations) {
+        this.lazyOperations = lazyOperations;
+    }
+
+    /**
+     * Get the name of the type of the operation at the given position without
+     * decoding it.
+     * 
+     * @param index
+     *            The position of the operation.
+     * @return The name of the type as used in the JSON representation (e.g.
+     *         "transfer").
+     */
+    public String getTypeName(int index) {
+        return lazyOperations.get(index).getTypeName();
+    }
+
+    /**
+     * Get the operation at the given position without decoding it.
+     * 
+     * @param index
+     *            The position of the operation.
+     * @return The wrapped operation.
+     */
+    public LazyOperation getLazyOperation(int index) {
+        return lazyOperations.get(index);
+    }
+
+    @Override
+    public Operation get(int index) {
+        return lazyOperations.get(index).getOperation();
+    }
+
+    @Override
+    public int size() {
+        return lazyOperations.size();
+    }
+
+    /**
+     * Replace the operation at the given position.
+     * 
+     * @param index
+     *            The position of the operation.
+     * @param operation
+     *            The new operation.
+     * @return The replaced operation, or null if it has not been decoded.
+     */
+    @Override
+    public Operation set(int index, Operation operation) {
+        return getDecodedOperation(lazyOperations.set(index, new LazyOperation(operation)));
+    }
+
+    @Override
+    public void add(int index, Operation operation) {
+        lazyOperations.add(index, new LazyOperation(operation));
+        modCount++;
+    }
+
+    /**
+     * Remove the operation at the given position.
+     * 
+     * @param index
+     *            The position of the operation.
+     * @return The removed operation, or null if it has not been decoded.
+     */
+    @Override
+    public Operation remove(int index) {
+        LazyOperation lazyOperation = lazyOperations.remove(index);
+        modCount++;
+        return getDecodedOperation(lazyOperation);
+    }
+
+    /**
+     * Remove all operations matching the given filter. Each operation is
+     * decoded to be passed to the filter. Use {@link #removeIfType(Predicate)
+     * removeIfType} to remove operations without decoding them.
+     * 
+     * @param filter
+     *            The filter returning true for the operations to remove.
+     * @return True if an operation has been removed.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Operation> filter) {
+        return removeLazyOperations(lazyOperation -> filter.test(lazyOperation.getOperation()));
+    }
+
+    /**
+     * Remove all operations whose type matches the given filter without
+     * decoding them.
+     * 
+     * @param typeNameFilter
+     *            The filter receiving the name of the type of each operation
+     *            as used in the JSON representation (e.g. "transfer") and
+     *            returning true for the operations to remove.
+     * @return True if an operation has been removed.
+     */
+    public boolean removeIfType(Predicate<String> typeNameFilter) {
+        return removeLazyOperations(lazyOperation -> typeNameFilter.test(lazyOperation.getTypeName()));
+    }
+
+    /**
+     * Remove all wrapped operations matching the given filter in one pass.
+     * 
+     * @param filter
+     *            The filter returning true for the operations to remove.
+     * @return True if an operation has been removed.
+     */
+    private boolean removeLazyOperations(Predicate<LazyOperation> filter) {
+        boolean removed = lazyOperations.removeIf(filter);
+        if (removed) {
+            modCount++;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Get the wrapped operation, if it has already been decoded.
+     * 
+     * @param lazyOperation
+     *            The wrapped operation.
+     * @return The operation, or null if it has not been decoded.
+     */
+    private static Operation getDecodedOperation(LazyOperation lazyOperation) {
+        return lazyOperation.isDecoded() ? lazyOperation.getOperation() : null;
+    }
+}
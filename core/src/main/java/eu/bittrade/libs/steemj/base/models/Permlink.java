@@ -8,7 +8,10 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -89,6 +92,25 @@ public class Permlink implements ByteTransformable {
         return SteemJUtils.transformStringToVarIntByteArray(this.getLink());
     }
 
+    @Override
+    public void writeTo(ByteSink byteSink) {
+        byteSink.writeString(this.getLink());
+    }
+
+    /**
+     * Read a permlink from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the permlink from.
+     * @return The permlink.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid permlink.
+     */
+    public static Permlink fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        return new Permlink(byteSource.readString());
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -10,7 +8,10 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class is the java implementation of the <a href=
@@ -117,15 +118,27 @@ public class Price implements ByteTransformable {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedPriceObject = new ByteArrayOutputStream()) {
-            serializedPriceObject.write(this.getBase().toByteArray());
-            serializedPriceObject.write(this.getQuote().toByteArray());
-
-            return serializedPriceObject.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the object into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        this.getBase().writeTo(byteSink);
+        this.getQuote().writeTo(byteSink);
+    }
+
+    /**
+     * Read a price from its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the price from.
+     * @return The price.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid price.
+     */
+    public static Price fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        Asset base = Asset.fromBytes(byteSource);
+        return new Price(base, Asset.fromBytes(byteSource));
     }
 
     @Override
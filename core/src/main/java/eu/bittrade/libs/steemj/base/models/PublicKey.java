@@ -1,6 +1,7 @@
 package eu.bittrade.libs.steemj.base.models;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.bitcoinj.core.AddressFormatException;
@@ -18,7 +19,9 @@ import com.google.common.primitives.Bytes;
 import eu.bittrade.libs.steemj.base.models.serializer.PublicKeySerializer;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class is the java implementation of the <a href=
@@ -32,6 +35,7 @@ public class PublicKey implements ByteTransformable {
     private static final Logger LOGGER = LoggerFactory.getLogger(PublicKey.class);
 
     private static final int CHECKSUM_BYTES = 4;
+    private static final int COMPRESSED_PUBLIC_KEY_BYTES = 33;
 
     private ECKey publicKey;
     private String prefix;
@@ -75,7 +79,11 @@ public class PublicKey implements ByteTransformable {
                 }
             }
 
-            this.setPublicKey(ECKey.fromPublicOnly(potentialPublicKey));
+            if (isNullKey(potentialPublicKey)) {
+                LOGGER.debug("The null key has been provided. It can't be used to sign anything.");
+            } else {
+                this.setPublicKey(ECKey.fromPublicOnly(potentialPublicKey));
+            }
         } else {
             LOGGER.debug(
                     "An empty address has been provided. This can cause some problems if you plan to broadcast this key.");
@@ -116,6 +124,11 @@ public class PublicKey implements ByteTransformable {
      */
     @JsonIgnore
     public String getAddressFromPublicKey() {
+        if (this.prefix == null) {
+            // Created from an empty address.
+            return "";
+        }
+
         try {
             // Recreate the address from the public key.
             return this.prefix + Base58.encode(Bytes.concat(this.toByteArray(),
@@ -148,13 +161,58 @@ public class PublicKey implements ByteTransformable {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        if (this.getPublicKey().isCompressed()) {
+        if (this.getPublicKey() == null) {
+            // The null key, e.g. used to disable a witness.
+            return new byte[COMPRESSED_PUBLIC_KEY_BYTES];
+        } else if (this.getPublicKey().isCompressed()) {
             return this.getPublicKey().getPubKey();
         } else {
             return ECKey.fromPublicOnly(ECKey.compressPoint(this.getPublicKey().getPubKeyPoint())).getPubKey();
         }
     }
 
+    /**
+     * Read a public key from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the public key from.
+     * @return The public key. The null key, which consists of zeros only, is
+     *         returned as a public key without an {@link ECKey ECKey}.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid public key.
+     */
+    public static PublicKey fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        byte[] compressedPublicKey = byteSource.readBytes(COMPRESSED_PUBLIC_KEY_BYTES);
+        if (isNullKey(compressedPublicKey)) {
+            return new PublicKey((ECKey) null);
+        }
+
+        try {
+            return new PublicKey(ECKey.fromPublicOnly(compressedPublicKey));
+        } catch (IllegalArgumentException e) {
+            throw new SteemTransformationException("The bytes do not contain a valid public key.", e);
+        }
+    }
+
+    /**
+     * Check if the given bytes represent the null key, which is not a valid
+     * point and therefore can't be decoded by bitcoinj.
+     * 
+     * @param publicKey
+     *            The binary representation of a public key.
+     * @return True if all bytes are zero.
+     */
+    private static boolean isNullKey(byte[] publicKey) {
+        for (byte publicKeyByte : publicKey) {
+            if (publicKeyByte != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -167,11 +225,11 @@ public class PublicKey implements ByteTransformable {
         if (otherPublicKey == null || !(otherPublicKey instanceof PublicKey))
             return false;
         PublicKey otherKey = (PublicKey) otherPublicKey;
-        return this.getPublicKey().equals(otherKey.getPublicKey());
+        return Objects.equals(this.getPublicKey(), otherKey.getPublicKey());
     }
 
     @Override
     public int hashCode() {
-        return this.getPublicKey().hashCode();
+        return Objects.hashCode(this.getPublicKey());
     }
 }
@@ -3,6 +3,7 @@ package eu.bittrade.libs.steemj.base.models;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 
 import org.bitcoinj.core.Utils;
 
@@ -32,6 +33,16 @@ public abstract class Ripemd160 implements ByteTransformable, Serializable {
         this.setHashValue(hashValue);
     }
 
+    /**
+     * Create a new wrapper for the given ripemd160 hash.
+     * 
+     * @param hashValue
+     *            The decoded hash to wrap. The array is not copied.
+     */
+    public Ripemd160(byte[] hashValue) {
+        this.setHashValue(hashValue);
+    }
+
     /**
      * Convert the first four bytes of the hash into a number.
      * 
@@ -81,4 +92,18 @@ public abstract class Ripemd160 implements ByteTransformable, Serializable {
     public String toString() {
         return Utils.HEX.encode(this.hashValue);
     }
+
+    @Override
+    public boolean equals(Object otherRipemd160) {
+        if (this == otherRipemd160)
+            return true;
+        if (otherRipemd160 == null || otherRipemd160.getClass() != this.getClass())
+            return false;
+        return Arrays.equals(this.hashValue, ((Ripemd160) otherRipemd160).hashValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.hashValue);
+    }
 }
@@ -3,6 +3,11 @@ package eu.bittrade.libs.steemj.base.models;
 import java.util.List;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.bitcoinj.core.Sha256Hash;
+import org.spongycastle.crypto.digests.RIPEMD160Digest;
+
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.util.ByteSink;
 
 /**
  * This class is the java implementation of the Steem "signed_block" object.
@@ -10,6 +15,9 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public class SignedBlock extends SignedBlockHeader {
+    /** The number of bytes of a merkle root (ripemd160). */
+    private static final int MERKLE_ROOT_BYTES = 20;
+
     // TODO: Original type is vector<signed_transaction> - Do we implement the
     // signed_transaction object?.
     protected List<SignedTransaction> transactions;
@@ -21,6 +29,77 @@ public class SignedBlock extends SignedBlockHeader {
         return transactions;
     }
 
+    /**
+     * Calculate the merkle root of the transactions of this block as the Steem
+     * Nodes do, so it can be compared with the
+     * {@link #getTransactionMerkleRoot() transaction merkle root} of the block
+     * header.
+     * 
+     * <p>
+     * The leaves are the {@link SignedTransaction#getMerkleDigest() digests} of
+     * the transactions. Each level hashes two neighbouring nodes using
+     * SHA-256; an odd node is moved to the next level unchanged. The root is
+     * the ripemd160 hash of the last remaining node.
+     * </p>
+     * 
+     * @return The merkle root, or a checksum only consisting of zeros if this
+     *         block does not contain transactions.
+     * @throws SteemInvalidTransactionException
+     *             If one of the transactions can not be serialized.
+     */
+    public Checksum calculateMerkleRoot() throws SteemInvalidTransactionException {
+        if (transactions == null || transactions.isEmpty()) {
+            return new Checksum(new byte[MERKLE_ROOT_BYTES]);
+        }
+
+        byte[][] nodes = new byte[transactions.size()][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = transactions.get(i).getMerkleDigest();
+        }
+
+        byte[] pair = new byte[2 * Sha256Hash.LENGTH];
+        int numberOfNodes = nodes.length;
+        while (numberOfNodes > 1) {
+            int numberOfParents = 0;
+            for (int i = 0; i + 1 < numberOfNodes; i += 2) {
+                System.arraycopy(nodes[i], 0, pair, 0, Sha256Hash.LENGTH);
+                System.arraycopy(nodes[i + 1], 0, pair, Sha256Hash.LENGTH, Sha256Hash.LENGTH);
+                nodes[numberOfParents++] = Sha256Hash.hash(pair);
+            }
+            if (numberOfNodes % 2 == 1) {
+                nodes[numberOfParents++] = nodes[numberOfNodes - 1];
+            }
+            numberOfNodes = numberOfParents;
+        }
+
+        RIPEMD160Digest ripemd160Digest = new RIPEMD160Digest();
+        ripemd160Digest.update(nodes[0], 0, nodes[0].length);
+        byte[] merkleRoot = new byte[ripemd160Digest.getDigestSize()];
+        ripemd160Digest.doFinal(merkleRoot, 0);
+
+        return new Checksum(merkleRoot);
+    }
+
+    @Override
+    public byte[] toByteArray() throws SteemInvalidTransactionException {
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        super.writeTo(byteSink);
+
+        if (transactions == null) {
+            byteSink.writeVarInt(0);
+            return;
+        }
+
+        byteSink.writeVarInt(transactions.size());
+        for (SignedTransaction transaction : transactions) {
+            transaction.writeWithSignaturesTo(byteSink);
+        }
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -1,11 +1,15 @@
 package eu.bittrade.libs.steemj.base.models;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.Utils;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.SigningEngine;
 
 /**
  * This class is the java implementation of the Steem "signed_block_header"
@@ -33,10 +37,46 @@ public class SignedBlockHeader extends BlockHeader implements ByteTransformable
         this.witnessSignature = witnessSignature;
     }
 
+    /**
+     * Recover the public key of the witness which signed this block header
+     * from the {@link #getWitnessSignature() witness signature} and the
+     * {@link #getDigest() digest} of this header. The result can be compared
+     * with the signing key of the witness to verify the block.
+     * 
+     * @return The public key which created the witness signature.
+     * @throws SteemInvalidTransactionException
+     *             If the header can not be serialized or if the witness
+     *             signature is not a valid compact signature.
+     */
+    public PublicKey recoverSigningKey() throws SteemInvalidTransactionException {
+        if (this.getWitnessSignature() == null) {
+            throw new SteemInvalidTransactionException("The block header has not been signed.");
+        }
+
+        ECKey signingKey;
+        try {
+            signingKey = SigningEngine.recoverPublicKey(this.getDigest(),
+                    Utils.HEX.decode(this.getWitnessSignature()));
+        } catch (IllegalArgumentException e) {
+            throw new SteemInvalidTransactionException("The witness signature is not a valid compact signature.", e);
+        }
+
+        if (signingKey == null) {
+            throw new SteemInvalidTransactionException("No public key could be recovered from the witness signature.");
+        }
+
+        return new PublicKey(signingKey);
+    }
+
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        // TODO Auto-generated method stub
-        return null;
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        super.writeTo(byteSink);
+        byteSink.writeBytes(Utils.HEX.decode(this.getWitnessSignature()));
     }
 
     @Override
@@ -1,17 +1,17 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.Serializable;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.bitcoinj.core.ECKey;
-import org.bitcoinj.core.ECKey.ECDSASignature;
 import org.bitcoinj.core.Sha256Hash;
 import org.bitcoinj.core.Utils;
 import org.slf4j.Logger;
@@ -24,11 +24,13 @@ import com.google.common.annotations.VisibleForTesting;
 import eu.bittrade.libs.steemj.base.models.operations.Operation;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
-import eu.bittrade.libs.steemj.exceptions.SteemFatalErrorException;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
+import eu.bittrade.libs.steemj.util.SigningEngine;
 
 /**
  * This class represents a Steem "signed_transaction" object.
@@ -38,6 +40,15 @@ import eu.bittrade.libs.steemj.util.SteemJUtils;
 public class SignedTransaction extends Transaction implements ByteTransformable, Serializable {
     private static final long serialVersionUID = 4821422578657270330L;
     private static final Logger LOGGER = LoggerFactory.getLogger(SignedTransaction.class);
+    /** The number of bytes of a compact signature. */
+    private static final int SIGNATURE_BYTES = 65;
+    /**
+     * The position of the expiration date in a serialized transaction without
+     * chain id, behind the reference block number and prefix.
+     */
+    private static final int EXPIRATION_DATE_OFFSET = 6;
+    /** The number of bytes of a transaction id (ripemd160). */
+    private static final int TRANSACTION_ID_BYTES = 20;
 
     protected transient List<String> signatures;
 
@@ -122,22 +133,6 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
         return this.signatures;
     }
 
-    /**
-     * Verify that the signature is canonical.
-     * 
-     * Original implementation can be found <a href=
-     * "https://github.com/kenCode-de/graphenej/blob/master/graphenej/src/main/java/de/bitsharesmunich/graphenej/Transaction.java"
-     * >here</a>.
-     * 
-     * @param signature
-     *            A single signature in its byte representation.
-     * @return True if the signature is canonical or false if not.
-     */
-    private boolean isCanonical(byte[] signature) {
-        return ((signature[0] & 0x80) != 0) || (signature[0] == 0) || ((signature[1] & 0x80) != 0)
-                || ((signature[32] & 0x80) != 0) || (signature[32] == 0) || ((signature[33] & 0x80) != 0);
-    }
-
     /**
      *
      * Like {@link #sign(String) sign(String)}, but uses the default Steem chain
@@ -194,54 +189,39 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
             this.validate();
         }
 
-        for (ECKey requiredPrivateKey : getRequiredSignatureKeys()) {
-            boolean isCanonical = false;
-            byte[] signedTransaction = null;
-
-            Sha256Hash messageAsHash;
-            while (!isCanonical) {
-                try {
-                    messageAsHash = Sha256Hash.wrap(Sha256Hash.hash(this.toByteArray(chainId)));
-                } catch (SteemInvalidTransactionException e) {
-                    throw new SteemInvalidTransactionException(
-                            "The required encoding is not supported by your platform.", e);
-                }
-                ECDSASignature signature = requiredPrivateKey.sign(messageAsHash);
-
-                /*
-                 * Identify the correct key type (posting, active, owner, memo)
-                 * by iterating through the types and comparing the elliptic
-                 * curves.
-                 */
-                Integer recId = null;
-                for (int i = 0; i < 4; i++) {
-                    ECKey publicKey = ECKey.recoverFromSignature(i, signature, messageAsHash,
-                            requiredPrivateKey.isCompressed());
-                    if (publicKey != null && publicKey.getPubKeyPoint().equals(requiredPrivateKey.getPubKeyPoint())) {
-                        recId = i;
-                        break;
-                    }
-                }
-
-                if (recId == null) {
-                    throw new SteemFatalErrorException(
-                            "Could not construct a recoverable key. This should never happen.");
-                }
-
-                int headerByte = recId + 27 + (requiredPrivateKey.isCompressed() ? 4 : 0);
-                signedTransaction = new byte[65];
-                signedTransaction[0] = (byte) headerByte;
-                System.arraycopy(Utils.bigIntegerToBytes(signature.r, 32), 0, signedTransaction, 1, 32);
-                System.arraycopy(Utils.bigIntegerToBytes(signature.s, 32), 0, signedTransaction, 33, 32);
+        sign(chainId, getRequiredSignatureKeys());
+    }
 
-                if (isCanonical(signedTransaction)) {
-                    this.getExpirationDate().setDateTime(this.getExpirationDate().getDateTimeAsTimestamp() + 1);
-                } else {
-                    isCanonical = true;
-                }
-            }
+    /**
+     * Sign this transaction with the given keys. The transaction is only
+     * serialized once: If a signature is not canonical, the expiration date is
+     * increased by one second directly in the serialized transaction and all
+     * signatures are created again (see
+     * {@link SigningEngine#signCanonical(byte[], int, List) signCanonical}).
+     * 
+     * @param chainId
+     *            The chain id that should be used during signing.
+     * @param privateKeys
+     *            The keys to sign the transaction with.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    protected void sign(String chainId, List<ECKey> privateKeys) throws SteemInvalidTransactionException {
+        byte[] serializedTransaction = this.toByteArray(chainId);
+        int expirationDateOffset = (chainId == null ? 0 : chainId.length() / 2) + EXPIRATION_DATE_OFFSET;
+        long expirationDate = Utils.readUint32(serializedTransaction, expirationDateOffset);
+
+        byte[][] signatures = SigningEngine.getInstance().signCanonical(serializedTransaction, expirationDateOffset,
+                privateKeys);
+
+        long addedSeconds = Utils.readUint32(serializedTransaction, expirationDateOffset) - expirationDate;
+        if (addedSeconds > 0) {
+            this.getExpirationDate()
+                    .setDateTime(this.getExpirationDate().getDateTimeAsTimestamp() + addedSeconds * 1000);
+        }
 
-            this.signatures.add(Utils.HEX.encode(signedTransaction));
+        for (byte[] signature : signatures) {
+            this.signatures.add(Utils.HEX.encode(signature));
         }
     }
 
@@ -252,6 +232,26 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      *             {@link eu.bittrade.libs.steemj.configuration.PrivateKeyStorage}.
      */
     protected List<ECKey> getRequiredSignatureKeys() throws SteemInvalidTransactionException {
+        return getRequiredSignatureKeys(new HashMap<>());
+    }
+
+    /**
+     * Like {@link #getRequiredSignatureKeys() getRequiredSignatureKeys()}, but
+     * only requests keys from the
+     * {@link eu.bittrade.libs.steemj.configuration.PrivateKeyStorage} which are
+     * not part of the given <code>resolvedKeys</code>. This allows to share the
+     * keys between multiple transactions.
+     * 
+     * @param resolvedKeys
+     *            The keys which have already been requested, by account name
+     *            and key type. Newly requested keys are added to this map.
+     * @return The list of private keys required to sign this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the required private key is not present in the
+     *             {@link eu.bittrade.libs.steemj.configuration.PrivateKeyStorage}.
+     */
+    protected List<ECKey> getRequiredSignatureKeys(Map<ImmutablePair<AccountName, PrivateKeyType>, ECKey> resolvedKeys)
+            throws SteemInvalidTransactionException {
         List<ECKey> requiredSignatures = new ArrayList<>();
         Map<SignatureObject, List<PrivateKeyType>> requiredAuthorities = getRequiredAuthorities();
 
@@ -265,7 +265,7 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
                      * the following code replaces 'lower' keys if a higher key
                      * is required too.
                      */
-                    requiredSignatures = getRequiredSignatureKeyForAccount(requiredSignatures,
+                    requiredSignatures = getRequiredSignatureKeyForAccount(requiredSignatures, resolvedKeys,
                             (AccountName) requiredAuthority.getKey(), requiredKeyType);
                 }
             } else if (requiredAuthority.getKey() instanceof Authority) {
@@ -286,6 +286,9 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      * @param requiredSignatures
      *            A list of already fetched keys. This list is used to make sure
      *            that a key is not added twice.
+     * @param resolvedKeys
+     *            The keys which have already been requested, by account name
+     *            and key type.
      * @param accountName
      *            The account name to fetch the key for.
      * @param privateKeyType
@@ -296,16 +299,21 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      *             If the required private key is not present in the
      *             {@link eu.bittrade.libs.steemj.configuration.PrivateKeyStorage}.
      */
-    private List<ECKey> getRequiredSignatureKeyForAccount(List<ECKey> requiredSignatures, AccountName accountName,
+    private List<ECKey> getRequiredSignatureKeyForAccount(List<ECKey> requiredSignatures,
+            Map<ImmutablePair<AccountName, PrivateKeyType>, ECKey> resolvedKeys, AccountName accountName,
             PrivateKeyType privateKeyType) throws SteemInvalidTransactionException {
-        ECKey privateKey;
-
-        try {
-            privateKey = SteemJConfig.getInstance().getPrivateKeyStorage().getKeyForAccount(privateKeyType,
-                    accountName);
-        } catch (InvalidParameterException ipe) {
-            throw new SteemInvalidTransactionException(
-                    "Could not find private " + privateKeyType + " key for the user " + accountName.getName() + ".");
+        ImmutablePair<AccountName, PrivateKeyType> keyIdentifier = new ImmutablePair<>(accountName, privateKeyType);
+        ECKey privateKey = resolvedKeys.get(keyIdentifier);
+
+        if (privateKey == null) {
+            try {
+                privateKey = SteemJConfig.getInstance().getPrivateKeyStorage().getKeyForAccount(privateKeyType,
+                        accountName);
+            } catch (InvalidParameterException ipe) {
+                throw new SteemInvalidTransactionException("Could not find private " + privateKeyType
+                        + " key for the user " + accountName.getName() + ".");
+            }
+            resolvedKeys.put(keyIdentifier, privateKey);
         }
 
         if (!requiredSignatures.contains(privateKey)) {
@@ -342,28 +350,146 @@ public class SignedTransaction extends Transaction implements ByteTransformable,
      *             If the transaction can not be signed.
      */
     protected byte[] toByteArray(String chainId) throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedTransaction = new ByteArrayOutputStream()) {
-            if (chainId != null && !chainId.isEmpty()) {
-                serializedTransaction.write(Utils.HEX.decode(chainId));
-            }
-            serializedTransaction.write(SteemJUtils.transformShortToByteArray(this.getRefBlockNum()));
-            serializedTransaction.write(SteemJUtils.transformIntToByteArray((int) this.getRefBlockPrefix()));
-            serializedTransaction.write(this.getExpirationDate().toByteArray());
+        return ByteSink.toByteArray(byteSink -> writeTo(byteSink, chainId));
+    }
 
-            serializedTransaction.write(SteemJUtils.transformLongToVarIntByteArray(this.getOperations().size()));
-            for (Operation operation : this.getOperations()) {
-                serializedTransaction.write(operation.toByteArray());
-            }
+    /**
+     * Like {@link #writeTo(ByteSink, String) writeTo(ByteSink, String)}, but
+     * uses the chain id configured in the {@link SteemJConfig SteemJConfig}.
+     *
+     * @param byteSink
+     *            The sink to write to.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        writeTo(byteSink, SteemJConfig.getInstance().getChainId());
+    }
 
-            serializedTransaction.write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedTransaction.write(futureExtensions.toByteArray());
+    /**
+     * Write the same bytes as {@link #toByteArray(String) toByteArray(String)}
+     * into the given sink, so the transaction and all of its operations are
+     * serialized without intermediate arrays.
+     * 
+     * @param byteSink
+     *            The sink to write to.
+     * @param chainId
+     *            The HEX representation of the chain Id you want to use for
+     *            this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    protected void writeTo(ByteSink byteSink, String chainId) throws SteemInvalidTransactionException {
+        if (chainId != null && !chainId.isEmpty()) {
+            byteSink.writeBytes(Utils.HEX.decode(chainId));
+        }
+        byteSink.writeShort(this.getRefBlockNum());
+        byteSink.writeInt((int) this.getRefBlockPrefix());
+        this.getExpirationDate().writeTo(byteSink);
+
+        byteSink.writeVarLong(this.getOperations().size());
+        for (Operation operation : this.getOperations()) {
+            operation.writeTo(byteSink);
+        }
+
+        byteSink.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(byteSink);
+        }
+    }
+
+    /**
+     * Calculate the id of this transaction as the Steem Nodes do: The id
+     * consists of the first 20 bytes of the SHA-256 hash of the serialized
+     * transaction without the chain id and without the signatures. It can be
+     * used to find the transaction in the
+     * {@link SignedBlockWithInfo#getTransactionIds() transaction ids} of a
+     * block.
+     * 
+     * @return The id of this transaction.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    public TransactionId getTransactionId() throws SteemInvalidTransactionException {
+        return new TransactionId(Arrays.copyOf(Sha256Hash.hash(this.toByteArray("")), TRANSACTION_ID_BYTES));
+    }
+
+    /**
+     * Calculate the SHA-256 hash of the serialized transaction including its
+     * signatures, but without the chain id. This hash is the leaf of this
+     * transaction in the merkle tree of a block (see
+     * {@link SignedBlock#calculateMerkleRoot()}).
+     * 
+     * @return The hash.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    protected byte[] getMerkleDigest() throws SteemInvalidTransactionException {
+        return Sha256Hash.hash(ByteSink.toByteArray(this::writeWithSignaturesTo));
+    }
+
+    /**
+     * Write this transaction without the chain id, followed by its signatures,
+     * as it is contained in a serialized block.
+     * 
+     * @param byteSink
+     *            The sink to write to.
+     * @throws SteemInvalidTransactionException
+     *             If the transaction can not be serialized.
+     */
+    protected void writeWithSignaturesTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        writeTo(byteSink, "");
+
+        byteSink.writeVarInt(this.getSignatures().size());
+        for (String signature : this.getSignatures()) {
+            byteSink.writeBytes(Utils.HEX.decode(signature));
+        }
+    }
+
+    /**
+     * Read a signed transaction from its binary representation as it is
+     * returned by
+     * {@link eu.bittrade.libs.steemj.SteemJ#getTransactionHex(SignedTransaction)
+     * getTransactionHex}. The signatures are optional, so the result of
+     * {@link #toByteArray(String)} without a chain id can be read too.
+     * 
+     * @param byteSource
+     *            The source to read the transaction from.
+     * @return The signed transaction.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid transaction.
+     */
+    public static SignedTransaction fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        int refBlockNum = byteSource.readUnsignedShort();
+        long refBlockPrefix = byteSource.readUnsignedInt();
+        TimePointSec expirationDate = TimePointSec.fromBytes(byteSource);
+
+        int numberOfOperations = byteSource.readLength();
+        List<Operation> operations = new ArrayList<>(numberOfOperations);
+        for (int i = 0; i < numberOfOperations; i++) {
+            operations.add(Operation.fromBytes(byteSource));
+        }
+
+        int numberOfExtensions = byteSource.readLength();
+        List<FutureExtensions> extensions = new ArrayList<>(numberOfExtensions);
+        for (int i = 0; i < numberOfExtensions; i++) {
+            extensions.add(FutureExtensions.fromBytes(byteSource));
+        }
+
+        List<String> signatures = new ArrayList<>();
+        if (byteSource.hasRemaining()) {
+            int numberOfSignatures = byteSource.readLength();
+            for (int i = 0; i < numberOfSignatures; i++) {
+                signatures.add(Utils.HEX.encode(byteSource.readBytes(SIGNATURE_BYTES)));
             }
+        }
 
-            return serializedTransaction.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the transaction into a byte array.", e);
+        try {
+            return new SignedTransaction(refBlockNum, refBlockPrefix, expirationDate, operations, extensions,
+                    signatures);
+        } catch (InvalidParameterException e) {
+            throw new SteemTransformationException("The transaction is not valid.", e);
         }
     }
 
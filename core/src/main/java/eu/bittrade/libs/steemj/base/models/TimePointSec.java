@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.text.ParseException;
 import java.util.Date;
 
@@ -12,7 +10,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -129,14 +130,26 @@ public class TimePointSec implements ByteTransformable {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedDateTime = new ByteArrayOutputStream()) {
-            serializedDateTime.write(SteemJUtils.transformIntToByteArray(this.getDateTimeAsInt()));
+        return ByteSink.toByteArray(this);
+    }
 
-            return serializedDateTime.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the model into a byte array.", e);
-        }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeInt(this.getDateTimeAsInt());
+    }
+
+    /**
+     * Read a date from its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the date from.
+     * @return The date.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid date.
+     */
+    public static TimePointSec fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        // The date is stored as the number of seconds since the epoch.
+        return new TimePointSec(byteSource.readUnsignedInt() * 1000);
     }
 
     @Override
@@ -16,8 +16,10 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.annotations.VisibleForTesting;
 
+import eu.bittrade.libs.steemj.base.models.deserializer.OperationListDeserializer;
 import eu.bittrade.libs.steemj.base.models.operations.Operation;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
@@ -58,6 +60,7 @@ public class Transaction implements Serializable {
     @JsonProperty("expiration")
     protected transient TimePointSec expirationDate;
     @JsonProperty("operations")
+    @JsonDeserialize(using = OperationListDeserializer.class)
     protected transient List<Operation> operations;
     // Original type is "extension_type" which is an array of "future_extions".
     @JsonProperty("extensions")
@@ -150,6 +153,26 @@ public class Transaction implements Serializable {
         return operations;
     }
 
+    /**
+     * Get the name of the type of the operation at the given position. If the
+     * operations are decoded lazily (see
+     * {@link SteemJConfig#setLazyOperationDecodingEnabled(boolean)
+     * setLazyOperationDecodingEnabled}), the operation is not decoded by this
+     * method.
+     * 
+     * @param index
+     *            The position of the operation.
+     * @return The name of the type as used in the JSON representation (e.g.
+     *         "transfer").
+     */
+    public String getOperationType(int index) {
+        if (operations instanceof LazyOperationList) {
+            return ((LazyOperationList) operations).getTypeName(index);
+        }
+
+        return LazyOperation.getTypeName(operations.get(index));
+    }
+
     /**
      * Get the ref block number in its int representation.
      * 
@@ -21,4 +21,14 @@ public class TransactionId extends Ripemd160 implements Serializable {
     public TransactionId(String hashValue) {
         super(hashValue);
     }
+
+    /**
+     * Create a new wrapper for the given ripemd160 hash.
+     * 
+     * @param hashValue
+     *            The decoded hash to wrap.
+     */
+    public TransactionId(byte[] hashValue) {
+        super(hashValue);
+    }
 }
@@ -0,0 +1,175 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.bitcoinj.core.ECKey;
+
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.PrivateKeyType;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * This class signs a batch of transactions in parallel.
+ * 
+ * <p>
+ * In contrast to calling {@link SignedTransaction#sign() sign()} for each
+ * transaction, the private keys are only requested once per batch from the
+ * {@link eu.bittrade.libs.steemj.configuration.PrivateKeyStorage
+ * PrivateKeyStorage} and the transactions are signed by all threads of a
+ * {@link ForkJoinPool ForkJoinPool}. The resulting signatures are the same.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * List&lt;SignedTransaction&gt; signedTransactions = new TransactionSigner().sign(transactions);
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class TransactionSigner {
+    /** The number of transactions which are not split further between threads. */
+    private static final int TRANSACTIONS_PER_TASK = 16;
+
+    private final ForkJoinPool forkJoinPool;
+    private final String chainId;
+
+    /**
+     * Create a new signer which uses the
+     * {@link ForkJoinPool#commonPool() common pool} and the chain id configured
+     * in the {@link SteemJConfig SteemJConfig}.
+     */
+    public TransactionSigner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new signer which uses the chain id configured in the
+     * {@link SteemJConfig SteemJConfig}.
+     * 
+     * @param forkJoinPool
+     *            The pool whose threads sign the transactions. Use a pool with
+     *            the number of available cores as its parallelism to use all
+     *            cores.
+     */
+    public TransactionSigner(ForkJoinPool forkJoinPool) {
+        this(forkJoinPool, SteemJConfig.getInstance().getChainId());
+    }
+
+    /**
+     * Create a new signer.
+     * 
+     * @param forkJoinPool
+     *            The pool whose threads sign the transactions. Use a pool with
+     *            the number of available cores as its parallelism to use all
+     *            cores.
+     * @param chainId
+     *            The chain id that should be used during signing.
+     */
+    public TransactionSigner(ForkJoinPool forkJoinPool, String chainId) {
+        this.forkJoinPool = forkJoinPool;
+        this.chainId = chainId;
+    }
+
+    /**
+     * Validate and sign the given transactions.
+     * 
+     * <p>
+     * All transactions are validated and their keys are requested before the
+     * first one is signed, so a missing key does not leave the batch partly
+     * signed. If the signing itself fails, some transactions may have been
+     * signed already.
+     * </p>
+     * 
+     * @param transactions
+     *            The transactions to sign.
+     * @return The signed transactions in the order of the given
+     *         <code>transactions</code>.
+     * @throws SteemInvalidTransactionException
+     *             If one of the transactions is not valid, if a required
+     *             private key is not present in the
+     *             {@link eu.bittrade.libs.steemj.configuration.PrivateKeyStorage
+     *             PrivateKeyStorage} or if a transaction could not be signed.
+     */
+    public List<SignedTransaction> sign(List<SignedTransaction> transactions) throws SteemInvalidTransactionException {
+        List<SignedTransaction> orderedTransactions = new ArrayList<>(transactions);
+        List<List<ECKey>> requiredKeys = new ArrayList<>(orderedTransactions.size());
+        Map<ImmutablePair<AccountName, PrivateKeyType>, ECKey> resolvedKeys = new HashMap<>();
+
+        for (SignedTransaction transaction : orderedTransactions) {
+            transaction.validate();
+            requiredKeys.add(transaction.getRequiredSignatureKeys(resolvedKeys));
+        }
+
+        try {
+            forkJoinPool.invoke(new SignTask(orderedTransactions, requiredKeys, 0, orderedTransactions.size()));
+        } catch (CompletionException e) {
+            // The pool may wrap the exception again when rethrowing it.
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof SteemInvalidTransactionException) {
+                    throw (SteemInvalidTransactionException) cause;
+                }
+            }
+            throw e;
+        }
+
+        return orderedTransactions;
+    }
+
+    /**
+     * Signs a range of transactions, splitting it between the threads of the
+     * pool.
+     */
+    private class SignTask extends RecursiveAction {
+        private static final long serialVersionUID = 6471834094523148652L;
+
+        private final List<SignedTransaction> transactions;
+        private final List<List<ECKey>> requiredKeys;
+        private final int from;
+        private final int to;
+
+        /**
+         * Create a new task.
+         * 
+         * @param transactions
+         *            All transactions of the batch.
+         * @param requiredKeys
+         *            The keys to sign each transaction with.
+         * @param from
+         *            The index of the first transaction to sign.
+         * @param to
+         *            The index behind the last transaction to sign.
+         */
+        SignTask(List<SignedTransaction> transactions, List<List<ECKey>> requiredKeys, int from, int to) {
+            this.transactions = transactions;
+            this.requiredKeys = requiredKeys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > TRANSACTIONS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SignTask(transactions, requiredKeys, from, middle),
+                        new SignTask(transactions, requiredKeys, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    transactions.get(i).sign(chainId, requiredKeys.get(i));
+                } catch (SteemInvalidTransactionException e) {
+                    throw new CompletionException(e);
+                }
+            }
+        }
+    }
+}
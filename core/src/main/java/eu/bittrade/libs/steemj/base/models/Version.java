@@ -1,10 +1,7 @@
 package eu.bittrade.libs.steemj.base.models;
 
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
-import org.apache.commons.io.output.ByteArrayOutputStream;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -12,7 +9,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
 
 /**
  * This class is the java implementation of the Steem "version" object.
@@ -88,14 +85,12 @@ public class Version extends BlockHeaderExtensions {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedVersion = new ByteArrayOutputStream()) {
-            serializedVersion.write(SteemJUtils.transformIntToByteArray(versionNumber));
+        return ByteSink.toByteArray(this);
+    }
 
-            return serializedVersion.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the version object into a byte array.", e);
-        }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeInt(versionNumber);
     }
 
     @Override
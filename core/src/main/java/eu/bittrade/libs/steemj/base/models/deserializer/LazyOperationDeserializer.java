@@ -0,0 +1,65 @@
+package eu.bittrade.libs.steemj.base.models.deserializer;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import eu.bittrade.libs.steemj.base.models.LazyOperation;
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * This deserializer keeps the tokens of an operation instead of decoding it,
+ * if the lazy decoding has been enabled (see
+ * {@link SteemJConfig#setLazyOperationDecodingEnabled(boolean)
+ * setLazyOperationDecodingEnabled}).
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class LazyOperationDeserializer extends JsonDeserializer<LazyOperation> {
+    @Override
+    public LazyOperation deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+            throws IOException {
+        if (!SteemJConfig.getInstance().isLazyOperationDecodingEnabled()) {
+            return new LazyOperation(deserializationContext.readValue(jsonParser, Operation.class));
+        }
+
+        return readLazily(jsonParser, deserializationContext);
+    }
+
+    /**
+     * Read the type of the operation and keep its tokens. The parser has to be
+     * positioned at the start of the operation array and is left at its end.
+     * 
+     * @param jsonParser
+     *            The parser.
+     * @param deserializationContext
+     *            The current context.
+     * @return The operation which has not been decoded yet.
+     * @throws IOException
+     *             If the operation could not be read.
+     */
+    static LazyOperation readLazily(JsonParser jsonParser, DeserializationContext deserializationContext)
+            throws IOException {
+        if (jsonParser.currentToken() != JsonToken.START_ARRAY || jsonParser.nextToken() != JsonToken.VALUE_STRING) {
+            return (LazyOperation) deserializationContext.handleUnexpectedToken(LazyOperation.class, jsonParser);
+        }
+
+        String typeName = jsonParser.getText();
+        jsonParser.nextToken();
+
+        TokenBuffer tokens = new TokenBuffer(jsonParser, deserializationContext);
+        tokens.writeStartArray();
+        tokens.writeString(typeName);
+        tokens.copyCurrentStructure(jsonParser);
+        tokens.writeEndArray();
+        // Move to the end of the operation array.
+        jsonParser.nextToken();
+
+        return new LazyOperation(typeName, tokens);
+    }
+}
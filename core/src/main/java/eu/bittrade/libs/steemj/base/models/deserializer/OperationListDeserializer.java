@@ -0,0 +1,46 @@
+package eu.bittrade.libs.steemj.base.models.deserializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import eu.bittrade.libs.steemj.base.models.LazyOperation;
+import eu.bittrade.libs.steemj.base.models.LazyOperationList;
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * This deserializer creates a {@link LazyOperationList LazyOperationList} for
+ * the operations of a transaction, if the lazy decoding has been enabled (see
+ * {@link SteemJConfig#setLazyOperationDecodingEnabled(boolean)
+ * setLazyOperationDecodingEnabled}).
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class OperationListDeserializer extends JsonDeserializer<List<Operation>> {
+    @Override
+    public List<Operation> deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+            throws IOException {
+        if (!SteemJConfig.getInstance().isLazyOperationDecodingEnabled()) {
+            return deserializationContext.readValue(jsonParser,
+                    deserializationContext.getTypeFactory().constructCollectionType(List.class, Operation.class));
+        } else if (jsonParser.currentToken() != JsonToken.START_ARRAY) {
+            @SuppressWarnings("unchecked")
+            List<Operation> result = (List<Operation>) deserializationContext.handleUnexpectedToken(List.class,
+                    jsonParser);
+            return result;
+        }
+
+        List<LazyOperation> lazyOperations = new ArrayList<>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            lazyOperations.add(LazyOperationDeserializer.readLazily(jsonParser, deserializationContext));
+        }
+
+        return new LazyOperationList(lazyOperations);
+    }
+}
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -15,7 +13,9 @@ import eu.bittrade.libs.steemj.base.models.Authority;
 import eu.bittrade.libs.steemj.base.models.PublicKey;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "account_create_operation" object.
@@ -74,24 +74,48 @@ public class AccountCreateOperation extends AbstractAccountCreateOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAccountCreateOperation = new ByteArrayOutputStream()) {
-            serializedAccountCreateOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.ACCOUNT_CREATE_OPERATION.ordinal()));
-            serializedAccountCreateOperation.write(this.getFee().toByteArray());
-            serializedAccountCreateOperation.write(this.getCreator().toByteArray());
-            serializedAccountCreateOperation.write(this.getNewAccountName().toByteArray());
-            serializedAccountCreateOperation.write(this.getOwner().toByteArray());
-            serializedAccountCreateOperation.write(this.getActive().toByteArray());
-            serializedAccountCreateOperation.write(this.getPosting().toByteArray());
-            serializedAccountCreateOperation.write(this.getMemoKey().toByteArray());
-            serializedAccountCreateOperation
-                    .write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMetadata()));
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ACCOUNT_CREATE_OPERATION.ordinal());
+        this.getFee().writeTo(byteSink);
+        this.getCreator().writeTo(byteSink);
+        this.getNewAccountName().writeTo(byteSink);
+        this.getOwner().writeTo(byteSink);
+        this.getActive().writeTo(byteSink);
+        this.getPosting().writeTo(byteSink);
+        this.getMemoKey().writeTo(byteSink);
+        byteSink.writeString(this.getJsonMetadata());
+    }
+
+    /**
+     * Read a {@link AccountCreateOperation AccountCreateOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static AccountCreateOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ACCOUNT_CREATE_OPERATION);
+
+        Asset fee = Asset.fromBytes(byteSource);
+        AccountName creator = AccountName.fromBytes(byteSource);
+        AccountName newAccountName = AccountName.fromBytes(byteSource);
+        Authority owner = Authority.fromBytes(byteSource);
+        Authority active = Authority.fromBytes(byteSource);
+        Authority posting = Authority.fromBytes(byteSource);
+        PublicKey memoKey = PublicKey.fromBytes(byteSource);
+        String jsonMetadata = byteSource.readString();
 
-            return serializedAccountCreateOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return new AccountCreateOperation(creator, fee, newAccountName, owner, active, posting, memoKey, jsonMetadata);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +17,9 @@ import eu.bittrade.libs.steemj.base.models.PublicKey;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "account_create_with_delegation_operation"
@@ -151,33 +151,61 @@ public class AccountCreateWithDelegationOperation extends AbstractAccountCreateO
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAccountCreateWithDelegationOperation = new ByteArrayOutputStream()) {
-            serializedAccountCreateWithDelegationOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.ACCOUNT_CREATE_WITH_DELEGATION_OPERATION.ordinal()));
-            serializedAccountCreateWithDelegationOperation.write(this.getFee().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getDelegation().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getCreator().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getNewAccountName().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getOwner().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getActive().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getPosting().toByteArray());
-            serializedAccountCreateWithDelegationOperation.write(this.getMemoKey().toByteArray());
-            serializedAccountCreateWithDelegationOperation
-                    .write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMetadata()));
-
-            serializedAccountCreateWithDelegationOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedAccountCreateWithDelegationOperation.write(futureExtensions.toByteArray());
-            }
-
-            return serializedAccountCreateWithDelegationOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ACCOUNT_CREATE_WITH_DELEGATION_OPERATION.ordinal());
+        this.getFee().writeTo(byteSink);
+        this.getDelegation().writeTo(byteSink);
+        this.getCreator().writeTo(byteSink);
+        this.getNewAccountName().writeTo(byteSink);
+        this.getOwner().writeTo(byteSink);
+        this.getActive().writeTo(byteSink);
+        this.getPosting().writeTo(byteSink);
+        this.getMemoKey().writeTo(byteSink);
+        byteSink.writeString(this.getJsonMetadata());
+
+        byteSink.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(byteSink);
         }
     }
 
+    /**
+     * Read a {@link AccountCreateWithDelegationOperation
+     * AccountCreateWithDelegationOperation} from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static AccountCreateWithDelegationOperation fromBytes(ByteSource byteSource)
+            throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ACCOUNT_CREATE_WITH_DELEGATION_OPERATION);
+
+        Asset fee = Asset.fromBytes(byteSource);
+        Asset delegation = Asset.fromBytes(byteSource);
+        AccountName creator = AccountName.fromBytes(byteSource);
+        AccountName newAccountName = AccountName.fromBytes(byteSource);
+        Authority owner = Authority.fromBytes(byteSource);
+        Authority active = Authority.fromBytes(byteSource);
+        Authority posting = Authority.fromBytes(byteSource);
+        PublicKey memoKey = PublicKey.fromBytes(byteSource);
+        String jsonMetadata = byteSource.readString();
+        List<FutureExtensions> extensions = readFutureExtensions(byteSource);
+
+        return new AccountCreateWithDelegationOperation(creator, fee, newAccountName, delegation, owner, active,
+                posting, memoKey, jsonMetadata, extensions);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.base.models.PublicKey;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "account_update_operation" object.
@@ -188,29 +188,55 @@ public class AccountUpdateOperation extends AbstractAccountOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAccountUpdateOperation = new ByteArrayOutputStream()) {
-            serializedAccountUpdateOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.ACCOUNT_UPDATE_OPERATION.ordinal()));
-            serializedAccountUpdateOperation.write(this.getAccount().toByteArray());
-
-            // Handle optional values.
-            if (this.getOwner() != null) {
-                serializedAccountUpdateOperation.write(this.getOwner().toByteArray());
-            } else if (this.getActive() != null) {
-                serializedAccountUpdateOperation.write(this.getActive().toByteArray());
-            } else if (this.getPosting() != null) {
-                serializedAccountUpdateOperation.write(this.getPosting().toByteArray());
-            } else if (this.getMemoKey() != null) {
-                serializedAccountUpdateOperation.write(this.getMemoKey().toByteArray());
-            }
-            serializedAccountUpdateOperation
-                    .write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMetadata()));
-
-            return serializedAccountUpdateOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ACCOUNT_UPDATE_OPERATION.ordinal());
+        this.getAccount().writeTo(byteSink);
+
+        // Handle optional values.
+        if (this.getOwner() != null) {
+            this.getOwner().writeTo(byteSink);
+        } else if (this.getActive() != null) {
+            this.getActive().writeTo(byteSink);
+        } else if (this.getPosting() != null) {
+            this.getPosting().writeTo(byteSink);
+        } else if (this.getMemoKey() != null) {
+            this.getMemoKey().writeTo(byteSink);
         }
+        byteSink.writeString(this.getJsonMetadata());
+    }
+
+    /**
+     * Read a {@link AccountUpdateOperation AccountUpdateOperation} from its
+     * binary representation. In contrast to {@link #toByteArray()}, this
+     * method follows the format used by the Steem Nodes, where each authority
+     * is prefixed by a flag that indicates if it is present.
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static AccountUpdateOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ACCOUNT_UPDATE_OPERATION);
+
+        AccountName account = AccountName.fromBytes(byteSource);
+        // The authorities are optional and are only present if they should be
+        // updated.
+        Authority owner = byteSource.readBoolean() ? Authority.fromBytes(byteSource) : null;
+        Authority active = byteSource.readBoolean() ? Authority.fromBytes(byteSource) : null;
+        Authority posting = byteSource.readBoolean() ? Authority.fromBytes(byteSource) : null;
+        PublicKey memoKey = PublicKey.fromBytes(byteSource);
+        String jsonMetadata = byteSource.readString();
+
+        return new AccountUpdateOperation(account, owner, active, posting, memoKey, jsonMetadata);
     }
 
     @Override
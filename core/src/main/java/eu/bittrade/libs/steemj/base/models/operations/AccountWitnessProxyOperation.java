@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -14,8 +12,10 @@ import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "account_witness_proxy_operation" object.
@@ -110,17 +110,36 @@ public class AccountWitnessProxyOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedAccountWitnessProxyOperation = new ByteArrayOutputStream()) {
-            serializedAccountWitnessProxyOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.ACCOUNT_WITNESS_PROXY_OPERATION.ordinal()));
-            serializedAccountWitnessProxyOperation.write(this.getAccount().toByteArray());
-            serializedAccountWitnessProxyOperation.write(this.getProxy().toByteArray());
-
-            return serializedAccountWitnessProxyOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ACCOUNT_WITNESS_PROXY_OPERATION.ordinal());
+        this.getAccount().writeTo(byteSink);
+        this.getProxy().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link AccountWitnessProxyOperation AccountWitnessProxyOperation}
+     * from its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static AccountWitnessProxyOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ACCOUNT_WITNESS_PROXY_OPERATION);
+
+        AccountName account = AccountName.fromBytes(byteSource);
+        AccountName proxy = AccountName.fromBytes(byteSource);
+
+        return new AccountWitnessProxyOperation(account, proxy);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -15,8 +13,10 @@ import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "cancel_transfer_from_savings_operation"
@@ -128,18 +128,38 @@ public class CancelTransferFromSavingsOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCancelTransferFromSavingsOperation = new ByteArrayOutputStream()) {
-            serializedCancelTransferFromSavingsOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.CANCEL_TRANSFER_FROM_SAVINGS_OPERATION.ordinal()));
-            serializedCancelTransferFromSavingsOperation.write(this.getFrom().toByteArray());
-            serializedCancelTransferFromSavingsOperation
-                    .write(SteemJUtils.transformIntToByteArray(this.getRequestId()));
-
-            return serializedCancelTransferFromSavingsOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CANCEL_TRANSFER_FROM_SAVINGS_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        byteSink.writeInt(this.getRequestId());
+    }
+
+    /**
+     * Read a {@link CancelTransferFromSavingsOperation
+     * CancelTransferFromSavingsOperation} from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static CancelTransferFromSavingsOperation fromBytes(ByteSource byteSource)
+            throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CANCEL_TRANSFER_FROM_SAVINGS_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        long requestId = byteSource.readUnsignedInt();
+
+        return new CancelTransferFromSavingsOperation(from, requestId);
     }
 
     @Override
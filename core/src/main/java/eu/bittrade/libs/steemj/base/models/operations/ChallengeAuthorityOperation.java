@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -14,8 +12,10 @@ import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "challenge_authority_operation" object.
@@ -153,19 +153,38 @@ public class ChallengeAuthorityOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedChallengeAuthorityOperation = new ByteArrayOutputStream()) {
-            serializedChallengeAuthorityOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.CHALLENGE_AUTHORITY_OPERATION.ordinal()));
-            serializedChallengeAuthorityOperation.write(this.getChallenger().toByteArray());
-            serializedChallengeAuthorityOperation.write(this.getChallenged().toByteArray());
-            serializedChallengeAuthorityOperation
-                    .write(SteemJUtils.transformBooleanToByteArray(this.getRequireOwner()));
-
-            return serializedChallengeAuthorityOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CHALLENGE_AUTHORITY_OPERATION.ordinal());
+        this.getChallenger().writeTo(byteSink);
+        this.getChallenged().writeTo(byteSink);
+        byteSink.writeBoolean(this.getRequireOwner());
+    }
+
+    /**
+     * Read a {@link ChallengeAuthorityOperation ChallengeAuthorityOperation}
+     * from its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static ChallengeAuthorityOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CHALLENGE_AUTHORITY_OPERATION);
+
+        AccountName challenger = AccountName.fromBytes(byteSource);
+        AccountName challenged = AccountName.fromBytes(byteSource);
+        boolean requireOwner = byteSource.readBoolean();
+
+        return new ChallengeAuthorityOperation(challenger, challenged, requireOwner);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.base.models.FutureExtensions;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "change_recovery_account_operation" object.
@@ -174,25 +174,45 @@ public class ChangeRecoveryAccountOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedChangeRecoveryAccountOperation = new ByteArrayOutputStream()) {
-            serializedChangeRecoveryAccountOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.CHANGE_RECOVERY_ACCOUNT_OPERATION.ordinal()));
-            serializedChangeRecoveryAccountOperation.write(this.getAccountToRecover().toByteArray());
-            serializedChangeRecoveryAccountOperation.write(this.getNewRecoveryAccount().toByteArray());
-
-            serializedChangeRecoveryAccountOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedChangeRecoveryAccountOperation.write(futureExtensions.toByteArray());
-            }
-
-            return serializedChangeRecoveryAccountOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CHANGE_RECOVERY_ACCOUNT_OPERATION.ordinal());
+        this.getAccountToRecover().writeTo(byteSink);
+        this.getNewRecoveryAccount().writeTo(byteSink);
+
+        byteSink.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(byteSink);
         }
     }
 
+    /**
+     * Read a {@link ChangeRecoveryAccountOperation
+     * ChangeRecoveryAccountOperation} from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static ChangeRecoveryAccountOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CHANGE_RECOVERY_ACCOUNT_OPERATION);
+
+        AccountName accountToRecover = AccountName.fromBytes(byteSource);
+        AccountName newRecoveryAccount = AccountName.fromBytes(byteSource);
+        List<FutureExtensions> extensions = readFutureExtensions(byteSource);
+
+        return new ChangeRecoveryAccountOperation(accountToRecover, newRecoveryAccount, extensions);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "claim_reward_balance_operation" object.
@@ -216,19 +216,40 @@ public class ClaimRewardBalanceOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedClaimRewardOperation = new ByteArrayOutputStream()) {
-            serializedClaimRewardOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.CLAIM_REWARD_BALANCE_OPERATION.ordinal()));
-            serializedClaimRewardOperation.write(this.getAccount().toByteArray());
-            serializedClaimRewardOperation.write(this.getRewardSteem().toByteArray());
-            serializedClaimRewardOperation.write(this.getRewardSbd().toByteArray());
-            serializedClaimRewardOperation.write(this.getRewardVests().toByteArray());
-
-            return serializedClaimRewardOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CLAIM_REWARD_BALANCE_OPERATION.ordinal());
+        this.getAccount().writeTo(byteSink);
+        this.getRewardSteem().writeTo(byteSink);
+        this.getRewardSbd().writeTo(byteSink);
+        this.getRewardVests().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link ClaimRewardBalanceOperation ClaimRewardBalanceOperation}
+     * from its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static ClaimRewardBalanceOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CLAIM_REWARD_BALANCE_OPERATION);
+
+        AccountName account = AccountName.fromBytes(byteSource);
+        Asset rewardSteem = Asset.fromBytes(byteSource);
+        Asset rewardSbd = Asset.fromBytes(byteSource);
+        Asset rewardVests = Asset.fromBytes(byteSource);
+
+        return new ClaimRewardBalanceOperation(account, rewardSteem, rewardSbd, rewardVests);
     }
 
     @Override
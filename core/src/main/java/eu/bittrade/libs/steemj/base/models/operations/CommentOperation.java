@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +14,10 @@ import eu.bittrade.libs.steemj.base.models.Permlink;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -336,22 +337,46 @@ public class CommentOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCommentOperation = new ByteArrayOutputStream()) {
-            serializedCommentOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.COMMENT_OPERATION.ordinal()));
-            serializedCommentOperation.write(this.getParentAuthor().toByteArray());
-            serializedCommentOperation.write(this.getParentPermlink().toByteArray());
-            serializedCommentOperation.write(this.getAuthor().toByteArray());
-            serializedCommentOperation.write(this.getPermlink().toByteArray());
-            serializedCommentOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getTitle()));
-            serializedCommentOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getBody()));
-            serializedCommentOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMetadata()));
-
-            return serializedCommentOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.COMMENT_OPERATION.ordinal());
+        this.getParentAuthor().writeTo(byteSink);
+        this.getParentPermlink().writeTo(byteSink);
+        this.getAuthor().writeTo(byteSink);
+        this.getPermlink().writeTo(byteSink);
+        byteSink.writeString(this.getTitle());
+        byteSink.writeString(this.getBody());
+        byteSink.writeString(this.getJsonMetadata());
+    }
+
+    /**
+     * Read a {@link CommentOperation CommentOperation} from its binary
+     * representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static CommentOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.COMMENT_OPERATION);
+
+        AccountName parentAuthor = AccountName.fromBytes(byteSource);
+        Permlink parentPermlink = Permlink.fromBytes(byteSource);
+        AccountName author = AccountName.fromBytes(byteSource);
+        Permlink permlink = Permlink.fromBytes(byteSource);
+        String title = byteSource.readString();
+        String body = byteSource.readString();
+        String jsonMetadata = byteSource.readString();
+
+        return new CommentOperation(parentAuthor, parentPermlink, author, permlink, title, body, jsonMetadata);
     }
 
     @Override
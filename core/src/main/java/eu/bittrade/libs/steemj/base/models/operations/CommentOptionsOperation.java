@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,8 +18,10 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "comment_options_operation" object.
@@ -362,32 +362,59 @@ public class CommentOptionsOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCommentOptionsOperation = new ByteArrayOutputStream()) {
-            serializedCommentOptionsOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.COMMENT_OPTIONS_OPERATION.ordinal()));
-            serializedCommentOptionsOperation.write(this.getAuthor().toByteArray());
-            serializedCommentOptionsOperation.write(this.getPermlink().toByteArray());
-            serializedCommentOptionsOperation.write(this.getMaxAcceptedPayout().toByteArray());
-            serializedCommentOptionsOperation
-                    .write(SteemJUtils.transformShortToByteArray(this.getPercentSteemDollars()));
-            serializedCommentOptionsOperation.write(SteemJUtils.transformBooleanToByteArray(this.getAllowVotes()));
-            serializedCommentOptionsOperation
-                    .write(SteemJUtils.transformBooleanToByteArray(this.getAllowCurationRewards()));
-
-            serializedCommentOptionsOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getExtensions().size()));
-
-            for (CommentOptionsExtension commentOptionsExtension : this.getExtensions()) {
-                serializedCommentOptionsOperation.write(commentOptionsExtension.toByteArray());
-            }
-
-            return serializedCommentOptionsOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.COMMENT_OPTIONS_OPERATION.ordinal());
+        this.getAuthor().writeTo(byteSink);
+        this.getPermlink().writeTo(byteSink);
+        this.getMaxAcceptedPayout().writeTo(byteSink);
+        byteSink.writeShort(this.getPercentSteemDollars());
+        byteSink.writeBoolean(this.getAllowVotes());
+        byteSink.writeBoolean(this.getAllowCurationRewards());
+
+        byteSink.writeVarLong(this.getExtensions().size());
+
+        for (CommentOptionsExtension commentOptionsExtension : this.getExtensions()) {
+            commentOptionsExtension.writeTo(byteSink);
         }
     }
 
+    /**
+     * Read a {@link CommentOptionsOperation CommentOptionsOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static CommentOptionsOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.COMMENT_OPTIONS_OPERATION);
+
+        AccountName author = AccountName.fromBytes(byteSource);
+        Permlink permlink = Permlink.fromBytes(byteSource);
+        Asset maxAcceptedPayout = Asset.fromBytes(byteSource);
+        short percentSteemDollars = byteSource.readShort();
+        boolean allowVotes = byteSource.readBoolean();
+        boolean allowCurationRewards = byteSource.readBoolean();
+
+        int numberOfExtensions = byteSource.readLength();
+        List<CommentOptionsExtension> extensions = new ArrayList<>(numberOfExtensions);
+        for (int i = 0; i < numberOfExtensions; i++) {
+            extensions.add(CommentOptionsExtension.fromBytes(byteSource));
+        }
+
+        return new CommentOptionsOperation(author, permlink, maxAcceptedPayout, percentSteemDollars, allowVotes,
+                allowCurationRewards, extensions);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
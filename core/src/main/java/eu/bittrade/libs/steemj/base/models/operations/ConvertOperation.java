@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "convert_operation" object.
@@ -157,18 +157,38 @@ public class ConvertOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedConvertOperation = new ByteArrayOutputStream()) {
-            serializedConvertOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CONVERT_OPERATION.ordinal()));
-            serializedConvertOperation.write(this.getOwner().toByteArray());
-            serializedConvertOperation.write(SteemJUtils.transformIntToByteArray((int) this.getRequestId()));
-            serializedConvertOperation.write(this.getAmount().toByteArray());
-
-            return serializedConvertOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CONVERT_OPERATION.ordinal());
+        this.getOwner().writeTo(byteSink);
+        byteSink.writeInt((int) this.getRequestId());
+        this.getAmount().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link ConvertOperation ConvertOperation} from its binary
+     * representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static ConvertOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CONVERT_OPERATION);
+
+        AccountName owner = AccountName.fromBytes(byteSource);
+        long requestId = byteSource.readUnsignedInt();
+        Asset amount = Asset.fromBytes(byteSource);
+
+        return new ConvertOperation(owner, requestId, amount);
     }
 
     @Override
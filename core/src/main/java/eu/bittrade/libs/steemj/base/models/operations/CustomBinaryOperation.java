@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.base.models.Authority;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "custom_binary_operation" object.
@@ -235,49 +235,75 @@ public class CustomBinaryOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCustomBinaryOperation = new ByteArrayOutputStream()) {
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CUSTOM_BINARY_OPERATION.ordinal()));
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CUSTOM_BINARY_OPERATION.ordinal());
+
+        byteSink.writeVarLong(this.getRequiredOwnerAuths().size());
 
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredOwnerAuths().size()));
+        for (AccountName accountName : this.getRequiredOwnerAuths()) {
+            accountName.writeTo(byteSink);
+        }
+
+        byteSink.writeVarLong(this.getRequiredActiveAuths().size());
 
-            for (AccountName accountName : this.getRequiredOwnerAuths()) {
-                serializedCustomBinaryOperation.write(accountName.toByteArray());
-            }
+        for (AccountName accountName : this.getRequiredActiveAuths()) {
+            accountName.writeTo(byteSink);
+        }
 
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredActiveAuths().size()));
+        byteSink.writeVarLong(this.getRequiredPostingAuths().size());
 
-            for (AccountName accountName : this.getRequiredActiveAuths()) {
-                serializedCustomBinaryOperation.write(accountName.toByteArray());
-            }
+        for (AccountName accountName : this.getRequiredPostingAuths()) {
+            accountName.writeTo(byteSink);
+        }
 
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredPostingAuths().size()));
+        byteSink.writeVarLong(this.getRequiredAuths().size());
 
-            for (AccountName accountName : this.getRequiredPostingAuths()) {
-                serializedCustomBinaryOperation.write(accountName.toByteArray());
-            }
+        for (Authority authority : this.getRequiredAuths()) {
+            authority.writeTo(byteSink);
+        }
 
-            serializedCustomBinaryOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredAuths().size()));
+        byteSink.writeString(this.getId());
 
-            for (Authority authority : this.getRequiredAuths()) {
-                serializedCustomBinaryOperation.write(authority.toByteArray());
-            }
+        byte[] decodedData = Utils.HEX.decode(this.getData());
+        byteSink.writeVarInt(decodedData.length);
+        byteSink.writeBytes(decodedData);
+    }
 
-            serializedCustomBinaryOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getId()));
+    /**
+     * Read a {@link CustomBinaryOperation CustomBinaryOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static CustomBinaryOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CUSTOM_BINARY_OPERATION);
 
-            byte[] decodedData = Utils.HEX.decode(this.getData());
-            serializedCustomBinaryOperation.write(SteemJUtils.transformIntToVarIntByteArray(decodedData.length));
-            serializedCustomBinaryOperation.write(decodedData);
+        List<AccountName> requiredOwnerAuths = readAccountNames(byteSource);
+        List<AccountName> requiredActiveAuths = readAccountNames(byteSource);
+        List<AccountName> requiredPostingAuths = readAccountNames(byteSource);
 
-            return serializedCustomBinaryOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        int numberOfRequiredAuths = byteSource.readLength();
+        List<Authority> requiredAuths = new ArrayList<>(numberOfRequiredAuths);
+        for (int i = 0; i < numberOfRequiredAuths; i++) {
+            requiredAuths.add(Authority.fromBytes(byteSource));
         }
+
+        String id = byteSource.readString();
+        String data = Utils.HEX.encode(byteSource.readVarBytes());
+
+        return new CustomBinaryOperation(requiredOwnerAuths, requiredActiveAuths, requiredPostingAuths, requiredAuths,
+                id, data);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,7 +14,10 @@ import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -216,31 +217,51 @@ public class CustomJsonOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCustomOperation = new ByteArrayOutputStream()) {
-            serializedCustomOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CUSTOM_JSON_OPERATION.ordinal()));
-
-            serializedCustomOperation.write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredAuths().size()));
+        return ByteSink.toByteArray(this);
+    }
 
-            for (AccountName accountName : this.getRequiredAuths()) {
-                serializedCustomOperation.write(accountName.toByteArray());
-            }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CUSTOM_JSON_OPERATION.ordinal());
 
-            serializedCustomOperation
-                    .write(SteemJUtils.transformLongToVarIntByteArray(this.getRequiredPostingAuths().size()));
+        byteSink.writeVarLong(this.getRequiredAuths().size());
 
-            for (AccountName accountName : this.getRequiredPostingAuths()) {
-                serializedCustomOperation.write(accountName.toByteArray());
-            }
+        for (AccountName accountName : this.getRequiredAuths()) {
+            accountName.writeTo(byteSink);
+        }
 
-            serializedCustomOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getId()));
-            serializedCustomOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getJson()));
+        byteSink.writeVarLong(this.getRequiredPostingAuths().size());
 
-            return serializedCustomOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        for (AccountName accountName : this.getRequiredPostingAuths()) {
+            accountName.writeTo(byteSink);
         }
+
+        byteSink.writeString(this.getId());
+        byteSink.writeString(this.getJson());
+    }
+
+    /**
+     * Read a {@link CustomJsonOperation CustomJsonOperation} from its binary
+     * representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static CustomJsonOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CUSTOM_JSON_OPERATION);
+
+        List<AccountName> requiredAuths = readAccountNames(byteSource);
+        List<AccountName> requiredPostingAuths = readAccountNames(byteSource);
+        String id = byteSource.readString();
+        String json = byteSource.readString();
+
+        return new CustomJsonOperation(requiredAuths, requiredPostingAuths, id, json);
     }
 
     @Override
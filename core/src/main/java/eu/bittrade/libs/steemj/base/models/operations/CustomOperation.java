@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +14,10 @@ import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "custom_operation" object.
@@ -141,27 +141,47 @@ public class CustomOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedCustomOperation = new ByteArrayOutputStream()) {
-            serializedCustomOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.CUSTOM_OPERATION.ordinal()));
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.CUSTOM_OPERATION.ordinal());
 
-            serializedCustomOperation.write(SteemJUtils.transformIntToVarIntByteArray(this.getRequiredAuths().size()));
+        byteSink.writeVarInt(this.getRequiredAuths().size());
 
-            for (AccountName accountName : this.getRequiredAuths()) {
-                serializedCustomOperation.write(accountName.toByteArray());
-            }
+        for (AccountName accountName : this.getRequiredAuths()) {
+            accountName.writeTo(byteSink);
+        }
 
-            serializedCustomOperation.write(SteemJUtils.transformShortToByteArray(this.getId()));
+        byteSink.writeShort(this.getId());
 
-            byte[] decodedData = Utils.HEX.decode(this.getData());
-            serializedCustomOperation.write(SteemJUtils.transformIntToVarIntByteArray(decodedData.length));
-            serializedCustomOperation.write(decodedData);
+        byte[] decodedData = Utils.HEX.decode(this.getData());
+        byteSink.writeVarInt(decodedData.length);
+        byteSink.writeBytes(decodedData);
+    }
 
-            return serializedCustomOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    /**
+     * Read a {@link CustomOperation CustomOperation} from its binary
+     * representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static CustomOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.CUSTOM_OPERATION);
+
+        List<AccountName> requiredAuths = readAccountNames(byteSource);
+        short id = byteSource.readShort();
+        String data = Utils.HEX.encode(byteSource.readVarBytes());
+
+        return new CustomOperation(requiredAuths, id, data);
     }
 
     @Override
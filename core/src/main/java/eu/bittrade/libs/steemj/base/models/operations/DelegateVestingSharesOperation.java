@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "delegate_vesting_shares_operation" object.
@@ -156,18 +156,39 @@ public class DelegateVestingSharesOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedDelegateVestingSharesOperation = new ByteArrayOutputStream()) {
-            serializedDelegateVestingSharesOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.DELEGATE_VESTING_SHARES_OPERATION.ordinal()));
-            serializedDelegateVestingSharesOperation.write(this.getDelegator().toByteArray());
-            serializedDelegateVestingSharesOperation.write(this.getDelegatee().toByteArray());
-            serializedDelegateVestingSharesOperation.write(this.getVestingShares().toByteArray());
-
-            return serializedDelegateVestingSharesOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.DELEGATE_VESTING_SHARES_OPERATION.ordinal());
+        this.getDelegator().writeTo(byteSink);
+        this.getDelegatee().writeTo(byteSink);
+        this.getVestingShares().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link DelegateVestingSharesOperation
+     * DelegateVestingSharesOperation} from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static DelegateVestingSharesOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.DELEGATE_VESTING_SHARES_OPERATION);
+
+        AccountName delegator = AccountName.fromBytes(byteSource);
+        AccountName delegatee = AccountName.fromBytes(byteSource);
+        Asset vestingShares = Asset.fromBytes(byteSource);
+
+        return new DelegateVestingSharesOperation(delegator, delegatee, vestingShares);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +14,10 @@ import eu.bittrade.libs.steemj.base.models.Permlink;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "delete_comment_operation" object.
@@ -107,17 +107,36 @@ public class DeleteCommentOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedDeleteCommentOperation = new ByteArrayOutputStream()) {
-            serializedDeleteCommentOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.DELETE_COMMENT_OPERATION.ordinal()));
-            serializedDeleteCommentOperation.write(this.getAuthor().toByteArray());
-            serializedDeleteCommentOperation.write(this.getPermlink().toByteArray());
-
-            return serializedDeleteCommentOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.DELETE_COMMENT_OPERATION.ordinal());
+        this.getAuthor().writeTo(byteSink);
+        this.getPermlink().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link DeleteCommentOperation DeleteCommentOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static DeleteCommentOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.DELETE_COMMENT_OPERATION);
+
+        AccountName author = AccountName.fromBytes(byteSource);
+        Permlink permlink = Permlink.fromBytes(byteSource);
+
+        return new DeleteCommentOperation(author, permlink);
     }
 
     @Override
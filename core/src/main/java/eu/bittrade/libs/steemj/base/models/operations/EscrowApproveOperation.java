@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -12,7 +10,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "escrow_approve_operation" object.
@@ -175,21 +175,44 @@ public class EscrowApproveOperation extends AbstractEscrowOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedEscrowApproveOperation = new ByteArrayOutputStream()) {
-            serializedEscrowApproveOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.ESCROW_APPROVE_OPERATION.ordinal()));
-            serializedEscrowApproveOperation.write(this.getFrom().toByteArray());
-            serializedEscrowApproveOperation.write(this.getTo().toByteArray());
-            serializedEscrowApproveOperation.write(this.getAgent().toByteArray());
-            serializedEscrowApproveOperation.write(this.getWho().toByteArray());
-            serializedEscrowApproveOperation.write(SteemJUtils.transformIntToByteArray(this.getEscrowId()));
-            serializedEscrowApproveOperation.write(SteemJUtils.transformBooleanToByteArray(this.getApprove()));
-
-            return serializedEscrowApproveOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ESCROW_APPROVE_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        this.getTo().writeTo(byteSink);
+        this.getAgent().writeTo(byteSink);
+        this.getWho().writeTo(byteSink);
+        byteSink.writeInt(this.getEscrowId());
+        byteSink.writeBoolean(this.getApprove());
+    }
+
+    /**
+     * Read a {@link EscrowApproveOperation EscrowApproveOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static EscrowApproveOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ESCROW_APPROVE_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        AccountName to = AccountName.fromBytes(byteSource);
+        AccountName agent = AccountName.fromBytes(byteSource);
+        AccountName who = AccountName.fromBytes(byteSource);
+        long escrowId = byteSource.readUnsignedInt();
+        boolean approve = byteSource.readBoolean();
+
+        return new EscrowApproveOperation(from, to, agent, escrowId, who, approve);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -12,7 +10,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "escrow_dispute_operation" object.
@@ -120,20 +120,42 @@ public class EscrowDisputeOperation extends AbstractEscrowOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedEscrowDisputeOperation = new ByteArrayOutputStream()) {
-            serializedEscrowDisputeOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.ESCROW_DISPUTE_OPERATION.ordinal()));
-            serializedEscrowDisputeOperation.write(this.getFrom().toByteArray());
-            serializedEscrowDisputeOperation.write(this.getTo().toByteArray());
-            serializedEscrowDisputeOperation.write(this.getAgent().toByteArray());
-            serializedEscrowDisputeOperation.write(this.getWho().toByteArray());
-            serializedEscrowDisputeOperation.write(SteemJUtils.transformIntToByteArray(this.getEscrowId()));
-
-            return serializedEscrowDisputeOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ESCROW_DISPUTE_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        this.getTo().writeTo(byteSink);
+        this.getAgent().writeTo(byteSink);
+        this.getWho().writeTo(byteSink);
+        byteSink.writeInt(this.getEscrowId());
+    }
+
+    /**
+     * Read a {@link EscrowDisputeOperation EscrowDisputeOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static EscrowDisputeOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ESCROW_DISPUTE_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        AccountName to = AccountName.fromBytes(byteSource);
+        AccountName agent = AccountName.fromBytes(byteSource);
+        AccountName who = AccountName.fromBytes(byteSource);
+        long escrowId = byteSource.readUnsignedInt();
+
+        return new EscrowDisputeOperation(from, to, agent, escrowId, who);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -14,7 +12,9 @@ import eu.bittrade.libs.steemj.base.models.Asset;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "escrow_release_operation" object.
@@ -321,23 +321,48 @@ public class EscrowReleaseOperation extends AbstractEscrowOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedEscrowReleaseOperation = new ByteArrayOutputStream()) {
-            serializedEscrowReleaseOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.ESCROW_RELEASE_OPERATION.ordinal()));
-            serializedEscrowReleaseOperation.write(this.getFrom().toByteArray());
-            serializedEscrowReleaseOperation.write(this.getTo().toByteArray());
-            serializedEscrowReleaseOperation.write(this.getAgent().toByteArray());
-            serializedEscrowReleaseOperation.write(this.getWho().toByteArray());
-            serializedEscrowReleaseOperation.write(this.getReceiver().toByteArray());
-            serializedEscrowReleaseOperation.write(SteemJUtils.transformIntToByteArray(this.getEscrowId()));
-            serializedEscrowReleaseOperation.write(this.getSbdAmount().toByteArray());
-            serializedEscrowReleaseOperation.write(this.getSteemAmount().toByteArray());
-
-            return serializedEscrowReleaseOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ESCROW_RELEASE_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        this.getTo().writeTo(byteSink);
+        this.getAgent().writeTo(byteSink);
+        this.getWho().writeTo(byteSink);
+        this.getReceiver().writeTo(byteSink);
+        byteSink.writeInt(this.getEscrowId());
+        this.getSbdAmount().writeTo(byteSink);
+        this.getSteemAmount().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link EscrowReleaseOperation EscrowReleaseOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static EscrowReleaseOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ESCROW_RELEASE_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        AccountName to = AccountName.fromBytes(byteSource);
+        AccountName agent = AccountName.fromBytes(byteSource);
+        AccountName who = AccountName.fromBytes(byteSource);
+        AccountName receiver = AccountName.fromBytes(byteSource);
+        long escrowId = byteSource.readUnsignedInt();
+        Asset sbdAmount = Asset.fromBytes(byteSource);
+        Asset steemAmount = Asset.fromBytes(byteSource);
+
+        return new EscrowReleaseOperation(from, to, agent, escrowId, who, receiver, sbdAmount, steemAmount);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -15,6 +13,9 @@ import eu.bittrade.libs.steemj.base.models.TimePointSec;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 import eu.bittrade.libs.steemj.util.SteemJUtils;
 
 /**
@@ -448,25 +449,53 @@ public class EscrowTransferOperation extends AbstractEscrowOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedEscrowTransferOperation = new ByteArrayOutputStream()) {
-            serializedEscrowTransferOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.ESCROW_TRANSFER_OPERATION.ordinal()));
-            serializedEscrowTransferOperation.write(this.getFrom().toByteArray());
-            serializedEscrowTransferOperation.write(this.getTo().toByteArray());
-            serializedEscrowTransferOperation.write(this.getAgent().toByteArray());
-            serializedEscrowTransferOperation.write(SteemJUtils.transformIntToByteArray(this.getEscrowId()));
-            serializedEscrowTransferOperation.write(this.getSbdAmount().toByteArray());
-            serializedEscrowTransferOperation.write(this.getSteemAmount().toByteArray());
-            serializedEscrowTransferOperation.write(this.getFee().toByteArray());
-            serializedEscrowTransferOperation.write(this.getRatificationDeadlineDate().toByteArray());
-            serializedEscrowTransferOperation.write(this.getEscrowExpirationDate().toByteArray());
-            serializedEscrowTransferOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getJsonMeta()));
-
-            return serializedEscrowTransferOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.ESCROW_TRANSFER_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        this.getTo().writeTo(byteSink);
+        this.getAgent().writeTo(byteSink);
+        byteSink.writeInt(this.getEscrowId());
+        this.getSbdAmount().writeTo(byteSink);
+        this.getSteemAmount().writeTo(byteSink);
+        this.getFee().writeTo(byteSink);
+        this.getRatificationDeadlineDate().writeTo(byteSink);
+        this.getEscrowExpirationDate().writeTo(byteSink);
+        byteSink.writeString(this.getJsonMeta());
+    }
+
+    /**
+     * Read a {@link EscrowTransferOperation EscrowTransferOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static EscrowTransferOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.ESCROW_TRANSFER_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        AccountName to = AccountName.fromBytes(byteSource);
+        AccountName agent = AccountName.fromBytes(byteSource);
+        long escrowId = byteSource.readUnsignedInt();
+        Asset sbdAmount = Asset.fromBytes(byteSource);
+        Asset steemAmount = Asset.fromBytes(byteSource);
+        Asset fee = Asset.fromBytes(byteSource);
+        TimePointSec ratificationDeadlineDate = TimePointSec.fromBytes(byteSource);
+        TimePointSec escrowExpirationDate = TimePointSec.fromBytes(byteSource);
+        String jsonMeta = byteSource.readString();
+
+        return new EscrowTransferOperation(from, to, agent, escrowId, sbdAmount, steemAmount, fee,
+                ratificationDeadlineDate, escrowExpirationDate, jsonMeta);
     }
 
     @Override
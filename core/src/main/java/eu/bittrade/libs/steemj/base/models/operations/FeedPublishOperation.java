@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "feed_publish_operation" object.
@@ -114,17 +114,36 @@ public class FeedPublishOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedFeedPublishOperation = new ByteArrayOutputStream()) {
-            serializedFeedPublishOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.FEED_PUBLISH_OPERATION.ordinal()));
-            serializedFeedPublishOperation.write(this.getPublisher().toByteArray());
-            serializedFeedPublishOperation.write(this.getExchangeRate().toByteArray());
-
-            return serializedFeedPublishOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.FEED_PUBLISH_OPERATION.ordinal());
+        this.getPublisher().writeTo(byteSink);
+        this.getExchangeRate().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link FeedPublishOperation FeedPublishOperation} from its binary
+     * representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static FeedPublishOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.FEED_PUBLISH_OPERATION);
+
+        AccountName publisher = AccountName.fromBytes(byteSource);
+        Price exchangeRate = Price.fromBytes(byteSource);
+
+        return new FeedPublishOperation(publisher, exchangeRate);
     }
 
     @Override
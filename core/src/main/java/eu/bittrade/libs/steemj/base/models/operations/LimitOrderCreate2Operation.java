@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -16,7 +14,9 @@ import eu.bittrade.libs.steemj.base.models.TimePointSec;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class is the java implementation of the <a href=
@@ -276,21 +276,44 @@ public class LimitOrderCreate2Operation extends AbstractLimitOrderOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedLimitOrderCreate2Operation = new ByteArrayOutputStream()) {
-            serializedLimitOrderCreate2Operation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.LIMIT_ORDER_CREATE2_OPERATION.ordinal()));
-            serializedLimitOrderCreate2Operation.write(this.getOwner().toByteArray());
-            serializedLimitOrderCreate2Operation.write(SteemJUtils.transformIntToByteArray(this.getOrderId()));
-            serializedLimitOrderCreate2Operation.write(this.getAmountToSell().toByteArray());
-            serializedLimitOrderCreate2Operation.write(this.getExchangeRate().toByteArray());
-            serializedLimitOrderCreate2Operation.write(SteemJUtils.transformBooleanToByteArray(this.getFillOrKill()));
-            serializedLimitOrderCreate2Operation.write(this.getExpirationDate().toByteArray());
+        return ByteSink.toByteArray(this);
+    }
 
-            return serializedLimitOrderCreate2Operation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.LIMIT_ORDER_CREATE2_OPERATION.ordinal());
+        this.getOwner().writeTo(byteSink);
+        byteSink.writeInt(this.getOrderId());
+        this.getAmountToSell().writeTo(byteSink);
+        this.getExchangeRate().writeTo(byteSink);
+        byteSink.writeBoolean(this.getFillOrKill());
+        this.getExpirationDate().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link LimitOrderCreate2Operation LimitOrderCreate2Operation} from
+     * its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static LimitOrderCreate2Operation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.LIMIT_ORDER_CREATE2_OPERATION);
+
+        AccountName owner = AccountName.fromBytes(byteSource);
+        long orderId = byteSource.readUnsignedInt();
+        Asset amountToSell = Asset.fromBytes(byteSource);
+        Price exchangeRate = Price.fromBytes(byteSource);
+        boolean fillOrKill = byteSource.readBoolean();
+        TimePointSec expirationDate = TimePointSec.fromBytes(byteSource);
+
+        return new LimitOrderCreate2Operation(owner, orderId, amountToSell, fillOrKill, exchangeRate, expirationDate);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -13,7 +11,9 @@ import eu.bittrade.libs.steemj.base.models.Asset;
 import eu.bittrade.libs.steemj.base.models.TimePointSec;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class is the java implementation of the <a href=
@@ -266,21 +266,44 @@ public class LimitOrderCreateOperation extends AbstractLimitOrderOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedLimitOrderCreateOperation = new ByteArrayOutputStream()) {
-            serializedLimitOrderCreateOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.LIMIT_ORDER_CREATE_OPERATION.ordinal()));
-            serializedLimitOrderCreateOperation.write(this.getOwner().toByteArray());
-            serializedLimitOrderCreateOperation.write(SteemJUtils.transformIntToByteArray(this.getOrderId()));
-            serializedLimitOrderCreateOperation.write(this.getAmountToSell().toByteArray());
-            serializedLimitOrderCreateOperation.write(this.getMinToReceive().toByteArray());
-            serializedLimitOrderCreateOperation.write(SteemJUtils.transformBooleanToByteArray(this.getFillOrKill()));
-            serializedLimitOrderCreateOperation.write(this.getExpirationDate().toByteArray());
+        return ByteSink.toByteArray(this);
+    }
 
-            return serializedLimitOrderCreateOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.LIMIT_ORDER_CREATE_OPERATION.ordinal());
+        this.getOwner().writeTo(byteSink);
+        byteSink.writeInt(this.getOrderId());
+        this.getAmountToSell().writeTo(byteSink);
+        this.getMinToReceive().writeTo(byteSink);
+        byteSink.writeBoolean(this.getFillOrKill());
+        this.getExpirationDate().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link LimitOrderCreateOperation LimitOrderCreateOperation} from
+     * its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static LimitOrderCreateOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.LIMIT_ORDER_CREATE_OPERATION);
+
+        AccountName owner = AccountName.fromBytes(byteSource);
+        long orderId = byteSource.readUnsignedInt();
+        Asset amountToSell = Asset.fromBytes(byteSource);
+        Asset minToReceive = Asset.fromBytes(byteSource);
+        boolean fillOrKill = byteSource.readBoolean();
+        TimePointSec expirationDate = TimePointSec.fromBytes(byteSource);
+
+        return new LimitOrderCreateOperation(owner, orderId, amountToSell, minToReceive, fillOrKill, expirationDate);
     }
 
     @Override
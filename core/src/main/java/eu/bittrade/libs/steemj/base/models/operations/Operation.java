@@ -1,5 +1,6 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
+import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -14,6 +15,8 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import eu.bittrade.libs.steemj.apis.follow.models.operations.FollowOperation;
 import eu.bittrade.libs.steemj.apis.follow.models.operations.ReblogOperation;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.FutureExtensions;
 import eu.bittrade.libs.steemj.base.models.operations.virtual.AuthorRewardOperation;
 import eu.bittrade.libs.steemj.base.models.operations.virtual.CommentBenefactorRewardOperation;
 import eu.bittrade.libs.steemj.base.models.operations.virtual.CommentPayoutUpdateOperation;
@@ -29,9 +32,12 @@ import eu.bittrade.libs.steemj.base.models.operations.virtual.LiquidityRewardOpe
 import eu.bittrade.libs.steemj.base.models.operations.virtual.ProducerRewardOperation;
 import eu.bittrade.libs.steemj.base.models.operations.virtual.ReturnVestingDelegationOperation;
 import eu.bittrade.libs.steemj.base.models.operations.virtual.ShutdownWitnessOpeartion;
+import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class is a wrapper for the different kinds of operations that an user
@@ -204,6 +210,181 @@ public abstract class Operation implements ByteTransformable {
         return requiredAuthorities;
     }
 
+    /**
+     * Read an operation from its binary representation (see
+     * {@link #toByteArray()}). The type of the returned operation is defined
+     * by the operation type stored in front of the operation.
+     * 
+     * <p>
+     * Virtual operations and the <code>pow</code>, <code>pow2</code> and
+     * <code>report_over_production</code> operations are not supported.
+     * </p>
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid or a supported
+     *             operation.
+     */
+    public static Operation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        int position = byteSource.getPosition();
+        long type = byteSource.readVarInt();
+        byteSource.setPosition(position);
+
+        if (type >= OperationType.values().length) {
+            throw new SteemTransformationException("The operation type " + type + " is unknown.");
+        }
+
+        try {
+            switch (OperationType.values()[(int) type]) {
+            case VOTE_OPERATION:
+                return VoteOperation.fromBytes(byteSource);
+            case COMMENT_OPERATION:
+                return CommentOperation.fromBytes(byteSource);
+            case TRANSFER_OPERATION:
+                return TransferOperation.fromBytes(byteSource);
+            case TRANSFER_TO_VESTING_OPERATION:
+                return TransferToVestingOperation.fromBytes(byteSource);
+            case WITHDRAW_VESTING_OPERATION:
+                return WithdrawVestingOperation.fromBytes(byteSource);
+            case LIMIT_ORDER_CREATE_OPERATION:
+                return LimitOrderCreateOperation.fromBytes(byteSource);
+            case LIMIT_ORDER_CANCEL_OPERATION:
+                return LimitOrderCancelOperation.fromBytes(byteSource);
+            case FEED_PUBLISH_OPERATION:
+                return FeedPublishOperation.fromBytes(byteSource);
+            case CONVERT_OPERATION:
+                return ConvertOperation.fromBytes(byteSource);
+            case ACCOUNT_CREATE_OPERATION:
+                return AccountCreateOperation.fromBytes(byteSource);
+            case ACCOUNT_UPDATE_OPERATION:
+                return AccountUpdateOperation.fromBytes(byteSource);
+            case WITNESS_UPDATE_OPERATION:
+                return WitnessUpdateOperation.fromBytes(byteSource);
+            case ACCOUNT_WITNESS_VOTE_OPERATION:
+                return AccountWitnessVoteOperation.fromBytes(byteSource);
+            case ACCOUNT_WITNESS_PROXY_OPERATION:
+                return AccountWitnessProxyOperation.fromBytes(byteSource);
+            case CUSTOM_OPERATION:
+                return CustomOperation.fromBytes(byteSource);
+            case DELETE_COMMENT_OPERATION:
+                return DeleteCommentOperation.fromBytes(byteSource);
+            case CUSTOM_JSON_OPERATION:
+                return CustomJsonOperation.fromBytes(byteSource);
+            case COMMENT_OPTIONS_OPERATION:
+                return CommentOptionsOperation.fromBytes(byteSource);
+            case SET_WITHDRAW_VESTING_ROUTE_OPERATION:
+                return SetWithdrawVestingRouteOperation.fromBytes(byteSource);
+            case LIMIT_ORDER_CREATE2_OPERATION:
+                return LimitOrderCreate2Operation.fromBytes(byteSource);
+            case CHALLENGE_AUTHORITY_OPERATION:
+                return ChallengeAuthorityOperation.fromBytes(byteSource);
+            case PROVE_AUTHORITY_OPERATION:
+                return ProveAuthorityOperation.fromBytes(byteSource);
+            case REQUEST_ACCOUNT_RECOVERY_OPERATION:
+                return RequestAccountRecoveryOperation.fromBytes(byteSource);
+            case RECOVER_ACCOUNT_OPERATION:
+                return RecoverAccountOperation.fromBytes(byteSource);
+            case CHANGE_RECOVERY_ACCOUNT_OPERATION:
+                return ChangeRecoveryAccountOperation.fromBytes(byteSource);
+            case ESCROW_TRANSFER_OPERATION:
+                return EscrowTransferOperation.fromBytes(byteSource);
+            case ESCROW_DISPUTE_OPERATION:
+                return EscrowDisputeOperation.fromBytes(byteSource);
+            case ESCROW_RELEASE_OPERATION:
+                return EscrowReleaseOperation.fromBytes(byteSource);
+            case ESCROW_APPROVE_OPERATION:
+                return EscrowApproveOperation.fromBytes(byteSource);
+            case TRANSFER_TO_SAVINGS_OPERATION:
+                return TransferToSavingsOperation.fromBytes(byteSource);
+            case TRANSFER_FROM_SAVINGS_OPERATION:
+                return TransferFromSavingsOperation.fromBytes(byteSource);
+            case CANCEL_TRANSFER_FROM_SAVINGS_OPERATION:
+                return CancelTransferFromSavingsOperation.fromBytes(byteSource);
+            case CUSTOM_BINARY_OPERATION:
+                return CustomBinaryOperation.fromBytes(byteSource);
+            case DECLINE_VOTING_RIGHTS_OPERATION:
+                return DeclineVotingRightsOperation.fromBytes(byteSource);
+            case RESET_ACCOUNT_OPERATION:
+                return ResetAccountOperation.fromBytes(byteSource);
+            case SET_RESET_ACCOUNT_OPERATION:
+                return SetResetAccountOperation.fromBytes(byteSource);
+            case CLAIM_REWARD_BALANCE_OPERATION:
+                return ClaimRewardBalanceOperation.fromBytes(byteSource);
+            case DELEGATE_VESTING_SHARES_OPERATION:
+                return DelegateVestingSharesOperation.fromBytes(byteSource);
+            case ACCOUNT_CREATE_WITH_DELEGATION_OPERATION:
+                return AccountCreateWithDelegationOperation.fromBytes(byteSource);
+            default:
+                throw new SteemTransformationException(
+                        "The operation type " + OperationType.values()[(int) type] + " is not supported.");
+            }
+        } catch (InvalidParameterException e) {
+            throw new SteemTransformationException("The operation at position " + position + " is not valid.", e);
+        }
+    }
+
+    /**
+     * Read the operation type and make sure that it matches the expected one.
+     * 
+     * @param byteSource
+     *            The source to read the operation type from.
+     * @param operationType
+     *            The expected operation type.
+     * @throws SteemTransformationException
+     *             If the source does not contain the expected operation type.
+     */
+    protected static void readOperationType(ByteSource byteSource, OperationType operationType)
+            throws SteemTransformationException {
+        long type = byteSource.readVarInt();
+        if (type != operationType.ordinal()) {
+            throw new SteemTransformationException(
+                    "Expected the operation type " + operationType + ", but found the type " + type + ".");
+        }
+    }
+
+    /**
+     * Read a list of account names, which is stored as the number of entries
+     * followed by the account names.
+     * 
+     * @param byteSource
+     *            The source to read the account names from.
+     * @return The account names.
+     * @throws SteemTransformationException
+     *             If the source does not contain valid account names.
+     */
+    protected static List<AccountName> readAccountNames(ByteSource byteSource) throws SteemTransformationException {
+        int numberOfAccountNames = byteSource.readLength();
+        List<AccountName> accountNames = new ArrayList<>(numberOfAccountNames);
+        for (int i = 0; i < numberOfAccountNames; i++) {
+            accountNames.add(AccountName.fromBytes(byteSource));
+        }
+
+        return accountNames;
+    }
+
+    /**
+     * Read a list of extensions, which is stored as the number of entries
+     * followed by the extensions.
+     * 
+     * @param byteSource
+     *            The source to read the extensions from.
+     * @return The extensions.
+     * @throws SteemTransformationException
+     *             If the source does not contain valid extensions.
+     */
+    protected static List<FutureExtensions> readFutureExtensions(ByteSource byteSource)
+            throws SteemTransformationException {
+        int numberOfExtensions = byteSource.readLength();
+        List<FutureExtensions> extensions = new ArrayList<>(numberOfExtensions);
+        for (int i = 0; i < numberOfExtensions; i++) {
+            extensions.add(FutureExtensions.fromBytes(byteSource));
+        }
+
+        return extensions;
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
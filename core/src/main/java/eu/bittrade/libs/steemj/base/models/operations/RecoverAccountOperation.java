@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,8 +16,10 @@ import eu.bittrade.libs.steemj.base.models.FutureExtensions;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "recover_account_operation" object.
@@ -249,26 +249,46 @@ public class RecoverAccountOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedRecoverAccountOperation = new ByteArrayOutputStream()) {
-            serializedRecoverAccountOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.RECOVER_ACCOUNT_OPERATION.ordinal()));
-            serializedRecoverAccountOperation.write(this.getAccountToRecover().toByteArray());
-            serializedRecoverAccountOperation.write(this.getNewOwnerAuthority().toByteArray());
-            serializedRecoverAccountOperation.write(this.getRecentOwnerAuthority().toByteArray());
+        return ByteSink.toByteArray(this);
+    }
 
-            serializedRecoverAccountOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedRecoverAccountOperation.write(futureExtensions.toByteArray());
-            }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.RECOVER_ACCOUNT_OPERATION.ordinal());
+        this.getAccountToRecover().writeTo(byteSink);
+        this.getNewOwnerAuthority().writeTo(byteSink);
+        this.getRecentOwnerAuthority().writeTo(byteSink);
 
-            return serializedRecoverAccountOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        byteSink.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(byteSink);
         }
     }
 
+    /**
+     * Read a {@link RecoverAccountOperation RecoverAccountOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static RecoverAccountOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.RECOVER_ACCOUNT_OPERATION);
+
+        AccountName accountToRecover = AccountName.fromBytes(byteSource);
+        Authority newOwnerAuthority = Authority.fromBytes(byteSource);
+        Authority recentOwnerAuthority = Authority.fromBytes(byteSource);
+        List<FutureExtensions> extensions = readFutureExtensions(byteSource);
+
+        return new RecoverAccountOperation(accountToRecover, newOwnerAuthority, recentOwnerAuthority, extensions);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.base.models.FutureExtensions;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "request_account_recovery_operation" object.
@@ -227,26 +227,47 @@ public class RequestAccountRecoveryOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedRequestAccountRecoveryOperation = new ByteArrayOutputStream()) {
-            serializedRequestAccountRecoveryOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.REQUEST_ACCOUNT_RECOVERY_OPERATION.ordinal()));
-            serializedRequestAccountRecoveryOperation.write(this.getRecoveryAccount().toByteArray());
-            serializedRequestAccountRecoveryOperation.write(this.getAccountToRecover().toByteArray());
-            serializedRequestAccountRecoveryOperation.write(this.getNewOwnerAuthority().toByteArray());
+        return ByteSink.toByteArray(this);
+    }
 
-            serializedRequestAccountRecoveryOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(this.getExtensions().size()));
-            for (FutureExtensions futureExtensions : this.getExtensions()) {
-                serializedRequestAccountRecoveryOperation.write(futureExtensions.toByteArray());
-            }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.REQUEST_ACCOUNT_RECOVERY_OPERATION.ordinal());
+        this.getRecoveryAccount().writeTo(byteSink);
+        this.getAccountToRecover().writeTo(byteSink);
+        this.getNewOwnerAuthority().writeTo(byteSink);
 
-            return serializedRequestAccountRecoveryOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        byteSink.writeVarInt(this.getExtensions().size());
+        for (FutureExtensions futureExtensions : this.getExtensions()) {
+            futureExtensions.writeTo(byteSink);
         }
     }
 
+    /**
+     * Read a {@link RequestAccountRecoveryOperation
+     * RequestAccountRecoveryOperation} from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static RequestAccountRecoveryOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.REQUEST_ACCOUNT_RECOVERY_OPERATION);
+
+        AccountName recoveryAccount = AccountName.fromBytes(byteSource);
+        AccountName accountToRecover = AccountName.fromBytes(byteSource);
+        Authority newOwnerAuthority = Authority.fromBytes(byteSource);
+        List<FutureExtensions> extensions = readFutureExtensions(byteSource);
+
+        return new RequestAccountRecoveryOperation(recoveryAccount, accountToRecover, newOwnerAuthority, extensions);
+    }
+
     @Override
     public String toString() {
         return ToStringBuilder.reflectionToString(this);
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +14,10 @@ import eu.bittrade.libs.steemj.base.models.Authority;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "reset_account_operation" object.
@@ -143,18 +143,38 @@ public class ResetAccountOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedResetAccountOperation = new ByteArrayOutputStream()) {
-            serializedResetAccountOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.RESET_ACCOUNT_OPERATION.ordinal()));
-            serializedResetAccountOperation.write(this.getResetAccount().toByteArray());
-            serializedResetAccountOperation.write(this.getAccountToReset().toByteArray());
-            serializedResetAccountOperation.write(this.getNewOwnerAuthority().toByteArray());
-
-            return serializedResetAccountOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.RESET_ACCOUNT_OPERATION.ordinal());
+        this.getResetAccount().writeTo(byteSink);
+        this.getAccountToReset().writeTo(byteSink);
+        this.getNewOwnerAuthority().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link ResetAccountOperation ResetAccountOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static ResetAccountOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.RESET_ACCOUNT_OPERATION);
+
+        AccountName resetAccount = AccountName.fromBytes(byteSource);
+        AccountName accountToReset = AccountName.fromBytes(byteSource);
+        Authority newOwnerAuthority = Authority.fromBytes(byteSource);
+
+        return new ResetAccountOperation(resetAccount, accountToReset, newOwnerAuthority);
     }
 
     @Override
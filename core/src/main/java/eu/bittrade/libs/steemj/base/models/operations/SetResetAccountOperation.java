@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -15,8 +13,10 @@ import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "set_reset_account_operation" object.
@@ -149,20 +149,40 @@ public class SetResetAccountOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedSetResetAccountOperation = new ByteArrayOutputStream()) {
-            serializedSetResetAccountOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.SET_RESET_ACCOUNT_OPERATION.ordinal()));
-            serializedSetResetAccountOperation.write(this.getAccount().toByteArray());
-            if (this.getCurrentResetAccount() != null) {
-                serializedSetResetAccountOperation.write(this.getCurrentResetAccount().toByteArray());
-            }
-            serializedSetResetAccountOperation.write(this.getResetAccount().toByteArray());
-
-            return serializedSetResetAccountOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.SET_RESET_ACCOUNT_OPERATION.ordinal());
+        this.getAccount().writeTo(byteSink);
+        if (this.getCurrentResetAccount() != null) {
+            this.getCurrentResetAccount().writeTo(byteSink);
         }
+        this.getResetAccount().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link SetResetAccountOperation SetResetAccountOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static SetResetAccountOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.SET_RESET_ACCOUNT_OPERATION);
+
+        AccountName account = AccountName.fromBytes(byteSource);
+        AccountName currentResetAccount = AccountName.fromBytes(byteSource);
+        AccountName resetAccount = AccountName.fromBytes(byteSource);
+
+        return new SetResetAccountOperation(account, currentResetAccount, resetAccount);
     }
 
     @Override
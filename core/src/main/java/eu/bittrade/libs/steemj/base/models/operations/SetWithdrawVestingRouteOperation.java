@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -15,8 +13,10 @@ import eu.bittrade.libs.steemj.base.models.AccountName;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "set_withdraw_vesting_route_operation"
@@ -196,20 +196,42 @@ public class SetWithdrawVestingRouteOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedSetWithdrawVestingRouteOperation = new ByteArrayOutputStream()) {
-            serializedSetWithdrawVestingRouteOperation.write(SteemJUtils
-                    .transformIntToVarIntByteArray(OperationType.SET_WITHDRAW_VESTING_ROUTE_OPERATION.ordinal()));
-            serializedSetWithdrawVestingRouteOperation.write(this.getFromAccount().toByteArray());
-            serializedSetWithdrawVestingRouteOperation.write(this.getToAccount().toByteArray());
-            serializedSetWithdrawVestingRouteOperation.write(SteemJUtils.transformShortToByteArray(this.getPercent()));
-            serializedSetWithdrawVestingRouteOperation
-                    .write(SteemJUtils.transformBooleanToByteArray(this.getAutoVest()));
-
-            return serializedSetWithdrawVestingRouteOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.SET_WITHDRAW_VESTING_ROUTE_OPERATION.ordinal());
+        this.getFromAccount().writeTo(byteSink);
+        this.getToAccount().writeTo(byteSink);
+        byteSink.writeShort(this.getPercent());
+        byteSink.writeBoolean(this.getAutoVest());
+    }
+
+    /**
+     * Read a {@link SetWithdrawVestingRouteOperation
+     * SetWithdrawVestingRouteOperation} from its binary representation (see
+     * {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static SetWithdrawVestingRouteOperation fromBytes(ByteSource byteSource)
+            throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.SET_WITHDRAW_VESTING_ROUTE_OPERATION);
+
+        AccountName fromAccount = AccountName.fromBytes(byteSource);
+        AccountName toAccount = AccountName.fromBytes(byteSource);
+        int percent = byteSource.readUnsignedShort();
+        boolean autoVest = byteSource.readBoolean();
+
+        return new SetWithdrawVestingRouteOperation(fromAccount, toAccount, percent, autoVest);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -14,7 +12,9 @@ import eu.bittrade.libs.steemj.base.models.Asset;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "transfer_from_savings_operation" object.
@@ -156,20 +156,42 @@ public class TransferFromSavingsOperation extends AbstractTransferOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedTransferFromSavingsOperation = new ByteArrayOutputStream()) {
-            serializedTransferFromSavingsOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.TRANSFER_FROM_SAVINGS_OPERATION.ordinal()));
-            serializedTransferFromSavingsOperation.write(this.getFrom().toByteArray());
-            serializedTransferFromSavingsOperation.write(SteemJUtils.transformIntToByteArray(this.getRequestId()));
-            serializedTransferFromSavingsOperation.write(this.getTo().toByteArray());
-            serializedTransferFromSavingsOperation.write(this.getAmount().toByteArray());
-            serializedTransferFromSavingsOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getMemo()));
-
-            return serializedTransferFromSavingsOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.TRANSFER_FROM_SAVINGS_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        byteSink.writeInt(this.getRequestId());
+        this.getTo().writeTo(byteSink);
+        this.getAmount().writeTo(byteSink);
+        byteSink.writeString(this.getMemo());
+    }
+
+    /**
+     * Read a {@link TransferFromSavingsOperation TransferFromSavingsOperation}
+     * from its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static TransferFromSavingsOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.TRANSFER_FROM_SAVINGS_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        long requestId = byteSource.readUnsignedInt();
+        AccountName to = AccountName.fromBytes(byteSource);
+        Asset amount = Asset.fromBytes(byteSource);
+        String memo = byteSource.readString();
+
+        return new TransferFromSavingsOperation(from, to, amount, requestId, memo);
     }
 
     @Override
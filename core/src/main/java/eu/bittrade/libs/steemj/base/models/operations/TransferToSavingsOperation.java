@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -14,7 +12,9 @@ import eu.bittrade.libs.steemj.base.models.Asset;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "transfer_to_savings_operation" object.
@@ -105,19 +105,40 @@ public class TransferToSavingsOperation extends AbstractTransferOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedTransferToSavingsOperation = new ByteArrayOutputStream()) {
-            serializedTransferToSavingsOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.TRANSFER_TO_SAVINGS_OPERATION.ordinal()));
-            serializedTransferToSavingsOperation.write(this.getFrom().toByteArray());
-            serializedTransferToSavingsOperation.write(this.getTo().toByteArray());
-            serializedTransferToSavingsOperation.write(this.getAmount().toByteArray());
-            serializedTransferToSavingsOperation.write(SteemJUtils.transformStringToVarIntByteArray(this.getMemo()));
-
-            return serializedTransferToSavingsOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.TRANSFER_TO_SAVINGS_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        this.getTo().writeTo(byteSink);
+        this.getAmount().writeTo(byteSink);
+        byteSink.writeString(this.getMemo());
+    }
+
+    /**
+     * Read a {@link TransferToSavingsOperation TransferToSavingsOperation} from
+     * its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static TransferToSavingsOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.TRANSFER_TO_SAVINGS_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        AccountName to = AccountName.fromBytes(byteSource);
+        Asset amount = Asset.fromBytes(byteSource);
+        String memo = byteSource.readString();
+
+        return new TransferToSavingsOperation(from, to, amount, memo);
     }
 
     @Override
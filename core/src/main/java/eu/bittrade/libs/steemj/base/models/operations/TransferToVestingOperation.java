@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -14,7 +12,9 @@ import eu.bittrade.libs.steemj.base.models.Asset;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "transfer_to_vesting_operation" object.
@@ -94,18 +94,38 @@ public class TransferToVestingOperation extends AbstractTransferOperation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedTransferToVestingOperation = new ByteArrayOutputStream()) {
-            serializedTransferToVestingOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.TRANSFER_TO_VESTING_OPERATION.ordinal()));
-            serializedTransferToVestingOperation.write(this.getFrom().toByteArray());
-            serializedTransferToVestingOperation.write(this.getTo().toByteArray());
-            serializedTransferToVestingOperation.write(this.getAmount().toByteArray());
+        return ByteSink.toByteArray(this);
+    }
 
-            return serializedTransferToVestingOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.TRANSFER_TO_VESTING_OPERATION.ordinal());
+        this.getFrom().writeTo(byteSink);
+        this.getTo().writeTo(byteSink);
+        this.getAmount().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link TransferToVestingOperation TransferToVestingOperation} from
+     * its binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static TransferToVestingOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.TRANSFER_TO_VESTING_OPERATION);
+
+        AccountName from = AccountName.fromBytes(byteSource);
+        AccountName to = AccountName.fromBytes(byteSource);
+        Asset amount = Asset.fromBytes(byteSource);
+
+        return new TransferToVestingOperation(from, to, amount);
     }
 
     @Override
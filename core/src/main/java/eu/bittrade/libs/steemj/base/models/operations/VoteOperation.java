@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +14,10 @@ import eu.bittrade.libs.steemj.base.models.Permlink;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "vote_operation" object.
@@ -190,19 +190,40 @@ public class VoteOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedVoteOperation = new ByteArrayOutputStream()) {
-            serializedVoteOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.VOTE_OPERATION.ordinal()));
-            serializedVoteOperation.write(this.getVoter().toByteArray());
-            serializedVoteOperation.write(this.getAuthor().toByteArray());
-            serializedVoteOperation.write(this.getPermlink().toByteArray());
-            serializedVoteOperation.write(SteemJUtils.transformShortToByteArray(this.getWeight()));
-
-            return serializedVoteOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.VOTE_OPERATION.ordinal());
+        this.getVoter().writeTo(byteSink);
+        this.getAuthor().writeTo(byteSink);
+        this.getPermlink().writeTo(byteSink);
+        byteSink.writeShort(this.getWeight());
+    }
+
+    /**
+     * Read a {@link VoteOperation VoteOperation} from its binary representation
+     * (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static VoteOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.VOTE_OPERATION);
+
+        AccountName voter = AccountName.fromBytes(byteSource);
+        AccountName author = AccountName.fromBytes(byteSource);
+        Permlink permlink = Permlink.fromBytes(byteSource);
+        short weight = byteSource.readShort();
+
+        return new VoteOperation(voter, author, permlink, weight);
     }
 
     @Override
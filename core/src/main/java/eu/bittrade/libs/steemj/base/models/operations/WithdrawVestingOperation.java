@@ -1,7 +1,5 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -17,8 +15,10 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "withdraw_vesting_operation" object.
@@ -117,17 +117,36 @@ public class WithdrawVestingOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedWithdrawVestingOperation = new ByteArrayOutputStream()) {
-            serializedWithdrawVestingOperation.write(
-                    SteemJUtils.transformIntToVarIntByteArray(OperationType.WITHDRAW_VESTING_OPERATION.ordinal()));
-            serializedWithdrawVestingOperation.write(this.getAccount().toByteArray());
-            serializedWithdrawVestingOperation.write(this.getVestingShares().toByteArray());
-
-            return serializedWithdrawVestingOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
-        }
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.WITHDRAW_VESTING_OPERATION.ordinal());
+        this.getAccount().writeTo(byteSink);
+        this.getVestingShares().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link WithdrawVestingOperation WithdrawVestingOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static WithdrawVestingOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.WITHDRAW_VESTING_OPERATION);
+
+        AccountName account = AccountName.fromBytes(byteSource);
+        Asset vestingShares = Asset.fromBytes(byteSource);
+
+        return new WithdrawVestingOperation(account, vestingShares);
     }
 
     @Override
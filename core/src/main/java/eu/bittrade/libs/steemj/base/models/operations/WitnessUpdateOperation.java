@@ -1,8 +1,10 @@
 package eu.bittrade.libs.steemj.base.models.operations;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
 import java.security.InvalidParameterException;
 import java.util.List;
 import java.util.Map;
@@ -20,8 +22,10 @@ import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.enums.OperationType;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 import eu.bittrade.libs.steemj.interfaces.SignatureObject;
-import eu.bittrade.libs.steemj.util.SteemJUtils;
+import eu.bittrade.libs.steemj.util.ByteSink;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * This class represents the Steem "witness_update_operation" object.
@@ -29,6 +33,22 @@ import eu.bittrade.libs.steemj.util.SteemJUtils;
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public class WitnessUpdateOperation extends Operation {
+    /**
+     * The Steem Nodes accept any text as the URL of a witness. This handler
+     * keeps such a text as it is, so it can be decoded and encoded again.
+     */
+    private static final URLStreamHandler UNVALIDATED_URL_HANDLER = new URLStreamHandler() {
+        @Override
+        protected URLConnection openConnection(URL url) throws IOException {
+            throw new IOException("The URL '" + url + "' of the witness is not valid.");
+        }
+
+        @Override
+        protected String toExternalForm(URL url) {
+            return url.getRef() == null ? url.getFile() : url.getFile() + "#" + url.getRef();
+        }
+    };
+
     @JsonProperty("owner")
     private AccountName owner;
     @JsonProperty("url")
@@ -255,20 +275,61 @@ public class WitnessUpdateOperation extends Operation {
 
     @Override
     public byte[] toByteArray() throws SteemInvalidTransactionException {
-        try (ByteArrayOutputStream serializedWitnessUpdateOperation = new ByteArrayOutputStream()) {
-            serializedWitnessUpdateOperation
-                    .write(SteemJUtils.transformIntToVarIntByteArray(OperationType.WITNESS_UPDATE_OPERATION.ordinal()));
-            serializedWitnessUpdateOperation.write(this.getOwner().toByteArray());
-            serializedWitnessUpdateOperation
-                    .write(SteemJUtils.transformStringToVarIntByteArray(this.getUrl().toString()));
-            serializedWitnessUpdateOperation.write(this.getBlockSigningKey().toByteArray());
-            serializedWitnessUpdateOperation.write(this.getProperties().toByteArray());
-            serializedWitnessUpdateOperation.write(this.getFee().toByteArray());
-
-            return serializedWitnessUpdateOperation.toByteArray();
-        } catch (IOException e) {
-            throw new SteemInvalidTransactionException(
-                    "A problem occured while transforming the operation into a byte array.", e);
+        return ByteSink.toByteArray(this);
+    }
+
+    @Override
+    public void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byteSink.writeVarInt(OperationType.WITNESS_UPDATE_OPERATION.ordinal());
+        this.getOwner().writeTo(byteSink);
+        byteSink.writeString(this.getUrl().toString());
+        this.getBlockSigningKey().writeTo(byteSink);
+        this.getProperties().writeTo(byteSink);
+        this.getFee().writeTo(byteSink);
+    }
+
+    /**
+     * Read a {@link WitnessUpdateOperation WitnessUpdateOperation} from its
+     * binary representation (see {@link #toByteArray()}).
+     * 
+     * @param byteSource
+     *            The source to read the operation from.
+     * @return The operation.
+     * @throws SteemTransformationException
+     *             If the source does not contain a valid operation.
+     * @throws InvalidParameterException
+     *             If one of the decoded values does not fulfill the
+     *             requirements of the operation.
+     */
+    public static WitnessUpdateOperation fromBytes(ByteSource byteSource) throws SteemTransformationException {
+        readOperationType(byteSource, OperationType.WITNESS_UPDATE_OPERATION);
+
+        AccountName owner = AccountName.fromBytes(byteSource);
+        URL url = toUnvalidatedUrl(byteSource.readString());
+        PublicKey blockSigningKey = PublicKey.fromBytes(byteSource);
+        ChainProperties properties = ChainProperties.fromBytes(byteSource);
+        Asset fee = Asset.fromBytes(byteSource);
+
+        return new WitnessUpdateOperation(owner, url, blockSigningKey, properties, fee);
+    }
+
+    /**
+     * Create a URL object for the URL of a witness, even if it is not a valid
+     * URL, as the Steem Nodes do not validate it.
+     * 
+     * @param url
+     *            The URL as stored in the blockchain.
+     * @return The URL object, whose String representation is the given URL.
+     */
+    private static URL toUnvalidatedUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            try {
+                return new URL("", null, -1, url, UNVALIDATED_URL_HANDLER);
+            } catch (MalformedURLException unexpected) {
+                throw new IllegalStateException("Could not keep the URL '" + url + "' of the witness.", unexpected);
+            }
         }
     }
 
@@ -1,6 +1,6 @@
 package eu.bittrade.libs.steemj.communication;
 
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
 
@@ -12,7 +12,10 @@ import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public abstract class BlockAppliedCallback {
-    private final int uuid = new Random().nextInt(Integer.MAX_VALUE);
+    /** Used to give each instance a unique uuid. */
+    private static final AtomicInteger NEXT_UUID = new AtomicInteger(1);
+
+    private final int uuid = NEXT_UUID.getAndIncrement();
 
     /**
      * Get the uuid of this instance.
@@ -30,4 +33,15 @@ public abstract class BlockAppliedCallback {
      *            The block header of the applied block.
      */
     public abstract void onNewBlock(SignedBlockHeader signedBlockHeader);
+
+    /**
+     * This method will be called if this callback has been removed from the
+     * {@link CallbackHub CallbackHub}, because it could not keep up with the
+     * notifications (see
+     * {@link eu.bittrade.libs.steemj.enums.CallbackOverflowPolicy#DISCONNECT
+     * DISCONNECT}). The default implementation does nothing.
+     */
+    public void onDisconnect() {
+        // Nothing to do by default.
+    }
 }
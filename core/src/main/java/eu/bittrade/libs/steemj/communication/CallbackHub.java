@@ -1,16 +1,39 @@
 package eu.bittrade.libs.steemj.communication;
 
-import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.CallbackOverflowPolicy;
 
 /**
  * This class is used to manage all callback instances.
  * 
+ * <p>
+ * The callbacks are not called by the thread that receives the notifications
+ * from the Steem Node. Instead, each callback has its own bounded queue which
+ * is processed by an executor, so a slow callback neither delays the other
+ * callbacks nor the processing of responses. The notifications of one
+ * callback are always delivered one after another and in the order they have
+ * been received.
+ * </p>
+ * 
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
 public class CallbackHub {
-    private static CallbackHub callbackHubInstance;
+    private static final Logger LOGGER = LoggerFactory.getLogger(CallbackHub.class);
+    private static final CallbackHub callbackHubInstance = new CallbackHub();
 
-    private ArrayList<BlockAppliedCallback> blockAppliedCallbacks = new ArrayList<>();
+    /** The registered callbacks, keyed by their uuid. */
+    private final ConcurrentHashMap<Integer, Subscriber> subscribers = new ConcurrentHashMap<>();
 
     /**
      * Lock instance creation by making the constructor private.
@@ -27,23 +50,90 @@ public class CallbackHub {
      *         found, otherwise null.
      */
     public BlockAppliedCallback getCallbackByUuid(int uuid) {
-        for (BlockAppliedCallback blockAppliedCallback : blockAppliedCallbacks) {
-            if (blockAppliedCallback.getUuid() == uuid)
-                return blockAppliedCallback;
-        }
-
-        return null;
+        Subscriber subscriber = subscribers.get(uuid);
+        return subscriber == null ? null : subscriber.blockAppliedCallback;
     }
 
     /**
      * Add a <code>blockAppliedCallback</code> instance that should be called on
-     * notifications.
+     * notifications. The queue capacity, the executor and the overflow policy
+     * configured in the {@link SteemJConfig SteemJConfig} are used. Adding a
+     * callback which is already registered has no effect.
      * 
      * @param blockAppliedCallback
      *            The instance to call.
      */
     public void addCallback(BlockAppliedCallback blockAppliedCallback) {
-        this.blockAppliedCallbacks.add(blockAppliedCallback);
+        SteemJConfig config = SteemJConfig.getInstance();
+        addCallback(blockAppliedCallback, config.getCallbackQueueCapacity(), config.getCallbackExecutor(),
+                config.getCallbackOverflowPolicy());
+    }
+
+    /**
+     * Add a <code>blockAppliedCallback</code> instance that should be called on
+     * notifications. Adding a callback which is already registered has no
+     * effect.
+     * 
+     * @param blockAppliedCallback
+     *            The instance to call.
+     * @param queueCapacity
+     *            The maximum number of notifications that are queued for the
+     *            callback.
+     * @param executor
+     *            The executor used to call the callback.
+     * @param overflowPolicy
+     *            Defines what happens if the queue of the callback is full.
+     * @throws IllegalArgumentException
+     *             If the queueCapacity is not positive.
+     */
+    public void addCallback(BlockAppliedCallback blockAppliedCallback, int queueCapacity, Executor executor,
+            CallbackOverflowPolicy overflowPolicy) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("The queueCapacity has to be greater than 0.");
+        }
+
+        subscribers.putIfAbsent(blockAppliedCallback.getUuid(),
+                new Subscriber(blockAppliedCallback, queueCapacity, executor, overflowPolicy));
+    }
+
+    /**
+     * Remove the given callback, so it will not be called anymore.
+     * Notifications which have already been queued for the callback are
+     * discarded.
+     * 
+     * @param blockAppliedCallback
+     *            The instance to remove.
+     * @return True if the callback has been removed, false if it has not been
+     *         registered.
+     */
+    public boolean removeCallback(BlockAppliedCallback blockAppliedCallback) {
+        Subscriber subscriber = subscribers.remove(blockAppliedCallback.getUuid());
+        if (subscriber == null) {
+            return false;
+        }
+
+        subscriber.queue.clear();
+        return true;
+    }
+
+    /**
+     * Queue the given block header for the callback with the given uuid.
+     * 
+     * @param uuid
+     *            The uuid of the callback.
+     * @param signedBlockHeader
+     *            The block header of the applied block.
+     * @return True if a callback with the given uuid is registered, false if
+     *         not.
+     */
+    boolean dispatch(int uuid, SignedBlockHeader signedBlockHeader) {
+        Subscriber subscriber = subscribers.get(uuid);
+        if (subscriber == null) {
+            return false;
+        }
+
+        subscriber.offer(signedBlockHeader);
+        return true;
     }
 
     /**
@@ -53,10 +143,111 @@ public class CallbackHub {
      * @return A CallbackHub instance.
      */
     public static CallbackHub getInstance() {
-        if (callbackHubInstance == null) {
-            callbackHubInstance = new CallbackHub();
+        return callbackHubInstance;
+    }
+
+    /**
+     * A registered callback together with its queue.
+     */
+    private class Subscriber implements Runnable {
+        private final BlockAppliedCallback blockAppliedCallback;
+        private final BlockingQueue<SignedBlockHeader> queue;
+        private final Executor executor;
+        private final CallbackOverflowPolicy overflowPolicy;
+        /** Set while a task that processes the queue has been submitted. */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /**
+         * Create a new subscriber.
+         * 
+         * @param blockAppliedCallback
+         *            The callback.
+         * @param queueCapacity
+         *            The maximum number of queued notifications.
+         * @param executor
+         *            The executor used to call the callback.
+         * @param overflowPolicy
+         *            Defines what happens if the queue is full.
+         */
+        Subscriber(BlockAppliedCallback blockAppliedCallback, int queueCapacity, Executor executor,
+                CallbackOverflowPolicy overflowPolicy) {
+            this.blockAppliedCallback = blockAppliedCallback;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.executor = executor;
+            this.overflowPolicy = overflowPolicy;
         }
 
-        return callbackHubInstance;
+        /**
+         * Queue a new notification and make sure it will be processed.
+         * 
+         * @param signedBlockHeader
+         *            The notification.
+         */
+        void offer(SignedBlockHeader signedBlockHeader) {
+            if (!queue.offer(signedBlockHeader)) {
+                switch (overflowPolicy) {
+                case BLOCK:
+                    try {
+                        queue.put(signedBlockHeader);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    break;
+                case DISCONNECT:
+                    LOGGER.warn("Removing the callback {} as it can't keep up with the notifications.",
+                            blockAppliedCallback.getUuid());
+                    if (subscribers.remove(blockAppliedCallback.getUuid(), this)) {
+                        queue.clear();
+                        executor.execute(blockAppliedCallback::onDisconnect);
+                    }
+                    return;
+                case DROP_OLDEST:
+                default:
+                    do {
+                        LOGGER.debug("Dropping a notification for the callback {} as its queue is full.",
+                                blockAppliedCallback.getUuid());
+                        queue.poll();
+                    } while (!queue.offer(signedBlockHeader));
+                    break;
+                }
+            }
+
+            schedule();
+        }
+
+        /**
+         * Submit a task that processes the queue, if no such task is already
+         * running.
+         */
+        private void schedule() {
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.error("Could not call the callback {}.", blockAppliedCallback.getUuid(), e);
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                SignedBlockHeader signedBlockHeader;
+                while ((signedBlockHeader = queue.poll()) != null) {
+                    try {
+                        blockAppliedCallback.onNewBlock(signedBlockHeader);
+                    } catch (RuntimeException e) {
+                        LOGGER.error("The callback {} failed.", blockAppliedCallback.getUuid(), e);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+
+            // A notification may have been queued after the loop has ended.
+            schedule();
+        }
     }
 }
@@ -1,21 +1,26 @@
 package eu.bittrade.libs.steemj.communication;
 
 import java.io.IOException;
+import java.net.URI;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import javax.net.ssl.SSLSession;
-import javax.websocket.CloseReason;
-import javax.websocket.DeploymentException;
-import javax.websocket.EncodeException;
-import javax.websocket.Endpoint;
-import javax.websocket.EndpointConfig;
-import javax.websocket.MessageHandler;
-import javax.websocket.Session;
 
 import org.glassfish.tyrus.client.ClientManager;
 import org.glassfish.tyrus.client.ClientProperties;
@@ -24,12 +29,13 @@ import org.glassfish.tyrus.client.SslEngineConfigurator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
@@ -37,8 +43,10 @@ import eu.bittrade.libs.steemj.base.models.error.SteemError;
 import eu.bittrade.libs.steemj.base.models.serializer.BooleanSerializer;
 import eu.bittrade.libs.steemj.communication.dto.NotificationDTO;
 import eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO;
-import eu.bittrade.libs.steemj.communication.dto.ResponseWrapperDTO;
+import eu.bittrade.libs.steemj.configuration.RateLimit;
 import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApis;
 import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
 import eu.bittrade.libs.steemj.exceptions.SteemResponseError;
 import eu.bittrade.libs.steemj.exceptions.SteemTimeoutException;
@@ -47,55 +55,159 @@ import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 /**
  * This class handles the communication to the Steem web socket API.
  * 
+ * The handler keeps a pool of connections to all configured Steem Nodes (see
+ * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setWebSocketEndpointURIs(List)
+ * setWebSocketEndpointURIs}). Each request is sent to the healthy connection
+ * with the lowest score, which is calculated from the average response time
+ * and the number of requests that are currently waiting for a response. If a
+ * request can't be sent over a connection, the next connection is used.
+ * 
+ * Requests are not sent one after another. Each request is registered with its
+ * JSON-RPC id and written to the web socket session immediately, so multiple
+ * threads can share one instance and have several requests in flight over the
+ * same connection. Incoming responses are matched to their request using the
+ * id field of the response.
+ * 
  * @author <a href="http://steemit.com/@dez1337">dez1337</a>
  */
-public class CommunicationHandler extends Endpoint implements MessageHandler.Whole<String> {
+public class CommunicationHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(CommunicationHandler.class);
 
     private static ObjectMapper mapper = getObjectMapper();
 
-    private CountDownLatch responseCountDownLatch = new CountDownLatch(1);
-    private ClientManager client;
-    private Session session;
-    private String rawJsonResponse;
+    /** The readers used to bind results, cached by their element type. */
+    private static final Map<Class<?>, ObjectReader> LIST_READERS = new ConcurrentHashMap<>();
+
+    /** Orders the connections from the best to the worst candidate. */
+    private static final Comparator<NodeConnection> CONNECTION_ORDER = Comparator
+            .comparing((NodeConnection connection) -> !connection.isHealthy())
+            .thenComparingDouble(NodeConnection::getScore);
+
+    private final List<NodeConnection> connections;
+    /**
+     * The read requests which are currently in flight, keyed by the api,
+     * method and parameters of the request.
+     */
+    private final Map<String, InFlightRead> inFlightReads;
+    /** The rate limiters of each node, keyed by the limited api. */
+    private final Map<URI, Map<SteemApis, RateLimiter>> rateLimiters;
+    /**
+     * The timeout applied to all requests that do not define their own
+     * timeout or <code>-1</code> to use the configured default.
+     */
+    private final long timeout;
 
     /**
      * Initialize the Connection Handler.
      * 
      * @throws SteemCommunicationException
-     *             If no connection to the Steem Node could be established.
+     *             If no connection to any of the configured Steem Nodes could
+     *             be established.
      */
     public CommunicationHandler() throws SteemCommunicationException {
-        this.client = ClientManager.createClient();
+        this.connections = new ArrayList<>();
+        this.inFlightReads = new ConcurrentHashMap<>();
+        this.rateLimiters = new HashMap<>();
+        this.timeout = -1;
 
-        // Tyrus expects a SSL connection if the SSL_ENGINE_CONFIGURATOR
-        // property is present. This leads to a "connection failed" error when
-        // a non SSL secured protocol is used. Due to this we only add the
-        // property when connecting to a SSL secured node.
-        if (SteemJConfig.getInstance().isSslVerificationDisabled()
-                && SteemJConfig.getInstance().getWebSocketEndpointURI().getScheme().equals("wss")
-                || SteemJConfig.getInstance().getWebSocketEndpointURI().getScheme().equals("https")) {
-            SslEngineConfigurator sslEngineConfigurator = new SslEngineConfigurator(new SslContextConfigurator());
-            sslEngineConfigurator.setHostnameVerifier((String host, SSLSession sslSession) -> true);
-            client.getProperties().put(ClientProperties.SSL_ENGINE_CONFIGURATOR, sslEngineConfigurator);
+        SteemCommunicationException connectionError = null;
+
+        for (URI endpointUri : SteemJConfig.getInstance().getWebSocketEndpointURIs()) {
+            ClientManager client = createClient(endpointUri);
+            rateLimiters.put(endpointUri, createRateLimiters());
+
+            for (int i = 0; i < SteemJConfig.getInstance().getConnectionsPerNode(); i++) {
+                NodeConnection connection = new NodeConnection(client, endpointUri, this::handleNotification);
+                connections.add(connection);
+
+                try {
+                    connection.connect();
+                } catch (SteemCommunicationException e) {
+                    LOGGER.warn("Could not connect to {}. The node will be skipped for now.", endpointUri, e);
+                    connectionError = e;
+                }
+            }
+        }
+
+        if (connections.stream().noneMatch(NodeConnection::isHealthy)) {
+            if (connectionError == null) {
+                // Only happens if no endpoint has been configured at all.
+                throw new SteemCommunicationException("No Steem Node has been configured.");
+            }
+            throw connectionError;
         }
+    }
+
+    /**
+     * Create a handler which sends the requests over the given connections.
+     * The connections are not established by this constructor.
+     * 
+     * @param connections
+     *            The connections to use.
+     */
+    CommunicationHandler(List<NodeConnection> connections) {
+        this.connections = new ArrayList<>(connections);
+        this.inFlightReads = new ConcurrentHashMap<>();
+        this.rateLimiters = new HashMap<>();
+        this.timeout = -1;
 
-        reconnect();
+        for (NodeConnection connection : connections) {
+            rateLimiters.computeIfAbsent(connection.getEndpointUri(), endpointUri -> createRateLimiters());
+        }
     }
 
-    @Override
-    public void onOpen(Session session, EndpointConfig config) {
-        LOGGER.info("Connection has been established.");
+    /**
+     * Create a view of the given handler that uses another timeout.
+     * 
+     * @param communicationHandler
+     *            The handler whose connections should be shared.
+     * @param timeout
+     *            The timeout in milliseconds.
+     */
+    private CommunicationHandler(CommunicationHandler communicationHandler, long timeout) {
+        this.connections = communicationHandler.connections;
+        this.inFlightReads = communicationHandler.inFlightReads;
+        this.rateLimiters = communicationHandler.rateLimiters;
+        this.timeout = timeout;
     }
 
-    @Override
-    public void onClose(Session session, CloseReason closeReason) {
-        LOGGER.info("Connection has been closed.", closeReason);
+    /**
+     * Get a handler which shares the connections with this handler, but
+     * applies the given timeout to all requests that do not define their own
+     * timeout (see
+     * {@link eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO#setTimeout(long)
+     * RequestWrapperDTO#setTimeout(long)}). This allows to use a short
+     * timeout for latency sensitive calls and a long one for bulk operations
+     * at the same time.
+     * 
+     * @param timeout
+     *            The timeout in milliseconds. <code>0</code> disables the
+     *            timeout mechanism.
+     * @return A handler using the given timeout.
+     * @throws IllegalArgumentException
+     *             If the value of timeout is negative.
+     */
+    public CommunicationHandler withTimeout(long timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("The timeout has to be greater than 0. (0 will disable the timeout).");
+        }
+
+        return new CommunicationHandler(this, timeout);
     }
 
-    @Override
-    public void onError(Session session, Throwable thr) {
-        LOGGER.error("Connection error.", thr);
+    /**
+     * Close all connections of this handler. Requests which are still waiting
+     * for their response are completed with a
+     * {@link eu.bittrade.libs.steemj.exceptions.SteemConnectionException
+     * SteemConnectionException} and all requests made afterwards fail. As the
+     * connections are shared, this also closes all handlers created by
+     * {@link #withTimeout(long) withTimeout(long)} and the handler they have
+     * been created from.
+     */
+    public void close() {
+        for (NodeConnection connection : connections) {
+            connection.close();
+        }
     }
 
     /**
@@ -124,118 +236,1034 @@ public class CommunicationHandler extends Endpoint implements MessageHandler.Who
      */
     public <T> List<T> performRequest(RequestWrapperDTO requestObject, Class<T> targetClass)
             throws SteemCommunicationException {
-        if (!session.isOpen()) {
-            reconnect();
+        return performRequest(requestObject, getListReader(targetClass)::readValue);
+    }
+
+    /**
+     * Like {@link #performRequest(RequestWrapperDTO, Class)}, but the result
+     * is read by the given <code>resultReader</code> instead of being bound to
+     * a fixed type. This allows to skip parts of large results without
+     * creating objects for them.
+     * 
+     * @param requestObject
+     *            A request object that contains all needed parameters.
+     * @param resultReader
+     *            The reader used to transform the result.
+     * @param <T>
+     *            The object that you want to map the result to.
+     * @return The server response transformed into a list of given objects.
+     * @throws SteemCommunicationException
+     *             In case of an error (see
+     *             {@link #performRequest(RequestWrapperDTO, Class)}).
+     */
+    public <T> List<T> performRequest(RequestWrapperDTO requestObject, ResultReader<T> resultReader)
+            throws SteemCommunicationException {
+        return transformResponse(requestObject, sendMessageSynchronously(requestObject), resultReader);
+    }
+
+    /**
+     * Like {@link #performRequest(RequestWrapperDTO, Class)}, but this method
+     * does not block until the response has been received. The returned future
+     * is completed with the transformed response using the
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#getResponseExecutor()
+     * response executor}, so the thread that reads from the web socket is not
+     * blocked by the transformation.
+     * 
+     * @param requestObject
+     *            A request object that contains all needed parameters.
+     * @param targetClass
+     *            The target class for the transformation.
+     * @param <T>
+     *            The object that you want to map the result to.
+     * @return A future which will be completed with the server response
+     *         transformed into a list of given objects. In case of an error the
+     *         future is completed exceptionally with one of the exceptions
+     *         described in {@link #performRequest(RequestWrapperDTO, Class)}.
+     */
+    public <T> CompletableFuture<List<T>> performRequestAsync(RequestWrapperDTO requestObject,
+            Class<T> targetClass) {
+        return performRequestAsync(requestObject, getListReader(targetClass)::readValue);
+    }
+
+    /**
+     * Like {@link #performRequestAsync(RequestWrapperDTO, Class)}, but the
+     * result is read by the given <code>resultReader</code> instead of being
+     * bound to a fixed type.
+     * 
+     * @param requestObject
+     *            A request object that contains all needed parameters.
+     * @param resultReader
+     *            The reader used to transform the result.
+     * @param <T>
+     *            The object that you want to map the result to.
+     * @return A future which will be completed with the server response
+     *         transformed into a list of given objects.
+     */
+    public <T> CompletableFuture<List<T>> performRequestAsync(RequestWrapperDTO requestObject,
+            ResultReader<T> resultReader) {
+        try {
+            CompletableFuture<String> rawJsonResponse = sendMessage(requestObject);
+            CompletableFuture<List<T>> result = rawJsonResponse.thenApplyAsync(response -> {
+                try {
+                    return transformResponse(requestObject, response, resultReader);
+                } catch (SteemCommunicationException e) {
+                    throw new CompletionException(e);
+                }
+            }, SteemJConfig.getInstance().getResponseExecutor());
+            // Cancelling the result discards the pending request.
+            result.whenComplete((transformedResult, throwable) -> {
+                if (result.isCancelled()) {
+                    rawJsonResponse.cancel(false);
+                }
+            });
+
+            return result;
+        } catch (SteemCommunicationException e) {
+            CompletableFuture<List<T>> failedRequest = new CompletableFuture<>();
+            failedRequest.completeExceptionally(e);
+            return failedRequest;
+        }
+    }
+
+    /**
+     * Send all requests of the given batch as one JSON-RPC batch and wait
+     * until all of them have been answered. The results of the single requests
+     * can be obtained from the futures returned by
+     * {@link RequestBatch#add(RequestWrapperDTO, Class) RequestBatch#add}.
+     * 
+     * @param requestBatch
+     *            The requests to perform.
+     * @throws SteemTimeoutException
+     *             If the server was not able to answer the requests in the
+     *             given time (@see
+     *             {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setTimeout(long)
+     *             setTimeout()})
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     * @throws SteemTransformationException
+     *             If the SteemJ is unable to transform a JSON response into a
+     *             Java object.
+     * @throws SteemResponseError
+     *             If the Server returned an error object for one of the
+     *             requests.
+     */
+    public void performBatchRequest(RequestBatch requestBatch) throws SteemCommunicationException {
+        CompletableFuture<Void> results = performBatchRequestAsync(requestBatch);
+
+        // Wait as long as the request with the longest timeout.
+        long batchTimeout = 0;
+        for (RequestBatch.BatchEntry<?> entry : requestBatch.getEntries()) {
+            long entryTimeout = NodeConnection.getTimeout(entry.getRequestObject());
+            if (entryTimeout == 0) {
+                batchTimeout = 0;
+                break;
+            }
+            batchTimeout = Math.max(batchTimeout, entryTimeout);
+        }
+
+        await(results, batchTimeout);
+    }
+
+    /**
+     * Like {@link #performBatchRequest(RequestBatch)}, but this method does
+     * not block until the responses have been received.
+     * 
+     * @param requestBatch
+     *            The requests to perform.
+     * @return A future which will be completed as soon as all requests of the
+     *         batch have been completed. If one of the requests failed, the
+     *         future is completed exceptionally with one of the exceptions
+     *         described in {@link #performBatchRequest(RequestBatch)}.
+     */
+    public CompletableFuture<Void> performBatchRequestAsync(RequestBatch requestBatch) {
+        List<RequestBatch.BatchEntry<?>> entries = requestBatch.getEntries();
+        if (entries.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<RequestWrapperDTO> requestObjects = new ArrayList<>(entries.size());
+        List<CompletableFuture<?>> results = new ArrayList<>(entries.size());
+        for (RequestBatch.BatchEntry<?> entry : entries) {
+            applyTimeout(entry.getRequestObject());
+            requestObjects.add(entry.getRequestObject());
+            results.add(entry.getResult());
+            // The time spent waiting for the rate limit counts, too.
+            NodeConnection.scheduleDeadline(entry.getResult(), NodeConnection.getTimeout(entry.getRequestObject()));
         }
 
+        CompletableFuture<List<CompletableFuture<String>>> sentBatch;
         try {
-            sendMessageSynchronously(requestObject);
-
-            @SuppressWarnings("unchecked")
-            ResponseWrapperDTO<T> response = mapper.readValue(rawJsonResponse, ResponseWrapperDTO.class);
-
-            if (response == null || "".equals(response.toString()) || response.getResult() == null
-                    || "".equals(response.getResult().toString())) {
-                LOGGER.debug("The response was empty. The requested node may not provid the method {}.",
-                        requestObject.getApiMethod());
-                List<T> emptyResult = new ArrayList<>();
-                emptyResult.add(null);
-                return emptyResult;
+            sentBatch = sendBatchMessage(requestObjects);
+        } catch (SteemCommunicationException e) {
+            sentBatch = new CompletableFuture<>();
+            sentBatch.completeExceptionally(e);
+        }
+
+        sentBatch.whenComplete((rawJsonResponses, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                results.forEach(result -> result.completeExceptionally(cause));
+                return;
+            }
+
+            for (int i = 0; i < entries.size(); i++) {
+                completeBatchEntry(entries.get(i), rawJsonResponses.get(i));
             }
+        });
 
-            if (response.getResponseId() != requestObject.getId()) {
-                LOGGER.error("The request and the response id are not equal! This may cause some strange behaivior.");
+        CompletableFuture<Void> allResults = CompletableFuture
+                .allOf(results.toArray(new CompletableFuture<?>[results.size()]));
+        // Cancelling the whole batch also cancels the single requests. A batch
+        // which failed while it was waiting for the rate limit is not sent.
+        CompletableFuture<List<CompletableFuture<String>>> batch = sentBatch;
+        allResults.whenComplete((result, throwable) -> {
+            if (allResults.isCancelled()) {
+                results.forEach(entryResult -> entryResult.cancel(false));
+            }
+            if (throwable != null) {
+                batch.cancel(false);
             }
+        });
 
-            // Make sure that the inner result object has the correct type.
-            JavaType type = mapper.getTypeFactory().constructCollectionType(List.class, targetClass);
+        return allResults;
+    }
+
+    /**
+     * Transform the raw JSON response of a batch entry and complete the future
+     * of the entry with the result.
+     * 
+     * @param entry
+     *            The entry of the batch.
+     * @param rawJsonResponse
+     *            The future which receives the raw JSON response.
+     * @param <T>
+     *            The object that the result is mapped to.
+     */
+    private <T> void completeBatchEntry(RequestBatch.BatchEntry<T> entry, CompletableFuture<String> rawJsonResponse) {
+        CompletableFuture<List<T>> result = entry.getResult();
+        result.whenComplete((transformedResult, throwable) -> {
+            if (result.isCancelled()) {
+                rawJsonResponse.cancel(false);
+            }
+        });
 
-            return mapper.convertValue(response.getResult(), type);
-        } catch (JsonParseException | JsonMappingException e) {
-            LOGGER.debug("Could not parse the response. Trying to transform it to an error object.", e);
+        rawJsonResponse.whenCompleteAsync((response, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(
+                        throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                return;
+            }
 
             try {
-                // TODO: Find a better solution for errors in general.
-                throw new SteemResponseError(mapper.readValue(rawJsonResponse, SteemError.class));
-            } catch (IOException ex) {
-                throw new SteemTransformationException("Could not transform the response into an object.", ex);
+                result.complete(transformResponse(entry.getRequestObject(), response,
+                        getListReader(entry.getTargetClass())::readValue));
+            } catch (SteemCommunicationException e) {
+                result.completeExceptionally(e);
+            }
+        }, SteemJConfig.getInstance().getResponseExecutor());
+    }
+
+    /**
+     * Transform the raw JSON response of a Steem Node into a list of objects
+     * using the given reader.
+     * 
+     * @param requestObject
+     *            The request the response belongs to.
+     * @param rawJsonResponse
+     *            The raw JSON response.
+     * @param resultReader
+     *            The reader used to transform the result.
+     * @param <T>
+     *            The object that you want to map the result to.
+     * @return The server response transformed into a list of given objects.
+     * @throws SteemTransformationException
+     *             If the SteemJ is unable to transform the JSON response into a
+     *             Java object.
+     * @throws SteemResponseError
+     *             If the Server returned an error object.
+     */
+    private <T> List<T> transformResponse(RequestWrapperDTO requestObject, String rawJsonResponse,
+            ResultReader<T> resultReader) throws SteemCommunicationException {
+        try (JsonParser parser = mapper.getFactory().createParser(rawJsonResponse)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new SteemTransformationException("The response is not a JSON object.");
+            }
+
+            // Only the top level fields are inspected, so the result can be
+            // bound directly to the target type without an intermediate tree.
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("error".equals(fieldName)) {
+                    // TODO: Find a better solution for errors in general.
+                    throw new SteemResponseError(mapper.readValue(rawJsonResponse, SteemError.class));
+                } else if ("result".equals(fieldName)) {
+                    if (value == JsonToken.VALUE_NULL
+                            || value == JsonToken.VALUE_STRING && parser.getText().isEmpty()) {
+                        break;
+                    }
+
+                    return resultReader.read(parser);
+                }
+
+                parser.skipChildren();
             }
 
-        } catch (IOException | EncodeException | InterruptedException e) {
-            throw new SteemCommunicationException("Could not send the message to the Steem Node.", e);
+            LOGGER.debug("The response was empty. The requested node may not provid the method {}.",
+                    requestObject.getApiMethod());
+            List<T> emptyResult = new ArrayList<>();
+            emptyResult.add(null);
+            return emptyResult;
+        } catch (IOException e) {
+            throw new SteemTransformationException("Could not transform the response into an object.", e);
         }
     }
 
     /**
-     * This method establishes a new connection to the web socket Server.
+     * Get the reader used to bind a result to a list of the given type. The
+     * readers are created once per type and shared afterwards.
      * 
+     * @param targetClass
+     *            The type of the list elements.
+     * @return The reader for the given type.
+     */
+    private static ObjectReader getListReader(Class<?> targetClass) {
+        return LIST_READERS.computeIfAbsent(targetClass,
+                type -> mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, type)));
+    }
+
+    /**
+     * Send the given request and wait until the response for it has been
+     * received or the configured timeout has been reached.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @return The raw JSON response of the Steem Node.
+     * @throws SteemTimeoutException
+     *             If the server was not able to answer the request in the given
+     *             time.
      * @throws SteemCommunicationException
      *             If there is a connection problem.
      */
-    private void reconnect() throws SteemCommunicationException {
+    private String sendMessageSynchronously(RequestWrapperDTO requestObject) throws SteemCommunicationException {
+        CompletableFuture<String> response = sendMessage(requestObject);
+
+        // Wait until we received a response from the Server.
+        return await(response, NodeConnection.getTimeout(requestObject));
+    }
+
+    /**
+     * Wait until the given future of an asynchronous request (e.g. one
+     * returned by {@link #performRequestAsync(RequestWrapperDTO, Class)
+     * performRequestAsync}) has been completed. This allows to build a
+     * blocking method on top of an asynchronous one. The timeout of the
+     * request is already enforced by the future itself, which is completed
+     * with a {@link SteemTimeoutException SteemTimeoutException} once it has
+     * passed.
+     * 
+     * @param future
+     *            The future to wait for.
+     * @param <V>
+     *            The result of the future.
+     * @return The result of the future.
+     * @throws SteemCommunicationException
+     *             The exception the future has been completed with, or a
+     *             SteemCommunicationException wrapping it, or if the thread
+     *             has been interrupted.
+     */
+    public static <V> V await(CompletableFuture<V> future) throws SteemCommunicationException {
+        return await(future, 0);
+    }
+
+    /**
+     * Wait until the given future has been completed, but not longer than the
+     * given timeout, which starts when the request has been made.
+     * 
+     * @param future
+     *            The future to wait for.
+     * @param timeout
+     *            The time to wait in milliseconds. <code>0</code> means no
+     *            timeout.
+     * @param <V>
+     *            The result of the future.
+     * @return The result of the future.
+     * @throws SteemTimeoutException
+     *             If the future has not been completed in the given time.
+     * @throws SteemCommunicationException
+     *             If the future has been completed exceptionally or if the
+     *             thread has been interrupted.
+     */
+    private static <V> V await(CompletableFuture<V> future, long timeout) throws SteemCommunicationException {
         try {
-            session = client.connectToServer(this, SteemJConfig.getInstance().getClientEndpointConfig(),
-                    SteemJConfig.getInstance().getWebSocketEndpointURI());
-            session.addMessageHandler(this);
-        } catch (DeploymentException | IOException e) {
-            throw new SteemCommunicationException("Could not connect to the server.", e);
+            return timeout == 0 ? future.get() : future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+
+            throw new SteemCommunicationException("Interrupted while waiting for the response of the Steem Node.", e);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+
+            throw new SteemTimeoutException(
+                    "Timeout occured. The WebSocket server was not able to answer in " + timeout + " millisecond(s).");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SteemCommunicationException) {
+                throw (SteemCommunicationException) e.getCause();
+            }
+
+            throw new SteemCommunicationException("Could not receive the response of the Steem Node.", e.getCause());
         }
     }
 
     /**
+     * Send the given request over the best available connection without
+     * waiting for the response. If the request can't be sent over a
+     * connection, the next best connection is used.
+     * 
+     * <p>
+     * Login requests are sent over all connections, because the login state
+     * of a Steem Node is bound to the session.
+     * </p>
+     * 
+     * <p>
+     * If request coalescing is enabled (see
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setRequestCoalescingEnabled(boolean)
+     * setRequestCoalescingEnabled}) and an identical read request is already
+     * waiting for its response, the given request is not sent at all. Instead,
+     * it will receive the response of the request that is already in flight.
+     * </p>
      * 
      * @param requestObject
-     * @throws IOException
-     * @throws EncodeException
-     * @throws SteemTimeoutException
-     * @throws InterruptedException
+     *            The request to send.
+     * @return A future that will be completed with the raw JSON response as
+     *         soon as it has been received.
+     * @throws SteemCommunicationException
+     *             If the request could not be sent over any connection.
      */
-    private void sendMessageSynchronously(RequestWrapperDTO requestObject)
-            throws IOException, EncodeException, SteemTimeoutException, InterruptedException {
-        responseCountDownLatch = new CountDownLatch(1);
+    private CompletableFuture<String> sendMessage(RequestWrapperDTO requestObject) throws SteemCommunicationException {
+        applyTimeout(requestObject);
 
-        session.getBasicRemote().sendObject(requestObject);
+        if (SteemApis.LOGIN_API.equals(requestObject.getSteemApi())) {
+            return sendToAllConnections(requestObject);
+        } else if (!SteemJConfig.getInstance().isRequestCoalescingEnabled() || !isIdempotentRead(requestObject)) {
+            return sendToBestConnection(requestObject);
+        }
 
-        // Wait until we received a response from the Server.
-        if (SteemJConfig.getInstance().getTimeout() == 0) {
-            responseCountDownLatch.await();
-        } else {
-            if (!responseCountDownLatch.await(SteemJConfig.getInstance().getTimeout(), TimeUnit.MILLISECONDS)) {
-                String errorMessage = "Timeout occured. The WebSocket server was not able to answer in "
-                        + SteemJConfig.getInstance().getTimeout() + " millisecond(s).";
-
-                LOGGER.error(errorMessage);
-                throw new SteemTimeoutException(errorMessage);
+        String requestKey = getRequestKey(requestObject);
+        long requestTimeout = NodeConnection.getTimeout(requestObject);
+        InFlightRead newInFlightRead = new InFlightRead(requestTimeout);
+        while (true) {
+            // Register the request before it is sent, so only the caller
+            // which has registered it sends it.
+            InFlightRead inFlightRead = inFlightReads.putIfAbsent(requestKey, newInFlightRead);
+            if (inFlightRead == null) {
+                break;
+            }
+
+            // Only attach to a request that will not time out before this one.
+            if (inFlightRead.outlasts(requestTimeout) && inFlightRead.attach()) {
+                LOGGER.debug("Attaching the request with id {} to an identical request in flight.",
+                        requestObject.getId());
+                CompletableFuture<String> response = inFlightRead.createResponse();
+                NodeConnection.scheduleDeadline(response, requestTimeout);
+
+                return response;
+            } else if (inFlightReads.replace(requestKey, inFlightRead, newInFlightRead)) {
+                // The request in flight can't be shared, so this request
+                // replaces it for the following requests.
+                break;
+            }
+        }
+
+        // Requests made after the response has been received need to be sent
+        // again.
+        newInFlightRead.whenDone(() -> inFlightReads.remove(requestKey, newInFlightRead));
+        try {
+            newInFlightRead.forward(sendToBestConnection(requestObject));
+        } catch (SteemCommunicationException e) {
+            newInFlightRead.fail(e);
+            throw e;
+        }
+
+        return newInFlightRead.createResponse();
+    }
+
+    /**
+     * Send the given request over the best available connection. If the
+     * request can't be sent over a connection, the next best connection is
+     * used.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @return A future that will be completed with the raw JSON response as
+     *         soon as it has been received.
+     * @throws SteemCommunicationException
+     *             If the request could not be sent over any connection.
+     */
+    private CompletableFuture<String> sendToBestConnection(RequestWrapperDTO requestObject)
+            throws SteemCommunicationException {
+        CompletableFuture<CompletableFuture<String>> sentRequest = sendRateLimited(
+                Collections.singletonMap(requestObject.getSteemApi(), 1), connection -> connection.send(requestObject));
+
+        if (sentRequest.isDone() && !sentRequest.isCompletedExceptionally()) {
+            return sentRequest.join();
+        }
+
+        // The request is waiting for the rate limit. As the timeout of the
+        // connection only starts once the request has been sent, the time
+        // spent in the queue is limited here.
+        CompletableFuture<String> response = sentRequest.thenCompose(Function.identity());
+        NodeConnection.scheduleDeadline(response, NodeConnection.getTimeout(requestObject));
+        response.whenComplete((rawJsonResponse, throwable) -> {
+            if (throwable != null) {
+                sentRequest.cancel(false);
+                sentRequest.thenAccept(rawResponse -> rawResponse.cancel(false));
             }
+        });
+
+        return response;
+    }
+
+    /**
+     * Send the given requests as one batch over the best available connection
+     * without waiting for the responses. If the batch can't be sent over a
+     * connection, the next best connection is used.
+     * 
+     * @param requestObjects
+     *            The requests to send.
+     * @return A future that will be completed with the futures of the raw JSON
+     *         responses (in the order of the given requests) once the batch
+     *         has been sent.
+     * @throws SteemCommunicationException
+     *             If the batch could not be sent over any connection.
+     */
+    private CompletableFuture<List<CompletableFuture<String>>> sendBatchMessage(
+            List<RequestWrapperDTO> requestObjects) throws SteemCommunicationException {
+        Map<SteemApis, Integer> permits = new EnumMap<>(SteemApis.class);
+        for (RequestWrapperDTO requestObject : requestObjects) {
+            permits.merge(requestObject.getSteemApi(), 1, Integer::sum);
         }
+
+        return sendRateLimited(permits, connection -> connection.sendBatch(requestObjects));
     }
 
-    @Override
-    public void onMessage(String message) {
-        // Check if we are waiting for an answer.
-        if (responseCountDownLatch.getCount() > 0) {
-            LOGGER.debug("Raw JSON response: {}", message);
+    /**
+     * Send something over the best available connection while respecting the
+     * configured rate limits (see
+     * {@link SteemJConfig#setRateLimit(SteemApis, RateLimit) setRateLimit}).
+     * 
+     * The connections are tried from the best to the worst one. Connections
+     * to nodes whose rate limit has been reached are skipped. If the sending
+     * fails for all other connections, the sender waits until the limit of
+     * the best node allows to send.
+     * 
+     * @param permits
+     *            The number of requests per api that will be sent.
+     * @param sender
+     *            The function that sends the requests over a connection.
+     * @param <R>
+     *            The result of the sender.
+     * @return A future which is completed with the result of the sender.
+     * @throws SteemCommunicationException
+     *             If the requests could not be sent over any connection or if
+     *             the queue of the rate limit is full.
+     */
+    private <R> CompletableFuture<R> sendRateLimited(Map<SteemApis, Integer> permits, Sender<R> sender)
+            throws SteemCommunicationException {
+        SteemCommunicationException sendError = null;
+        NodeConnection limitedConnection = null;
+
+        for (NodeConnection connection : getConnectionsByScore()) {
+            if (!tryAcquirePermits(connection.getEndpointUri(), permits)) {
+                if (limitedConnection == null) {
+                    limitedConnection = connection;
+                }
+                continue;
+            }
+
+            try {
+                return CompletableFuture.completedFuture(sender.send(connection));
+            } catch (SteemCommunicationException e) {
+                LOGGER.warn("Could not send the request to {}. Trying the next node.", connection.getEndpointUri(),
+                        e);
+                releasePermits(connection.getEndpointUri(), permits);
+                sendError = e;
+            }
+        }
+
+        if (limitedConnection == null) {
+            if (sendError == null) {
+                throw new SteemCommunicationException("There is no connection to send the request over.");
+            }
+            throw sendError;
+        }
+
+        // Wait until the best node that has been skipped due to its rate limit
+        // accepts new requests.
+        NodeConnection connection = limitedConnection;
+        CompletableFuture<Void> acquiredPermits = acquirePermits(connection.getEndpointUri(), permits);
+        CompletableFuture<R> result = new CompletableFuture<>();
+        acquiredPermits.whenCompleteAsync((permit, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else if (result.isDone()) {
+                // The caller gave up after the permits have been granted.
+                releasePermits(connection.getEndpointUri(), permits);
+            } else {
+                try {
+                    result.complete(sender.send(connection));
+                } catch (SteemCommunicationException e) {
+                    releasePermits(connection.getEndpointUri(), permits);
+                    result.completeExceptionally(e);
+                }
+            }
+        }, SteemJConfig.getInstance().getResponseExecutor());
+        // Giving up the result gives up the place in the queue.
+        result.whenComplete((sentResult, throwable) -> {
+            if (throwable != null) {
+                acquiredPermits.cancel(false);
+            }
+        });
 
-            this.rawJsonResponse = message;
+        return result;
+    }
 
-            responseCountDownLatch.countDown();
-        } else {
-            // A message has been send while we are not waiting for it - It can
-            // be a callback.
-            LOGGER.debug("Received callback: {}", message);
+    /**
+     * Give back permits which have been taken for requests that have not been
+     * sent.
+     * 
+     * @param endpointUri
+     *            The node.
+     * @param permits
+     *            The number of requests per api.
+     */
+    private void releasePermits(URI endpointUri, Map<SteemApis, Integer> permits) {
+        Map<SteemApis, RateLimiter> nodeRateLimiters = rateLimiters.get(endpointUri);
+        permits.forEach((steemApi, count) -> {
+            RateLimiter rateLimiter = nodeRateLimiters.get(steemApi);
+            if (rateLimiter != null) {
+                rateLimiter.release(count);
+            }
+        });
+    }
 
+    /**
+     * Take the given permits from the rate limiters of the given node, if they
+     * are available right now.
+     * 
+     * @param endpointUri
+     *            The node.
+     * @param permits
+     *            The number of requests per api.
+     * @return True if all permits have been taken, false if none has been
+     *         taken.
+     */
+    private boolean tryAcquirePermits(URI endpointUri, Map<SteemApis, Integer> permits) {
+        Map<SteemApis, RateLimiter> nodeRateLimiters = rateLimiters.get(endpointUri);
+        Map<SteemApis, Integer> acquiredPermits = new EnumMap<>(SteemApis.class);
+
+        for (Map.Entry<SteemApis, Integer> permit : permits.entrySet()) {
+            RateLimiter rateLimiter = nodeRateLimiters.get(permit.getKey());
+            if (rateLimiter == null) {
+                continue;
+            } else if (!rateLimiter.tryAcquire(permit.getValue())) {
+                // Give back what has already been taken.
+                acquiredPermits.forEach((steemApi, count) -> nodeRateLimiters.get(steemApi).release(count));
+                return false;
+            }
+
+            acquiredPermits.put(permit.getKey(), permit.getValue());
+        }
+
+        return true;
+    }
+
+    /**
+     * Take the given permits from the rate limiters of the given node as soon
+     * as they are available.
+     * 
+     * @param endpointUri
+     *            The node.
+     * @param permits
+     *            The number of requests per api.
+     * @return A future which is completed once all permits have been taken.
+     * @throws SteemCommunicationException
+     *             If the queue of one of the rate limiters is full.
+     */
+    private CompletableFuture<Void> acquirePermits(URI endpointUri, Map<SteemApis, Integer> permits)
+            throws SteemCommunicationException {
+        Map<SteemApis, RateLimiter> nodeRateLimiters = rateLimiters.get(endpointUri);
+        Map<SteemApis, CompletableFuture<Void>> acquiredPermits = new EnumMap<>(SteemApis.class);
+
+        try {
+            for (Map.Entry<SteemApis, Integer> permit : permits.entrySet()) {
+                RateLimiter rateLimiter = nodeRateLimiters.get(permit.getKey());
+                if (rateLimiter != null) {
+                    acquiredPermits.put(permit.getKey(), rateLimiter.acquire(permit.getValue()));
+                }
+            }
+        } catch (SteemCommunicationException e) {
+            giveUpPermits(nodeRateLimiters, permits, acquiredPermits);
+            throw e;
+        }
+
+        CompletableFuture<Void> allPermits = CompletableFuture
+                .allOf(acquiredPermits.values().toArray(new CompletableFuture<?>[acquiredPermits.size()]));
+        allPermits.whenComplete((result, throwable) -> {
+            if (allPermits.isCancelled()) {
+                giveUpPermits(nodeRateLimiters, permits, acquiredPermits);
+            }
+        });
+
+        return allPermits;
+    }
+
+    /**
+     * Leave the queues of the given permits and give back the permits which
+     * have already been granted.
+     * 
+     * @param nodeRateLimiters
+     *            The rate limiters of the node.
+     * @param permits
+     *            The number of requests per api.
+     * @param acquiredPermits
+     *            The futures of the permits per api.
+     */
+    private static void giveUpPermits(Map<SteemApis, RateLimiter> nodeRateLimiters, Map<SteemApis, Integer> permits,
+            Map<SteemApis, CompletableFuture<Void>> acquiredPermits) {
+        acquiredPermits.forEach((steemApi, acquiredPermit) -> {
+            if (!acquiredPermit.cancel(false) && !acquiredPermit.isCompletedExceptionally()) {
+                nodeRateLimiters.get(steemApi).release(permits.get(steemApi));
+            }
+        });
+    }
+
+    /**
+     * Send the given request over all connections.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @return A future that will be completed with the raw JSON response of
+     *         the best connection.
+     * @throws SteemCommunicationException
+     *             If the request could not be sent over any connection.
+     */
+    private CompletableFuture<String> sendToAllConnections(RequestWrapperDTO requestObject)
+            throws SteemCommunicationException {
+        CompletableFuture<String> response = null;
+        SteemCommunicationException sendError = null;
+
+        for (NodeConnection connection : getConnectionsByScore()) {
             try {
-                NotificationDTO response = mapper.readValue(message, NotificationDTO.class);
-
-                // Make sure that the inner result object is a BlockHeader.
-                CallbackHub.getInstance().getCallbackByUuid(Integer.valueOf(response.getParams()[0].toString()))
-                        .onNewBlock(mapper.convertValue(((ArrayList<Object>) (response.getParams()[1])).get(0),
-                                SignedBlockHeader.class));
-            } catch (IOException e) {
-                // TODO Auto-generated catch block
-                LOGGER.error("Could not parse callback {}.", e);
+                CompletableFuture<String> connectionResponse = connection.send(requestObject);
+                if (response == null) {
+                    response = connectionResponse;
+                }
+            } catch (SteemCommunicationException e) {
+                LOGGER.warn("Could not send the request to {}.", connection.getEndpointUri(), e);
+                sendError = e;
+            }
+        }
+
+        if (response == null) {
+            if (sendError == null) {
+                throw new SteemCommunicationException("There is no connection to send the request over.");
+            }
+            throw sendError;
+        }
+
+        return response;
+    }
+
+    /**
+     * Apply the timeout of this handler to the given request, if the request
+     * does not define its own timeout.
+     * 
+     * @param requestObject
+     *            The request.
+     */
+    private void applyTimeout(RequestWrapperDTO requestObject) {
+        if (timeout >= 0 && requestObject.getTimeout() < 0) {
+            requestObject.setTimeout(timeout);
+        }
+    }
+
+    /**
+     * Check if the given request only reads data, so sending it once or
+     * multiple times has the same effect.
+     * 
+     * @param requestObject
+     *            The request to check.
+     * @return True if the request is an idempotent read, false if not.
+     */
+    static boolean isIdempotentRead(RequestWrapperDTO requestObject) {
+        switch (requestObject.getSteemApi()) {
+        case LOGIN_API:
+        case NETWORK_BROADCAST_API:
+        case NETWORK_NODE_API:
+        case DEBUG_NODE_API:
+            return false;
+        default:
+            return !RequestMethods.SET_BLOCK_APPLIED_CALLBACK.equals(requestObject.getApiMethod());
+        }
+    }
+
+    /**
+     * Create a key that is equal for all requests which call the same method
+     * of the same api with the same parameters.
+     * 
+     * @param requestObject
+     *            The request to create the key for.
+     * @return The key of the request.
+     * @throws SteemTransformationException
+     *             If the parameters of the request could not be serialized.
+     */
+    private static String getRequestKey(RequestWrapperDTO requestObject) throws SteemTransformationException {
+        try {
+            return requestObject.getSteemApi() + "." + requestObject.getApiMethod() + ":"
+                    + mapper.writeValueAsString(requestObject.getAdditionalParameters());
+        } catch (JsonProcessingException e) {
+            throw new SteemTransformationException("Could not serialize the parameters of the request.", e);
+        }
+    }
+
+    /**
+     * Get all connections ordered from the best to the worst candidate for the
+     * next request. Healthy connections are always preferred.
+     * 
+     * @return The ordered connections.
+     */
+    private List<NodeConnection> getConnectionsByScore() {
+        List<NodeConnection> orderedConnections = new ArrayList<>(connections);
+        orderedConnections.sort(CONNECTION_ORDER);
+
+        return orderedConnections;
+    }
+
+    /**
+     * Handle a message that is not related to a request.
+     * 
+     * @param message
+     *            The raw message received from the Steem Node.
+     */
+    private void handleNotification(String message) {
+        // A message without an id is not related to a request - It can be a
+        // callback.
+        LOGGER.debug("Received callback: {}", message);
+
+        try {
+            NotificationDTO response = mapper.readValue(message, NotificationDTO.class);
+
+            int uuid = Integer.parseInt(response.getParams()[0].toString());
+            // Make sure that the inner result object is a BlockHeader.
+            SignedBlockHeader signedBlockHeader = mapper.convertValue(
+                    ((ArrayList<Object>) (response.getParams()[1])).get(0), SignedBlockHeader.class);
+
+            if (!CallbackHub.getInstance().dispatch(uuid, signedBlockHeader)) {
+                LOGGER.debug("Discarding the callback {} as it has been removed.", uuid);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // TODO Auto-generated catch block
+            LOGGER.error("Could not parse callback {}.", e);
+        }
+    }
+
+    /**
+     * Create the rate limiters for one node based on the current
+     * configuration.
+     * 
+     * @return The rate limiters, keyed by the limited api.
+     */
+    private static Map<SteemApis, RateLimiter> createRateLimiters() {
+        Map<SteemApis, RateLimiter> nodeRateLimiters = new EnumMap<>(SteemApis.class);
+        for (SteemApis steemApi : SteemApis.values()) {
+            RateLimit rateLimit = SteemJConfig.getInstance().getRateLimit(steemApi);
+            if (rateLimit != null) {
+                nodeRateLimiters.put(steemApi,
+                        new RateLimiter(rateLimit, SteemJConfig.getInstance().getRateLimitQueueCapacity()));
             }
         }
+
+        return nodeRateLimiters;
+    }
+
+    /**
+     * Create the client used to connect to the given Steem Node.
+     * 
+     * @param endpointUri
+     *            The URI of the Steem Node.
+     * @return The client instance.
+     */
+    private static ClientManager createClient(URI endpointUri) {
+        ClientManager client = ClientManager.createClient();
+
+        // Tyrus expects a SSL connection if the SSL_ENGINE_CONFIGURATOR
+        // property is present. This leads to a "connection failed" error when
+        // a non SSL secured protocol is used. Due to this we only add the
+        // property when connecting to a SSL secured node.
+        if (SteemJConfig.getInstance().isSslVerificationDisabled() && endpointUri.getScheme().equals("wss")
+                || endpointUri.getScheme().equals("https")) {
+            SslEngineConfigurator sslEngineConfigurator = new SslEngineConfigurator(new SslContextConfigurator());
+            sslEngineConfigurator.setHostnameVerifier((String host, SSLSession sslSession) -> true);
+            client.getProperties().put(ClientProperties.SSL_ENGINE_CONFIGURATOR, sslEngineConfigurator);
+        }
+
+        return client;
+    }
+
+    /**
+     * Sends something over a connection.
+     * 
+     * @param <R>
+     *            The result of the send operation.
+     */
+    @FunctionalInterface
+    private interface Sender<R> {
+        /**
+         * Send something over the given connection.
+         * 
+         * @param connection
+         *            The connection to use.
+         * @return The result of the send operation.
+         * @throws SteemCommunicationException
+         *             If there is a connection problem.
+         */
+        R send(NodeConnection connection) throws SteemCommunicationException;
+    }
+
+    /**
+     * A read request which has been sent and which may be shared by multiple
+     * callers. The request is cancelled once all callers lost their interest
+     * in the response.
+     */
+    private static class InFlightRead {
+        /**
+         * The raw JSON response, which is completed with the response of the
+         * request once it has been sent.
+         */
+        private final CompletableFuture<String> rawJsonResponse = new CompletableFuture<>();
+        /** The time (in nanoseconds) at which the request times out. */
+        private final long deadline;
+        private final AtomicInteger callers = new AtomicInteger();
+
+        /**
+         * Create a new shared request which has not been sent yet.
+         * 
+         * @param timeout
+         *            The timeout of the request in milliseconds.
+         *            <code>0</code> means no timeout.
+         */
+        InFlightRead(long timeout) {
+            this.deadline = timeout == 0 ? Long.MAX_VALUE
+                    : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+            this.callers.set(1);
+        }
+
+        /**
+         * Pass the response of the sent request to all callers. If all
+         * callers abandon the request, the sent request is cancelled.
+         * 
+         * @param sentResponse
+         *            The future of the request that has been sent.
+         */
+        void forward(CompletableFuture<String> sentResponse) {
+            sentResponse.whenComplete((rawJsonResult, throwable) -> {
+                if (throwable != null) {
+                    rawJsonResponse.completeExceptionally(throwable);
+                } else {
+                    rawJsonResponse.complete(rawJsonResult);
+                }
+            });
+            rawJsonResponse.whenComplete((rawJsonResult, throwable) -> {
+                if (rawJsonResponse.isCancelled()) {
+                    sentResponse.cancel(false);
+                }
+            });
+        }
+
+        /**
+         * Pass the given error to all callers, because the request could not
+         * be sent.
+         * 
+         * @param cause
+         *            The reason why the request could not be sent.
+         */
+        void fail(Throwable cause) {
+            rawJsonResponse.completeExceptionally(cause);
+        }
+
+        /**
+         * Run the given action once the request has been answered, has failed
+         * or has been abandoned by all callers.
+         * 
+         * @param action
+         *            The action to run.
+         */
+        void whenDone(Runnable action) {
+            rawJsonResponse.whenComplete((rawJsonResult, throwable) -> action.run());
+        }
+
+        /**
+         * Check if this request will not time out before a request with the
+         * given timeout that is sent now.
+         * 
+         * @param timeout
+         *            The timeout in milliseconds. <code>0</code> means no
+         *            timeout.
+         * @return True if this request outlasts the given timeout.
+         */
+        boolean outlasts(long timeout) {
+            if (deadline == Long.MAX_VALUE) {
+                return true;
+            }
+
+            return timeout != 0 && deadline - System.nanoTime() >= TimeUnit.MILLISECONDS.toNanos(timeout);
+        }
+
+        /**
+         * Register an additional caller.
+         * 
+         * @return True if the caller has been registered or false if the
+         *         request has already been abandoned by all other callers.
+         */
+        boolean attach() {
+            int currentCallers;
+            do {
+                currentCallers = callers.get();
+                if (currentCallers == 0) {
+                    return false;
+                }
+            } while (!callers.compareAndSet(currentCallers, currentCallers + 1));
+
+            return true;
+        }
+
+        /**
+         * Create the future for a registered caller. Completing or cancelling
+         * it does not affect the other callers. Once the futures of all
+         * callers have been completed, the request itself is cancelled, so a
+         * late response will be discarded.
+         * 
+         * @return The future for the caller.
+         */
+        CompletableFuture<String> createResponse() {
+            CompletableFuture<String> response = new CompletableFuture<>();
+            rawJsonResponse.whenComplete((rawJsonResult, throwable) -> {
+                if (throwable != null) {
+                    response.completeExceptionally(throwable);
+                } else {
+                    response.complete(rawJsonResult);
+                }
+            });
+            response.whenComplete((rawJsonResult, throwable) -> {
+                if (callers.decrementAndGet() == 0) {
+                    rawJsonResponse.cancel(false);
+                }
+            });
+
+            return response;
+        }
     }
 
     /**
@@ -0,0 +1,965 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.websocket.CloseReason;
+import javax.websocket.CloseReason.CloseCodes;
+import javax.websocket.DeploymentException;
+import javax.websocket.Endpoint;
+import javax.websocket.EndpointConfig;
+import javax.websocket.MessageHandler;
+import javax.websocket.PongMessage;
+import javax.websocket.Session;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemConnectionException;
+import eu.bittrade.libs.steemj.exceptions.SteemTimeoutException;
+
+/**
+ * This class represents a single web socket session to one Steem Node.
+ * 
+ * Each connection keeps its own table of pending requests and tracks the
+ * statistics the {@link CommunicationHandler CommunicationHandler} needs to
+ * choose a connection for a request: The exponentially weighted moving
+ * average of the response times, the number of outstanding requests and
+ * whether the node is currently considered to be healthy.
+ * 
+ * <p>
+ * Once established, the session is supervised: Lost sessions are detected
+ * through {@link #onClose(Session, CloseReason) onClose},
+ * {@link #onError(Session, Throwable) onError} and unanswered pings. They are
+ * reestablished with a randomized, exponentially growing delay. After a
+ * reconnect, the login and the callback registrations are replayed and read
+ * requests which have not been answered yet are sent again.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+class NodeConnection extends Endpoint implements MessageHandler.Whole<String> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeConnection.class);
+
+    /** The weight of a new sample in the average latency. */
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+    /** The time in milliseconds a node is skipped after a failure. */
+    private static final long UNHEALTHY_PERIOD = 5000L;
+    /** The delay in milliseconds before the first reconnect attempt. */
+    private static final long INITIAL_RECONNECT_DELAY = 100L;
+    /** The number of threads establishing sessions and sending pings. */
+    private static final int CONNECTOR_THREADS = 4;
+
+    /**
+     * Used to fail requests which have not been answered in time and to
+     * perform other delayed tasks of the communication layer.
+     */
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+    /**
+     * Used to establish sessions and to send pings, which both block. They are
+     * not performed by the executors that complete the responses and call the
+     * callbacks, so a node that is not reachable does not delay the responses
+     * of the other nodes.
+     */
+    private static final ThreadPoolExecutor CONNECTOR = createConnector();
+
+    /**
+     * The requests which have been sent, but have not been answered yet, keyed
+     * by their JSON-RPC id.
+     */
+    private final Map<Integer, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    /**
+     * The requests which bind a state to the session (the login and the
+     * callback registrations) and need to be replayed after a reconnect.
+     */
+    private final Map<String, RequestWrapperDTO> sessionRequests = new LinkedHashMap<>();
+    /** Used to serialize the write operations on the web socket session. */
+    private final Object sendLock = new Object();
+    /** Used to guard the reconnect state. */
+    private final Object reconnectLock = new Object();
+    private final ClientManager client;
+    private final URI endpointUri;
+    private final Consumer<String> notificationHandler;
+    private volatile Session session;
+    private volatile double averageLatency;
+    private volatile long unhealthyUntil;
+    private volatile boolean closeRequested;
+    private volatile boolean pingOutstanding;
+    /** True while a thread establishes a session. */
+    private volatile boolean connecting;
+    private boolean connectedBefore;
+    private int reconnectAttempts;
+    private ScheduledFuture<?> reconnectTask;
+    private ScheduledFuture<?> pingTask;
+
+    /**
+     * Create a new connection. The connection is not established before
+     * {@link #connect()} or {@link #send(RequestWrapperDTO)} is called.
+     * 
+     * @param client
+     *            The client used to establish the web socket session.
+     * @param endpointUri
+     *            The URI of the Steem Node.
+     * @param notificationHandler
+     *            The handler for all messages that are not a response to a
+     *            request (e.g. callbacks).
+     */
+    NodeConnection(ClientManager client, URI endpointUri, Consumer<String> notificationHandler) {
+        this.client = client;
+        this.endpointUri = endpointUri;
+        this.notificationHandler = notificationHandler;
+    }
+
+    @Override
+    public void onOpen(Session session, EndpointConfig config) {
+        LOGGER.info("Connection to {} has been established.", endpointUri);
+    }
+
+    @Override
+    public void onClose(Session closedSession, CloseReason closeReason) {
+        LOGGER.info("Connection to {} has been closed: {}", endpointUri, closeReason);
+
+        Session currentSession = session;
+        if (currentSession != closedSession && currentSession != null && currentSession.isOpen()) {
+            // A session which has already been replaced.
+            return;
+        }
+
+        // Responses for requests sent over this session will never arrive.
+        SteemConnectionException cause = new SteemConnectionException(
+                "The connection has been closed before a response has been received: " + closeReason);
+        if (closeRequested) {
+            failPendingRequests(cause, true);
+        } else {
+            markUnhealthy();
+            // Read requests will be sent again after the reconnect.
+            failPendingRequests(cause, false);
+            scheduleReconnect();
+        }
+    }
+
+    @Override
+    public void onError(Session session, Throwable thr) {
+        LOGGER.error("Connection error.", thr);
+        markUnhealthy();
+
+        if (session == null || !session.isOpen()) {
+            failPendingRequests(new SteemConnectionException(
+                    "The connection failed before a response has been received.", thr), false);
+            scheduleReconnect();
+        }
+    }
+
+    @Override
+    public void onMessage(String message) {
+        LOGGER.debug("Raw JSON message: {}", message);
+        // Every message proves that the connection is still alive.
+        pingOutstanding = false;
+
+        if (message.startsWith("[")) {
+            // The response to a batch request.
+            for (String response : splitBatchResponse(message)) {
+                handleResponse(response);
+            }
+        } else {
+            handleResponse(message);
+        }
+    }
+
+    /**
+     * Complete the pending request the given message belongs to.
+     * 
+     * @param message
+     *            A single response or notification.
+     */
+    private void handleResponse(String message) {
+        Integer responseId = getResponseId(message);
+        if (responseId != null) {
+            PendingRequest pendingRequest = pendingRequests.remove(responseId);
+
+            if (pendingRequest != null) {
+                pendingRequest.response.complete(message);
+            } else {
+                LOGGER.debug("Discarding the response with id {} as no request is waiting for it.", responseId);
+            }
+        } else {
+            // A message without an id is not related to a request - It can be
+            // a callback.
+            notificationHandler.accept(message);
+        }
+    }
+
+    /**
+     * Establish the web socket session to the Steem Node, if it is not already
+     * open. If a session has been established before, the state of the old
+     * session is restored.
+     * 
+     * @throws SteemCommunicationException
+     *             If there is a connection problem or if another thread is
+     *             establishing the session at the moment.
+     */
+    void connect() throws SteemCommunicationException {
+        // Senders do not have to wait for the lock while another thread
+        // establishes a session, so their requests can be sent over another
+        // connection instead.
+        Session currentSession = session;
+        if (currentSession != null && currentSession.isOpen()) {
+            return;
+        } else if (closeRequested) {
+            throw new SteemConnectionException("The connection to " + endpointUri + " has been closed.");
+        } else if (connecting) {
+            throw new SteemConnectionException("The connection to " + endpointUri + " is being established.");
+        }
+
+        synchronized (this) {
+            connecting = true;
+            try {
+                establishSession();
+            } finally {
+                connecting = false;
+            }
+        }
+    }
+
+    /**
+     * Establish the web socket session, if it is not already open. Has to be
+     * called while holding the lock of this connection.
+     * 
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     */
+    private void establishSession() throws SteemCommunicationException {
+        if (session != null && session.isOpen()) {
+            return;
+        }
+
+        try {
+            Session newSession = client.connectToServer(this, SteemJConfig.getInstance().getClientEndpointConfig(),
+                    endpointUri);
+            newSession.addMessageHandler(this);
+            newSession.addMessageHandler(new MessageHandler.Whole<PongMessage>() {
+                @Override
+                public void onMessage(PongMessage pongMessage) {
+                    pingOutstanding = false;
+                }
+            });
+            pingOutstanding = false;
+            session = newSession;
+        } catch (DeploymentException | IOException e) {
+            markUnhealthy();
+            if (connectedBefore) {
+                scheduleReconnect();
+            }
+            throw new SteemCommunicationException("Could not connect to the server " + endpointUri + ".", e);
+        }
+
+        synchronized (reconnectLock) {
+            reconnectAttempts = 0;
+        }
+        schedulePings();
+
+        if (connectedBefore) {
+            LOGGER.info("Connection to {} has been reestablished.", endpointUri);
+            restoreSession();
+        }
+        connectedBefore = true;
+    }
+
+    /**
+     * Replay the login and the callback registrations and send all read
+     * requests which are still waiting for their response again.
+     */
+    private void restoreSession() {
+        // The login and the callbacks need to be replayed before the other
+        // requests, as those may depend on them.
+        List<RequestWrapperDTO> replayedRequests;
+        synchronized (sessionRequests) {
+            // Callbacks which have been removed in the meantime are not
+            // registered again.
+            sessionRequests.values().removeIf(NodeConnection::isRemovedCallback);
+            replayedRequests = new ArrayList<>(sessionRequests.values());
+        }
+        for (PendingRequest pendingRequest : pendingRequests.values()) {
+            if (!replayedRequests.contains(pendingRequest.requestObject)) {
+                replayedRequests.add(pendingRequest.requestObject);
+            }
+        }
+
+        for (RequestWrapperDTO requestObject : replayedRequests) {
+            try {
+                if (!pendingRequests.containsKey(requestObject.getId())) {
+                    // Nobody waits for the response of a replayed request.
+                    PendingRequest pendingRequest = registerRequest(requestObject);
+                    scheduleTimeout(pendingRequest);
+                }
+
+                write(requestObject);
+            } catch (SteemCommunicationException e) {
+                LOGGER.warn("Could not restore the session to {}.", endpointUri, e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Schedule a new attempt to reestablish the session, if no attempt is
+     * already scheduled. The delay grows exponentially with the number of
+     * failed attempts and is randomized, so many clients that lost their
+     * connection at the same time do not reconnect at the same time.
+     */
+    private void scheduleReconnect() {
+        synchronized (reconnectLock) {
+            if (closeRequested || (reconnectTask != null && !reconnectTask.isDone())) {
+                return;
+            }
+
+            long maximumDelay = Math.min(SteemJConfig.getInstance().getMaximumReconnectDelay(),
+                    INITIAL_RECONNECT_DELAY << Math.min(reconnectAttempts, 20));
+            long delay = ThreadLocalRandom.current().nextLong(maximumDelay + 1);
+            reconnectAttempts++;
+
+            LOGGER.info("Trying to reconnect to {} in {} millisecond(s).", endpointUri, delay);
+            // Establishing a session blocks, so it is not done by the
+            // scheduler itself.
+            reconnectTask = SCHEDULER.schedule(() -> CompletableFuture.runAsync(this::reconnect, CONNECTOR), delay,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Try to reestablish the session. A failed attempt schedules the next
+     * one.
+     */
+    private void reconnect() {
+        if (closeRequested) {
+            return;
+        }
+
+        try {
+            connect();
+        } catch (SteemCommunicationException e) {
+            LOGGER.warn("Could not reconnect to {}.", endpointUri, e);
+        }
+    }
+
+    /**
+     * Start to ping the Steem Node in the configured interval, if this has not
+     * been done yet.
+     */
+    private void schedulePings() {
+        long pingInterval = SteemJConfig.getInstance().getPingInterval();
+        synchronized (reconnectLock) {
+            if (pingInterval == 0 || pingTask != null) {
+                return;
+            }
+
+            // Writing to the session may block, so it is not done by the
+            // scheduler itself.
+            pingTask = SCHEDULER.scheduleWithFixedDelay(() -> CompletableFuture.runAsync(this::ping, CONNECTOR),
+                    pingInterval, pingInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Send a ping to the Steem Node. If the previous ping has not been
+     * answered, the session is considered to be lost.
+     */
+    private void ping() {
+        Session currentSession = session;
+        if (closeRequested || currentSession == null || !currentSession.isOpen()) {
+            return;
+        }
+
+        if (pingOutstanding) {
+            LOGGER.warn("The Steem Node {} did not answer the last ping.", endpointUri);
+            closeLostSession(currentSession);
+            return;
+        }
+
+        pingOutstanding = true;
+        try {
+            synchronized (sendLock) {
+                currentSession.getBasicRemote().sendPing(ByteBuffer.allocate(0));
+            }
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.warn("Could not ping the Steem Node {}.", endpointUri, e);
+            closeLostSession(currentSession);
+        }
+    }
+
+    /**
+     * Close a session which does not work anymore and schedule the reconnect.
+     * 
+     * @param lostSession
+     *            The session to close.
+     */
+    private void closeLostSession(Session lostSession) {
+        markUnhealthy();
+        try {
+            lostSession.close(new CloseReason(CloseCodes.GOING_AWAY, "The Steem Node does not respond."));
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.debug("Could not close the connection to {}.", endpointUri, e);
+        }
+
+        scheduleReconnect();
+    }
+
+    /**
+     * Register the given request as pending and write it to the web socket
+     * session without waiting for the response.
+     * 
+     * @param requestObject
+     *            The request to send.
+     * @return A future that will be completed with the raw JSON response as
+     *         soon as it has been received. Cancelling the future discards the
+     *         response.
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     */
+    CompletableFuture<String> send(RequestWrapperDTO requestObject) throws SteemCommunicationException {
+        connect();
+
+        PendingRequest pendingRequest = registerRequest(requestObject);
+
+        long sendTime = System.nanoTime();
+        try {
+            write(requestObject);
+        } catch (SteemCommunicationException e) {
+            pendingRequests.remove(requestObject.getId(), pendingRequest);
+            throw e;
+        }
+
+        if (isSessionRequest(requestObject)) {
+            // A new login replaces the previous one.
+            String sessionRequestKey = RequestMethods.LOGIN.equals(requestObject.getApiMethod())
+                    ? RequestMethods.LOGIN.name() : String.valueOf(requestObject.getId());
+            synchronized (sessionRequests) {
+                sessionRequests.put(sessionRequestKey, requestObject);
+            }
+            // A request that failed has not bound any state to the session.
+            pendingRequest.response.whenComplete((rawJsonResponse, throwable) -> {
+                if (throwable != null) {
+                    synchronized (sessionRequests) {
+                        sessionRequests.remove(sessionRequestKey, requestObject);
+                    }
+                }
+            });
+        }
+
+        watchResponse(pendingRequest, sendTime, true);
+
+        return pendingRequest.response;
+    }
+
+    /**
+     * Write the given request to the web socket session.
+     * 
+     * @param requestObject
+     *            The request to write.
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     */
+    private void write(RequestWrapperDTO requestObject) throws SteemCommunicationException {
+        String message = RequestEncoder.encode(requestObject);
+        try {
+            // The basic remote does not allow concurrent writes.
+            synchronized (sendLock) {
+                session.getBasicRemote().sendText(message);
+            }
+        } catch (IOException | IllegalStateException e) {
+            markUnhealthy();
+            throw new SteemCommunicationException("Could not send the message to the Steem Node.", e);
+        }
+    }
+
+    /**
+     * Register the given requests as pending and write them to the web socket
+     * session as one JSON-RPC batch without waiting for the responses.
+     * 
+     * @param requestObjects
+     *            The requests to send.
+     * @return The futures that will be completed with the raw JSON responses
+     *         as soon as they have been received, in the order of the given
+     *         requests. Cancelling a future discards the response.
+     * @throws SteemCommunicationException
+     *             If there is a connection problem.
+     */
+    List<CompletableFuture<String>> sendBatch(List<RequestWrapperDTO> requestObjects)
+            throws SteemCommunicationException {
+        connect();
+
+        List<PendingRequest> registeredRequests = new ArrayList<>(requestObjects.size());
+        String batch;
+        try {
+            for (RequestWrapperDTO requestObject : requestObjects) {
+                registeredRequests.add(registerRequest(requestObject));
+            }
+            batch = RequestEncoder.encode(requestObjects);
+        } catch (SteemCommunicationException e) {
+            unregisterRequests(registeredRequests);
+            throw e;
+        }
+
+        long sendTime = System.nanoTime();
+        try {
+            // The basic remote does not allow concurrent writes.
+            synchronized (sendLock) {
+                session.getBasicRemote().sendText(batch);
+            }
+        } catch (IOException | IllegalStateException e) {
+            unregisterRequests(registeredRequests);
+            markUnhealthy();
+            throw new SteemCommunicationException("Could not send the message to the Steem Node.", e);
+        }
+
+        List<CompletableFuture<String>> responses = new ArrayList<>(registeredRequests.size());
+        for (int i = 0; i < registeredRequests.size(); i++) {
+            // All responses of a batch arrive in one frame, so only one of
+            // them is used to measure the latency.
+            watchResponse(registeredRequests.get(i), sendTime, i == 0);
+            responses.add(registeredRequests.get(i).response);
+        }
+
+        return responses;
+    }
+
+    /**
+     * Register a new pending request.
+     * 
+     * @param requestObject
+     *            The request to register.
+     * @return The pending request, which holds the future that will receive
+     *         the response.
+     * @throws SteemCommunicationException
+     *             If another request with the same id is already pending.
+     */
+    private PendingRequest registerRequest(RequestWrapperDTO requestObject) throws SteemCommunicationException {
+        PendingRequest pendingRequest = new PendingRequest(requestObject);
+        if (pendingRequests.putIfAbsent(requestObject.getId(), pendingRequest) != null) {
+            throw new SteemCommunicationException(
+                    "A request with the id " + requestObject.getId() + " is already waiting for its response.");
+        }
+
+        return pendingRequest;
+    }
+
+    /**
+     * Remove the given pending requests again, e.g. because they could not be
+     * sent.
+     * 
+     * @param registeredRequests
+     *            The requests to remove.
+     */
+    private void unregisterRequests(List<PendingRequest> registeredRequests) {
+        for (PendingRequest registeredRequest : registeredRequests) {
+            pendingRequests.remove(registeredRequest.requestObject.getId(), registeredRequest);
+        }
+    }
+
+    /**
+     * Start to observe a request which has been sent: Schedule its timeout,
+     * measure its latency and discard it once it has been cancelled.
+     * 
+     * @param pendingRequest
+     *            The request.
+     * @param sendTime
+     *            The time the request has been sent at in nanoseconds.
+     * @param measureLatency
+     *            Define if the response time of this request should be added
+     *            to the average latency.
+     */
+    private void watchResponse(PendingRequest pendingRequest, long sendTime, boolean measureLatency) {
+        scheduleTimeout(pendingRequest);
+        pendingRequest.response.whenComplete((rawJsonResponse, throwable) -> {
+            if (throwable == null) {
+                if (measureLatency) {
+                    recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendTime));
+                }
+            } else if (pendingRequest.response.isCancelled()) {
+                // Nobody is interested in the response anymore.
+                pendingRequests.remove(pendingRequest.requestObject.getId(), pendingRequest);
+            }
+        });
+    }
+
+    /**
+     * Get the URI of the Steem Node this connection belongs to.
+     * 
+     * @return The URI of the Steem Node.
+     */
+    URI getEndpointUri() {
+        return endpointUri;
+    }
+
+    /**
+     * Get the exponentially weighted moving average of the response times of
+     * this connection.
+     * 
+     * @return The average response time in milliseconds.
+     */
+    double getAverageLatency() {
+        return averageLatency;
+    }
+
+    /**
+     * Get the number of requests which have been sent over this connection,
+     * but have not been answered yet.
+     * 
+     * @return The number of outstanding requests.
+     */
+    int getOutstandingRequests() {
+        return pendingRequests.size();
+    }
+
+    /**
+     * Check if this connection should be used for new requests. A connection
+     * is considered to be unhealthy for a short period after it failed.
+     * 
+     * @return True if the connection is healthy, false if not.
+     */
+    boolean isHealthy() {
+        return System.currentTimeMillis() >= unhealthyUntil;
+    }
+
+    /**
+     * Calculate the score of this connection. The connection with the lowest
+     * score is the best candidate for the next request.
+     * 
+     * @return The score of this connection.
+     */
+    double getScore() {
+        return (averageLatency + 1) * (getOutstandingRequests() + 1);
+    }
+
+    /**
+     * Close the web socket session and fail all requests which are still
+     * waiting for their response. The session will not be reestablished and
+     * requests can't be sent over this connection anymore.
+     */
+    void close() {
+        closeRequested = true;
+        synchronized (reconnectLock) {
+            if (reconnectTask != null) {
+                reconnectTask.cancel(false);
+            }
+            if (pingTask != null) {
+                pingTask.cancel(false);
+                pingTask = null;
+            }
+        }
+
+        Session currentSession = session;
+        if (currentSession != null && currentSession.isOpen()) {
+            try {
+                currentSession.close();
+            } catch (IOException e) {
+                LOGGER.debug("Could not close the connection to {}.", endpointUri, e);
+            }
+        }
+
+        // The session may not have been open or may not report its closing.
+        failPendingRequests(new SteemConnectionException("The connection to " + endpointUri + " has been closed."),
+                true);
+    }
+
+    /**
+     * Exclude this connection from the routing for a short period.
+     */
+    private void markUnhealthy() {
+        unhealthyUntil = System.currentTimeMillis() + UNHEALTHY_PERIOD;
+    }
+
+    /**
+     * Add a new response time sample to the average latency.
+     * 
+     * @param latency
+     *            The response time in milliseconds.
+     */
+    private synchronized void recordLatency(long latency) {
+        averageLatency = averageLatency == 0 ? latency
+                : LATENCY_SMOOTHING_FACTOR * latency + (1 - LATENCY_SMOOTHING_FACTOR) * averageLatency;
+    }
+
+    /**
+     * Fail the given pending request with a
+     * {@link eu.bittrade.libs.steemj.exceptions.SteemTimeoutException
+     * SteemTimeoutException} if it has not been answered in time. A timeout of
+     * <code>0</code> disables this mechanism.
+     * 
+     * @param pendingRequest
+     *            The pending request.
+     */
+    private void scheduleTimeout(PendingRequest pendingRequest) {
+        long timeout = getTimeout(pendingRequest.requestObject);
+        if (timeout == 0) {
+            return;
+        }
+
+        int requestId = pendingRequest.requestObject.getId();
+        CompletableFuture<String> response = pendingRequest.response;
+        ScheduledFuture<?> timeoutTask = SCHEDULER.schedule(() -> {
+            if (pendingRequests.remove(requestId, pendingRequest)) {
+                String errorMessage = "Timeout occured. The WebSocket server was not able to answer in " + timeout
+                        + " millisecond(s).";
+
+                LOGGER.error(errorMessage);
+                // A timeout counts as a very slow response.
+                recordLatency(timeout);
+                response.completeExceptionally(new SteemTimeoutException(errorMessage));
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+
+        response.whenComplete((rawJsonResponse, throwable) -> timeoutTask.cancel(false));
+    }
+
+    /**
+     * Get the time SteemJ will wait for the response to the given request.
+     * 
+     * @param requestObject
+     *            The request.
+     * @return The timeout of the request or, if the request does not define a
+     *         timeout, the configured default in milliseconds.
+     */
+    static long getTimeout(RequestWrapperDTO requestObject) {
+        return requestObject.getTimeout() < 0 ? SteemJConfig.getInstance().getTimeout() : requestObject.getTimeout();
+    }
+
+    /**
+     * Fail the given future with a
+     * {@link eu.bittrade.libs.steemj.exceptions.SteemTimeoutException
+     * SteemTimeoutException} if it has not been completed in the given time.
+     * 
+     * @param future
+     *            The future to observe.
+     * @param timeout
+     *            The time in milliseconds. <code>0</code> disables this
+     *            mechanism.
+     */
+    static void scheduleDeadline(CompletableFuture<?> future, long timeout) {
+        if (timeout == 0) {
+            return;
+        }
+
+        ScheduledFuture<?> timeoutTask = SCHEDULER.schedule(() -> {
+            future.completeExceptionally(new SteemTimeoutException(
+                    "Timeout occured. The WebSocket server was not able to answer in " + timeout + " millisecond(s)."));
+        }, timeout, TimeUnit.MILLISECONDS);
+
+        future.whenComplete((result, throwable) -> timeoutTask.cancel(false));
+    }
+
+    /**
+     * Run the given task after the given delay using the scheduler of the
+     * communication layer. The task should not block, as the scheduler is
+     * shared.
+     * 
+     * @param task
+     *            The task to run.
+     * @param delay
+     *            The delay in nanoseconds.
+     * @return The scheduled task.
+     */
+    static ScheduledFuture<?> schedule(Runnable task, long delay) {
+        return SCHEDULER.schedule(task, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Complete the requests that are still waiting for a response with the
+     * given exception.
+     * 
+     * @param cause
+     *            The reason why the requests failed.
+     * @param includeResendable
+     *            Define if requests which can be sent again after a reconnect
+     *            should be failed, too.
+     */
+    private void failPendingRequests(SteemCommunicationException cause, boolean includeResendable) {
+        for (PendingRequest pendingRequest : pendingRequests.values()) {
+            if ((includeResendable || !isResendable(pendingRequest.requestObject))
+                    && pendingRequests.remove(pendingRequest.requestObject.getId(), pendingRequest)) {
+                pendingRequest.response.completeExceptionally(cause);
+            }
+        }
+    }
+
+    /**
+     * Check if the given request can simply be sent again if the session has
+     * been lost before the response has been received. Logins and callback
+     * registrations which have not been answered yet fail in this case and
+     * are not replayed.
+     * 
+     * @param requestObject
+     *            The request to check.
+     * @return True if the request can be sent again, false if not.
+     */
+    private static boolean isResendable(RequestWrapperDTO requestObject) {
+        return CommunicationHandler.isIdempotentRead(requestObject);
+    }
+
+    /**
+     * Check if the given request binds a state to the session, so it needs to
+     * be replayed after a reconnect.
+     * 
+     * @param requestObject
+     *            The request to check.
+     * @return True if the request is a login or a callback registration.
+     */
+    private static boolean isSessionRequest(RequestWrapperDTO requestObject) {
+        return RequestMethods.LOGIN.equals(requestObject.getApiMethod())
+                || RequestMethods.SET_BLOCK_APPLIED_CALLBACK.equals(requestObject.getApiMethod());
+    }
+
+    /**
+     * Split the response to a batch request into the single responses. Only
+     * the boundaries of the array elements are determined here, the elements
+     * themselves are not parsed.
+     * 
+     * @param message
+     *            The raw JSON array received from the Steem Node.
+     * @return The raw JSON responses contained in the array.
+     */
+    private List<String> splitBatchResponse(String message) {
+        List<String> responses = new ArrayList<>();
+
+        try (JsonParser parser = CommunicationHandler.getObjectMapper().getFactory().createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return responses;
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int start = (int) parser.getTokenLocation().getCharOffset();
+                parser.skipChildren();
+                int end = (int) parser.getCurrentLocation().getCharOffset();
+
+                responses.add(message.substring(start, end));
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not split the batch response.", e);
+        }
+
+        return responses;
+    }
+
+    /**
+     * Extract the JSON-RPC id of a message by only scanning the top level
+     * fields of the message, so the (potentially huge) result does not need to
+     * be parsed here.
+     * 
+     * @param message
+     *            The raw message received from the Steem Node.
+     * @return The id of the message or null, if the message has no id (e.g.
+     *         because it is a callback).
+     */
+    private Integer getResponseId(String message) {
+        try (JsonParser parser = CommunicationHandler.getObjectMapper().getFactory().createParser(message)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("id".equals(fieldName)) {
+                    return value == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null;
+                }
+
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Could not extract the id of the message.", e);
+        }
+
+        return null;
+    }
+
+    /**
+     * Check if the given request registers a callback which has been removed
+     * from the {@link CallbackHub CallbackHub}.
+     * 
+     * @param requestObject
+     *            The request to check.
+     * @return True if the request registers a callback that has been removed.
+     */
+    private static boolean isRemovedCallback(RequestWrapperDTO requestObject) {
+        return RequestMethods.SET_BLOCK_APPLIED_CALLBACK.equals(requestObject.getApiMethod())
+                && CallbackHub.getInstance().getCallbackByUuid(
+                        ((Number) requestObject.getAdditionalParameters()[0]).intValue()) == null;
+    }
+
+    /**
+     * A request which has been sent, but has not been answered yet.
+     */
+    private static class PendingRequest {
+        private final RequestWrapperDTO requestObject;
+        private final CompletableFuture<String> response = new CompletableFuture<>();
+
+        /**
+         * @param requestObject
+         *            The request that has been sent.
+         */
+        PendingRequest(RequestWrapperDTO requestObject) {
+            this.requestObject = requestObject;
+        }
+    }
+
+    /**
+     * Create the scheduler used to handle request timeouts and delayed tasks. The scheduler uses
+     * a daemon thread so it does not prevent the JVM from shutting down.
+     * 
+     * @return The scheduler instance.
+     */
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread schedulerThread = new Thread(runnable, "steemj-scheduler");
+            schedulerThread.setDaemon(true);
+            return schedulerThread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        return scheduler;
+    }
+
+    /**
+     * Create the executor used to establish sessions and to send pings. Its
+     * daemon threads are stopped when they have been idle for a minute.
+     * 
+     * @return The executor instance.
+     */
+    private static ThreadPoolExecutor createConnector() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor connector = new ThreadPoolExecutor(CONNECTOR_THREADS, CONNECTOR_THREADS, 60L,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread connectorThread = new Thread(runnable,
+                            "steemj-connector-" + threadNumber.incrementAndGet());
+                    connectorThread.setDaemon(true);
+                    return connectorThread;
+                });
+        connector.allowCoreThreadTimeOut(true);
+
+        return connector;
+    }
+}
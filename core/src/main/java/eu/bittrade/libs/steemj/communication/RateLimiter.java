@@ -0,0 +1,195 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import eu.bittrade.libs.steemj.configuration.RateLimit;
+import eu.bittrade.libs.steemj.exceptions.SteemRateLimitException;
+
+/**
+ * A token bucket that limits the number of requests sent to one Steem Node
+ * for one api.
+ * 
+ * The bucket is refilled continuously with the configured rate and can hold
+ * up to <code>burstSize</code> tokens. Each request takes one token. If no
+ * token is left, callers are queued in the order of their arrival until enough
+ * tokens are available. The queue is bounded, so callers fail fast instead of
+ * piling up endlessly.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+class RateLimiter {
+    private final double tokensPerNanosecond;
+    private final double burstSize;
+    private final int queueCapacity;
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private double tokens;
+    private long lastRefill;
+    private ScheduledFuture<?> drainTask;
+
+    /**
+     * Create a new rate limiter which is initially filled.
+     * 
+     * @param rateLimit
+     *            The rate limit to apply.
+     * @param queueCapacity
+     *            The maximum number of waiting callers.
+     */
+    RateLimiter(RateLimit rateLimit, int queueCapacity) {
+        this.tokensPerNanosecond = rateLimit.getRequestsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+        this.burstSize = rateLimit.getBurstSize();
+        this.queueCapacity = queueCapacity;
+        this.tokens = burstSize;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Take the given number of tokens if they are available right now and no
+     * other caller is waiting.
+     * 
+     * @param permits
+     *            The number of tokens to take.
+     * @return True if the tokens have been taken, false if not.
+     */
+    synchronized boolean tryAcquire(int permits) {
+        refill();
+
+        if (waiters.isEmpty() && canServe(permits)) {
+            tokens -= permits;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Give back tokens which have been taken, but not been used.
+     * 
+     * @param permits
+     *            The number of tokens to give back.
+     */
+    synchronized void release(int permits) {
+        tokens = Math.min(burstSize, tokens + permits);
+    }
+
+    /**
+     * Take the given number of tokens as soon as they are available.
+     * 
+     * @param permits
+     *            The number of tokens to take.
+     * @return A future which is completed once the tokens have been taken.
+     *         Cancelling the future gives up the place in the queue.
+     * @throws SteemRateLimitException
+     *             If the maximum number of waiting callers has been reached.
+     */
+    synchronized CompletableFuture<Void> acquire(int permits) throws SteemRateLimitException {
+        if (tryAcquire(permits)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (waiters.size() >= queueCapacity) {
+            throw new SteemRateLimitException("The request has been rejected, because " + waiters.size()
+                    + " requests are already waiting for the rate limit.");
+        }
+
+        Waiter waiter = new Waiter(permits);
+        waiters.add(waiter);
+        scheduleDrain();
+
+        return waiter.permit;
+    }
+
+    /**
+     * Serve all waiting callers for which enough tokens are available.
+     */
+    private void drain() {
+        List<Waiter> servedWaiters = new ArrayList<>();
+
+        synchronized (this) {
+            drainTask = null;
+            refill();
+
+            while (!waiters.isEmpty()) {
+                Waiter waiter = waiters.peek();
+                if (waiter.permit.isDone()) {
+                    // The caller is not waiting anymore.
+                    waiters.poll();
+                } else if (canServe(waiter.permits)) {
+                    waiters.poll();
+                    tokens -= waiter.permits;
+                    servedWaiters.add(waiter);
+                } else {
+                    break;
+                }
+            }
+
+            scheduleDrain();
+        }
+
+        // Complete the futures outside of the lock, as their dependent actions
+        // may be executed by this thread.
+        for (Waiter servedWaiter : servedWaiters) {
+            if (!servedWaiter.permit.complete(null)) {
+                // The caller gave up in the meantime.
+                release(servedWaiter.permits);
+            }
+        }
+    }
+
+    /**
+     * Schedule the next run of {@link #drain()} for the point in time at which
+     * the first waiting caller can be served.
+     */
+    private void scheduleDrain() {
+        if (waiters.isEmpty() || drainTask != null) {
+            return;
+        }
+
+        double missingTokens = Math.min(waiters.peek().permits, burstSize) - tokens;
+        long delay = (long) Math.ceil(Math.max(0, missingTokens) / tokensPerNanosecond);
+        drainTask = NodeConnection.schedule(this::drain, delay);
+    }
+
+    /**
+     * Check if enough tokens are available for the given number of permits.
+     * Requests for more permits than the bucket can hold are served once the
+     * bucket is full, so the bucket can go into debt.
+     * 
+     * @param permits
+     *            The requested number of permits.
+     * @return True if the permits can be granted.
+     */
+    private boolean canServe(int permits) {
+        return tokens >= Math.min(permits, burstSize);
+    }
+
+    /**
+     * Add the tokens which have been generated since the last refill.
+     */
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burstSize, tokens + (now - lastRefill) * tokensPerNanosecond);
+        lastRefill = now;
+    }
+
+    /**
+     * A caller waiting for tokens.
+     */
+    private static class Waiter {
+        private final int permits;
+        private final CompletableFuture<Void> permit = new CompletableFuture<>();
+
+        /**
+         * @param permits
+         *            The number of tokens the caller is waiting for.
+         */
+        Waiter(int permits) {
+            this.permits = permits;
+        }
+    }
+}
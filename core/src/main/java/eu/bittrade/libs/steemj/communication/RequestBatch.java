@@ -0,0 +1,131 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO;
+
+/**
+ * This class collects multiple requests which should be sent to the Steem Node
+ * as one JSON-RPC 2.0 batch.
+ * 
+ * <p>
+ * All requests of a batch are written to the web socket session as a single
+ * frame. The Steem Node answers with an array of responses, which are assigned
+ * to the futures returned by {@link #add(RequestWrapperDTO, Class) add}.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * RequestBatch batch = new RequestBatch();
+ * CompletableFuture&lt;List&lt;SignedBlockWithInfo&gt;&gt; block = batch.add(blockRequest, SignedBlockWithInfo.class);
+ * CompletableFuture&lt;List&lt;Discussion&gt;&gt; content = batch.add(contentRequest, Discussion.class);
+ * 
+ * communicationHandler.performBatchRequest(batch);
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class RequestBatch {
+    private final List<BatchEntry<?>> entries = new ArrayList<>();
+
+    /**
+     * Add a request to this batch.
+     * 
+     * @param requestObject
+     *            A request object that contains all needed parameters.
+     * @param targetClass
+     *            The target class for the transformation.
+     * @param <T>
+     *            The object that you want to map the result to.
+     * @return A future which will be completed with the server response
+     *         transformed into a list of given objects once the batch has been
+     *         performed. In case of an error the future is completed
+     *         exceptionally with one of the exceptions described in
+     *         {@link CommunicationHandler#performRequest(RequestWrapperDTO, Class)
+     *         performRequest}.
+     */
+    public synchronized <T> CompletableFuture<List<T>> add(RequestWrapperDTO requestObject, Class<T> targetClass) {
+        BatchEntry<T> entry = new BatchEntry<>(requestObject, targetClass);
+        entries.add(entry);
+
+        return entry.getResult();
+    }
+
+    /**
+     * Get the number of requests in this batch.
+     * 
+     * @return The number of requests.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Check if this batch contains any requests.
+     * 
+     * @return True if the batch does not contain any requests.
+     */
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Get a snapshot of the entries of this batch.
+     * 
+     * @return The entries of this batch.
+     */
+    synchronized List<BatchEntry<?>> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * A single request of a batch together with the future that will receive
+     * its result.
+     * 
+     * @param <T>
+     *            The object that the result will be mapped to.
+     */
+    static class BatchEntry<T> {
+        private final RequestWrapperDTO requestObject;
+        private final Class<T> targetClass;
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+        /**
+         * Create a new entry.
+         * 
+         * @param requestObject
+         *            The request.
+         * @param targetClass
+         *            The target class for the transformation.
+         */
+        BatchEntry(RequestWrapperDTO requestObject, Class<T> targetClass) {
+            this.requestObject = requestObject;
+            this.targetClass = targetClass;
+        }
+
+        /**
+         * @return The request.
+         */
+        RequestWrapperDTO getRequestObject() {
+            return requestObject;
+        }
+
+        /**
+         * @return The target class for the transformation.
+         */
+        Class<T> getTargetClass() {
+            return targetClass;
+        }
+
+        /**
+         * @return The future that will receive the result of the request.
+         */
+        CompletableFuture<List<T>> getResult() {
+            return result;
+        }
+    }
+}
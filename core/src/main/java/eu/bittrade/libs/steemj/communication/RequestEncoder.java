@@ -0,0 +1,215 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApis;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+
+/**
+ * This class writes {@link RequestWrapperDTO RequestWrapperDTO} objects in the
+ * JSON format expected by the Steem Node.
+ * 
+ * Only the additional parameters of a request really need to be serialized.
+ * The part in front of them only depends on the api and the method and is
+ * therefore created once per combination, while the id is appended directly.
+ * Each thread reuses its own buffer and
+ * {@link com.fasterxml.jackson.core.JsonGenerator JsonGenerator}, so encoding
+ * a request does not create more than the resulting String.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public final class RequestEncoder {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    /** Buffers which grew larger than this are not kept for the next call. */
+    private static final int MAXIMUM_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The constant start of each request, indexed by the ordinal of the api
+     * and the method.
+     */
+    private static final String[][] PREFIXES = createPrefixes();
+    private static final ThreadLocal<Buffer> BUFFERS = new ThreadLocal<>();
+
+    /**
+     * Lock instance creation by making the constructor private.
+     */
+    private RequestEncoder() {
+    }
+
+    /**
+     * Write the given request in its JSON representation.
+     * 
+     * @param requestObject
+     *            The request to encode.
+     * @return The JSON representation of the request.
+     * @throws SteemTransformationException
+     *             If the api or the method of the request has not been set or
+     *             if the parameters could not be serialized.
+     */
+    public static String encode(RequestWrapperDTO requestObject) throws SteemTransformationException {
+        Buffer buffer = getBuffer();
+        try {
+            buffer.write(requestObject);
+            return buffer.release();
+        } catch (IOException | RuntimeException e) {
+            buffer.discard();
+            throw new SteemTransformationException("Could not transform the request into JSON.", e);
+        }
+    }
+
+    /**
+     * Write the given requests as one JSON-RPC 2.0 batch.
+     * 
+     * @param requestObjects
+     *            The requests to encode.
+     * @return The JSON array containing all requests.
+     * @throws SteemTransformationException
+     *             If the api or the method of a request has not been set or if
+     *             the parameters could not be serialized.
+     */
+    public static String encode(List<RequestWrapperDTO> requestObjects) throws SteemTransformationException {
+        Buffer buffer = getBuffer();
+        try {
+            buffer.content.append('[');
+            for (int i = 0; i < requestObjects.size(); i++) {
+                if (i > 0) {
+                    buffer.content.append(',');
+                }
+                buffer.write(requestObjects.get(i));
+            }
+            buffer.content.append(']');
+
+            return buffer.release();
+        } catch (IOException | RuntimeException e) {
+            buffer.discard();
+            throw new SteemTransformationException("Could not transform the requests into JSON.", e);
+        }
+    }
+
+    /**
+     * Get the buffer of the current thread.
+     * 
+     * @return The buffer.
+     * @throws SteemTransformationException
+     *             If the generator could not be created.
+     */
+    private static Buffer getBuffer() throws SteemTransformationException {
+        Buffer buffer = BUFFERS.get();
+        if (buffer == null) {
+            try {
+                buffer = new Buffer();
+            } catch (IOException e) {
+                throw new SteemTransformationException("Could not create a JSON generator.", e);
+            }
+            BUFFERS.set(buffer);
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Create the constant start of a request for each combination of api and
+     * method. The format matches the one Jackson created for the
+     * {@link RequestWrapperDTO RequestWrapperDTO} before.
+     * 
+     * @return The prefixes, indexed by the ordinal of the api and the method.
+     */
+    private static String[][] createPrefixes() {
+        String[][] prefixes = new String[SteemApis.values().length][RequestMethods.values().length];
+        for (SteemApis steemApi : SteemApis.values()) {
+            for (RequestMethods apiMethod : RequestMethods.values()) {
+                prefixes[steemApi.ordinal()][apiMethod.ordinal()] = "{\"jsonrpc\":\"2.0\",\"params\":[\""
+                        + steemApi.toString().toLowerCase() + "\",\"" + apiMethod.toString().toLowerCase() + "\",";
+            }
+        }
+
+        return prefixes;
+    }
+
+    /**
+     * The reusable buffer of one thread. A generator which wrote a root value
+     * would normally separate the next root value with a space, so the
+     * separator is disabled.
+     */
+    private static final class Buffer extends Writer {
+        private StringBuilder content = new StringBuilder(256);
+        private final JsonGenerator generator;
+
+        /**
+         * Create a new buffer.
+         * 
+         * @throws IOException
+         *             If the generator could not be created.
+         */
+        private Buffer() throws IOException {
+            generator = MAPPER.getFactory().createGenerator(this);
+            generator.setRootValueSeparator(null);
+        }
+
+        /**
+         * Append the given request to this buffer.
+         * 
+         * @param requestObject
+         *            The request to append.
+         * @throws IOException
+         *             If the parameters could not be serialized.
+         */
+        private void write(RequestWrapperDTO requestObject) throws IOException {
+            content.append(PREFIXES[requestObject.getSteemApi().ordinal()][requestObject.getApiMethod().ordinal()]);
+            MAPPER.writeValue(generator, requestObject.getAdditionalParameters());
+            generator.flush();
+            content.append("],\"id\":").append(requestObject.getId()).append(",\"method\":\"call\"}");
+        }
+
+        /**
+         * Get the content of this buffer and reset it for the next call.
+         * 
+         * @return The content.
+         */
+        private String release() {
+            String result = content.toString();
+            if (content.capacity() > MAXIMUM_POOLED_BUFFER_SIZE) {
+                content = new StringBuilder(256);
+            } else {
+                content.setLength(0);
+            }
+
+            return result;
+        }
+
+        /**
+         * Remove this buffer from the pool, as its generator may be in an
+         * inconsistent state.
+         */
+        private void discard() {
+            BUFFERS.remove();
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            content.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String string, int offset, int length) {
+            content.append(string, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+            // Nothing to do, as the content is written directly.
+        }
+
+        @Override
+        public void close() {
+            // Nothing to do, as the buffer is reused.
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package eu.bittrade.libs.steemj.communication;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * A reader which transforms the "result" field of a response of a Steem Node
+ * into Java objects. In contrast to binding the result to a fixed type, a
+ * reader can inspect the tokens of the result and skip parts which are not
+ * needed.
+ * 
+ * @param <T>
+ *            The type of the objects the result is transformed into.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@FunctionalInterface
+public interface ResultReader<T> {
+    /**
+     * Read the result.
+     * 
+     * @param parser
+     *            The parser, positioned at the first token of the result. The
+     *            reader has to consume the complete result.
+     * @return The transformed result.
+     * @throws IOException
+     *             If the result could not be read.
+     */
+    List<T> read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,55 @@
+package eu.bittrade.libs.steemj.communication.dto;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+
+/**
+ * The Steem Node returns each entry of an account history as a two element
+ * array containing the index of the entry and the applied operation. This
+ * class is used to bind such an array directly, without an intermediate tree.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({ "index", "appliedOperation" })
+public class AccountHistoryEntryDTO {
+    @JsonProperty("index")
+    private int index;
+    @JsonProperty("appliedOperation")
+    private AppliedOperation appliedOperation;
+
+    /**
+     * This object is only used to wrap the JSON response in a POJO, so
+     * therefore this class should not be instantiated.
+     */
+    private AccountHistoryEntryDTO() {
+    }
+
+    /**
+     * Get the index of this entry in the account history.
+     * 
+     * @return The index of this entry.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the operation of this entry.
+     * 
+     * @return The applied operation.
+     */
+    public AppliedOperation getAppliedOperation() {
+        return appliedOperation;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
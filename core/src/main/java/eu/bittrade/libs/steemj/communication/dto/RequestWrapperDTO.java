@@ -1,15 +1,17 @@
 package eu.bittrade.libs.steemj.communication.dto;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import eu.bittrade.libs.steemj.communication.RequestEncoder;
 import eu.bittrade.libs.steemj.enums.RequestMethods;
 import eu.bittrade.libs.steemj.enums.SteemApis;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
 
 /**
  * A wrapper object that carries all required fields for a request.
@@ -18,21 +20,23 @@ import eu.bittrade.libs.steemj.enums.SteemApis;
  */
 @JsonPropertyOrder({ "jsonrpc", "params", "id", "method" })
 public class RequestWrapperDTO {
-    private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final Logger LOGGER = LoggerFactory.getLogger(RequestWrapperDTO.class);
 
     /**
      * The id of the request (used to identify which answer belongs to which
-     * request
+     * request). As multiple requests can be created and sent at the same time
+     * by different threads, the counter needs to be atomic.
      */
     @JsonIgnore
-    private static int globalRequestId = 0;
+    private static final AtomicInteger globalRequestId = new AtomicInteger(0);
     @JsonIgnore
     private SteemApis steemApi;
     @JsonIgnore
     private RequestMethods apiMethod;
     @JsonIgnore
     private Object[] additionalParameters;
+    @JsonIgnore
+    private long timeout = -1;
 
     private static final String JSONRPC = "2.0";
     private static final String METHOD = "call";
@@ -43,7 +47,7 @@ public class RequestWrapperDTO {
      * Instantiate a new RequestObject.
      */
     public RequestWrapperDTO() {
-        this.id = globalRequestId++;
+        this.id = globalRequestId.getAndIncrement();
     }
 
     /**
@@ -103,6 +107,40 @@ public class RequestWrapperDTO {
         this.additionalParameters = userParameters;
     }
 
+    /**
+     * Get the maximum time SteemJ will wait for the response to this request.
+     * 
+     * @return The timeout in milliseconds, <code>0</code> if the timeout
+     *         mechanism is disabled for this request or <code>-1</code> if the
+     *         configured default (see
+     *         {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#getTimeout()
+     *         getTimeout()}) should be used.
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Override the configured default timeout for this request. If the Steem
+     * Node does not answer in the given time, the request fails with a
+     * {@link eu.bittrade.libs.steemj.exceptions.SteemTimeoutException
+     * SteemTimeoutException} and a response received afterwards is discarded.
+     * 
+     * @param timeout
+     *            The timeout in milliseconds. <code>0</code> disables the
+     *            timeout mechanism for this request, <code>-1</code> restores
+     *            the configured default.
+     * @throws IllegalArgumentException
+     *             If the value of timeout is less than -1.
+     */
+    public void setTimeout(long timeout) {
+        if (timeout < -1) {
+            throw new IllegalArgumentException("The timeout has to be greater than -1.");
+        }
+
+        this.timeout = timeout;
+    }
+
     /**
      * Get the complete list of parameters used for this request.
      * 
@@ -151,14 +189,14 @@ public class RequestWrapperDTO {
      *         incremented.
      */
     public static int incrementGlobalRequestId() {
-        return ++globalRequestId;
+        return globalRequestId.incrementAndGet();
     }
 
     @Override
     public String toString() {
         try {
-            return MAPPER.writeValueAsString(this);
-        } catch (JsonProcessingException e) {
+            return RequestEncoder.encode(this);
+        } catch (SteemTransformationException e) {
             LOGGER.error("Could not transform object to JSON.", e);
             return "";
         }
@@ -0,0 +1,64 @@
+package eu.bittrade.libs.steemj.configuration;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * This class describes how many requests SteemJ is allowed to send to a single
+ * Steem Node.
+ * 
+ * The limit is implemented as a token bucket: The bucket is refilled with
+ * <code>requestsPerSecond</code> tokens per second and can hold up to
+ * <code>burstSize</code> tokens, while each request takes one token. This
+ * allows short bursts of requests, while the average rate is limited to
+ * <code>requestsPerSecond</code>.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class RateLimit {
+    private final double requestsPerSecond;
+    private final int burstSize;
+
+    /**
+     * Create a new rate limit.
+     * 
+     * @param requestsPerSecond
+     *            The average number of requests per second.
+     * @param burstSize
+     *            The maximum number of requests that can be sent at once.
+     * @throws IllegalArgumentException
+     *             If one of the values is not positive.
+     */
+    public RateLimit(double requestsPerSecond, int burstSize) {
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException("The requestsPerSecond have to be greater than 0.");
+        } else if (burstSize < 1) {
+            throw new IllegalArgumentException("The burstSize has to be greater than 0.");
+        }
+
+        this.requestsPerSecond = requestsPerSecond;
+        this.burstSize = burstSize;
+    }
+
+    /**
+     * Get the average number of requests per second.
+     * 
+     * @return The average number of requests per second.
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Get the maximum number of requests that can be sent at once.
+     * 
+     * @return The burst size.
+     */
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
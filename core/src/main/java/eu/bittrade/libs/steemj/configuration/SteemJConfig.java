@@ -5,7 +5,14 @@ import java.net.URISyntaxException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.websocket.ClientEndpointConfig;
 
@@ -14,7 +21,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.enums.CallbackOverflowPolicy;
 import eu.bittrade.libs.steemj.enums.PrivateKeyType;
+import eu.bittrade.libs.steemj.enums.SteemApis;
 import eu.bittrade.libs.steemj.enums.SteemitAddressPrefix;
 
 /**
@@ -58,7 +67,8 @@ public class SteemJConfig {
     }
 
     private ClientEndpointConfig clientEndpointConfig;
-    private URI webSocketEndpointURI;
+    private List<URI> webSocketEndpointURIs;
+    private int connectionsPerNode;
     private long timeout;
     private String dateTimePattern;
     private long maximumExpirationDateOffset;
@@ -68,6 +78,16 @@ public class SteemJConfig {
     private boolean sslVerificationDisabled;
     private PrivateKeyStorage privateKeyStorage;
     private Charset encodingCharset;
+    private Executor responseExecutor;
+    private boolean requestCoalescingEnabled;
+    private boolean lazyOperationDecodingEnabled;
+    private Map<SteemApis, RateLimit> rateLimits;
+    private int rateLimitQueueCapacity;
+    private long pingInterval;
+    private long maximumReconnectDelay;
+    private Executor callbackExecutor;
+    private int callbackQueueCapacity;
+    private CallbackOverflowPolicy callbackOverflowPolicy;
 
     private SteemitAddressPrefix steemitAddressPrefix;
 
@@ -83,8 +103,9 @@ public class SteemJConfig {
         } catch (URISyntaxException e) {
             // This can never happen!
             LOGGER.error("The configured default URI has a Syntax error.", e);
-            this.webSocketEndpointURI = null;
+            this.webSocketEndpointURIs = Collections.emptyList();
         }
+        this.connectionsPerNode = 1;
         this.timeout = 1000;
         this.dateTimePattern = "yyyy-MM-dd'T'HH:mm:ss";
         this.apiUsername = new AccountName(System.getProperty("steemj.api.username", ""));
@@ -92,6 +113,16 @@ public class SteemJConfig {
         this.maximumExpirationDateOffset = 3600000L;
         this.timeZoneId = "GMT";
         this.encodingCharset = StandardCharsets.UTF_8;
+        this.responseExecutor = ForkJoinPool.commonPool();
+        this.requestCoalescingEnabled = true;
+        this.lazyOperationDecodingEnabled = false;
+        this.rateLimits = new EnumMap<>(SteemApis.class);
+        this.rateLimitQueueCapacity = 1000;
+        this.pingInterval = 30000L;
+        this.maximumReconnectDelay = 30000L;
+        this.callbackExecutor = ForkJoinPool.commonPool();
+        this.callbackQueueCapacity = 1000;
+        this.callbackOverflowPolicy = CallbackOverflowPolicy.DROP_OLDEST;
         this.privateKeyStorage = new PrivateKeyStorage();
         this.steemitAddressPrefix = SteemitAddressPrefix.STM;
         this.chainId = "0000000000000000000000000000000000000000000000000000000000000000";
@@ -129,6 +160,33 @@ public class SteemJConfig {
         return apiUsername;
     }
 
+    /**
+     * Get the executor that is used to call the registered callbacks.
+     * 
+     * @return The executor used for callbacks.
+     */
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    /**
+     * Get the strategy used if the queue of a callback is full.
+     * 
+     * @return The overflow policy of callbacks.
+     */
+    public CallbackOverflowPolicy getCallbackOverflowPolicy() {
+        return callbackOverflowPolicy;
+    }
+
+    /**
+     * Get the maximum number of notifications that are queued for a callback.
+     * 
+     * @return The queue capacity of callbacks.
+     */
+    public int getCallbackQueueCapacity() {
+        return callbackQueueCapacity;
+    }
+
     /**
      * Get the currently configured chain id used to sign transactions. For the
      * production chain the id is a 56bit long 0 sequence which is configured by
@@ -147,6 +205,16 @@ public class SteemJConfig {
         return clientEndpointConfig;
     }
 
+    /**
+     * Get the number of web socket sessions that are opened to each configured
+     * Steem Node.
+     * 
+     * @return The number of sessions per node.
+     */
+    public int getConnectionsPerNode() {
+        return connectionsPerNode;
+    }
+
     /**
      * Get the currently configured date time pattern. This date pattern is used
      * to serialize and deserialize JSON/Java objects.
@@ -176,6 +244,25 @@ public class SteemJConfig {
         return maximumExpirationDateOffset;
     }
 
+    /**
+     * Get the maximum time SteemJ waits before it tries to reconnect to a
+     * Steem Node.
+     * 
+     * @return The maximum reconnect delay in milliseconds.
+     */
+    public long getMaximumReconnectDelay() {
+        return maximumReconnectDelay;
+    }
+
+    /**
+     * Get the interval in which SteemJ pings the Steem Nodes.
+     * 
+     * @return The ping interval in milliseconds.
+     */
+    public long getPingInterval() {
+        return pingInterval;
+    }
+
     /**
      * Get the private key storage to manage the private keys for one or
      * multiple accounts.
@@ -197,6 +284,38 @@ public class SteemJConfig {
         return privateKeyStorage;
     }
 
+    /**
+     * Get the rate limit applied to the requests for the given api.
+     * 
+     * @param steemApi
+     *            The api.
+     * @return The rate limit or null, if the requests for the given api are
+     *         not limited.
+     */
+    public RateLimit getRateLimit(SteemApis steemApi) {
+        return rateLimits.get(steemApi);
+    }
+
+    /**
+     * Get the maximum number of requests per node and api that can wait for
+     * the rate limit.
+     * 
+     * @return The capacity of the queue.
+     */
+    public int getRateLimitQueueCapacity() {
+        return rateLimitQueueCapacity;
+    }
+
+    /**
+     * Get the executor that is used to transform the responses of asynchronous
+     * requests into Java objects.
+     * 
+     * @return The executor used for asynchronous requests.
+     */
+    public Executor getResponseExecutor() {
+        return responseExecutor;
+    }
+
     /**
      * Get the currently configured Steemit address prefix. This prefix is used
      * to parse keys in their WIF format.
@@ -227,10 +346,38 @@ public class SteemJConfig {
     }
 
     /**
-     * @return Get the configured websocket endpoint URI.
+     * @return Get the configured websocket endpoint URI. If multiple endpoints
+     *         have been configured, the first one is returned.
      */
     public URI getWebSocketEndpointURI() {
-        return webSocketEndpointURI;
+        return webSocketEndpointURIs.isEmpty() ? null : webSocketEndpointURIs.get(0);
+    }
+
+    /**
+     * @return Get all configured websocket endpoint URIs.
+     */
+    public List<URI> getWebSocketEndpointURIs() {
+        return webSocketEndpointURIs;
+    }
+
+    /**
+     * Check if operations are only transformed into Java objects when they are
+     * accessed for the first time.
+     * 
+     * @return True if operations are decoded lazily or false if not.
+     */
+    public boolean isLazyOperationDecodingEnabled() {
+        return lazyOperationDecodingEnabled;
+    }
+
+    /**
+     * Check if identical read requests which are in flight at the same time
+     * should be combined into one request.
+     * 
+     * @return True if requests are coalesced or false if not.
+     */
+    public boolean isRequestCoalescingEnabled() {
+        return requestCoalescingEnabled;
     }
 
     /**
@@ -264,6 +411,60 @@ public class SteemJConfig {
         this.apiUsername = apiUsername;
     }
 
+    /**
+     * Override the default executor (the common fork join pool) that is used
+     * to call the registered callbacks. The notifications of one callback are
+     * never processed in parallel.
+     * 
+     * @param callbackExecutor
+     *            The executor to use.
+     * @throws IllegalArgumentException
+     *             If the given executor is null.
+     */
+    public void setCallbackExecutor(Executor callbackExecutor) {
+        if (callbackExecutor == null) {
+            throw new IllegalArgumentException("The callbackExecutor can't be null.");
+        }
+
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Define what happens if a callback does not process its notifications as
+     * fast as they arrive and its queue is full. By default, the oldest
+     * notification is dropped.
+     * 
+     * @param callbackOverflowPolicy
+     *            The overflow policy of callbacks.
+     * @throws IllegalArgumentException
+     *             If the given policy is null.
+     */
+    public void setCallbackOverflowPolicy(CallbackOverflowPolicy callbackOverflowPolicy) {
+        if (callbackOverflowPolicy == null) {
+            throw new IllegalArgumentException("The callbackOverflowPolicy can't be null.");
+        }
+
+        this.callbackOverflowPolicy = callbackOverflowPolicy;
+    }
+
+    /**
+     * Define the maximum number of notifications that are queued for a
+     * callback. The capacity applies to callbacks registered after this method
+     * has been called.
+     * 
+     * @param callbackQueueCapacity
+     *            The queue capacity of callbacks.
+     * @throws IllegalArgumentException
+     *             If the value of callbackQueueCapacity is not positive.
+     */
+    public void setCallbackQueueCapacity(int callbackQueueCapacity) {
+        if (callbackQueueCapacity < 1) {
+            throw new IllegalArgumentException("The callbackQueueCapacity has to be greater than 0.");
+        }
+
+        this.callbackQueueCapacity = callbackQueueCapacity;
+    }
+
     /**
      * Set the chain id used to sign transactions. For the production chain the
      * id is a 56bit long 0 sequence which is configured by default.
@@ -285,6 +486,23 @@ public class SteemJConfig {
         this.clientEndpointConfig = clientEndpointConfig;
     }
 
+    /**
+     * Define how many web socket sessions should be opened to each configured
+     * Steem Node. Requests are distributed over all sessions.
+     * 
+     * @param connectionsPerNode
+     *            The number of sessions per node.
+     * @throws IllegalArgumentException
+     *             If the value of connectionsPerNode is less than 1.
+     */
+    public void setConnectionsPerNode(int connectionsPerNode) {
+        if (connectionsPerNode < 1) {
+            throw new IllegalArgumentException("At least one connection per node is required.");
+        }
+
+        this.connectionsPerNode = connectionsPerNode;
+    }
+
     /**
      * Override the default date pattern. This date pattern is used to serialize
      * and deserialize JSON/Java objects.
@@ -318,6 +536,21 @@ public class SteemJConfig {
         this.encodingCharset = encodingCharset;
     }
 
+    /**
+     * Define if the operations of transactions and of applied operations
+     * should only be transformed into Java objects when they are accessed for
+     * the first time. If enabled, only the type and the JSON tokens of each
+     * operation are kept while a response is read, which saves memory and
+     * time if most operations are never accessed. This option is disabled by
+     * default.
+     * 
+     * @param lazyOperationDecodingEnabled
+     *            Defines if operations should be decoded lazily.
+     */
+    public void setLazyOperationDecodingEnabled(boolean lazyOperationDecodingEnabled) {
+        this.lazyOperationDecodingEnabled = lazyOperationDecodingEnabled;
+    }
+
     /**
      * A Steem Node will only accept transactions whose expiration date is not
      * to far in the future.
@@ -338,6 +571,49 @@ public class SteemJConfig {
         this.maximumExpirationDateOffset = maximumExpirationDateOffset;
     }
 
+    /**
+     * If the connection to a Steem Node is lost, SteemJ tries to reconnect
+     * with an exponentially growing, randomized delay. This method defines
+     * the upper bound of this delay.
+     * 
+     * @param maximumReconnectDelay
+     *            The maximum reconnect delay in milliseconds.
+     * @throws IllegalArgumentException
+     *             If the value of maximumReconnectDelay is not positive.
+     */
+    public void setMaximumReconnectDelay(long maximumReconnectDelay) {
+        if (maximumReconnectDelay <= 0) {
+            throw new IllegalArgumentException("The maximumReconnectDelay has to be greater than 0.");
+        }
+
+        this.maximumReconnectDelay = maximumReconnectDelay;
+    }
+
+    /**
+     * Define the interval in which SteemJ pings the Steem Nodes. If a ping has
+     * not been answered until the next ping is due, the connection is
+     * considered to be lost and will be reestablished. If set to
+     * <code>0</code> no pings are sent.
+     * 
+     * <p>
+     * The interval applies to connections created after this method has been
+     * called.
+     * </p>
+     * 
+     * @param pingInterval
+     *            The ping interval in milliseconds.
+     * @throws IllegalArgumentException
+     *             If the value of pingInterval is negative.
+     */
+    public void setPingInterval(long pingInterval) {
+        if (pingInterval < 0) {
+            throw new IllegalArgumentException(
+                    "The pingInterval has to be greater than 0. (0 will disable the pings).");
+        }
+
+        this.pingInterval = pingInterval;
+    }
+
     /**
      * Define if the SSL-Verification should be disabled.
      * 
@@ -348,6 +624,83 @@ public class SteemJConfig {
         this.sslVerificationDisabled = sslVerificationDisabled;
     }
 
+    /**
+     * Limit the number of requests for the given api that are sent to each
+     * Steem Node. Requests exceeding the limit are queued until they can be
+     * sent, so asynchronous requests stay pending and synchronous requests
+     * block in the meantime. If the queue is full (see
+     * {@link #setRateLimitQueueCapacity(int) setRateLimitQueueCapacity}), the
+     * request fails immediately with a
+     * {@link eu.bittrade.libs.steemj.exceptions.SteemRateLimitException
+     * SteemRateLimitException}.
+     * 
+     * <p>
+     * The limit applies to connections created after this method has been
+     * called. By default, no limit is applied.
+     * </p>
+     * 
+     * @param steemApi
+     *            The api to limit.
+     * @param rateLimit
+     *            The rate limit to apply or null to remove the limit.
+     */
+    public void setRateLimit(SteemApis steemApi, RateLimit rateLimit) {
+        if (rateLimit == null) {
+            rateLimits.remove(steemApi);
+        } else {
+            rateLimits.put(steemApi, rateLimit);
+        }
+    }
+
+    /**
+     * Define how many requests per node and api can wait for the rate limit,
+     * before new requests are rejected.
+     * 
+     * @param rateLimitQueueCapacity
+     *            The capacity of the queue.
+     * @throws IllegalArgumentException
+     *             If the value of rateLimitQueueCapacity is negative.
+     */
+    public void setRateLimitQueueCapacity(int rateLimitQueueCapacity) {
+        if (rateLimitQueueCapacity < 0) {
+            throw new IllegalArgumentException("The rateLimitQueueCapacity can't be negative.");
+        }
+
+        this.rateLimitQueueCapacity = rateLimitQueueCapacity;
+    }
+
+    /**
+     * Define if identical read requests (same api, method and parameters)
+     * which are in flight at the same time should be combined into one
+     * request. If enabled, later callers receive the response of the request
+     * that has already been sent. Requests that change the state of the
+     * blockchain or the session (e.g. broadcasts or the login) are never
+     * combined. This option is enabled by default.
+     * 
+     * @param requestCoalescingEnabled
+     *            Defines if identical read requests should be combined.
+     */
+    public void setRequestCoalescingEnabled(boolean requestCoalescingEnabled) {
+        this.requestCoalescingEnabled = requestCoalescingEnabled;
+    }
+
+    /**
+     * Override the default executor (the common fork join pool) that is used
+     * to transform the responses of asynchronous requests into Java objects.
+     * 
+     * @param responseExecutor
+     *            The executor to use.
+     * @throws IllegalArgumentException
+     *             If the given executor is null.
+     */
+    public void setResponseExecutor(Executor responseExecutor) {
+        if (responseExecutor == null) {
+            throw new IllegalArgumentException("The responseExecutor can't be null.");
+        }
+
+        this.responseExecutor = responseExecutor;
+    }
+
     /**
      * Set the Steemit address prefix. This prefix is used to parse keys in
      * their WIF format.
@@ -412,7 +765,51 @@ public class SteemJConfig {
                     "The websocketEndpointURI can't be null, because a valid URI to the RPC endpoint of a Steem Node is required.");
         }
 
-        this.webSocketEndpointURI = webSocketEndpointURI;
+        this.webSocketEndpointURIs = Collections.singletonList(webSocketEndpointURI);
+        this.sslVerificationDisabled = sslVerificationDisabled;
+    }
+
+    /**
+     * This method has the same functionality than
+     * {@link #setWebSocketEndpointURIs(List, boolean)
+     * setWebSocketEndpointURIs(List, boolean)}, but this method will enable
+     * the SSL verification by default.
+     * 
+     * @param webSocketEndpointURIs
+     *            The URIs of the nodes you want to connect to.
+     * @throws URISyntaxException
+     *             If the <code>webSocketEndpointURIs</code> are null, empty or
+     *             contain a null element.
+     */
+    public void setWebSocketEndpointURIs(List<URI> webSocketEndpointURIs) throws URISyntaxException {
+        setWebSocketEndpointURIs(webSocketEndpointURIs, false);
+    }
+
+    /**
+     * Configure the connections to multiple Steem Nodes by providing their
+     * endpoint URIs and the SSL verification settings. SteemJ will keep
+     * connections to all of the given nodes and send each request to the node
+     * that currently answers the fastest. If a node is not available, the
+     * request is sent to one of the other nodes.
+     * 
+     * @param webSocketEndpointURIs
+     *            The URIs of the nodes you want to connect to.
+     * @param sslVerificationDisabled
+     *            Define if SteemJ should verify the SSL certificates of the
+     *            endpoints. This option will be ignored for endpoints using a
+     *            non SSL protocol.
+     * @throws URISyntaxException
+     *             If the <code>webSocketEndpointURIs</code> are null, empty or
+     *             contain a null element.
+     */
+    public void setWebSocketEndpointURIs(List<URI> webSocketEndpointURIs, boolean sslVerificationDisabled)
+            throws URISyntaxException {
+        if (webSocketEndpointURIs == null || webSocketEndpointURIs.isEmpty() || webSocketEndpointURIs.contains(null)) {
+            throw new URISyntaxException("webSocketEndpointURIs",
+                    "At least one valid URI to the RPC endpoint of a Steem Node is required.");
+        }
+
+        this.webSocketEndpointURIs = Collections.unmodifiableList(new ArrayList<>(webSocketEndpointURIs));
         this.sslVerificationDisabled = sslVerificationDisabled;
     }
 }
@@ -0,0 +1,20 @@
+package eu.bittrade.libs.steemj.enums;
+
+/**
+ * An enumeration of the strategies used if a callback does not process its
+ * notifications as fast as they arrive and its queue is full.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum CallbackOverflowPolicy {
+    /** Discard the oldest queued notification to make room for the new one. */
+    DROP_OLDEST,
+    /**
+     * Wait until the callback has made room for the new notification. This
+     * also stops the processing of all other messages received from the
+     * Steem Node in the meantime.
+     */
+    BLOCK,
+    /** Remove the callback, so it will not receive any further notifications. */
+    DISCONNECT
+}
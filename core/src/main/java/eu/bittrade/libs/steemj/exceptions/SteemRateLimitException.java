@@ -0,0 +1,19 @@
+package eu.bittrade.libs.steemj.exceptions;
+
+/**
+ * A custom Exception to handle requests which have been rejected, because too
+ * many requests are already waiting for the configured rate limit.
+ * 
+ * @author<a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SteemRateLimitException extends SteemCommunicationException {
+    private static final long serialVersionUID = -2716493562838720713L;
+
+    public SteemRateLimitException(String message) {
+        super(message);
+    }
+
+    public SteemRateLimitException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
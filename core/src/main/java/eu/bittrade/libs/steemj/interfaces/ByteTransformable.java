@@ -1,6 +1,7 @@
 package eu.bittrade.libs.steemj.interfaces;
 
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.util.ByteSink;
 
 /**
  * This interface is used to make sure each operation implements a method to get
@@ -19,4 +20,25 @@ public interface ByteTransformable {
      *             into a byte array.
      */
     byte[] toByteArray() throws SteemInvalidTransactionException;
+
+    /**
+     * Write the byte representation of the operation into the given sink.
+     * Implementations should override this method to write their fields
+     * directly instead of creating the complete array first.
+     * 
+     * @param byteSink
+     *            The sink to write to.
+     * @throws SteemInvalidTransactionException
+     *             If there was a problem while transforming the transaction
+     *             into its byte representation.
+     */
+    default void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException {
+        byte[] byteRepresentation = toByteArray();
+        if (byteRepresentation == null) {
+            throw new SteemInvalidTransactionException(
+                    "The serialization of " + this.getClass().getSimpleName() + " is not supported yet.");
+        }
+
+        byteSink.writeBytes(byteRepresentation);
+    }
 }
@@ -0,0 +1,556 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
+import eu.bittrade.libs.steemj.communication.BlockAppliedCallback;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * The common part of the {@link BlockStreamer BlockStreamer} and the
+ * {@link OperationStreamer OperationStreamer}: This class requests the blocks
+ * of the Steem blockchain in order, follows the head block once it has caught
+ * up and takes care of forks in the {@link BlockStreamMode#IRREVERSIBLE
+ * IRREVERSIBLE} mode, where a block is only requested once it has become
+ * irreversible. The subclasses define what is requested for each block and to
+ * whom it is delivered.
+ * 
+ * @param <T>
+ *            The type of the requested blocks.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+abstract class AbstractBlockStreamer<T> implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractBlockStreamer.class);
+
+    /** The number of blocks requested in parallel by default. */
+    public static final int DEFAULT_PREFETCH_WINDOW = 64;
+    /** The time in milliseconds before a failed request is repeated. */
+    private static final long RETRY_DELAY = 1000L;
+    /**
+     * The maximal time in milliseconds before the blocks are requested again
+     * after a block did not match the previously delivered block.
+     */
+    private static final long MAX_FORK_RETRY_DELAY = 60000L;
+    /**
+     * The interval in milliseconds in which the head block is requested while
+     * following the head block, in case a notification got lost.
+     */
+    private static final long HEAD_REFRESH_INTERVAL = 30000L;
+    /**
+     * The minimal time in milliseconds between two requests for the last
+     * irreversible block, which is the time between two blocks.
+     */
+    private static final long IRREVERSIBLE_REFRESH_INTERVAL = 3000L;
+
+    /** Used to repeat failed requests and to refresh the head block. */
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private final SteemJAsync steemJAsync;
+    private final int prefetchWindow;
+    private final BlockStreamMode blockStreamMode;
+    private final Executor deliveryExecutor;
+    /**
+     * The blocks which have been received, but could not be delivered yet,
+     * because a block with a lower number is still missing.
+     */
+    private final Map<Long, T> receivedBlocks = new HashMap<>();
+    private final BlockAppliedCallback headBlockCallback = new BlockAppliedCallback() {
+        @Override
+        public void onNewBlock(SignedBlockHeader signedBlockHeader) {
+            // The block id of the previous block contains its number.
+            updateHeadBlockNumber(signedBlockHeader.getPrevious().getNumberFromHash() + 1L);
+        }
+    };
+    private long nextBlockNumber;
+    private long nextRequestedBlockNumber;
+    private long headBlockNumber;
+    private long lastIrreversibleBlockNumber;
+    /** The id of the last delivered block, used to detect forks. */
+    private String lastDeliveredBlockId;
+    /** Incremented whenever the requested blocks are discarded. */
+    private long generation;
+    /** The time to wait before requesting the blocks after the next fork. */
+    private long forkRetryDelay = RETRY_DELAY;
+    /** True while no blocks are requested after a fork has been detected. */
+    private boolean backingOff;
+    private long lastHeadRefreshTime;
+    private boolean started;
+    private boolean closed;
+    private boolean delivering;
+    private boolean headRefreshInProgress;
+    private boolean followingHeadBlock;
+    private ScheduledFuture<?> headRefreshTask;
+    private ScheduledFuture<?> irreversibleRefreshTask;
+
+    /**
+     * Create a new block streamer. The streamer does not request any block
+     * before {@link #start()} has been called.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param prefetchWindow
+     *            The maximum number of blocks requested ahead of the next
+     *            block to deliver.
+     * @param blockStreamMode
+     *            Defines if the blocks are delivered as soon as they have been
+     *            applied or once they are irreversible.
+     * @throws IllegalArgumentException
+     *             If the startBlockNumber or the prefetchWindow is not
+     *             positive.
+     */
+    AbstractBlockStreamer(SteemJ steemJ, long startBlockNumber, int prefetchWindow, BlockStreamMode blockStreamMode) {
+        this(steemJ.getAsyncApi(), startBlockNumber, prefetchWindow, blockStreamMode);
+    }
+
+    /**
+     * Create a new block streamer which uses the given api. The streamer does
+     * not request any block before {@link #start()} has been called.
+     * 
+     * @param steemJAsync
+     *            The api used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param prefetchWindow
+     *            The maximum number of blocks requested ahead of the next
+     *            block to deliver.
+     * @param blockStreamMode
+     *            Defines if the blocks are delivered as soon as they have been
+     *            applied or once they are irreversible.
+     * @throws IllegalArgumentException
+     *             If the startBlockNumber or the prefetchWindow is not
+     *             positive.
+     */
+    AbstractBlockStreamer(SteemJAsync steemJAsync, long startBlockNumber, int prefetchWindow,
+            BlockStreamMode blockStreamMode) {
+        if (startBlockNumber < 1) {
+            throw new IllegalArgumentException("The startBlockNumber has to be greater than 0.");
+        } else if (prefetchWindow < 1) {
+            throw new IllegalArgumentException("The prefetchWindow has to be greater than 0.");
+        }
+
+        this.steemJAsync = steemJAsync;
+        this.prefetchWindow = prefetchWindow;
+        this.blockStreamMode = blockStreamMode;
+        this.deliveryExecutor = SteemJConfig.getInstance().getCallbackExecutor();
+        this.nextBlockNumber = startBlockNumber;
+        this.nextRequestedBlockNumber = startBlockNumber;
+        this.headBlockNumber = startBlockNumber - 1;
+    }
+
+    /**
+     * Start to stream the blocks. Calling this method multiple times has no
+     * effect.
+     */
+    public synchronized void start() {
+        if (started || closed) {
+            return;
+        }
+
+        started = true;
+        refreshHeadBlockNumber();
+    }
+
+    /**
+     * Get the number of the next block that will be delivered to the
+     * listener.
+     * 
+     * @return The number of the next block.
+     */
+    public synchronized long getNextBlockNumber() {
+        return nextBlockNumber;
+    }
+
+    /**
+     * Check if this streamer has caught up and is now following the head
+     * block.
+     * 
+     * @return True if this streamer follows the head block, false if it is
+     *         still catching up.
+     */
+    public synchronized boolean isFollowingHeadBlock() {
+        return followingHeadBlock;
+    }
+
+    /**
+     * Get the number of the last irreversible block known to this streamer.
+     * The value is only updated from time to time and may therefore be lower
+     * than the actual last irreversible block number.
+     * 
+     * @return The number of the last irreversible block, or 0 if it has not
+     *         been requested yet.
+     */
+    synchronized long getLastIrreversibleBlockNumber() {
+        return lastIrreversibleBlockNumber;
+    }
+
+    /**
+     * Stop to stream the blocks. Blocks which have already been requested are
+     * discarded. A block that is currently processed by the listener will
+     * still be completed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        receivedBlocks.values().forEach(this::discardBlock);
+        receivedBlocks.clear();
+        if (headRefreshTask != null) {
+            headRefreshTask.cancel(false);
+        }
+        if (irreversibleRefreshTask != null) {
+            irreversibleRefreshTask.cancel(false);
+        }
+        if (followingHeadBlock) {
+            steemJAsync.removeBlockAppliedCallback(headBlockCallback);
+        }
+    }
+
+    /**
+     * Request as many blocks as the prefetch window allows. If all blocks up
+     * to the known head block have been requested, the head block is updated.
+     * In the {@link BlockStreamMode#IRREVERSIBLE IRREVERSIBLE} mode, the blocks
+     * above the last irreversible block are held back until they have become
+     * irreversible, as they could still be replaced by a fork.
+     */
+    private synchronized void requestBlocks() {
+        if (closed || backingOff) {
+            return;
+        }
+
+        long lastRequestableBlockNumber = blockStreamMode == BlockStreamMode.IRREVERSIBLE
+                ? Math.min(headBlockNumber, lastIrreversibleBlockNumber) : headBlockNumber;
+        while (nextRequestedBlockNumber <= lastRequestableBlockNumber
+                && nextRequestedBlockNumber < nextBlockNumber + prefetchWindow) {
+            requestBlock(nextRequestedBlockNumber++);
+        }
+
+        if (nextRequestedBlockNumber > headBlockNumber && !followingHeadBlock) {
+            // The head block has moved on while catching up.
+            refreshHeadBlockNumber();
+        } else if (nextRequestedBlockNumber <= headBlockNumber
+                && nextRequestedBlockNumber < nextBlockNumber + prefetchWindow) {
+            // Wait until the next block has become irreversible.
+            scheduleIrreversibleRefresh();
+        }
+    }
+
+    /**
+     * Request a single block. If the request fails or if the block is not
+     * available yet, it is repeated after a short delay.
+     * 
+     * @param blockNumber
+     *            The number of the block to request.
+     */
+    private synchronized void requestBlock(long blockNumber) {
+        long requestGeneration = generation;
+        fetchBlock(steemJAsync, blockNumber).whenComplete((block, throwable) -> {
+            synchronized (this) {
+                if (closed || requestGeneration != generation) {
+                    // The block is not needed anymore.
+                    if (block != null) {
+                        discardBlock(block);
+                    }
+                    return;
+                } else if (throwable != null || block == null) {
+                    LOGGER.debug("Could not receive the block {}. Trying again.", blockNumber, throwable);
+                    schedule(() -> requestBlock(blockNumber), RETRY_DELAY);
+                    return;
+                }
+
+                receivedBlocks.put(blockNumber, block);
+            }
+            scheduleDelivery();
+        });
+    }
+
+    /**
+     * Request the last irreversible block number again, as the next block is
+     * not irreversible yet. The requests are limited to one per block
+     * interval.
+     */
+    private synchronized void scheduleIrreversibleRefresh() {
+        if (closed || (irreversibleRefreshTask != null && !irreversibleRefreshTask.isDone())) {
+            return;
+        }
+
+        long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastHeadRefreshTime);
+        irreversibleRefreshTask = SCHEDULER.schedule(this::refreshHeadBlockNumber,
+                Math.max(0, IRREVERSIBLE_REFRESH_INTERVAL - elapsedTime), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Discard all blocks which have been received or requested starting at
+     * the given block and request them again after a delay, which grows with
+     * each fork until a block has been delivered again.
+     * 
+     * @param blockNumber
+     *            The first block to discard.
+     */
+    private synchronized void discardBlocks(long blockNumber) {
+        generation++;
+        receivedBlocks.entrySet().removeIf(receivedBlock -> {
+            if (receivedBlock.getKey() < blockNumber) {
+                return false;
+            }
+
+            discardBlock(receivedBlock.getValue());
+            return true;
+        });
+        nextRequestedBlockNumber = blockNumber;
+
+        backingOff = true;
+        long delay = forkRetryDelay;
+        forkRetryDelay = Math.min(forkRetryDelay * 2, MAX_FORK_RETRY_DELAY);
+        schedule(() -> {
+            synchronized (this) {
+                backingOff = false;
+                // The irreversible block may have moved on in the meantime.
+                refreshHeadBlockNumber();
+            }
+        }, delay);
+    }
+
+    /**
+     * Request the current head block number from the Steem Node, if such a
+     * request is not already in progress.
+     */
+    private synchronized void refreshHeadBlockNumber() {
+        if (closed || headRefreshInProgress) {
+            return;
+        }
+
+        headRefreshInProgress = true;
+        fetchGlobalProperties(steemJAsync).whenComplete((globalProperties, throwable) -> {
+            synchronized (this) {
+                headRefreshInProgress = false;
+            }
+
+            if (throwable != null) {
+                LOGGER.debug("Could not receive the head block number. Trying again.", throwable);
+                schedule(this::refreshHeadBlockNumber, RETRY_DELAY);
+                return;
+            }
+
+            boolean caughtUp;
+            synchronized (this) {
+                lastHeadRefreshTime = System.nanoTime();
+                lastIrreversibleBlockNumber = Math.max(lastIrreversibleBlockNumber,
+                        globalProperties.getLastIrreversibleBlockNum());
+                caughtUp = globalProperties.getHeadBlockNumber() < nextRequestedBlockNumber + prefetchWindow;
+            }
+            if (caughtUp) {
+                followHeadBlock();
+            }
+            updateHeadBlockNumber(globalProperties.getHeadBlockNumber());
+            scheduleDelivery();
+        });
+    }
+
+    /**
+     * Switch to the head block following mode: Register a callback that
+     * informs this streamer about new blocks and refresh the head block from
+     * time to time in case a notification got lost.
+     */
+    private synchronized void followHeadBlock() {
+        if (closed || followingHeadBlock) {
+            return;
+        }
+
+        LOGGER.debug("Caught up with the head block, now following the head block.");
+        followingHeadBlock = true;
+        steemJAsync.setBlockAppliedCallback(headBlockCallback).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                LOGGER.warn("Could not register the block applied callback.", throwable);
+            }
+        });
+        headRefreshTask = SCHEDULER.scheduleWithFixedDelay(this::refreshHeadBlockNumber, HEAD_REFRESH_INTERVAL,
+                HEAD_REFRESH_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Update the known head block number and request the new blocks.
+     * 
+     * @param blockNumber
+     *            The number of a block that has been applied.
+     */
+    private synchronized void updateHeadBlockNumber(long blockNumber) {
+        headBlockNumber = Math.max(headBlockNumber, blockNumber);
+        requestBlocks();
+    }
+
+    /**
+     * Make sure that the received blocks are delivered, if no delivery is
+     * already in progress.
+     */
+    private synchronized void scheduleDelivery() {
+        if (closed || delivering || !receivedBlocks.containsKey(nextBlockNumber)) {
+            return;
+        }
+
+        delivering = true;
+        try {
+            deliveryExecutor.execute(this::deliverBlocks);
+        } catch (RejectedExecutionException e) {
+            LOGGER.error("Could not deliver the blocks.", e);
+            delivering = false;
+        }
+    }
+
+    /**
+     * Deliver all blocks which have been received without a gap.
+     */
+    private void deliverBlocks() {
+        while (true) {
+            long blockNumber;
+            T block;
+            synchronized (this) {
+                block = closed ? null : receivedBlocks.get(nextBlockNumber);
+                if (block == null) {
+                    delivering = false;
+                    return;
+                } else if (blockStreamMode == BlockStreamMode.IRREVERSIBLE && lastDeliveredBlockId != null
+                        && !lastDeliveredBlockId.equals(getPreviousBlockId(block))) {
+                    // Only irreversible blocks are requested, so the Steem
+                    // Nodes do not agree on the chain.
+                    LOGGER.warn("The block {} does not follow the block {}. Requesting the block again in {} ms.",
+                            nextBlockNumber, lastDeliveredBlockId, forkRetryDelay);
+                    delivering = false;
+                    discardBlocks(nextBlockNumber);
+                    return;
+                }
+
+                receivedBlocks.remove(nextBlockNumber);
+                lastDeliveredBlockId = getBlockId(block);
+                forkRetryDelay = RETRY_DELAY;
+                blockNumber = nextBlockNumber++;
+                // Delivering a block makes room in the prefetch window.
+                requestBlocks();
+            }
+
+            try {
+                deliverBlock(blockNumber, block);
+            } catch (RuntimeException e) {
+                LOGGER.error("The listener failed to process the block {}.", blockNumber, e);
+            }
+        }
+    }
+
+    /**
+     * Request the given block from the Steem Node.
+     * 
+     * @param steemJAsync
+     *            The api used to send the request.
+     * @param blockNumber
+     *            The number of the block to request.
+     * @return A future which will be completed with the block or null, if the
+     *         block does not exist yet.
+     */
+    abstract CompletableFuture<T> fetchBlock(SteemJAsync steemJAsync, long blockNumber);
+
+    /**
+     * Request the current head block number and the last irreversible block
+     * number from the Steem Node.
+     * 
+     * @param steemJAsync
+     *            The api used to send the request.
+     * @return A future which will be completed with the global properties.
+     */
+    CompletableFuture<GlobalProperties> fetchGlobalProperties(SteemJAsync steemJAsync) {
+        return steemJAsync.getDynamicGlobalProperties();
+    }
+
+    /**
+     * Get the id of the given block.
+     * 
+     * @param block
+     *            The block.
+     * @return The id of the block.
+     */
+    abstract String getBlockId(T block);
+
+    /**
+     * Get the id of the block in front of the given block.
+     * 
+     * @param block
+     *            The block.
+     * @return The id of the previous block.
+     */
+    abstract String getPreviousBlockId(T block);
+
+    /**
+     * Pass the given block to the listener.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param block
+     *            The block.
+     */
+    abstract void deliverBlock(long blockNumber, T block);
+
+    /**
+     * This method is called for each received block that will not be
+     * delivered, because it has been discarded or this streamer has been
+     * closed. The default implementation does nothing.
+     * 
+     * @param block
+     *            The discarded block.
+     */
+    void discardBlock(T block) {
+    }
+
+    /**
+     * Run the given task after the given delay, unless this streamer has been
+     * closed in the meantime.
+     * 
+     * @param task
+     *            The task to run.
+     * @param delay
+     *            The delay in milliseconds.
+     */
+    private void schedule(Runnable task, long delay) {
+        SCHEDULER.schedule(() -> {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+            }
+            task.run();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create the scheduler used by all block streamers. The scheduler uses a
+     * daemon thread so it does not prevent the JVM from shutting down.
+     * 
+     * @return The scheduler instance.
+     */
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread schedulerThread = new Thread(runnable, "steemj-block-streamer");
+            schedulerThread.setDaemon(true);
+            return schedulerThread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        return scheduler;
+    }
+}
@@ -0,0 +1,269 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.ExtendedAccount;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * This class requests the details of any number of accounts. The account
+ * names are deduplicated and split into chunks, which are requested in
+ * parallel. As each request is sent over the best available connection, the
+ * chunks are spread over all connections (see
+ * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setConnectionsPerNode(int)
+ * setConnectionsPerNode}).
+ * 
+ * <p>
+ * The accounts are passed to an {@link AccountListener AccountListener} as
+ * soon as the response of their chunk has been received, so they don't have
+ * to be kept in memory until all chunks have been received. If the request of
+ * a chunk fails, the failure is reported for each account name of the chunk
+ * and the remaining chunks are still requested. The listener is called by the
+ * configured callback executor (see
+ * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setCallbackExecutor(Executor)
+ * setCallbackExecutor}), but never by two threads at the same time.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * new AccountFetcher(steemJ).fetch(accountNames, myAccountListener).join();
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountFetcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountFetcher.class);
+
+    /** The number of accounts requested at once by default. */
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+    /** The number of chunks requested in parallel by default. */
+    public static final int DEFAULT_PARALLEL_REQUESTS = 8;
+
+    private final SteemJAsync steemJAsync;
+    private final int chunkSize;
+    private final int parallelRequests;
+    private final Executor deliveryExecutor;
+
+    /**
+     * Create a new account fetcher using the default chunk size and number of
+     * parallel requests.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the accounts.
+     */
+    public AccountFetcher(SteemJ steemJ) {
+        this(steemJ, DEFAULT_CHUNK_SIZE, DEFAULT_PARALLEL_REQUESTS);
+    }
+
+    /**
+     * Create a new account fetcher.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the accounts.
+     * @param chunkSize
+     *            The maximum number of accounts requested at once.
+     * @param parallelRequests
+     *            The maximum number of chunks requested in parallel.
+     * @throws IllegalArgumentException
+     *             If the chunkSize or the parallelRequests are not positive.
+     */
+    public AccountFetcher(SteemJ steemJ, int chunkSize, int parallelRequests) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunkSize has to be greater than 0.");
+        } else if (parallelRequests < 1) {
+            throw new IllegalArgumentException("The parallelRequests have to be greater than 0.");
+        }
+
+        this.steemJAsync = steemJ.getAsyncApi();
+        this.chunkSize = chunkSize;
+        this.parallelRequests = parallelRequests;
+        this.deliveryExecutor = SteemJConfig.getInstance().getCallbackExecutor();
+    }
+
+    /**
+     * Request the given accounts and pass them to the given listener.
+     * 
+     * @param accountNames
+     *            The names of the accounts to request. Duplicates are only
+     *            requested once.
+     * @param accountListener
+     *            The listener which receives the accounts.
+     * @return A future which will be completed once the listener has been
+     *         called for all account names. It is completed exceptionally if
+     *         the listener throws an exception or an error. Cancelling the
+     *         future stops
+     *         the fetch, but chunks which have already been requested may
+     *         still be delivered.
+     */
+    public CompletableFuture<Void> fetch(Collection<AccountName> accountNames, AccountListener accountListener) {
+        Fetch fetch = new Fetch(new ArrayList<>(new LinkedHashSet<>(accountNames)), accountListener);
+        fetch.requestChunks();
+
+        return fetch.completion;
+    }
+
+    /**
+     * The state of a single call of
+     * {@link AccountFetcher#fetch(Collection, AccountListener) fetch(...)}.
+     */
+    private class Fetch {
+        private final List<AccountName> accountNames;
+        private final AccountListener accountListener;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        /** The chunks which have been received, but not delivered yet. */
+        private final Queue<Runnable> receivedChunks = new ArrayDeque<>();
+        /** The position of the first account name of the next chunk. */
+        private int nextPosition;
+        private int pendingChunks;
+        private boolean delivering;
+
+        /**
+         * Create a new instance.
+         * 
+         * @param accountNames
+         *            The deduplicated names of the accounts to request.
+         * @param accountListener
+         *            The listener which receives the accounts.
+         */
+        Fetch(List<AccountName> accountNames, AccountListener accountListener) {
+            this.accountNames = accountNames;
+            this.accountListener = accountListener;
+        }
+
+        /**
+         * Request as many chunks as allowed and complete the fetch once all
+         * chunks have been delivered.
+         */
+        private synchronized void requestChunks() {
+            while (pendingChunks < parallelRequests && nextPosition < accountNames.size() && !completion.isDone()) {
+                List<AccountName> chunk = accountNames.subList(nextPosition,
+                        Math.min(accountNames.size(), nextPosition + chunkSize));
+                nextPosition += chunk.size();
+                pendingChunks++;
+
+                steemJAsync.getAccounts(chunk)
+                        .whenComplete((accounts, throwable) -> receiveChunk(chunk, accounts, throwable));
+            }
+
+            if (pendingChunks == 0 && nextPosition >= accountNames.size()) {
+                completion.complete(null);
+            }
+        }
+
+        /**
+         * Queue the result of a chunk for the delivery to the listener. This
+         * method is called by the thread that received the response, so the
+         * listener is not called here.
+         * 
+         * @param chunk
+         *            The requested account names.
+         * @param accounts
+         *            The received accounts, or null if the request failed.
+         * @param throwable
+         *            The reason why the request failed, or null.
+         */
+        private synchronized void receiveChunk(List<AccountName> chunk, List<ExtendedAccount> accounts,
+                Throwable throwable) {
+            receivedChunks.add(() -> deliverChunk(chunk, accounts, throwable));
+            if (delivering) {
+                return;
+            }
+
+            delivering = true;
+            try {
+                deliveryExecutor.execute(this::deliverChunks);
+            } catch (RejectedExecutionException e) {
+                LOGGER.error("Could not deliver the accounts. Stopping the fetch.", e);
+                delivering = false;
+                receivedChunks.clear();
+                completion.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Deliver all received chunks one after another.
+         */
+        private void deliverChunks() {
+            while (true) {
+                Runnable delivery;
+                synchronized (this) {
+                    delivery = receivedChunks.poll();
+                    if (delivery == null) {
+                        delivering = false;
+                        return;
+                    }
+                }
+
+                delivery.run();
+            }
+        }
+
+        /**
+         * Pass the result of a chunk to the listener and request the next
+         * chunks. The listener is called without holding the lock of this
+         * fetch.
+         * 
+         * @param chunk
+         *            The requested account names.
+         * @param accounts
+         *            The received accounts, or null if the request failed.
+         * @param throwable
+         *            The reason why the request failed, or null.
+         */
+        private void deliverChunk(List<AccountName> chunk, List<ExtendedAccount> accounts, Throwable throwable) {
+            try {
+                if (completion.isDone()) {
+                    return;
+                } else if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                    LOGGER.debug("Could not request {} accounts.", chunk.size(), cause);
+
+                    for (AccountName accountName : chunk) {
+                        accountListener.onFailure(accountName, cause);
+                    }
+                } else {
+                    // The Steem Node silently skips unknown accounts.
+                    Set<AccountName> receivedAccountNames = new HashSet<>();
+                    for (ExtendedAccount account : accounts) {
+                        receivedAccountNames.add(account.getName());
+                        accountListener.onAccount(account);
+                    }
+                    for (AccountName accountName : chunk) {
+                        if (!receivedAccountNames.contains(accountName)) {
+                            accountListener.onAccountNotFound(accountName);
+                        }
+                    }
+                }
+            } catch (Throwable t) {
+                // Errors like failed assertions would otherwise let the fetch
+                // wait forever.
+                LOGGER.error("The account listener failed. Stopping the fetch.", t);
+                completion.completeExceptionally(t);
+            } finally {
+                synchronized (this) {
+                    pendingChunks--;
+                    requestChunks();
+                }
+            }
+        }
+    }
+}
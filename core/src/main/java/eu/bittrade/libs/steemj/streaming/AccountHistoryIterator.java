@@ -0,0 +1,284 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.AccountHistoryEntry;
+import eu.bittrade.libs.steemj.base.models.AccountHistoryPage;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+
+/**
+ * This class iterates over the complete history of an account. The history is
+ * requested in pages of a fixed size and the next pages are requested in
+ * parallel while the current page is processed.
+ * 
+ * <p>
+ * The newest entry of the history is requested when the iteration starts.
+ * Entries which are added to the history afterwards are not returned.
+ * </p>
+ * 
+ * <p>
+ * As an {@link Iterator Iterator} can't throw checked exceptions, a failed
+ * request is reported by a {@link CompletionException CompletionException}
+ * whose cause is the
+ * {@link eu.bittrade.libs.steemj.exceptions.SteemCommunicationException
+ * SteemCommunicationException}.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * try (AccountHistoryIterator accountHistory = new AccountHistoryIterator(steemJ, new AccountName("dez1337"),
+ *         AccountHistoryOrder.OLDEST_FIRST)) {
+ *     while (accountHistory.hasNext()) {
+ *         AccountHistoryEntry entry = accountHistory.next();
+ *     }
+ * }
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountHistoryIterator implements Iterator<AccountHistoryEntry>, AutoCloseable {
+    /** The number of entries requested at once by default. */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+    /** The maximal number of entries a Steem Node returns at once. */
+    public static final int MAX_PAGE_SIZE = 10000;
+    /** The number of pages requested in parallel by default. */
+    public static final int DEFAULT_PREFETCH_WINDOW = 4;
+
+    private final SteemJAsync steemJAsync;
+    private final AccountName accountName;
+    private final AccountHistoryOrder accountHistoryOrder;
+    private final int pageSize;
+    private final int prefetchWindow;
+    /** The pages which have been requested, in the order of the iteration. */
+    private final Deque<CompletableFuture<AccountHistoryPage>> requestedPages = new ArrayDeque<>();
+    /** The index of the newest entry at the start of the iteration. */
+    private int lastIndex;
+    /**
+     * The index of the first entry of the next page to request in the
+     * {@link AccountHistoryOrder#OLDEST_FIRST OLDEST_FIRST} order, or of the
+     * last entry in the {@link AccountHistoryOrder#NEWEST_FIRST NEWEST_FIRST}
+     * order.
+     */
+    private int nextRequestedIndex;
+    private AccountHistoryPage currentPage;
+    /** The position of the next entry to return in the current page. */
+    private int position;
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * Create a new iterator using the default page size and prefetch window.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the history.
+     * @param accountName
+     *            The account whose history should be returned.
+     * @param accountHistoryOrder
+     *            The order in which the entries are returned.
+     */
+    public AccountHistoryIterator(SteemJ steemJ, AccountName accountName, AccountHistoryOrder accountHistoryOrder) {
+        this(steemJ, accountName, accountHistoryOrder, DEFAULT_PAGE_SIZE, DEFAULT_PREFETCH_WINDOW);
+    }
+
+    /**
+     * Create a new iterator. No request is sent before the first entry is
+     * requested.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the history.
+     * @param accountName
+     *            The account whose history should be returned.
+     * @param accountHistoryOrder
+     *            The order in which the entries are returned.
+     * @param pageSize
+     *            The number of entries requested at once.
+     * @param prefetchWindow
+     *            The maximum number of pages requested ahead of the page that
+     *            is currently returned.
+     * @throws IllegalArgumentException
+     *             If the pageSize is not between 1 and
+     *             {@link #MAX_PAGE_SIZE MAX_PAGE_SIZE} or if the
+     *             prefetchWindow is not positive.
+     */
+    public AccountHistoryIterator(SteemJ steemJ, AccountName accountName, AccountHistoryOrder accountHistoryOrder,
+            int pageSize, int prefetchWindow) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The pageSize has to be between 1 and " + MAX_PAGE_SIZE + ".");
+        } else if (prefetchWindow < 1) {
+            throw new IllegalArgumentException("The prefetchWindow has to be greater than 0.");
+        }
+
+        this.steemJAsync = steemJ.getAsyncApi();
+        this.accountName = accountName;
+        this.accountHistoryOrder = accountHistoryOrder;
+        this.pageSize = pageSize;
+        this.prefetchWindow = prefetchWindow;
+    }
+
+    /**
+     * Check if there are more entries. This method blocks until the page
+     * containing the next entry has been received.
+     * 
+     * @return True if there are more entries.
+     * @throws CompletionException
+     *             If a page could not be requested.
+     */
+    @Override
+    public synchronized boolean hasNext() {
+        if (closed) {
+            return false;
+        } else if (!started) {
+            start();
+        }
+
+        while (currentPage == null || position >= currentPage.size()) {
+            CompletableFuture<AccountHistoryPage> requestedPage = requestedPages.poll();
+            if (requestedPage == null) {
+                return false;
+            }
+
+            currentPage = awaitPage(requestedPage);
+            position = 0;
+            requestPages();
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the next entry.
+     * 
+     * @return The next entry.
+     * @throws NoSuchElementException
+     *             If there are no more entries.
+     * @throws CompletionException
+     *             If a page could not be requested.
+     */
+    @Override
+    public synchronized AccountHistoryEntry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException(
+                    "The complete history of " + accountName.getName() + " has been returned.");
+        }
+
+        int currentPosition = position++;
+        if (accountHistoryOrder == AccountHistoryOrder.NEWEST_FIRST) {
+            currentPosition = currentPage.size() - 1 - currentPosition;
+        }
+
+        return currentPage.getEntry(currentPosition);
+    }
+
+    /**
+     * Get a sequential stream of the remaining entries. Closing the stream
+     * closes this iterator.
+     * 
+     * @return The stream.
+     */
+    public Stream<AccountHistoryEntry> stream() {
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(this,
+                        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Stop the iteration and cancel all pages which have been requested ahead.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        currentPage = null;
+        for (CompletableFuture<AccountHistoryPage> requestedPage : requestedPages) {
+            requestedPage.cancel(false);
+        }
+        requestedPages.clear();
+    }
+
+    /**
+     * Request the newest entry of the history to determine the pages and
+     * request the first pages.
+     */
+    private void start() {
+        started = true;
+
+        AccountHistoryPage newestEntry = awaitPage(steemJAsync.getAccountHistoryPage(accountName, -1, 0));
+        if (newestEntry.isEmpty()) {
+            return;
+        }
+
+        lastIndex = newestEntry.getLastIndex();
+        nextRequestedIndex = accountHistoryOrder == AccountHistoryOrder.OLDEST_FIRST ? 0 : lastIndex;
+        requestPages();
+    }
+
+    /**
+     * Wait until the given page has been received. If the request failed, this
+     * iterator is closed, so no entries are skipped silently.
+     * 
+     * @param requestedPage
+     *            The requested page.
+     * @return The received page.
+     * @throws CompletionException
+     *             If the page could not be requested.
+     */
+    private AccountHistoryPage awaitPage(CompletableFuture<AccountHistoryPage> requestedPage) {
+        try {
+            return requestedPage.join();
+        } catch (CompletionException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Request as many pages as the prefetch window allows. As the entries of
+     * an account are numbered consecutively, the range of each page is known
+     * in advance and the pages can be requested in parallel.
+     */
+    private void requestPages() {
+        while (requestedPages.size() < prefetchWindow) {
+            int firstIndex;
+            int lastIndexOfPage;
+
+            if (accountHistoryOrder == AccountHistoryOrder.OLDEST_FIRST) {
+                if (nextRequestedIndex > lastIndex) {
+                    return;
+                }
+
+                firstIndex = nextRequestedIndex;
+                lastIndexOfPage = (int) Math.min(lastIndex, (long) firstIndex + pageSize - 1);
+                nextRequestedIndex = lastIndexOfPage + 1;
+            } else {
+                if (nextRequestedIndex < 0) {
+                    return;
+                }
+
+                lastIndexOfPage = nextRequestedIndex;
+                firstIndex = Math.max(0, lastIndexOfPage - pageSize + 1);
+                nextRequestedIndex = firstIndex - 1;
+            }
+
+            // The Steem Node returns the entry "from" and "limit" entries in
+            // front of it.
+            requestedPages.add(
+                    steemJAsync.getAccountHistoryPage(accountName, lastIndexOfPage, lastIndexOfPage - firstIndex));
+        }
+    }
+}
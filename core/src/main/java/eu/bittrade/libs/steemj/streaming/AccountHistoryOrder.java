@@ -0,0 +1,20 @@
+package eu.bittrade.libs.steemj.streaming;
+
+/**
+ * An enumeration of the orders in which an {@link AccountHistoryIterator
+ * AccountHistoryIterator} returns the history of an account.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum AccountHistoryOrder {
+    /**
+     * Start with the first entry of the history and continue with the newer
+     * entries.
+     */
+    OLDEST_FIRST,
+    /**
+     * Start with the newest entry of the history and continue with the older
+     * entries.
+     */
+    NEWEST_FIRST
+}
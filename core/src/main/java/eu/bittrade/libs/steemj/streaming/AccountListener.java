@@ -0,0 +1,46 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.ExtendedAccount;
+
+/**
+ * Implementations of this interface receive the accounts of an
+ * {@link AccountFetcher AccountFetcher}. For each requested account name,
+ * exactly one of the methods is called. The methods are never called
+ * concurrently for the same fetch.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface AccountListener {
+    /**
+     * This method is called for each account that has been received. The
+     * accounts are delivered in the order their responses arrive, which is
+     * not necessarily the order of the requested account names.
+     * 
+     * @param account
+     *            The account.
+     */
+    void onAccount(ExtendedAccount account);
+
+    /**
+     * This method is called for each requested account name the Steem Node
+     * does not know.
+     * 
+     * @param accountName
+     *            The name of the account that does not exist.
+     */
+    void onAccountNotFound(AccountName accountName);
+
+    /**
+     * This method is called for each requested account name whose request
+     * failed.
+     * 
+     * @param accountName
+     *            The name of the account that could not be requested.
+     * @param cause
+     *            The reason why the request failed, e.g. a
+     *            {@link eu.bittrade.libs.steemj.exceptions.SteemTimeoutException
+     *            SteemTimeoutException}.
+     */
+    void onFailure(AccountName accountName, Throwable cause);
+}
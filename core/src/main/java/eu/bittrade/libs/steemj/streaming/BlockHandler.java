@@ -0,0 +1,55 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * Implementations of this interface process the blocks of a
+ * {@link BlockProcessor BlockProcessor}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface BlockHandler {
+    /**
+     * Get the name of this handler. The name identifies the progress of the
+     * handler in the checkpoint and must therefore not change between two
+     * runs.
+     * 
+     * @return The name of this handler.
+     */
+    String getName();
+
+    /**
+     * Process the given block. The blocks are delivered one after another and
+     * strictly in the order of their block number. If this method throws an
+     * exception, the block processor stops and the block will be delivered
+     * again after a restart.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param block
+     *            The block.
+     * @throws Exception
+     *             If the block could not be processed.
+     */
+    void handleBlock(long blockNumber, SignedBlockWithInfo block) throws Exception;
+
+    /**
+     * This method is only called for handlers registered with the
+     * {@link DeliveryGuarantee#EXACTLY_ONCE EXACTLY_ONCE} guarantee, if the
+     * processing of the given block has been interrupted by a crash. The
+     * handler has to check its own state to decide if the block has already
+     * been processed completely. The default implementation returns false,
+     * so the block is delivered again.
+     * 
+     * @param blockNumber
+     *            The number of the block whose processing has been
+     *            interrupted.
+     * @return True if the block has been processed completely and must not be
+     *         delivered again.
+     * @throws Exception
+     *             If the state of the handler could not be checked.
+     */
+    default boolean isBlockProcessed(long blockNumber) throws Exception {
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * Implementations of this interface receive the blocks of a
+ * {@link BlockStreamer BlockStreamer}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface BlockListener {
+    /**
+     * This method is called for each block of the stream. The blocks are
+     * delivered one after another and strictly in the order of their block
+     * number.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param block
+     *            The block.
+     */
+    void onBlock(long blockNumber, SignedBlockWithInfo block);
+}
@@ -0,0 +1,90 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.util.List;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.BlockId;
+import eu.bittrade.libs.steemj.base.models.TimePointSec;
+
+/**
+ * This class contains the operations of a block which have been accepted by
+ * an {@link OperationFilter OperationFilter}, together with the information
+ * required to place the block in the chain.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockOperations {
+    private final long blockNumber;
+    private final BlockId blockId;
+    private final BlockId previous;
+    private final TimePointSec timestamp;
+    private final List<AppliedOperation> operations;
+
+    /**
+     * Create a new instance.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param blockId
+     *            The id of the block.
+     * @param previous
+     *            The id of the previous block.
+     * @param timestamp
+     *            The time the block has been produced.
+     * @param operations
+     *            The accepted operations in the order they appear in the
+     *            block.
+     */
+    BlockOperations(long blockNumber, BlockId blockId, BlockId previous, TimePointSec timestamp,
+            List<AppliedOperation> operations) {
+        this.blockNumber = blockNumber;
+        this.blockId = blockId;
+        this.previous = previous;
+        this.timestamp = timestamp;
+        this.operations = operations;
+    }
+
+    /**
+     * @return The number of the block.
+     */
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    /**
+     * @return The id of the block.
+     */
+    public BlockId getBlockId() {
+        return blockId;
+    }
+
+    /**
+     * @return The id of the previous block.
+     */
+    public BlockId getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return The time the block has been produced.
+     */
+    public TimePointSec getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return The accepted operations in the order they appear in the block.
+     *         The list is empty if the block does not contain a matching
+     *         operation.
+     */
+    public List<AppliedOperation> getOperations() {
+        return operations;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
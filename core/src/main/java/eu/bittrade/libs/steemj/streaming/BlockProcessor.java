@@ -0,0 +1,340 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * This class passes the blocks of a {@link BlockStreamer BlockStreamer} to a
+ * number of {@link BlockHandler BlockHandlers} and stores their progress in a
+ * {@link Checkpoint Checkpoint} file, so processing can be resumed after a
+ * restart.
+ * 
+ * <p>
+ * The progress is stored per handler: After a restart, the stream starts at
+ * the first block one of the handlers has not processed yet and each handler
+ * only receives the blocks it has not processed. Handlers which are not part
+ * of the checkpoint yet start at the <code>startBlockNumber</code>.
+ * </p>
+ * 
+ * <p>
+ * If a handler fails, the processor stops, stores the progress of all
+ * handlers and keeps the failure (see {@link #getFailure()}). The failed
+ * block is delivered again after a restart.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * BlockProcessor blockProcessor = new BlockProcessor(steemJ, Paths.get("steemj.checkpoint"), 15000000L);
+ * blockProcessor.addHandler(myHandler, DeliveryGuarantee.AT_LEAST_ONCE);
+ * blockProcessor.start();
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockProcessor implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockProcessor.class);
+
+    /** The number of blocks after which the checkpoint is stored by default. */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+
+    private final SteemJ steemJ;
+    private final Path checkpointFile;
+    private final long startBlockNumber;
+    private final BlockStreamMode blockStreamMode;
+    private final List<RegisteredHandler> handlers = new ArrayList<>();
+    /**
+     * The blocks whose processing has been interrupted by a crash, keyed by
+     * the name of the handler.
+     */
+    private final Map<String, Long> interruptedBlocks = new HashMap<>();
+    private int checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+    private Checkpoint checkpoint;
+    private AbstractBlockStreamer<?> blockStreamer;
+    private int blocksSinceCheckpoint;
+    private Exception failure;
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * Create a new block processor which only processes irreversible blocks.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param checkpointFile
+     *            The file the progress is stored in.
+     * @param startBlockNumber
+     *            The number of the first block to process, if no progress has
+     *            been stored for a handler yet.
+     */
+    public BlockProcessor(SteemJ steemJ, Path checkpointFile, long startBlockNumber) {
+        this(steemJ, checkpointFile, startBlockNumber, BlockStreamMode.IRREVERSIBLE);
+    }
+
+    /**
+     * Create a new block processor.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param checkpointFile
+     *            The file the progress is stored in.
+     * @param startBlockNumber
+     *            The number of the first block to process, if no progress has
+     *            been stored for a handler yet.
+     * @param blockStreamMode
+     *            Defines if the blocks are processed as soon as they have been
+     *            applied or once they are irreversible. Blocks which have been
+     *            processed in the {@link BlockStreamMode#HEAD HEAD} mode may
+     *            be reverted by a fork.
+     * @throws IllegalArgumentException
+     *             If the startBlockNumber is not positive.
+     */
+    public BlockProcessor(SteemJ steemJ, Path checkpointFile, long startBlockNumber,
+            BlockStreamMode blockStreamMode) {
+        if (startBlockNumber < 1) {
+            throw new IllegalArgumentException("The startBlockNumber has to be greater than 0.");
+        }
+
+        this.steemJ = steemJ;
+        this.checkpointFile = checkpointFile;
+        this.startBlockNumber = startBlockNumber;
+        this.blockStreamMode = blockStreamMode;
+    }
+
+    /**
+     * Add a handler. Handlers can only be added before the processor has
+     * been started and are called in the order they have been added.
+     * 
+     * @param blockHandler
+     *            The handler to add.
+     * @param deliveryGuarantee
+     *            Defines how the progress of the handler is stored.
+     * @throws IllegalArgumentException
+     *             If a handler with the same name has already been added.
+     * @throws IllegalStateException
+     *             If the processor has already been started.
+     */
+    public synchronized void addHandler(BlockHandler blockHandler, DeliveryGuarantee deliveryGuarantee) {
+        if (started) {
+            throw new IllegalStateException("Handlers can't be added after the processor has been started.");
+        }
+        for (RegisteredHandler handler : handlers) {
+            if (handler.name.equals(blockHandler.getName())) {
+                throw new IllegalArgumentException(
+                        "A handler with the name '" + blockHandler.getName() + "' has already been added.");
+            }
+        }
+
+        handlers.add(new RegisteredHandler(blockHandler, deliveryGuarantee));
+    }
+
+    /**
+     * Define after how many blocks the progress of the handlers with the
+     * {@link DeliveryGuarantee#AT_LEAST_ONCE AT_LEAST_ONCE} guarantee is
+     * stored. A smaller interval reduces the number of blocks delivered again
+     * after a crash, but requires more writes. The default is
+     * {@link #DEFAULT_CHECKPOINT_INTERVAL DEFAULT_CHECKPOINT_INTERVAL}.
+     * 
+     * @param checkpointInterval
+     *            The number of blocks between two checkpoints.
+     * @throws IllegalArgumentException
+     *             If the checkpointInterval is not positive.
+     */
+    public synchronized void setCheckpointInterval(int checkpointInterval) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("The checkpointInterval has to be greater than 0.");
+        }
+
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Read the checkpoint and start to process the blocks. Calling this method
+     * multiple times has no effect.
+     * 
+     * @throws IOException
+     *             If the checkpoint could not be read.
+     * @throws IllegalStateException
+     *             If no handler has been added.
+     */
+    public synchronized void start() throws IOException {
+        if (started || closed) {
+            return;
+        } else if (handlers.isEmpty()) {
+            throw new IllegalStateException("At least one handler is required.");
+        }
+
+        checkpoint = Checkpoint.read(checkpointFile);
+        if (checkpoint == null) {
+            checkpoint = new Checkpoint();
+        }
+        interruptedBlocks.putAll(checkpoint.getPendingBlocks());
+
+        long firstBlockNumber = Long.MAX_VALUE;
+        for (RegisteredHandler handler : handlers) {
+            firstBlockNumber = Math.min(firstBlockNumber, getOffset(handler) + 1);
+        }
+
+        LOGGER.debug("Resuming the block processing at block {}.", firstBlockNumber);
+        started = true;
+        blockStreamer = createBlockStreamer(firstBlockNumber);
+        blockStreamer.start();
+    }
+
+    /**
+     * Create the streamer which passes the blocks to
+     * {@link #processBlock(long, SignedBlockWithInfo) processBlock}.
+     * 
+     * @param firstBlockNumber
+     *            The number of the first block to stream.
+     * @return The streamer, which has not been started yet.
+     */
+    AbstractBlockStreamer<?> createBlockStreamer(long firstBlockNumber) {
+        return new BlockStreamer(steemJ, firstBlockNumber, BlockStreamer.DEFAULT_PREFETCH_WINDOW, blockStreamMode,
+                this::processBlock);
+    }
+
+    /**
+     * Get the number of the last block that has been processed by all
+     * handlers.
+     * 
+     * @return The number of the last fully processed block, or 0 if the
+     *         processor has not been started yet.
+     */
+    public synchronized long getLastProcessedBlockNumber() {
+        return checkpoint == null ? 0 : checkpoint.getBlockNumber();
+    }
+
+    /**
+     * Get the exception that stopped this processor.
+     * 
+     * @return The exception thrown by a handler or while storing the
+     *         checkpoint, or null if the processor has not failed.
+     */
+    public synchronized Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Stop to process the blocks and store the progress of all handlers. A
+     * block that is currently processed will still be completed.
+     * 
+     * @throws IOException
+     *             If the checkpoint could not be stored.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        if (started) {
+            blockStreamer.close();
+            checkpoint.write(checkpointFile);
+        }
+    }
+
+    /**
+     * Pass the given block to all handlers which have not processed it yet.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param block
+     *            The block.
+     */
+    synchronized void processBlock(long blockNumber, SignedBlockWithInfo block) {
+        if (closed) {
+            return;
+        }
+
+        try {
+            // Mark the block as pending for all handlers which need to know
+            // if their processing has been interrupted.
+            boolean exactlyOnce = false;
+            for (RegisteredHandler handler : handlers) {
+                if (handler.deliveryGuarantee == DeliveryGuarantee.EXACTLY_ONCE && getOffset(handler) < blockNumber) {
+                    checkpoint.setPendingBlock(handler.name, blockNumber);
+                    exactlyOnce = true;
+                }
+            }
+            if (exactlyOnce) {
+                checkpoint.write(checkpointFile);
+            }
+
+            long lastProcessedBlockNumber = Long.MAX_VALUE;
+            for (RegisteredHandler handler : handlers) {
+                if (getOffset(handler) < blockNumber) {
+                    Long interruptedBlockNumber = interruptedBlocks.remove(handler.name);
+                    if (interruptedBlockNumber == null || interruptedBlockNumber != blockNumber
+                            || !handler.blockHandler.isBlockProcessed(blockNumber)) {
+                        handler.blockHandler.handleBlock(blockNumber, block);
+                    }
+
+                    checkpoint.setOffset(handler.name, blockNumber);
+                    checkpoint.setPendingBlock(handler.name, null);
+                }
+                lastProcessedBlockNumber = Math.min(lastProcessedBlockNumber, getOffset(handler));
+            }
+            checkpoint.setBlockNumber(lastProcessedBlockNumber);
+
+            if (exactlyOnce || ++blocksSinceCheckpoint >= checkpointInterval) {
+                checkpoint.write(checkpointFile);
+                blocksSinceCheckpoint = 0;
+            }
+        } catch (Exception e) {
+            LOGGER.error("Could not process the block {}. Stopping the block processor.", blockNumber, e);
+            failure = e;
+            try {
+                close();
+            } catch (IOException closeException) {
+                LOGGER.error("Could not store the checkpoint.", closeException);
+            }
+        }
+    }
+
+    /**
+     * Get the number of the last block the given handler has processed.
+     * 
+     * @param handler
+     *            The handler.
+     * @return The number of the last processed block.
+     */
+    private long getOffset(RegisteredHandler handler) {
+        Long offset = checkpoint.getOffsets().get(handler.name);
+        return offset == null ? startBlockNumber - 1 : offset;
+    }
+
+    /**
+     * A handler together with its delivery guarantee.
+     */
+    private static class RegisteredHandler {
+        private final BlockHandler blockHandler;
+        private final DeliveryGuarantee deliveryGuarantee;
+        private final String name;
+
+        /**
+         * Create a new instance.
+         * 
+         * @param blockHandler
+         *            The handler.
+         * @param deliveryGuarantee
+         *            The guarantee of the handler.
+         */
+        RegisteredHandler(BlockHandler blockHandler, DeliveryGuarantee deliveryGuarantee) {
+            this.blockHandler = blockHandler;
+            this.deliveryGuarantee = deliveryGuarantee;
+            this.name = blockHandler.getName();
+        }
+    }
+}
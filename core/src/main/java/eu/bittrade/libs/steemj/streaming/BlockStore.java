@@ -0,0 +1,40 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.io.IOException;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * Implementations of this interface keep blocks locally, so a
+ * {@link BlockStreamer BlockStreamer} only has to request the blocks from the
+ * Steem Node which are not stored yet.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface BlockStore {
+    /**
+     * Get a stored block.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @return The block, or null if the block is not stored.
+     * @throws IOException
+     *             If the block could not be read.
+     */
+    SignedBlockWithInfo getBlock(long blockNumber) throws IOException;
+
+    /**
+     * Store the given block. This method is only called for irreversible
+     * blocks which have been requested from the Steem Node, as the store did
+     * not contain them. Implementations may ignore blocks they can't store.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param rawBlock
+     *            The JSON representation of the block encoded as UTF-8,
+     *            exactly as it has been returned by the Steem Node.
+     * @throws IOException
+     *             If the block could not be stored.
+     */
+    void storeBlock(long blockNumber, byte[] rawBlock) throws IOException;
+}
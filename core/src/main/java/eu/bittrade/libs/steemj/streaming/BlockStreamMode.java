@@ -0,0 +1,20 @@
+package eu.bittrade.libs.steemj.streaming;
+
+/**
+ * An enumeration of the modes a {@link BlockStreamer BlockStreamer} can
+ * operate in.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum BlockStreamMode {
+    /**
+     * Deliver each block as soon as it has been applied. Blocks delivered in
+     * this mode may still be reverted by a fork.
+     */
+    HEAD,
+    /**
+     * Only deliver blocks once they have become irreversible, so the
+     * delivered blocks will never be reverted.
+     */
+    IRREVERSIBLE
+}
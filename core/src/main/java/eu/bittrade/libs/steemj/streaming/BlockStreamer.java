@@ -0,0 +1,240 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * This class streams the blocks of the Steem blockchain starting at a given
+ * block number to a {@link BlockListener BlockListener}.
+ * 
+ * <p>
+ * While the stream is behind the head block, up to
+ * <code>prefetchWindow</code> blocks are requested in parallel, so catching
+ * up is not limited by the response time of the Steem Node. Once the stream
+ * has reached the head block, it follows the head block by registering a
+ * {@link eu.bittrade.libs.steemj.communication.BlockAppliedCallback
+ * BlockAppliedCallback} and requests each new block as soon as it has been
+ * applied.
+ * </p>
+ * 
+ * <p>
+ * In the {@link BlockStreamMode#IRREVERSIBLE IRREVERSIBLE} mode, a block is
+ * only requested once the last irreversible block has passed it, so the
+ * listener never sees a fork.
+ * </p>
+ * 
+ * <p>
+ * The blocks are always delivered in order and without gaps. Requests which
+ * fail are repeated. The listener is called by the configured callback
+ * executor (see
+ * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#setCallbackExecutor(Executor)
+ * setCallbackExecutor}), but never by two threads at the same time.
+ * </p>
+ * 
+ * <p>
+ * If a {@link BlockStore BlockStore} is provided, each block is read from the
+ * store first and only requested from the Steem Node if the store does not
+ * contain it. Irreversible blocks requested from the Steem Node are added to
+ * the store.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * BlockStreamer blockStreamer = new BlockStreamer(steemJ, 15000000L,
+ *         (blockNumber, block) -&gt; System.out.println(blockNumber + ": " + block.getBlockId()));
+ * blockStreamer.start();
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockStreamer extends AbstractBlockStreamer<SignedBlockWithInfo> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockStreamer.class);
+
+    private final BlockStore blockStore;
+    /**
+     * The blocks requested from the Steem Node which are added to the store
+     * once they are delivered, so they are stored in order. The raw blocks
+     * are mapped to the transformed block instances, so a response that
+     * arrives after its block has been discarded can't replace the raw block
+     * of a newer response.
+     */
+    private final Map<SignedBlockWithInfo, byte[]> unstoredBlocks = Collections
+            .synchronizedMap(new IdentityHashMap<>());
+    private final BlockListener blockListener;
+
+    /**
+     * Create a new block streamer which requests up to
+     * {@link #DEFAULT_PREFETCH_WINDOW DEFAULT_PREFETCH_WINDOW} blocks in
+     * parallel. The streamer does not request any block before
+     * {@link #start()} has been called.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param blockListener
+     *            The listener receiving the blocks.
+     */
+    public BlockStreamer(SteemJ steemJ, long startBlockNumber, BlockListener blockListener) {
+        this(steemJ, startBlockNumber, DEFAULT_PREFETCH_WINDOW, BlockStreamMode.HEAD, blockListener);
+    }
+
+    /**
+     * Create a new block streamer in the {@link BlockStreamMode#HEAD HEAD}
+     * mode. The streamer does not request any block before {@link #start()}
+     * has been called.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param prefetchWindow
+     *            The maximum number of blocks requested ahead of the next
+     *            block to deliver.
+     * @param blockListener
+     *            The listener receiving the blocks.
+     * @throws IllegalArgumentException
+     *             If the startBlockNumber or the prefetchWindow is not
+     *             positive.
+     */
+    public BlockStreamer(SteemJ steemJ, long startBlockNumber, int prefetchWindow, BlockListener blockListener) {
+        this(steemJ, startBlockNumber, prefetchWindow, BlockStreamMode.HEAD, blockListener);
+    }
+
+    /**
+     * Create a new block streamer. The streamer does not request any block
+     * before {@link #start()} has been called.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param prefetchWindow
+     *            The maximum number of blocks requested ahead of the next
+     *            block to deliver.
+     * @param blockStreamMode
+     *            Defines if the blocks are delivered as soon as they have been
+     *            applied or once they are irreversible.
+     * @param blockListener
+     *            The listener receiving the blocks.
+     * @throws IllegalArgumentException
+     *             If the startBlockNumber or the prefetchWindow is not
+     *             positive.
+     */
+    public BlockStreamer(SteemJ steemJ, long startBlockNumber, int prefetchWindow, BlockStreamMode blockStreamMode,
+            BlockListener blockListener) {
+        this(steemJ, startBlockNumber, prefetchWindow, blockStreamMode, null, blockListener);
+    }
+
+    /**
+     * Create a new block streamer which reads the blocks from the given store
+     * first. The streamer does not request any block before {@link #start()}
+     * has been called.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param prefetchWindow
+     *            The maximum number of blocks requested ahead of the next
+     *            block to deliver.
+     * @param blockStreamMode
+     *            Defines if the blocks are delivered as soon as they have been
+     *            applied or once they are irreversible.
+     * @param blockStore
+     *            The store to read the blocks from and to add the requested
+     *            irreversible blocks to, or null to request all blocks from
+     *            the Steem Node.
+     * @param blockListener
+     *            The listener receiving the blocks.
+     * @throws IllegalArgumentException
+     *             If the startBlockNumber or the prefetchWindow is not
+     *             positive.
+     */
+    public BlockStreamer(SteemJ steemJ, long startBlockNumber, int prefetchWindow, BlockStreamMode blockStreamMode,
+            BlockStore blockStore, BlockListener blockListener) {
+        super(steemJ, startBlockNumber, prefetchWindow, blockStreamMode);
+        this.blockStore = blockStore;
+        this.blockListener = blockListener;
+    }
+
+    @Override
+    CompletableFuture<SignedBlockWithInfo> fetchBlock(SteemJAsync steemJAsync, long blockNumber) {
+        if (blockStore == null) {
+            return steemJAsync.getBlock(blockNumber);
+        }
+
+        try {
+            SignedBlockWithInfo storedBlock = blockStore.getBlock(blockNumber);
+            if (storedBlock != null) {
+                return CompletableFuture.completedFuture(storedBlock);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the block {} from the store.", blockNumber, e);
+        }
+
+        // Blocks above the last irreversible block may still be replaced by a
+        // fork and are therefore not stored.
+        if (blockNumber > getLastIrreversibleBlockNumber()) {
+            return steemJAsync.getBlock(blockNumber);
+        }
+
+        return steemJAsync.getRawBlock(blockNumber).thenApply(rawBlock -> {
+            if (rawBlock == null) {
+                return null;
+            }
+
+            SignedBlockWithInfo block;
+            try {
+                block = CommunicationHandler.getObjectMapper().readValue(rawBlock, SignedBlockWithInfo.class);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not transform the block " + blockNumber + ".", e);
+            }
+
+            unstoredBlocks.put(block, rawBlock);
+            return block;
+        });
+    }
+
+    @Override
+    String getBlockId(SignedBlockWithInfo block) {
+        return block.getBlockId().toString();
+    }
+
+    @Override
+    String getPreviousBlockId(SignedBlockWithInfo block) {
+        return block.getPrevious().toString();
+    }
+
+    @Override
+    void deliverBlock(long blockNumber, SignedBlockWithInfo block) {
+        byte[] rawBlock = blockStore == null ? null : unstoredBlocks.remove(block);
+        if (rawBlock != null) {
+            try {
+                blockStore.storeBlock(blockNumber, rawBlock);
+            } catch (IOException e) {
+                LOGGER.warn("Could not add the block {} to the store.", blockNumber, e);
+            }
+        }
+
+        blockListener.onBlock(blockNumber, block);
+    }
+
+    @Override
+    void discardBlock(SignedBlockWithInfo block) {
+        unstoredBlocks.remove(block);
+    }
+}
@@ -0,0 +1,28 @@
+package eu.bittrade.libs.steemj.streaming;
+
+/**
+ * An enumeration of the results of a {@link BlockVerifier BlockVerifier}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum BlockVerification {
+    /**
+     * The transaction ids and the transaction merkle root of the block match
+     * its transactions.
+     */
+    VALID,
+    /**
+     * The transaction ids of the block do not match its transactions.
+     */
+    INVALID_TRANSACTION_IDS,
+    /**
+     * The transaction ids match, but the transaction merkle root of the block
+     * header does not match its transactions.
+     */
+    INVALID_MERKLE_ROOT,
+    /**
+     * The block contains a transaction which can not be serialized by SteemJ
+     * yet, so the block could not be verified.
+     */
+    NOT_VERIFIABLE
+}
@@ -0,0 +1,24 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * Implementations of this interface receive the results of a
+ * {@link BlockVerifier BlockVerifier}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface BlockVerificationListener {
+    /**
+     * This method is called for each verified block in the order the blocks
+     * have been delivered to the verifier.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param block
+     *            The block.
+     * @param result
+     *            The result of the verification.
+     */
+    void onBlockVerified(long blockNumber, SignedBlockWithInfo block, BlockVerification result);
+}
@@ -0,0 +1,89 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.base.models.SignedTransaction;
+import eu.bittrade.libs.steemj.base.models.TransactionId;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * This class verifies the transaction ids and the transaction merkle root of
+ * blocks by calculating them from the transactions of the block, so a block
+ * can be checked without further requests and without trusting the Steem
+ * Node it has been received from.
+ * 
+ * <p>
+ * As a {@link BlockListener BlockListener}, a verifier can be added to a
+ * {@link BlockStreamer BlockStreamer} to verify a range of blocks. In
+ * combination with a {@link BlockStore BlockStore}, the blocks of the store
+ * are verified without requesting them again.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * BlockStreamer blockStreamer = new BlockStreamer(steemJ, 15000000L,
+ *         new BlockVerifier((blockNumber, block, result) -&gt; System.out.println(blockNumber + ": " + result)));
+ * blockStreamer.start();
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockVerifier implements BlockListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockVerifier.class);
+
+    private final BlockVerificationListener blockVerificationListener;
+
+    /**
+     * Create a new verifier.
+     * 
+     * @param blockVerificationListener
+     *            The listener which receives the result for each block.
+     */
+    public BlockVerifier(BlockVerificationListener blockVerificationListener) {
+        this.blockVerificationListener = blockVerificationListener;
+    }
+
+    @Override
+    public void onBlock(long blockNumber, SignedBlockWithInfo block) {
+        blockVerificationListener.onBlockVerified(blockNumber, block, verify(block));
+    }
+
+    /**
+     * Verify the transaction ids and the transaction merkle root of the given
+     * block.
+     * 
+     * @param block
+     *            The block to verify.
+     * @return The result of the verification.
+     */
+    public static BlockVerification verify(SignedBlockWithInfo block) {
+        try {
+            List<SignedTransaction> transactions = block.getTransactions();
+            List<TransactionId> transactionIds = block.getTransactionIds();
+            int numberOfTransactions = transactions == null ? 0 : transactions.size();
+            if ((transactionIds == null ? 0 : transactionIds.size()) != numberOfTransactions) {
+                return BlockVerification.INVALID_TRANSACTION_IDS;
+            }
+
+            for (int i = 0; i < numberOfTransactions; i++) {
+                if (!transactions.get(i).getTransactionId().equals(transactionIds.get(i))) {
+                    return BlockVerification.INVALID_TRANSACTION_IDS;
+                }
+            }
+
+            if (!block.calculateMerkleRoot().equals(block.getTransactionMerkleRoot())) {
+                return BlockVerification.INVALID_MERKLE_ROOT;
+            }
+
+            return BlockVerification.VALID;
+        } catch (SteemInvalidTransactionException e) {
+            LOGGER.debug("Could not serialize the transactions of block {}.", block.getBlockId(), e);
+            return BlockVerification.NOT_VERIFIABLE;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * This class represents the progress of a {@link BlockProcessor
+ * BlockProcessor} and is stored in a local file.
+ * 
+ * <p>
+ * The file is never modified in place. A new checkpoint is written to a
+ * temporary file next to it, which is flushed to the disk and then renamed,
+ * so the file always contains either the old or the new checkpoint, even if
+ * the process or the machine crashes while writing.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class Checkpoint {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Checkpoint.class);
+
+    @JsonProperty("block_number")
+    private long blockNumber;
+    @JsonProperty("offsets")
+    private Map<String, Long> offsets = new TreeMap<>();
+    @JsonProperty("pending")
+    private Map<String, Long> pendingBlocks = new TreeMap<>();
+
+    /**
+     * Create an empty checkpoint.
+     */
+    public Checkpoint() {
+    }
+
+    /**
+     * Get the number of the last block that has been processed by all
+     * handlers.
+     * 
+     * @return The number of the last fully processed block.
+     */
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    /**
+     * Get the number of the last block each handler has processed, keyed by
+     * the name of the handler.
+     * 
+     * @return The offsets of all handlers.
+     */
+    public Map<String, Long> getOffsets() {
+        return Collections.unmodifiableMap(offsets);
+    }
+
+    /**
+     * Get the blocks whose processing has been started but not finished by a
+     * handler with the {@link DeliveryGuarantee#EXACTLY_ONCE EXACTLY_ONCE}
+     * guarantee, keyed by the name of the handler.
+     * 
+     * @return The pending blocks.
+     */
+    public Map<String, Long> getPendingBlocks() {
+        return Collections.unmodifiableMap(pendingBlocks);
+    }
+
+    /**
+     * @param blockNumber
+     *            The number of the last fully processed block.
+     */
+    void setBlockNumber(long blockNumber) {
+        this.blockNumber = blockNumber;
+    }
+
+    /**
+     * @param handlerName
+     *            The name of the handler.
+     * @param blockNumber
+     *            The number of the last block the handler has processed.
+     */
+    void setOffset(String handlerName, long blockNumber) {
+        offsets.put(handlerName, blockNumber);
+    }
+
+    /**
+     * @param handlerName
+     *            The name of the handler.
+     * @param blockNumber
+     *            The block the handler is processing, or null if the handler
+     *            is not processing a block.
+     */
+    void setPendingBlock(String handlerName, Long blockNumber) {
+        if (blockNumber == null) {
+            pendingBlocks.remove(handlerName);
+        } else {
+            pendingBlocks.put(handlerName, blockNumber);
+        }
+    }
+
+    /**
+     * Store this checkpoint in the given file, replacing the previous content
+     * atomically. This method returns once the checkpoint has been written to
+     * the disk.
+     * 
+     * @param file
+     *            The file to write.
+     * @throws IOException
+     *             If the checkpoint could not be written.
+     */
+    public void write(Path file) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer content = ByteBuffer.wrap(CommunicationHandler.getObjectMapper().writeValueAsBytes(this));
+
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // The rename itself is only durable once the directory has been
+        // flushed. Not all platforms allow to open a directory for this.
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            LOGGER.debug("Could not flush the directory {}.", directory, e);
+        }
+    }
+
+    /**
+     * Read the checkpoint stored in the given file.
+     * 
+     * @param file
+     *            The file to read.
+     * @return The checkpoint, or null if the file does not exist.
+     * @throws IOException
+     *             If the file could not be read.
+     */
+    public static Checkpoint read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        return CommunicationHandler.getObjectMapper().readValue(Files.readAllBytes(file), Checkpoint.class);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
@@ -0,0 +1,23 @@
+package eu.bittrade.libs.steemj.streaming;
+
+/**
+ * An enumeration of the guarantees a {@link BlockProcessor BlockProcessor}
+ * gives a {@link BlockHandler BlockHandler} after a restart.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum DeliveryGuarantee {
+    /**
+     * The progress of the handler is stored every few blocks. After a crash,
+     * the blocks processed since the last checkpoint are delivered again.
+     */
+    AT_LEAST_ONCE,
+    /**
+     * The progress of the handler is stored before and after each block.
+     * After a crash, the handler is asked if the only block that may have been
+     * interrupted has been processed (see
+     * {@link BlockHandler#isBlockProcessed(long)}) and the block is only
+     * delivered again if not.
+     */
+    EXACTLY_ONCE
+}
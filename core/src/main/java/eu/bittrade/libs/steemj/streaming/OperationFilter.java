@@ -0,0 +1,405 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.BlockId;
+import eu.bittrade.libs.steemj.base.models.TimePointSec;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.enums.OperationType;
+
+/**
+ * This class selects operations by their type and optionally by the accounts
+ * involved.
+ * 
+ * <p>
+ * The filter works on the tokens of the JSON response instead of on the
+ * transformed objects: The type of an operation is the first element of its
+ * JSON representation, so operations of other types are skipped without
+ * creating any object for them. Only the accepted operations are transformed
+ * into {@link eu.bittrade.libs.steemj.base.models.operations.Operation
+ * Operation} objects.
+ * </p>
+ * 
+ * <p>
+ * If accounts have been provided, an operation is only accepted if one of its
+ * String values is the name of one of the accounts. This covers all fields
+ * which contain an account name, like the <code>from</code> and
+ * <code>to</code> field of a transfer or the <code>required_auths</code> of a
+ * custom json operation.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * OperationFilter transfers = new OperationFilter(EnumSet.of(OperationType.TRANSFER_OPERATION),
+ *         Collections.singleton(new AccountName("dez1337")));
+ * List&lt;AppliedOperation&gt; operations = steemJ.getOpsInBlock(13310401, false, transfers);
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class OperationFilter {
+    private static final ObjectReader APPLIED_OPERATION_READER = CommunicationHandler.getObjectMapper()
+            .readerFor(AppliedOperation.class);
+    private static final String OPERATION_SUFFIX = "_OPERATION";
+
+    /** The JSON names of the accepted types, or null to accept all types. */
+    private final Set<String> operationTypeNames;
+    /** The accepted account names, or null to accept all accounts. */
+    private final Set<String> accountNames;
+
+    /**
+     * Create a new filter which accepts all operations of the given types.
+     * 
+     * @param operationTypes
+     *            The accepted operation types. If the set is empty, all
+     *            operation types are accepted.
+     */
+    public OperationFilter(Set<OperationType> operationTypes) {
+        this(operationTypes, Collections.emptySet());
+    }
+
+    /**
+     * Create a new filter which accepts the operations of the given types
+     * that involve one of the given accounts.
+     * 
+     * @param operationTypes
+     *            The accepted operation types. If the set is empty, all
+     *            operation types are accepted.
+     * @param accountNames
+     *            The accepted accounts. If the set is empty, the operations
+     *            are accepted regardless of the accounts involved.
+     */
+    public OperationFilter(Set<OperationType> operationTypes, Set<AccountName> accountNames) {
+        if (operationTypes.isEmpty()) {
+            this.operationTypeNames = null;
+        } else {
+            this.operationTypeNames = new HashSet<>();
+            for (OperationType operationType : operationTypes) {
+                this.operationTypeNames.add(getOperationTypeName(operationType));
+            }
+        }
+
+        if (accountNames.isEmpty()) {
+            this.accountNames = null;
+        } else {
+            this.accountNames = new HashSet<>();
+            for (AccountName accountName : accountNames) {
+                this.accountNames.add(accountName.getName());
+            }
+        }
+    }
+
+    /**
+     * Check if operations of the given type are accepted by this filter.
+     * 
+     * @param operationTypeName
+     *            The name of the operation type as used in the JSON
+     *            representation of an operation (e.g. "transfer").
+     * @return True if operations of this type are accepted.
+     */
+    public boolean isAccepted(String operationTypeName) {
+        return operationTypeNames == null || operationTypeNames.contains(operationTypeName);
+    }
+
+    /**
+     * Read the result of a <code>get_ops_in_block</code> request and
+     * transform the accepted operations. This method can be used as a
+     * {@link eu.bittrade.libs.steemj.communication.ResultReader ResultReader}.
+     * 
+     * @param parser
+     *            The parser, positioned at the start of the result array.
+     * @return The accepted operations in the order of the response.
+     * @throws IOException
+     *             If the result could not be read.
+     */
+    public List<AppliedOperation> readAppliedOperations(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+
+        List<AppliedOperation> appliedOperations = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            TokenBuffer appliedOperation = new TokenBuffer(parser);
+            appliedOperation.writeStartObject();
+            boolean accepted = true;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+
+                if (!accepted) {
+                    parser.skipChildren();
+                } else if ("op".equals(fieldName)) {
+                    TokenBuffer operation = readOperation(parser);
+                    if (operation == null) {
+                        accepted = false;
+                    } else {
+                        appliedOperation.writeFieldName(fieldName);
+                        copy(operation, appliedOperation);
+                    }
+                } else {
+                    appliedOperation.writeFieldName(fieldName);
+                    appliedOperation.copyCurrentStructure(parser);
+                }
+            }
+
+            if (accepted) {
+                appliedOperation.writeEndObject();
+                appliedOperations.add(APPLIED_OPERATION_READER.readValue(appliedOperation.asParser()));
+            }
+        }
+
+        return appliedOperations;
+    }
+
+    /**
+     * Read the result of a <code>get_block</code> request and transform the
+     * accepted operations of all transactions in the block.
+     * 
+     * @param parser
+     *            The parser, positioned at the start of the block object.
+     * @param blockNumber
+     *            The number of the requested block.
+     * @return The accepted operations of the block.
+     * @throws IOException
+     *             If the result could not be read.
+     */
+    public BlockOperations readBlockOperations(JsonParser parser, long blockNumber) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+
+        String blockId = null;
+        String previous = null;
+        String timestamp = null;
+        List<String> transactionIds = Collections.emptyList();
+        List<TokenBuffer> operations = new ArrayList<>();
+        // The position of each accepted operation as [trx_in_block, op_in_trx].
+        List<int[]> positions = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+            case "block_id":
+                blockId = parser.getValueAsString();
+                break;
+            case "previous":
+                previous = parser.getValueAsString();
+                break;
+            case "timestamp":
+                timestamp = parser.getValueAsString();
+                break;
+            case "transactions":
+                readTransactions(parser, operations, positions);
+                break;
+            case "transaction_ids":
+                expect(parser, JsonToken.START_ARRAY);
+                transactionIds = new ArrayList<>();
+                while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                    transactionIds.add(parser.getText());
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        // The transaction ids follow the transactions, so the applied
+        // operations can only be created once the whole block has been read.
+        List<AppliedOperation> appliedOperations = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            int transactionIndex = positions.get(i)[0];
+
+            TokenBuffer appliedOperation = new TokenBuffer(parser);
+            appliedOperation.writeStartObject();
+            if (transactionIndex < transactionIds.size()) {
+                appliedOperation.writeStringField("trx_id", transactionIds.get(transactionIndex));
+            }
+            appliedOperation.writeNumberField("block", blockNumber);
+            appliedOperation.writeNumberField("trx_in_block", transactionIndex);
+            appliedOperation.writeNumberField("op_in_trx", positions.get(i)[1]);
+            appliedOperation.writeNumberField("virtual_op", 0);
+            if (timestamp != null) {
+                appliedOperation.writeStringField("timestamp", timestamp);
+            }
+            appliedOperation.writeFieldName("op");
+            copy(operations.get(i), appliedOperation);
+            appliedOperation.writeEndObject();
+
+            appliedOperations.add(APPLIED_OPERATION_READER.readValue(appliedOperation.asParser()));
+        }
+
+        return new BlockOperations(blockNumber, blockId == null ? null : new BlockId(blockId),
+                previous == null ? null : new BlockId(previous), timestamp == null ? null : new TimePointSec(timestamp),
+                appliedOperations);
+    }
+
+    /**
+     * Read the transactions of a block and collect the accepted operations.
+     * 
+     * @param parser
+     *            The parser, positioned at the start of the transaction array.
+     * @param operations
+     *            The list to add the accepted operations to.
+     * @param positions
+     *            The list to add the position of each accepted operation to.
+     * @throws IOException
+     *             If the transactions could not be read.
+     */
+    private void readTransactions(JsonParser parser, List<TokenBuffer> operations, List<int[]> positions)
+            throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+
+        for (int transactionIndex = 0; parser.nextToken() == JsonToken.START_OBJECT; transactionIndex++) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+
+                if (!"operations".equals(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                expect(parser, JsonToken.START_ARRAY);
+                for (int operationIndex = 0; parser.nextToken() == JsonToken.START_ARRAY; operationIndex++) {
+                    TokenBuffer operation = readOperation(parser);
+                    if (operation != null) {
+                        operations.add(operation);
+                        positions.add(new int[] { transactionIndex, operationIndex });
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a single operation. The body of operations which are not accepted
+     * is skipped.
+     * 
+     * @param parser
+     *            The parser, positioned at the start of the operation array.
+     * @return The tokens of the operation, or null if the operation is not
+     *         accepted.
+     * @throws IOException
+     *             If the operation could not be read.
+     */
+    private TokenBuffer readOperation(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_ARRAY);
+        if (parser.nextToken() != JsonToken.VALUE_STRING) {
+            throw JsonMappingException.from(parser, "Expected the name of the operation type.");
+        }
+
+        String operationTypeName = parser.getText();
+        parser.nextToken();
+        if (!isAccepted(operationTypeName)) {
+            parser.skipChildren();
+            parser.nextToken();
+            return null;
+        }
+
+        TokenBuffer operation = new TokenBuffer(parser);
+        operation.writeStartArray();
+        operation.writeString(operationTypeName);
+        operation.copyCurrentStructure(parser);
+        operation.writeEndArray();
+        parser.nextToken();
+
+        if (accountNames != null && !involvesAccount(operation)) {
+            return null;
+        }
+
+        return operation;
+    }
+
+    /**
+     * Check if one of the String values of the given operation is one of the
+     * accepted account names.
+     * 
+     * @param operation
+     *            The tokens of the operation.
+     * @return True if the operation involves one of the accounts.
+     * @throws IOException
+     *             If the tokens could not be read.
+     */
+    private boolean involvesAccount(TokenBuffer operation) throws IOException {
+        try (JsonParser operationParser = operation.asParser()) {
+            // Skip the name of the operation type.
+            operationParser.nextToken();
+            operationParser.nextToken();
+
+            JsonToken token;
+            while ((token = operationParser.nextToken()) != null) {
+                if (token == JsonToken.VALUE_STRING && accountNames.contains(operationParser.getText())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Append the tokens of the given buffer to another buffer.
+     * 
+     * @param source
+     *            The buffer to copy.
+     * @param target
+     *            The buffer to append the tokens to.
+     * @throws IOException
+     *             If the tokens could not be copied.
+     */
+    private static void copy(TokenBuffer source, TokenBuffer target) throws IOException {
+        try (JsonParser sourceParser = source.asParser()) {
+            sourceParser.nextToken();
+            target.copyCurrentStructure(sourceParser);
+        }
+    }
+
+    /**
+     * Make sure the parser is positioned at the given token.
+     * 
+     * @param parser
+     *            The parser.
+     * @param expectedToken
+     *            The expected token.
+     * @throws JsonMappingException
+     *             If the current token is a different one.
+     */
+    private static void expect(JsonParser parser, JsonToken expectedToken) throws JsonMappingException {
+        if (parser.getCurrentToken() != expectedToken) {
+            throw JsonMappingException.from(parser,
+                    "Expected " + expectedToken + ", but got " + parser.getCurrentToken() + ".");
+        }
+    }
+
+    /**
+     * Get the name of the given operation type as used in the JSON
+     * representation of an operation.
+     * 
+     * @param operationType
+     *            The operation type.
+     * @return The name of the type (e.g. "transfer" for the
+     *         {@link OperationType#TRANSFER_OPERATION TRANSFER_OPERATION}).
+     */
+    public static String getOperationTypeName(OperationType operationType) {
+        String name = operationType.name();
+        if (name.endsWith(OPERATION_SUFFIX)) {
+            name = name.substring(0, name.length() - OPERATION_SUFFIX.length());
+        }
+
+        return name.toLowerCase();
+    }
+}
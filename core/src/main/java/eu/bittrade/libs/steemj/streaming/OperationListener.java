@@ -0,0 +1,21 @@
+package eu.bittrade.libs.steemj.streaming;
+
+/**
+ * Implementations of this interface receive the operations of an
+ * {@link OperationStreamer OperationStreamer}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public interface OperationListener {
+    /**
+     * This method is called for each block of the stream, even if the block
+     * does not contain an accepted operation. The blocks are delivered one
+     * after another and strictly in the order of their block number.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param blockOperations
+     *            The accepted operations of the block.
+     */
+    void onOperations(long blockNumber, BlockOperations blockOperations);
+}
@@ -0,0 +1,107 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.util.concurrent.CompletableFuture;
+
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.SteemJAsync;
+
+/**
+ * This class streams the operations of the Steem blockchain which are accepted
+ * by an {@link OperationFilter OperationFilter} to an
+ * {@link OperationListener OperationListener}.
+ * 
+ * <p>
+ * The streamer behaves like the {@link BlockStreamer BlockStreamer}, but the
+ * filter is applied while the responses are read, so only the accepted
+ * operations are transformed into Java objects. As the operations are taken
+ * from the blocks, virtual operations are not part of the stream. They can be
+ * requested using
+ * {@link eu.bittrade.libs.steemj.SteemJ#getOpsInBlock(int, boolean, OperationFilter)
+ * getOpsInBlock}.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * OperationFilter transfers = new OperationFilter(EnumSet.of(OperationType.TRANSFER_OPERATION));
+ * OperationStreamer operationStreamer = new OperationStreamer(steemJ, 15000000L, transfers,
+ *         (blockNumber, blockOperations) -&gt; blockOperations.getOperations().forEach(System.out::println));
+ * operationStreamer.start();
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class OperationStreamer extends AbstractBlockStreamer<BlockOperations> {
+    private final OperationFilter operationFilter;
+    private final OperationListener operationListener;
+
+    /**
+     * Create a new operation streamer which requests up to
+     * {@link #DEFAULT_PREFETCH_WINDOW DEFAULT_PREFETCH_WINDOW} blocks in
+     * parallel. The streamer does not request any block before
+     * {@link #start()} has been called.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param operationFilter
+     *            The filter which selects the operations.
+     * @param operationListener
+     *            The listener receiving the operations.
+     */
+    public OperationStreamer(SteemJ steemJ, long startBlockNumber, OperationFilter operationFilter,
+            OperationListener operationListener) {
+        this(steemJ, startBlockNumber, DEFAULT_PREFETCH_WINDOW, BlockStreamMode.HEAD, operationFilter,
+                operationListener);
+    }
+
+    /**
+     * Create a new operation streamer. The streamer does not request any
+     * block before {@link #start()} has been called.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the blocks.
+     * @param startBlockNumber
+     *            The number of the first block to deliver.
+     * @param prefetchWindow
+     *            The maximum number of blocks requested ahead of the next
+     *            block to deliver.
+     * @param blockStreamMode
+     *            Defines if the blocks are delivered as soon as they have been
+     *            applied or once they are irreversible.
+     * @param operationFilter
+     *            The filter which selects the operations.
+     * @param operationListener
+     *            The listener receiving the operations.
+     * @throws IllegalArgumentException
+     *             If the startBlockNumber or the prefetchWindow is not
+     *             positive.
+     */
+    public OperationStreamer(SteemJ steemJ, long startBlockNumber, int prefetchWindow,
+            BlockStreamMode blockStreamMode, OperationFilter operationFilter, OperationListener operationListener) {
+        super(steemJ, startBlockNumber, prefetchWindow, blockStreamMode);
+        this.operationFilter = operationFilter;
+        this.operationListener = operationListener;
+    }
+
+    @Override
+    CompletableFuture<BlockOperations> fetchBlock(SteemJAsync steemJAsync, long blockNumber) {
+        return steemJAsync.getBlockOperations(blockNumber, operationFilter);
+    }
+
+    @Override
+    String getBlockId(BlockOperations block) {
+        return block.getBlockId().toString();
+    }
+
+    @Override
+    String getPreviousBlockId(BlockOperations block) {
+        return block.getPrevious().toString();
+    }
+
+    @Override
+    void deliverBlock(long blockNumber, BlockOperations block) {
+        operationListener.onOperations(blockNumber, block);
+    }
+}
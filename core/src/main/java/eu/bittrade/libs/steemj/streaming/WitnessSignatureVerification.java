@@ -0,0 +1,24 @@
+package eu.bittrade.libs.steemj.streaming;
+
+/**
+ * An enumeration of the results of a
+ * {@link WitnessSignatureVerifier WitnessSignatureVerifier}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public enum WitnessSignatureVerification {
+    /**
+     * The block header has been signed with the expected signing key.
+     */
+    VALID,
+    /**
+     * The witness signature of the block header is not a valid compact
+     * signature, so no signing key could be recovered.
+     */
+    INVALID_SIGNATURE,
+    /**
+     * The block header has been signed with another key than the expected
+     * signing key.
+     */
+    WRONG_SIGNING_KEY
+}
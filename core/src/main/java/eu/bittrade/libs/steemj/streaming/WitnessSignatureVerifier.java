@@ -0,0 +1,298 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.SteemJ;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.PublicKey;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.base.models.Witness;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * This class verifies the witness signatures of blocks by recovering the
+ * signing key from the signature and the digest of the block header (see
+ * {@link eu.bittrade.libs.steemj.base.models.SignedBlockHeader#recoverSigningKey()
+ * recoverSigningKey}), so blocks of a misbehaving Steem Node can be detected
+ * without further requests.
+ * 
+ * <p>
+ * The recovered key is compared with one of the following keys:
+ * </p>
+ * <ul>
+ * <li>If the verifier has been created without a {@link SteemJ SteemJ}
+ * instance, the {@link SignedBlockWithInfo#getSigningKey() signing key} the
+ * Steem Node has returned together with the block. This works for blocks of
+ * any age, but trusts the Steem Node to return the correct key.</li>
+ * <li>Otherwise, the current signing key of the witness, which is requested
+ * once using {@link SteemJ#getWitnessByAccount(AccountName)
+ * getWitnessByAccount} and cached afterwards. If the keys do not match, the
+ * key is requested again, as the witness may have changed it in the meantime,
+ * but at most once a minute per witness, so a run of blocks signed with an
+ * old key does not cause a request per block. As witnesses change their keys
+ * from time to time, this only works for recent blocks.</li>
+ * </ul>
+ * 
+ * <p>
+ * Recovering a key is by far the most expensive part of the verification, so
+ * a list of blocks (e.g. a range read from a {@link BlockStore BlockStore}) is
+ * verified by all threads of a {@link ForkJoinPool ForkJoinPool}. A single
+ * block can be verified by a {@link BlockListener BlockListener} while
+ * streaming.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * List&lt;WitnessSignatureVerification&gt; results = new WitnessSignatureVerifier(steemJ).verify(blocks);
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class WitnessSignatureVerifier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WitnessSignatureVerifier.class);
+
+    /** The number of blocks which are not split further between threads. */
+    private static final int BLOCKS_PER_TASK = 16;
+    /**
+     * The time in milliseconds after which a cached signing key that does not
+     * match may be requested again.
+     */
+    private static final long WITNESS_KEY_REFRESH_INTERVAL = 60000L;
+
+    private final SteemJ steemJ;
+    private final ForkJoinPool forkJoinPool;
+    /** The cached signing keys by the name of their witness. */
+    private final Map<String, WitnessKey> witnessKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new verifier which compares the recovered keys with the signing
+     * keys returned together with the blocks and uses the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     */
+    public WitnessSignatureVerifier() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new verifier which compares the recovered keys with the signing
+     * keys returned together with the blocks.
+     * 
+     * @param forkJoinPool
+     *            The pool whose threads recover the signing keys.
+     */
+    public WitnessSignatureVerifier(ForkJoinPool forkJoinPool) {
+        this(null, forkJoinPool);
+    }
+
+    /**
+     * Create a new verifier which compares the recovered keys with the
+     * current signing keys of the witnesses and uses the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the signing keys of the
+     *            witnesses.
+     */
+    public WitnessSignatureVerifier(SteemJ steemJ) {
+        this(steemJ, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new verifier.
+     * 
+     * @param steemJ
+     *            The SteemJ instance used to request the signing keys of the
+     *            witnesses, or null to compare the recovered keys with the
+     *            signing keys returned together with the blocks.
+     * @param forkJoinPool
+     *            The pool whose threads recover the signing keys.
+     */
+    public WitnessSignatureVerifier(SteemJ steemJ, ForkJoinPool forkJoinPool) {
+        this.steemJ = steemJ;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Verify the witness signature of the given block.
+     * 
+     * @param block
+     *            The block to verify.
+     * @return The result of the verification.
+     * @throws SteemCommunicationException
+     *             If the signing key of the witness could not be requested.
+     */
+    public WitnessSignatureVerification verify(SignedBlockWithInfo block) throws SteemCommunicationException {
+        return compareSigningKey(block, recoverSigningKey(block));
+    }
+
+    /**
+     * Verify the witness signatures of the given blocks. The signing keys are
+     * recovered in parallel.
+     * 
+     * @param blocks
+     *            The blocks to verify.
+     * @return The results in the order of the given <code>blocks</code>.
+     * @throws SteemCommunicationException
+     *             If the signing key of a witness could not be requested.
+     */
+    public List<WitnessSignatureVerification> verify(List<SignedBlockWithInfo> blocks)
+            throws SteemCommunicationException {
+        List<SignedBlockWithInfo> orderedBlocks = new ArrayList<>(blocks);
+        PublicKey[] signingKeys = new PublicKey[orderedBlocks.size()];
+        forkJoinPool.invoke(new RecoverTask(orderedBlocks, signingKeys, 0, orderedBlocks.size()));
+
+        List<WitnessSignatureVerification> results = new ArrayList<>(orderedBlocks.size());
+        for (int i = 0; i < orderedBlocks.size(); i++) {
+            results.add(compareSigningKey(orderedBlocks.get(i), signingKeys[i]));
+        }
+
+        return results;
+    }
+
+    /**
+     * Compare the recovered signing key of the given block with the expected
+     * key.
+     * 
+     * @param block
+     *            The block.
+     * @param signingKey
+     *            The recovered key, or null if no key could be recovered.
+     * @return The result of the verification.
+     * @throws SteemCommunicationException
+     *             If the signing key of the witness could not be requested.
+     */
+    private WitnessSignatureVerification compareSigningKey(SignedBlockWithInfo block, PublicKey signingKey)
+            throws SteemCommunicationException {
+        if (signingKey == null) {
+            return WitnessSignatureVerification.INVALID_SIGNATURE;
+        }
+
+        PublicKey expectedKey;
+        if (steemJ == null) {
+            expectedKey = block.getSigningKey();
+        } else {
+            WitnessKey witnessKey = witnessKeys.get(block.getWitness());
+            if (witnessKey == null || (!signingKey.equals(witnessKey.signingKey) && System.nanoTime()
+                    - witnessKey.requestTime > TimeUnit.MILLISECONDS.toNanos(WITNESS_KEY_REFRESH_INTERVAL))) {
+                // The witness may have changed its key since it has been
+                // cached.
+                expectedKey = requestWitnessKey(block.getWitness());
+            } else {
+                expectedKey = witnessKey.signingKey;
+            }
+        }
+
+        return signingKey.equals(expectedKey) ? WitnessSignatureVerification.VALID
+                : WitnessSignatureVerification.WRONG_SIGNING_KEY;
+    }
+
+    /**
+     * Request the current signing key of the given witness and cache it, even
+     * if the witness does not exist.
+     * 
+     * @param witnessName
+     *            The name of the witness.
+     * @return The signing key, or null if the witness does not exist.
+     * @throws SteemCommunicationException
+     *             If the witness could not be requested.
+     */
+    private PublicKey requestWitnessKey(String witnessName) throws SteemCommunicationException {
+        Witness witness = steemJ.getWitnessByAccount(new AccountName(witnessName));
+        PublicKey signingKey = witness == null ? null : witness.getSigningKey();
+
+        witnessKeys.put(witnessName, new WitnessKey(signingKey));
+        return signingKey;
+    }
+
+    /**
+     * Recover the signing key of the given block.
+     * 
+     * @param block
+     *            The block.
+     * @return The recovered key, or null if the witness signature is not
+     *         valid.
+     */
+    private static PublicKey recoverSigningKey(SignedBlockWithInfo block) {
+        try {
+            return block.recoverSigningKey();
+        } catch (SteemInvalidTransactionException e) {
+            LOGGER.debug("Could not recover the signing key of block {}.", block.getBlockId(), e);
+            return null;
+        }
+    }
+
+    /**
+     * A cached signing key together with the time it has been requested at.
+     */
+    private static class WitnessKey {
+        private final PublicKey signingKey;
+        private final long requestTime = System.nanoTime();
+
+        /**
+         * Create a new cache entry.
+         * 
+         * @param signingKey
+         *            The signing key, or null if the witness does not exist.
+         */
+        WitnessKey(PublicKey signingKey) {
+            this.signingKey = signingKey;
+        }
+    }
+
+    /**
+     * Recovers the signing keys of a range of blocks, splitting it between the
+     * threads of the pool.
+     */
+    private static class RecoverTask extends RecursiveAction {
+        private static final long serialVersionUID = -2896317560457210368L;
+
+        private final List<SignedBlockWithInfo> blocks;
+        private final PublicKey[] signingKeys;
+        private final int from;
+        private final int to;
+
+        /**
+         * Create a new task.
+         * 
+         * @param blocks
+         *            All blocks to verify.
+         * @param signingKeys
+         *            The array to store the recovered key of each block in.
+         * @param from
+         *            The index of the first block.
+         * @param to
+         *            The index behind the last block.
+         */
+        RecoverTask(List<SignedBlockWithInfo> blocks, PublicKey[] signingKeys, int from, int to) {
+            this.blocks = blocks;
+            this.signingKeys = signingKeys;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BLOCKS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RecoverTask(blocks, signingKeys, from, middle),
+                        new RecoverTask(blocks, signingKeys, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                signingKeys[i] = recoverSigningKey(blocks.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package eu.bittrade.libs.steemj.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.interfaces.ByteTransformable;
+
+/**
+ * This class writes the binary representation of Steem objects as it is used
+ * by the Steem Nodes. It is the counterpart of the {@link ByteSource
+ * ByteSource}.
+ * 
+ * <p>
+ * In contrast to the helper methods of {@link SteemJUtils SteemJUtils}, the
+ * values are written directly into one growable buffer, so serializing a
+ * whole transaction does not create an intermediate array for each field. All
+ * numbers are stored in little endian byte order.
+ * </p>
+ * 
+ * <p>
+ * Each thread owns a pooled sink which is used by
+ * {@link #toByteArray(ByteTransformable)}, so the buffer is only allocated
+ * once per thread. Instances are not thread safe.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * ByteSink byteSink = new ByteSink();
+ * signedTransaction.writeTo(byteSink);
+ * byte[] serializedTransaction = byteSink.toByteArray();
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class ByteSink {
+    /** The initial size of the buffer. */
+    private static final int DEFAULT_CAPACITY = 256;
+    /** Buffers which grew larger than this are not kept for the next call. */
+    private static final int MAXIMUM_POOLED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<ByteSink> SINKS = ThreadLocal.withInitial(ByteSink::new);
+
+    private byte[] buffer;
+    private int size;
+    /** True if this is a pooled sink which is currently used. */
+    private boolean inUse;
+
+    /**
+     * Create a new, empty sink.
+     */
+    public ByteSink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new, empty sink.
+     * 
+     * @param initialCapacity
+     *            The number of bytes which can be written before the buffer
+     *            has to grow.
+     * @throws IllegalArgumentException
+     *             If the initialCapacity is negative.
+     */
+    public ByteSink(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initialCapacity can't be negative.");
+        }
+
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Get the binary representation of the given object. The object is written
+     * into the pooled sink of the current thread, so only the resulting array
+     * is allocated.
+     * 
+     * @param byteTransformable
+     *            The object to serialize.
+     * @return The object as a byte array.
+     * @throws SteemInvalidTransactionException
+     *             If the object could not be serialized.
+     */
+    public static byte[] toByteArray(ByteTransformable byteTransformable) throws SteemInvalidTransactionException {
+        return toByteArray(byteTransformable::writeTo);
+    }
+
+    /**
+     * Get the bytes written by the given writer. The bytes are written into the
+     * pooled sink of the current thread, so only the resulting array is
+     * allocated.
+     * 
+     * @param byteWriter
+     *            The writer which writes the content.
+     * @return The written bytes.
+     * @throws SteemInvalidTransactionException
+     *             If the writer failed.
+     */
+    public static byte[] toByteArray(ByteWriter byteWriter) throws SteemInvalidTransactionException {
+        ByteSink byteSink = SINKS.get();
+        // Objects which are not written into a sink directly call this method
+        // while the pooled sink is used, so they get their own one.
+        if (byteSink.inUse) {
+            byteSink = new ByteSink();
+            byteWriter.writeTo(byteSink);
+            return byteSink.toByteArray();
+        }
+
+        byteSink.inUse = true;
+        try {
+            byteWriter.writeTo(byteSink);
+            return byteSink.toByteArray();
+        } finally {
+            byteSink.inUse = false;
+            if (byteSink.buffer.length > MAXIMUM_POOLED_CAPACITY) {
+                SINKS.remove();
+            } else {
+                byteSink.reset();
+            }
+        }
+    }
+
+    /**
+     * @return The number of bytes written so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discard all written bytes so the sink can be reused. The buffer is kept.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * @return A copy of the written bytes.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Write a single byte.
+     * 
+     * @param value
+     *            The byte to write. Only the lowest 8 bits are used.
+     */
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Write a boolean as a single byte.
+     * 
+     * @param value
+     *            The boolean to write.
+     */
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write a 16 bit number.
+     * 
+     * @param value
+     *            The number to write. Only the lowest 16 bits are used.
+     */
+    public void writeShort(int value) {
+        ensureCapacity(2);
+        buffer[size++] = (byte) value;
+        buffer[size++] = (byte) (value >>> 8);
+    }
+
+    /**
+     * Write a 32 bit number.
+     * 
+     * @param value
+     *            The number to write.
+     */
+    public void writeInt(int value) {
+        ensureCapacity(4);
+        buffer[size++] = (byte) value;
+        buffer[size++] = (byte) (value >>> 8);
+        buffer[size++] = (byte) (value >>> 16);
+        buffer[size++] = (byte) (value >>> 24);
+    }
+
+    /**
+     * Write a 64 bit number.
+     * 
+     * @param value
+     *            The number to write.
+     */
+    public void writeLong(long value) {
+        writeInt((int) value);
+        writeInt((int) (value >>> 32));
+    }
+
+    /**
+     * Write an unsigned 32 bit number as a VarInt.
+     * 
+     * @param value
+     *            The number to write, interpreted as unsigned.
+     */
+    public void writeVarInt(int value) {
+        writeVarLong(Integer.toUnsignedLong(value));
+    }
+
+    /**
+     * Write an unsigned 64 bit number as a VarInt.
+     * 
+     * @param value
+     *            The number to write, interpreted as unsigned.
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        long remaining = value;
+        while ((remaining & 0xFFFFFFFFFFFFFF80L) != 0L) {
+            buffer[size++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[size++] = (byte) remaining;
+    }
+
+    /**
+     * Write the given bytes without a length prefix.
+     * 
+     * @param bytes
+     *            The bytes to write.
+     */
+    public void writeBytes(byte[] bytes) {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Write a part of the given bytes without a length prefix.
+     * 
+     * @param bytes
+     *            The bytes to write.
+     * @param offset
+     *            The position of the first byte to write.
+     * @param length
+     *            The number of bytes to write.
+     */
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Write the given bytes prefixed by their number as a VarInt.
+     * 
+     * @param bytes
+     *            The bytes to write.
+     */
+    public void writeVarBytes(byte[] bytes) {
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Write a String using the
+     * {@link SteemJConfig#getEncodingCharset() configured charset}, prefixed
+     * by the number of bytes as a VarInt. Strings which only consist of ASCII
+     * characters are written without encoding them into a temporary array
+     * first.
+     * 
+     * @param string
+     *            The String to write.
+     */
+    public void writeString(String string) {
+        Charset encodingCharset = SteemJConfig.getInstance().getEncodingCharset();
+        int length = string.length();
+        if (isAsciiCompatible(encodingCharset) && isAscii(string)) {
+            writeVarInt(length);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[size++] = (byte) string.charAt(i);
+            }
+        } else {
+            writeVarBytes(string.getBytes(encodingCharset));
+        }
+    }
+
+    /**
+     * Check if the given charset encodes each ASCII character as a single
+     * byte of the same value.
+     * 
+     * @param charset
+     *            The charset to check.
+     * @return True if ASCII Strings can be copied as they are.
+     */
+    private static boolean isAsciiCompatible(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    /**
+     * @param string
+     *            The String to check.
+     * @return True if the String only consists of ASCII characters.
+     */
+    private static boolean isAscii(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Grow the buffer so that at least the given number of bytes can be
+     * written.
+     * 
+     * @param additionalBytes
+     *            The number of bytes which will be written.
+     */
+    private void ensureCapacity(int additionalBytes) {
+        int requiredCapacity = size + additionalBytes;
+        if (requiredCapacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(requiredCapacity, buffer.length * 2));
+        }
+    }
+
+    /**
+     * Writes some content into a sink.
+     */
+    @FunctionalInterface
+    public interface ByteWriter {
+        /**
+         * Write the content into the given sink.
+         * 
+         * @param byteSink
+         *            The sink to write to.
+         * @throws SteemInvalidTransactionException
+         *             If the content could not be written.
+         */
+        void writeTo(ByteSink byteSink) throws SteemInvalidTransactionException;
+    }
+}
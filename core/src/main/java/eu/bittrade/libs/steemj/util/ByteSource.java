@@ -0,0 +1,338 @@
+package eu.bittrade.libs.steemj.util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+import org.bitcoinj.core.Utils;
+
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+
+/**
+ * This class reads the binary representation of Steem objects as it is
+ * created by the {@link eu.bittrade.libs.steemj.interfaces.ByteTransformable
+ * ByteTransformable#toByteArray()} methods and used by the Steem Nodes.
+ * 
+ * <p>
+ * The source reads the values one after another directly from the underlying
+ * buffer, so objects can be decoded while the data is read without copying it
+ * first. All numbers are stored in little endian byte order.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * SignedTransaction signedTransaction = SignedTransaction
+ *         .fromBytes(ByteSource.fromHex(steemJ.getTransactionHex(transaction)));
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class ByteSource {
+    /** The maximal number of bytes used by a VarInt of 64 bit. */
+    private static final int MAX_VAR_INT_BYTES = 10;
+
+    private final ByteBuffer buffer;
+    private final Charset encodingCharset;
+
+    /**
+     * Create a new source reading the given bytes.
+     * 
+     * @param bytes
+     *            The binary representation of one or more objects.
+     */
+    public ByteSource(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Create a new source reading the remaining bytes of the given buffer.
+     * The position of the given buffer is not changed.
+     * 
+     * @param buffer
+     *            The binary representation of one or more objects.
+     */
+    public ByteSource(ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        this.encodingCharset = SteemJConfig.getInstance().getEncodingCharset();
+    }
+
+    /**
+     * Create a new source reading the given HEX String (e.g. the result of
+     * {@link eu.bittrade.libs.steemj.SteemJ#getTransactionHex(eu.bittrade.libs.steemj.base.models.SignedTransaction)
+     * getTransactionHex}).
+     * 
+     * @param hex
+     *            The HEX representation of one or more objects.
+     * @return The new source.
+     */
+    public static ByteSource fromHex(String hex) {
+        return new ByteSource(Utils.HEX.decode(hex));
+    }
+
+    /**
+     * @return The number of bytes which have already been read.
+     */
+    public int getPosition() {
+        return buffer.position();
+    }
+
+    /**
+     * Move to the given position, e.g. to read a value again.
+     * 
+     * @param position
+     *            The number of bytes to skip from the beginning.
+     * @throws IllegalArgumentException
+     *             If the position is outside of the source.
+     */
+    public void setPosition(int position) {
+        buffer.position(position);
+    }
+
+    /**
+     * @return The number of bytes which have not been read yet.
+     */
+    public int getRemaining() {
+        return buffer.remaining();
+    }
+
+    /**
+     * @return True if there are bytes which have not been read yet.
+     */
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    /**
+     * Read a single byte.
+     * 
+     * @return The byte.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public byte readByte() throws SteemTransformationException {
+        try {
+            return buffer.get();
+        } catch (BufferUnderflowException e) {
+            throw createUnderflowException(1, e);
+        }
+    }
+
+    /**
+     * Read a boolean value which is stored as a single byte.
+     * 
+     * @return The boolean value.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public boolean readBoolean() throws SteemTransformationException {
+        return readByte() != 0;
+    }
+
+    /**
+     * Read a signed 16 bit value ("int16_t").
+     * 
+     * @return The value.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public short readShort() throws SteemTransformationException {
+        try {
+            return buffer.getShort();
+        } catch (BufferUnderflowException e) {
+            throw createUnderflowException(2, e);
+        }
+    }
+
+    /**
+     * Read an unsigned 16 bit value ("uint16_t").
+     * 
+     * @return The value.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public int readUnsignedShort() throws SteemTransformationException {
+        return Short.toUnsignedInt(readShort());
+    }
+
+    /**
+     * Read a signed 32 bit value ("int32_t").
+     * 
+     * @return The value.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public int readInt() throws SteemTransformationException {
+        try {
+            return buffer.getInt();
+        } catch (BufferUnderflowException e) {
+            throw createUnderflowException(4, e);
+        }
+    }
+
+    /**
+     * Read an unsigned 32 bit value ("uint32_t").
+     * 
+     * @return The value.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public long readUnsignedInt() throws SteemTransformationException {
+        return Integer.toUnsignedLong(readInt());
+    }
+
+    /**
+     * Read a 64 bit value ("int64_t" or "uint64_t").
+     * 
+     * @return The value.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public long readLong() throws SteemTransformationException {
+        try {
+            return buffer.getLong();
+        } catch (BufferUnderflowException e) {
+            throw createUnderflowException(8, e);
+        }
+    }
+
+    /**
+     * Read an unsigned value stored as a VarInt.
+     * 
+     * @return The value.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached or if the VarInt
+     *             is too long.
+     */
+    public long readVarInt() throws SteemTransformationException {
+        long value = 0;
+        for (int i = 0; i < MAX_VAR_INT_BYTES; i++) {
+            byte currentByte = readByte();
+            value |= (long) (currentByte & 0x7F) << (7 * i);
+            if ((currentByte & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new SteemTransformationException("The VarInt at position " + getPosition() + " is too long.");
+    }
+
+    /**
+     * Read the length of a string or a list, which is stored as a VarInt.
+     * 
+     * @return The length.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached or if the length
+     *             is larger than the remaining bytes.
+     */
+    public int readLength() throws SteemTransformationException {
+        long length = readVarInt();
+        // Each element needs at least one byte, so a larger value can only be
+        // the result of invalid data.
+        if (length > buffer.remaining()) {
+            throw new SteemTransformationException(
+                    "The length " + length + " at position " + getPosition() + " exceeds the remaining bytes.");
+        }
+
+        return (int) length;
+    }
+
+    /**
+     * Read the given number of bytes.
+     * 
+     * @param length
+     *            The number of bytes to read.
+     * @return The bytes.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public byte[] readBytes(int length) throws SteemTransformationException {
+        checkRemaining(length);
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Read bytes whose length is stored in front of them as a VarInt (e.g. a
+     * "vector&lt;char&gt;").
+     * 
+     * @return The bytes.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public byte[] readVarBytes() throws SteemTransformationException {
+        return readBytes(readLength());
+    }
+
+    /**
+     * Read a String whose length is stored in front of it as a VarInt. The
+     * String is decoded using the configured
+     * {@link eu.bittrade.libs.steemj.configuration.SteemJConfig#getEncodingCharset()
+     * encoding charset}.
+     * 
+     * @return The String.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public String readString() throws SteemTransformationException {
+        int length = readLength();
+        if (length == 0) {
+            return "";
+        }
+
+        String string;
+        if (buffer.hasArray()) {
+            // Decode the String directly from the underlying array.
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, encodingCharset);
+            buffer.position(buffer.position() + length);
+        } else {
+            string = new String(readBytes(length), encodingCharset);
+        }
+
+        return string;
+    }
+
+    /**
+     * Skip the given number of bytes.
+     * 
+     * @param length
+     *            The number of bytes to skip.
+     * @throws SteemTransformationException
+     *             If the end of the source has been reached.
+     */
+    public void skip(int length) throws SteemTransformationException {
+        checkRemaining(length);
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Make sure that the given number of bytes can be read.
+     * 
+     * @param length
+     *            The number of bytes to read.
+     * @throws SteemTransformationException
+     *             If there are not enough bytes left.
+     */
+    private void checkRemaining(int length) throws SteemTransformationException {
+        if (length < 0 || length > buffer.remaining()) {
+            throw createUnderflowException(length, null);
+        }
+    }
+
+    /**
+     * @param length
+     *            The number of bytes that should have been read.
+     * @param cause
+     *            The cause, or null.
+     * @return An exception describing that the end of the source has been
+     *         reached.
+     */
+    private SteemTransformationException createUnderflowException(int length, Throwable cause) {
+        return new SteemTransformationException("Could not read " + length + " bytes at position " + getPosition()
+                + ", as only " + buffer.remaining() + " bytes are left.", cause);
+    }
+}
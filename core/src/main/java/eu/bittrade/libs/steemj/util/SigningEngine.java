@@ -0,0 +1,210 @@
+package eu.bittrade.libs.steemj.util;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.ECKey.ECDSASignature;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Utils;
+import org.spongycastle.crypto.digests.SHA256Digest;
+import org.spongycastle.crypto.signers.HMacDSAKCalculator;
+import org.spongycastle.math.ec.ECMultiplier;
+import org.spongycastle.math.ec.ECPoint;
+import org.spongycastle.math.ec.FixedPointCombMultiplier;
+
+import eu.bittrade.libs.steemj.exceptions.SteemFatalErrorException;
+
+/**
+ * This class creates the compact, canonical signatures the Steem Nodes
+ * require.
+ * 
+ * <p>
+ * The signatures are deterministic (RFC 6979) and equal to the ones created
+ * by {@link ECKey#sign(org.bitcoinj.core.Sha256Hash) ECKey#sign}, but the
+ * recovery id is taken from the y coordinate of the nonce point instead of
+ * trying to recover the public key up to four times. If a signature is not
+ * canonical, only the timestamp inside the already serialized message is
+ * increased, so the message does not need to be serialized again.
+ * </p>
+ * 
+ * <p>
+ * An engine keeps its SHA-256 digest and nonce generator for the next call
+ * and is therefore not thread safe. Use {@link #getInstance()} to get the
+ * engine of the current thread.
+ * </p>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SigningEngine {
+    /** The length of a compact signature: header, r and s. */
+    public static final int SIGNATURE_LENGTH = 65;
+
+    private static final ThreadLocal<SigningEngine> ENGINES = ThreadLocal.withInitial(SigningEngine::new);
+    private static final BigInteger CURVE_ORDER = ECKey.CURVE.getN();
+
+    private final MessageDigest sha256Digest;
+    private final HMacDSAKCalculator nonceCalculator = new HMacDSAKCalculator(new SHA256Digest());
+    private final ECMultiplier basePointMultiplier = new FixedPointCombMultiplier();
+
+    /**
+     * Create a new engine.
+     */
+    public SigningEngine() {
+        try {
+            this.sha256Digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new SteemFatalErrorException("SHA-256 is not supported by your platform.", e);
+        }
+    }
+
+    /**
+     * @return The engine of the current thread.
+     */
+    public static SigningEngine getInstance() {
+        return ENGINES.get();
+    }
+
+    /**
+     * Sign the given message with all given keys. As long as one of the
+     * signatures is not canonical, the 32 bit timestamp (e.g. the expiration
+     * date of a transaction) at the given position of the message is increased
+     * by one second and all signatures are created again.
+     * 
+     * @param message
+     *            The serialized message. The timestamp is changed in place.
+     * @param timestampOffset
+     *            The position of the little endian timestamp in the message.
+     * @param privateKeys
+     *            The keys to sign the message with.
+     * @return The compact signatures in the order of the
+     *         <code>privateKeys</code>.
+     */
+    public byte[][] signCanonical(byte[] message, int timestampOffset, List<ECKey> privateKeys) {
+        byte[][] signatures = new byte[privateKeys.size()][];
+        boolean isCanonical = false;
+        while (!isCanonical) {
+            byte[] messageHash = sha256(message);
+
+            isCanonical = true;
+            for (int i = 0; i < signatures.length; i++) {
+                signatures[i] = sign(messageHash, privateKeys.get(i));
+                isCanonical &= isCanonical(signatures[i]);
+            }
+
+            if (!isCanonical) {
+                Utils.uint32ToByteArrayLE(Utils.readUint32(message, timestampOffset) + 1, message, timestampOffset);
+            }
+        }
+
+        return signatures;
+    }
+
+    /**
+     * Calculate the SHA-256 hash of the given data.
+     * 
+     * @param data
+     *            The data to hash.
+     * @return The hash.
+     */
+    public byte[] sha256(byte[] data) {
+        return sha256Digest.digest(data);
+    }
+
+    /**
+     * Create the compact signature of the given hash.
+     * 
+     * @param messageHash
+     *            The SHA-256 hash of the message.
+     * @param privateKey
+     *            The key to sign the hash with.
+     * @return The signature consisting of the header byte (which contains the
+     *         recovery id), r and s.
+     */
+    public byte[] sign(byte[] messageHash, ECKey privateKey) {
+        BigInteger privateKeyValue = privateKey.getPrivKey();
+        BigInteger e = new BigInteger(1, messageHash);
+        nonceCalculator.init(CURVE_ORDER, privateKeyValue, messageHash);
+
+        while (true) {
+            BigInteger k = nonceCalculator.nextK();
+            ECPoint noncePoint = basePointMultiplier.multiply(ECKey.CURVE.getG(), k).normalize();
+            BigInteger x = noncePoint.getAffineXCoord().toBigInteger();
+            BigInteger r = x.mod(CURVE_ORDER);
+            if (r.signum() == 0) {
+                continue;
+            }
+
+            BigInteger s = k.modInverse(CURVE_ORDER).multiply(e.add(privateKeyValue.multiply(r))).mod(CURVE_ORDER);
+            if (s.signum() == 0) {
+                continue;
+            }
+
+            int recoveryId = (noncePoint.getAffineYCoord().toBigInteger().testBit(0) ? 1 : 0) | (x.equals(r) ? 0 : 2);
+            // Like ECKey#sign, only use the lower s value. As this negates
+            // the nonce point, the parity of y changes too.
+            if (s.compareTo(ECKey.HALF_CURVE_ORDER) > 0) {
+                s = CURVE_ORDER.subtract(s);
+                recoveryId ^= 1;
+            }
+
+            byte[] signature = new byte[SIGNATURE_LENGTH];
+            signature[0] = (byte) (recoveryId + 27 + (privateKey.isCompressed() ? 4 : 0));
+            System.arraycopy(Utils.bigIntegerToBytes(r, 32), 0, signature, 1, 32);
+            System.arraycopy(Utils.bigIntegerToBytes(s, 32), 0, signature, 33, 32);
+
+            return signature;
+        }
+    }
+
+    /**
+     * Recover the public key which created the given compact signature (see
+     * {@link #sign(byte[], ECKey)}).
+     * 
+     * @param messageHash
+     *            The SHA-256 hash of the signed message.
+     * @param signature
+     *            The compact signature consisting of the header byte, r and s.
+     * @return The public key, or null if no public key can be recovered from
+     *         the signature.
+     * @throws IllegalArgumentException
+     *             If the signature does not have the format of a compact
+     *             signature.
+     */
+    public static ECKey recoverPublicKey(byte[] messageHash, byte[] signature) {
+        if (signature.length != SIGNATURE_LENGTH) {
+            throw new IllegalArgumentException("A compact signature has to be " + SIGNATURE_LENGTH + " bytes long.");
+        }
+
+        int header = signature[0] & 0xFF;
+        if (header < 27 || header > 34) {
+            throw new IllegalArgumentException("The header byte " + header + " of the signature is out of range.");
+        }
+
+        boolean isCompressed = header >= 31;
+        ECDSASignature ecdsaSignature = new ECDSASignature(new BigInteger(1, Arrays.copyOfRange(signature, 1, 33)),
+                new BigInteger(1, Arrays.copyOfRange(signature, 33, SIGNATURE_LENGTH)));
+
+        return ECKey.recoverFromSignature(header - 27 - (isCompressed ? 4 : 0), ecdsaSignature,
+                Sha256Hash.wrap(messageHash), isCompressed);
+    }
+
+    /**
+     * Check if the given signature is accepted by the Steem Nodes.
+     * 
+     * Original implementation can be found <a href=
+     * "https://github.com/kenCode-de/graphenej/blob/master/graphenej/src/main/java/de/bitsharesmunich/graphenej/Transaction.java"
+     * >here</a>.
+     * 
+     * @param signature
+     *            The compact signature.
+     * @return True if the signature is canonical.
+     */
+    public static boolean isCanonical(byte[] signature) {
+        return !(((signature[0] & 0x80) != 0) || (signature[0] == 0) || ((signature[1] & 0x80) != 0)
+                || ((signature[32] & 0x80) != 0) || (signature[32] == 0) || ((signature[33] & 0x80) != 0));
+    }
+}
@@ -136,7 +136,7 @@ public class SteemJUtils {
                 value >>>= 7;
             }
 
-            out.writeByte(intValue & 0x7F);
+            out.writeByte(value & 0x7F);
 
             return byteArrayOutputStream.toByteArray();
         } catch (IOException e) {
@@ -113,6 +113,20 @@ public class SteemJIT extends BaseIntegrationTest {
         assertThat(hardforkVersionVoteExtension, instanceOf(HardforkVersionVote.class));
     }
 
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testGetBlocks() throws Exception {
+        final List<SignedBlockWithInfo> signedBlocksWithInfo = steemJ.getBlocks(13310401L, 3);
+
+        assertThat(signedBlocksWithInfo.size(), equalTo(3));
+        assertThat(signedBlocksWithInfo.get(0).getTimestamp().getDateTime(), equalTo("2017-07-01T19:24:42"));
+        assertThat(signedBlocksWithInfo.get(0).getWitness(), equalTo("riverhead"));
+        assertThat(signedBlocksWithInfo.get(1).getPrevious().toString(),
+                equalTo(signedBlocksWithInfo.get(0).getBlockId().toString()));
+        assertThat(signedBlocksWithInfo.get(2).getPrevious().toString(),
+                equalTo(signedBlocksWithInfo.get(1).getBlockId().toString()));
+    }
+
     @Category({ IntegrationTest.class })
     @Test
     public void testGetBlockHeader() throws Exception {
@@ -0,0 +1,47 @@
+package eu.bittrade.libs.steemj;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * Blocks of the Steem main net shared by the tests that need real blocks,
+ * real signatures or real signing keys.
+ *
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public final class TestBlocks {
+    /** The witness signature of the first block of the Steem main net. */
+    public static final String BLOCK_1_WITNESS_SIGNATURE = "204f8ad56a8f5cf722a02b035a61b500aa59b9519b2c33c77a80c0"
+            + "a714680a5a5a7a340d909d19996613c5e4ae92146b9add8a7a663eef37d837ef881477313043";
+    /** The key of the "initminer", which has signed the first blocks. */
+    public static final String INITMINER_SIGNING_KEY = "STM8GC13uCZbP44HzMLV6zPZGwVQ8Nt4Kji8PapsPiNq1BK153XTX";
+    /**
+     * The first block of the Steem main net as returned by
+     * <code>get_block</code>.
+     */
+    public static final String BLOCK_1 = "{\"previous\":\"0000000000000000000000000000000000000000\","
+            + "\"timestamp\":\"2016-03-24T16:05:00\",\"witness\":\"initminer\","
+            + "\"transaction_merkle_root\":\"0000000000000000000000000000000000000000\",\"extensions\":[],"
+            + "\"witness_signature\":\"" + BLOCK_1_WITNESS_SIGNATURE + "\",\"transactions\":[],"
+            + "\"block_id\":\"0000000109833ce528d5bbfb3f6225b39ee10086\",\"signing_key\":\""
+            + INITMINER_SIGNING_KEY + "\",\"transaction_ids\":[]}";
+
+    /**
+     * Utility class.
+     */
+    private TestBlocks() {
+    }
+
+    /**
+     * Parse the given block.
+     *
+     * @param block
+     *            The JSON representation of the block.
+     * @return The block.
+     * @throws Exception
+     *             If the block could not be parsed.
+     */
+    public static SignedBlockWithInfo readBlock(String block) throws Exception {
+        return CommunicationHandler.getObjectMapper().readValue(block, SignedBlockWithInfo.class);
+    }
+}
@@ -0,0 +1,151 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.base.models.operations.TransferOperation;
+import eu.bittrade.libs.steemj.base.models.operations.VoteOperation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+
+/**
+ * Test that operations are only decoded on their first access if the lazy
+ * decoding is enabled.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class LazyOperationTest {
+    private static final String TRANSFER = "[\"transfer\",{\"from\":\"dez1337\",\"to\":\"steemj\","
+            + "\"amount\":\"1.000 STEEM\",\"memo\":\"\"}]";
+    private static final String VOTE = "[\"vote\",{\"voter\":\"dez1337\",\"author\":\"steemj\","
+            + "\"permlink\":\"steemj-v0-4-0\",\"weight\":10000}]";
+    /** A comment which can't be transformed into an object. */
+    private static final String INVALID_COMMENT = "[\"comment\",{\"body\":{\"unexpected\":[1,2]}}]";
+
+    /**
+     * Reset the configuration.
+     */
+    @After
+    public void disableLazyDecoding() {
+        SteemJConfig.getInstance().setLazyOperationDecodingEnabled(false);
+    }
+
+    /**
+     * Test that the operations of a transaction are decoded on access.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testLazyTransactionOperations() throws Exception {
+        SteemJConfig.getInstance().setLazyOperationDecodingEnabled(true);
+
+        SignedTransaction transaction = CommunicationHandler.getObjectMapper()
+                .readValue("{\"ref_block_num\":51146,\"ref_block_prefix\":4057230348,"
+                        + "\"expiration\":\"2017-09-01T12:00:30\",\"operations\":[" + INVALID_COMMENT + "," + TRANSFER
+                        + "," + VOTE + "],\"extensions\":[],\"signatures\":[]}", SignedTransaction.class);
+
+        assertThat(transaction.getOperations(), instanceOf(LazyOperationList.class));
+        LazyOperationList operations = (LazyOperationList) transaction.getOperations();
+        assertThat(operations.size(), equalTo(3));
+        assertThat(transaction.getOperationType(0), equalTo("comment"));
+        assertThat(operations.getLazyOperation(1).isDecoded(), equalTo(false));
+
+        assertThat(operations.get(1), instanceOf(TransferOperation.class));
+        assertThat(operations.getLazyOperation(1).isDecoded(), equalTo(true));
+        assertThat(operations.get(2), instanceOf(VoteOperation.class));
+        assertThat(operations.getLazyOperation(0).isDecoded(), equalTo(false));
+
+        assertThat(operations.remove(1), instanceOf(TransferOperation.class));
+        assertThat(transaction.getOperationType(1), equalTo("vote"));
+    }
+
+    /**
+     * Test that replacing or removing operations does not decode them.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testModifyLazyOperations() throws Exception {
+        SteemJConfig.getInstance().setLazyOperationDecodingEnabled(true);
+
+        SignedTransaction transaction = CommunicationHandler.getObjectMapper()
+                .readValue("{\"ref_block_num\":51146,\"ref_block_prefix\":4057230348,"
+                        + "\"expiration\":\"2017-09-01T12:00:30\",\"operations\":[" + INVALID_COMMENT + ","
+                        + TRANSFER + "," + VOTE + "," + TRANSFER + "],\"extensions\":[],\"signatures\":[]}",
+                        SignedTransaction.class);
+        LazyOperationList operations = (LazyOperationList) transaction.getOperations();
+        Operation vote = operations.get(2);
+
+        assertThat(operations.removeIfType(typeName -> "transfer".equals(typeName)), equalTo(true));
+        assertThat(operations.size(), equalTo(2));
+        assertThat(operations.get(1), sameInstance(vote));
+
+        // The invalid comment would fail to be decoded.
+        assertThat(operations.set(0, vote), nullValue());
+        assertThat(operations.remove(0), sameInstance(vote));
+        assertThat(operations.removeIf(operation -> operation instanceof VoteOperation), equalTo(true));
+        assertThat(operations.isEmpty(), equalTo(true));
+    }
+
+    /**
+     * Test that the operation of an applied operation is decoded on access.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testLazyAppliedOperation() throws Exception {
+        String appliedOperation = "{\"trx_id\":\"6c6a1bd4c6ad1bd1ec47a8e2d6d1c0c8d3bb9a01\",\"block\":5687243,"
+                + "\"trx_in_block\":1,\"op_in_trx\":0,\"virtual_op\":0,\"timestamp\":\"2017-09-01T12:00:00\",\"op\":"
+                + VOTE + "}";
+
+        AppliedOperation eagerOperation = CommunicationHandler.getObjectMapper().readValue(appliedOperation,
+                AppliedOperation.class);
+        assertThat(eagerOperation.getOpType(), equalTo("vote"));
+
+        SteemJConfig.getInstance().setLazyOperationDecodingEnabled(true);
+        AppliedOperation lazyOperation = CommunicationHandler.getObjectMapper().readValue(appliedOperation,
+                AppliedOperation.class);
+
+        assertThat(lazyOperation.getOpType(), equalTo("vote"));
+        assertThat(((VoteOperation) lazyOperation.getOp()).getWeight(),
+                equalTo(((VoteOperation) eagerOperation.getOp()).getWeight()));
+    }
+
+    /**
+     * Test that an applied operation is written with the same properties
+     * whether its operation is decoded lazily or not.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testWriteAppliedOperation() throws Exception {
+        String appliedOperation = "{\"trx_id\":\"6c6a1bd4c6ad1bd1ec47a8e2d6d1c0c8d3bb9a01\",\"block\":5687243,"
+                + "\"trx_in_block\":1,\"op_in_trx\":0,\"virtual_op\":0,\"timestamp\":\"2017-09-01T12:00:00\",\"op\":"
+                + VOTE + "}";
+
+        JsonNode eagerOperation = CommunicationHandler.getObjectMapper().valueToTree(
+                CommunicationHandler.getObjectMapper().readValue(appliedOperation, AppliedOperation.class));
+
+        SteemJConfig.getInstance().setLazyOperationDecodingEnabled(true);
+        JsonNode lazyOperation = CommunicationHandler.getObjectMapper().valueToTree(
+                CommunicationHandler.getObjectMapper().readValue(appliedOperation, AppliedOperation.class));
+
+        assertThat(lazyOperation, equalTo(eagerOperation));
+        assertThat(lazyOperation.has("opType"), equalTo(false));
+        assertThat(lazyOperation.get("op"),
+                equalTo(CommunicationHandler.getObjectMapper().readTree(VOTE)));
+    }
+}
@@ -2,12 +2,14 @@ package eu.bittrade.libs.steemj.base.models;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 
 import org.bitcoinj.core.Utils;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import eu.bittrade.libs.steemj.BaseUnitTest;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * Test the PublicKey object.
@@ -59,6 +61,24 @@ public class PublicKeyTest extends BaseUnitTest {
         assertThat(ADDRESS, equalTo(publicKey.getAddressFromPublicKey()));
     }
 
+    /**
+     * Test that the null key, which consists of zeros only, can be read from
+     * its byte representation and written again.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testNullKeyFromBytes() throws Exception {
+        PublicKey nullKey = PublicKey.fromBytes(new ByteSource(new byte[33]));
+
+        assertThat(nullKey.getPublicKey(), nullValue());
+        assertThat(Utils.HEX.encode(nullKey.toByteArray()), equalTo(Utils.HEX.encode(new byte[33])));
+        assertThat(nullKey.getAddressFromPublicKey().endsWith("1111111111111111111111111111111114T1Anm"),
+                equalTo(true));
+        assertThat(new PublicKey(nullKey.getAddressFromPublicKey()), equalTo(nullKey));
+    }
+
     /**
      * Test the
      * {@link eu.bittrade.libs.steemj.base.models.PublicKey#equals(Object)}
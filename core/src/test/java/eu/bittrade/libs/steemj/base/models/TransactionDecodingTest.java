@@ -0,0 +1,93 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.util.Arrays;
+
+import org.bitcoinj.core.Utils;
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.TestBlocks;
+import eu.bittrade.libs.steemj.base.models.operations.CommentOptionsOperation;
+import eu.bittrade.libs.steemj.base.models.operations.TransferOperation;
+import eu.bittrade.libs.steemj.base.models.operations.VoteOperation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+import eu.bittrade.libs.steemj.util.ByteSource;
+
+/**
+ * Test that transactions can be read from their binary representation.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class TransactionDecodingTest {
+    private static final String TRANSACTION = "{\"ref_block_num\":51146,\"ref_block_prefix\":4057230348,"
+            + "\"expiration\":\"2017-09-01T12:00:30\",\"operations\":[[\"transfer\",{\"from\":\"dez1337\","
+            + "\"to\":\"steemj\",\"amount\":\"1.000 STEEM\",\"memo\":\"Thanks!\"}],[\"vote\",{\"voter\":\"dez1337\","
+            + "\"author\":\"steemj\",\"permlink\":\"steemj-v0-4-0\",\"weight\":-10000}],[\"custom_json\","
+            + "{\"required_auths\":[],\"required_posting_auths\":[\"dez1337\"],\"id\":\"follow\","
+            + "\"json\":\"[\\\"follow\\\",{}]\"}],[\"comment_options\",{\"author\":\"dez1337\","
+            + "\"permlink\":\"steemj-v0-4-0\",\"max_accepted_payout\":\"1000000.000 SBD\","
+            + "\"percent_steem_dollars\":10000,\"allow_votes\":true,\"allow_curation_rewards\":false,"
+            + "\"extensions\":[[0,{\"beneficiaries\":[{\"account\":\"steemj\",\"weight\":2500}]}]]}]],"
+            + "\"extensions\":[],\"signatures\":[]}";
+    private static final String SIGNATURE = TestBlocks.BLOCK_1_WITNESS_SIGNATURE;
+
+    /**
+     * Test that a signed transaction and its operations are read correctly.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testReadSignedTransaction() throws Exception {
+        SignedTransaction transaction = CommunicationHandler.getObjectMapper().readValue(TRANSACTION,
+                SignedTransaction.class);
+        byte[] unsignedTransaction = transaction.toByteArray("");
+
+        // Append the signatures as done by the Steem Nodes.
+        byte[] signedTransaction = Arrays.copyOf(unsignedTransaction, unsignedTransaction.length + 66);
+        signedTransaction[unsignedTransaction.length] = 1;
+        System.arraycopy(Utils.HEX.decode(SIGNATURE), 0, signedTransaction, unsignedTransaction.length + 1, 65);
+
+        ByteSource byteSource = new ByteSource(signedTransaction);
+        SignedTransaction decodedTransaction = SignedTransaction.fromBytes(byteSource);
+
+        assertThat(byteSource.hasRemaining(), equalTo(false));
+        assertThat(decodedTransaction.getRefBlockNum(), equalTo(51146));
+        assertThat(decodedTransaction.getRefBlockPrefix(), equalTo(4057230348L));
+        assertThat(decodedTransaction.getExpirationDate().getDateTime(), equalTo("2017-09-01T12:00:30"));
+        assertThat(decodedTransaction.getSignatures().size(), equalTo(1));
+        assertThat(decodedTransaction.getSignatures().get(0), equalTo(SIGNATURE));
+
+        assertThat(decodedTransaction.getOperations().get(0), instanceOf(TransferOperation.class));
+        TransferOperation transferOperation = (TransferOperation) decodedTransaction.getOperations().get(0);
+        assertThat(transferOperation.getAmount().getAmount(), equalTo(1.0));
+        assertThat(transferOperation.getMemo(), equalTo("Thanks!"));
+        assertThat(((VoteOperation) decodedTransaction.getOperations().get(1)).getWeight(), equalTo((short) -10000));
+        CommentOptionsOperation commentOptionsOperation = (CommentOptionsOperation) decodedTransaction
+                .getOperations().get(3);
+        assertThat(((CommentPayoutBeneficiaries) commentOptionsOperation.getExtensions().get(0)).getBeneficiaries()
+                .get(0).getAccount().getName(), equalTo("steemj"));
+
+        assertThat(Utils.HEX.encode(decodedTransaction.toByteArray("")),
+                equalTo(Utils.HEX.encode(unsignedTransaction)));
+    }
+
+    /**
+     * Test that an incomplete transaction is rejected.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = SteemTransformationException.class)
+    public void testReadIncompleteTransaction() throws Exception {
+        SignedTransaction transaction = CommunicationHandler.getObjectMapper().readValue(TRANSACTION,
+                SignedTransaction.class);
+        byte[] unsignedTransaction = transaction.toByteArray("");
+
+        SignedTransaction.fromBytes(new ByteSource(Arrays.copyOf(unsignedTransaction, unsignedTransaction.length - 3)));
+    }
+}
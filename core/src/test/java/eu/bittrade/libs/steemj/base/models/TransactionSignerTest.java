@@ -0,0 +1,106 @@
+package eu.bittrade.libs.steemj.base.models;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.BaseUnitTest;
+import eu.bittrade.libs.steemj.base.models.operations.Operation;
+import eu.bittrade.libs.steemj.base.models.operations.VoteOperation;
+import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+
+/**
+ * This class contains all tests connected to the {@link TransactionSigner
+ * TransactionSigner}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class TransactionSignerTest extends BaseUnitTest {
+    private static final int NUMBER_OF_TRANSACTIONS = 100;
+
+    /**
+     * Setup the test environment.
+     */
+    @BeforeClass
+    public static void init() {
+        setupUnitTestEnvironment();
+    }
+
+    /**
+     * Test that a batch is signed in order and with the same signatures and
+     * expiration dates as signing each transaction on its own.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testSign() throws Exception {
+        long expirationDate = (System.currentTimeMillis() / 1000 + 600) * 1000;
+        List<SignedTransaction> transactions = new ArrayList<>();
+        List<SignedTransaction> expectedTransactions = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_TRANSACTIONS; i++) {
+            transactions.add(createTransaction(i, expirationDate));
+
+            SignedTransaction expectedTransaction = createTransaction(i, expirationDate);
+            expectedTransaction.sign();
+            expectedTransactions.add(expectedTransaction);
+        }
+
+        List<SignedTransaction> signedTransactions = new TransactionSigner(new ForkJoinPool(4)).sign(transactions);
+
+        assertThat(signedTransactions.size(), equalTo(NUMBER_OF_TRANSACTIONS));
+        for (int i = 0; i < NUMBER_OF_TRANSACTIONS; i++) {
+            assertThat(signedTransactions.get(i), equalTo(transactions.get(i)));
+            assertThat(signedTransactions.get(i).getSignatures(), equalTo(expectedTransactions.get(i).getSignatures()));
+            assertThat(signedTransactions.get(i).getExpirationDate(),
+                    equalTo(expectedTransactions.get(i).getExpirationDate()));
+        }
+    }
+
+    /**
+     * Test that no transaction is signed if a key is missing.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = SteemInvalidTransactionException.class)
+    public void testSignWithMissingKey() throws Exception {
+        long expirationDate = (System.currentTimeMillis() / 1000 + 600) * 1000;
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new VoteOperation(new AccountName("unknown"), new AccountName("steemj"),
+                new Permlink("steemj-v0-2-4-has-been-released-update-9"), (short) 10000));
+        SignedTransaction transaction = new SignedTransaction(34294, 3707022213L, new TimePointSec(expirationDate),
+                operations, new ArrayList<>());
+
+        try {
+            new TransactionSigner().sign(Collections.singletonList(transaction));
+        } finally {
+            assertThat(transaction.getSignatures().size(), equalTo(0));
+        }
+    }
+
+    /**
+     * Create a transaction voting with the given weight.
+     * 
+     * @param weight
+     *            The weight of the vote.
+     * @param expirationDate
+     *            The expiration date in milliseconds.
+     * @return The unsigned transaction.
+     */
+    private static SignedTransaction createTransaction(int weight, long expirationDate) {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(new VoteOperation(new AccountName("dez1337"), new AccountName("steemj"),
+                new Permlink("steemj-v0-2-4-has-been-released-update-9"), (short) weight));
+
+        return new SignedTransaction(34294, 3707022213L, new TimePointSec(expirationDate), operations,
+                new ArrayList<>());
+    }
+}
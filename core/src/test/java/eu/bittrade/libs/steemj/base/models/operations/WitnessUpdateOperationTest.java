@@ -2,6 +2,7 @@ package eu.bittrade.libs.steemj.base.models.operations;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
@@ -19,6 +20,7 @@ import eu.bittrade.libs.steemj.base.models.ChainProperties;
 import eu.bittrade.libs.steemj.base.models.PublicKey;
 import eu.bittrade.libs.steemj.enums.AssetSymbolType;
 import eu.bittrade.libs.steemj.exceptions.SteemInvalidTransactionException;
+import eu.bittrade.libs.steemj.util.ByteSource;
 
 /**
  * Test a Steem "witness update operation" and verify the results against the
@@ -30,6 +32,9 @@ public class WitnessUpdateOperationTest extends BaseTransactionalUnitTest {
     final String EXPECTED_BYTE_REPRESENTATION = "0b0764657a313333371c68747470733a2f2f737465656d69742e636f6d2f4"
             + "064657a3133333702e5127bd7d41f01d9981a5a2c2524a60706040bbec8838a39719550ea2507100088130000000000"
             + "0003535445454d0000000001000000010000000000000003535445454d0000";
+    final String DISABLED_WITNESS_BYTE_REPRESENTATION = "0b0764657a3133333714737465656d69742e636f6d2f4064657a31"
+            + "333337000000000000000000000000000000000000000000000000000000000000000000881300000000000003535445"
+            + "454d0000000001000000010000000000000003535445454d0000";
     final String EXPECTED_TRANSACTION_HASH = "32072376b387b4b22b9bd23ca487be12341a48646a8c6d68812b2a25140c524b";
     final String EXPECTED_TRANSACTION_SERIALIZATION = "0000000000000000000000000000000000000000000000000000000"
             + "000000000f68585abf4dceac80457010b0764657a313333371c68747470733a2f2f737465656d69742e636f6d2f4064"
@@ -82,6 +87,25 @@ public class WitnessUpdateOperationTest extends BaseTransactionalUnitTest {
                 Utils.HEX.encode(witnessUpdateOperation.toByteArray()), equalTo(EXPECTED_BYTE_REPRESENTATION));
     }
 
+    /**
+     * Test that an operation which disables a witness and uses a URL without
+     * a protocol, which is accepted by the Steem Nodes, can be read from its
+     * byte representation and written again.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testReadDisabledWitnessWithoutProtocol() throws Exception {
+        WitnessUpdateOperation decodedOperation = WitnessUpdateOperation
+                .fromBytes(ByteSource.fromHex(DISABLED_WITNESS_BYTE_REPRESENTATION));
+
+        assertThat(decodedOperation.getOwner().getName(), equalTo("dez1337"));
+        assertThat(decodedOperation.getUrl().toString(), equalTo("steemit.com/@dez1337"));
+        assertThat(decodedOperation.getBlockSigningKey().getPublicKey(), nullValue());
+        assertThat(Utils.HEX.encode(decodedOperation.toByteArray()), equalTo(DISABLED_WITNESS_BYTE_REPRESENTATION));
+    }
+
     @Override
     @Test
     public void testTransactionWithOperationToHex()
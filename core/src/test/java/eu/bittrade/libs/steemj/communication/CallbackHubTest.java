@@ -0,0 +1,127 @@
+package eu.bittrade.libs.steemj.communication;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockHeader;
+import eu.bittrade.libs.steemj.enums.CallbackOverflowPolicy;
+
+/**
+ * Test the queueing and dispatching of notifications by the callback hub.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class CallbackHubTest {
+    /**
+     * Test that notifications are delivered in order through the executor of
+     * the callback and that the oldest notifications are dropped if the queue
+     * is full.
+     */
+    @Test
+    public void testDropOldest() {
+        ManualExecutor executor = new ManualExecutor();
+        RecordingCallback callback = new RecordingCallback();
+        CallbackHub.getInstance().addCallback(callback, 2, executor, CallbackOverflowPolicy.DROP_OLDEST);
+
+        SignedBlockHeader first = new SignedBlockHeader();
+        SignedBlockHeader second = new SignedBlockHeader();
+        SignedBlockHeader third = new SignedBlockHeader();
+        assertThat(CallbackHub.getInstance().dispatch(callback.getUuid(), first), equalTo(true));
+        CallbackHub.getInstance().dispatch(callback.getUuid(), second);
+        CallbackHub.getInstance().dispatch(callback.getUuid(), third);
+
+        // Nothing is called by the dispatching thread.
+        assertThat(callback.receivedBlockHeaders, equalTo(Collections.emptyList()));
+
+        executor.runAll();
+        assertThat(callback.receivedBlockHeaders, equalTo(Arrays.asList(second, third)));
+
+        assertThat(CallbackHub.getInstance().removeCallback(callback), equalTo(true));
+    }
+
+    /**
+     * Test that a callback which can't keep up is removed if the disconnect
+     * policy is used.
+     */
+    @Test
+    public void testDisconnect() {
+        ManualExecutor executor = new ManualExecutor();
+        RecordingCallback callback = new RecordingCallback();
+        CallbackHub.getInstance().addCallback(callback, 1, executor, CallbackOverflowPolicy.DISCONNECT);
+
+        CallbackHub.getInstance().dispatch(callback.getUuid(), new SignedBlockHeader());
+        CallbackHub.getInstance().dispatch(callback.getUuid(), new SignedBlockHeader());
+
+        assertThat(CallbackHub.getInstance().getCallbackByUuid(callback.getUuid()), nullValue());
+        executor.runAll();
+        assertThat(callback.disconnected, equalTo(true));
+        assertThat(callback.receivedBlockHeaders, equalTo(Collections.emptyList()));
+    }
+
+    /**
+     * Test that a removed callback does not receive notifications anymore.
+     */
+    @Test
+    public void testRemoveCallback() {
+        ManualExecutor executor = new ManualExecutor();
+        RecordingCallback callback = new RecordingCallback();
+        CallbackHub.getInstance().addCallback(callback, 10, executor, CallbackOverflowPolicy.BLOCK);
+
+        assertThat(CallbackHub.getInstance().getCallbackByUuid(callback.getUuid()), equalTo(callback));
+        assertThat(CallbackHub.getInstance().removeCallback(callback), equalTo(true));
+        assertThat(CallbackHub.getInstance().removeCallback(callback), equalTo(false));
+        assertThat(CallbackHub.getInstance().dispatch(callback.getUuid(), new SignedBlockHeader()), equalTo(false));
+
+        executor.runAll();
+        assertThat(callback.receivedBlockHeaders, equalTo(Collections.emptyList()));
+    }
+
+    /**
+     * A callback which records all notifications.
+     */
+    private static class RecordingCallback extends BlockAppliedCallback {
+        private final List<SignedBlockHeader> receivedBlockHeaders = new ArrayList<>();
+        private boolean disconnected;
+
+        @Override
+        public void onNewBlock(SignedBlockHeader signedBlockHeader) {
+            receivedBlockHeaders.add(signedBlockHeader);
+        }
+
+        @Override
+        public void onDisconnect() {
+            disconnected = true;
+        }
+    }
+
+    /**
+     * An executor which only runs its tasks when asked to.
+     */
+    private static class ManualExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        /**
+         * Run all submitted tasks, including the ones submitted in the
+         * meantime.
+         */
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package eu.bittrade.libs.steemj.communication;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO;
+import eu.bittrade.libs.steemj.configuration.RateLimit;
+import eu.bittrade.libs.steemj.configuration.SteemJConfig;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApis;
+import eu.bittrade.libs.steemj.exceptions.SteemCommunicationException;
+import eu.bittrade.libs.steemj.exceptions.SteemTimeoutException;
+
+/**
+ * Test the sending of requests by the communication handler without a Steem
+ * Node.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class CommunicationHandlerTest {
+    private static final int NUMBER_OF_CALLERS = 32;
+
+    /**
+     * Test that identical read requests made concurrently are only sent once
+     * and that all callers receive the response.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testCoalesceConcurrentReads() throws Exception {
+        CountingNodeConnection connection = new CountingNodeConnection();
+        CommunicationHandler communicationHandler = new CommunicationHandler(
+                Collections.singletonList(connection));
+        boolean requestCoalescingEnabled = SteemJConfig.getInstance().isRequestCoalescingEnabled();
+        SteemJConfig.getInstance().setRequestCoalescingEnabled(true);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_OF_CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CompletableFuture<List<String>>>> callers = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_CALLERS; i++) {
+                callers.add(executorService.submit(() -> {
+                    start.await();
+                    return communicationHandler.performRequestAsync(createRequest(), String.class);
+                }));
+            }
+
+            start.countDown();
+            List<CompletableFuture<List<String>>> results = new ArrayList<>();
+            for (Future<CompletableFuture<List<String>>> caller : callers) {
+                results.add(caller.get(10, TimeUnit.SECONDS));
+            }
+
+            assertThat(connection.sentRequests.get(), equalTo(1));
+
+            connection.response.complete("{\"id\":1,\"result\":\"0.19.2\"}");
+            for (CompletableFuture<List<String>> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS), equalTo(Collections.singletonList("0.19.2")));
+            }
+        } finally {
+            executorService.shutdownNow();
+            SteemJConfig.getInstance().setRequestCoalescingEnabled(requestCoalescingEnabled);
+        }
+    }
+
+    /**
+     * Test that a request which could not be sent gives its permit back and
+     * that the time spent waiting for the rate limit counts towards the
+     * timeout of a request.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testRateLimitedRequests() throws Exception {
+        RateLimit rateLimit = SteemJConfig.getInstance().getRateLimit(SteemApis.DATABASE_API);
+        boolean requestCoalescingEnabled = SteemJConfig.getInstance().isRequestCoalescingEnabled();
+        SteemJConfig.getInstance().setRateLimit(SteemApis.DATABASE_API, new RateLimit(0.01, 1));
+        SteemJConfig.getInstance().setRequestCoalescingEnabled(false);
+
+        try {
+            CountingNodeConnection connection = new CountingNodeConnection();
+            CommunicationHandler communicationHandler = new CommunicationHandler(
+                    Collections.singletonList(connection));
+
+            connection.failing = true;
+            try {
+                communicationHandler.performRequest(createRequest(), String.class);
+                fail("The request should not have been sent.");
+            } catch (SteemCommunicationException e) {
+                assertThat(connection.sentRequests.get(), equalTo(1));
+            }
+
+            // The only permit has not been used by the failed request.
+            connection.failing = false;
+            communicationHandler.performRequestAsync(createRequest(), String.class);
+            assertThat(connection.sentRequests.get(), equalTo(2));
+
+            RequestWrapperDTO requestObject = createRequest();
+            requestObject.setTimeout(200);
+            long start = System.nanoTime();
+            try {
+                communicationHandler.performRequest(requestObject, String.class);
+                fail("The request should have timed out while waiting for a permit.");
+            } catch (SteemTimeoutException e) {
+                assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), lessThan(5L));
+                assertThat(connection.sentRequests.get(), equalTo(2));
+            }
+        } finally {
+            SteemJConfig.getInstance().setRateLimit(SteemApis.DATABASE_API, rateLimit);
+            SteemJConfig.getInstance().setRequestCoalescingEnabled(requestCoalescingEnabled);
+        }
+    }
+
+    /**
+     * Test that waiting for an asynchronous request, as the blocking methods of
+     * SteemJ do, throws the exception the request has failed with.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testAwaitAsynchronousRequest() throws Exception {
+        assertThat(CommunicationHandler.await(CompletableFuture.completedFuture("0.19.2")), equalTo("0.19.2"));
+
+        SteemTimeoutException timeout = new SteemTimeoutException("Timeout occured.");
+        CompletableFuture<String> timedOutRequest = new CompletableFuture<>();
+        timedOutRequest.completeExceptionally(timeout);
+        try {
+            CommunicationHandler.await(timedOutRequest);
+            fail("The timeout should have been thrown.");
+        } catch (SteemTimeoutException e) {
+            assertThat(e, sameInstance(timeout));
+        }
+
+        IllegalStateException failure = new IllegalStateException();
+        CompletableFuture<String> failedRequest = new CompletableFuture<>();
+        failedRequest.completeExceptionally(failure);
+        try {
+            CommunicationHandler.await(failedRequest);
+            fail("The failure should have been thrown.");
+        } catch (SteemCommunicationException e) {
+            assertThat(e.getCause(), sameInstance((Throwable) failure));
+        }
+    }
+
+    /**
+     * Test that a closed handler does not reestablish its connections and
+     * fails all requests made after it has been closed.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testRequestsAfterClose() throws Exception {
+        // The connection has no client, so it would fail with another
+        // exception if it tried to connect.
+        NodeConnection connection = new NodeConnection(null, URI.create("wss://localhost"), notification -> {
+        });
+        CommunicationHandler communicationHandler = new CommunicationHandler(Collections.singletonList(connection));
+
+        communicationHandler.withTimeout(200).close();
+
+        try {
+            CommunicationHandler.await(communicationHandler.performRequestAsync(createRequest(), String.class));
+            fail("The request should not have been sent.");
+        } catch (SteemCommunicationException e) {
+            assertThat(connection.getOutstandingRequests(), equalTo(0));
+        }
+    }
+
+    /**
+     * @return A read request which does not time out.
+     */
+    private static RequestWrapperDTO createRequest() {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setSteemApi(SteemApis.DATABASE_API);
+        requestObject.setApiMethod(RequestMethods.GET_HARDFORK_VERSION);
+        requestObject.setAdditionalParameters(new Object[0]);
+        requestObject.setTimeout(0);
+        return requestObject;
+    }
+
+    /**
+     * A connection which does not send anything, but counts the requests that
+     * would have been sent and answers all of them with the same future.
+     */
+    private static class CountingNodeConnection extends NodeConnection {
+        private final AtomicInteger sentRequests = new AtomicInteger();
+        private final CompletableFuture<String> response = new CompletableFuture<>();
+        private volatile boolean failing;
+
+        CountingNodeConnection() {
+            super(null, URI.create("wss://localhost"), notification -> {
+            });
+        }
+
+        @Override
+        CompletableFuture<String> send(RequestWrapperDTO requestObject) throws SteemCommunicationException {
+            sentRequests.incrementAndGet();
+            if (failing) {
+                throw new SteemCommunicationException("The connection is closed.");
+            }
+            // Give the other callers the chance to miss a registered request.
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            return response;
+        }
+    }
+}
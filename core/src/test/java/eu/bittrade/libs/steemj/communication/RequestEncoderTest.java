@@ -0,0 +1,105 @@
+package eu.bittrade.libs.steemj.communication;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.communication.dto.RequestWrapperDTO;
+import eu.bittrade.libs.steemj.enums.RequestMethods;
+import eu.bittrade.libs.steemj.enums.SteemApis;
+import eu.bittrade.libs.steemj.exceptions.SteemTransformationException;
+
+/**
+ * Test that the request encoder creates the JSON format expected by the Steem
+ * Node.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class RequestEncoderTest {
+    /**
+     * Test the encoding of a single request.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testEncode() throws Exception {
+        RequestWrapperDTO requestObject = createRequest(SteemApis.DATABASE_API, RequestMethods.GET_ACCOUNTS,
+                new Object[] { new String[] { "dez1337", "\"quoted\"" } });
+
+        assertThat(RequestEncoder.encode(requestObject),
+                equalTo("{\"jsonrpc\":\"2.0\",\"params\":[\"database_api\",\"get_accounts\","
+                        + "[[\"dez1337\",\"\\\"quoted\\\"\"]]],\"id\":" + requestObject.getId()
+                        + ",\"method\":\"call\"}"));
+        // The reused buffer must not contain any leftovers.
+        assertThat(RequestEncoder.encode(requestObject), equalTo(requestObject.toString()));
+    }
+
+    /**
+     * Test the encoding of a request without parameters.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testEncodeWithoutParameters() throws Exception {
+        RequestWrapperDTO requestObject = createRequest(SteemApis.DATABASE_API,
+                RequestMethods.GET_DYNAMIC_GLOBAL_PROPERTIES, null);
+
+        assertThat(RequestEncoder.encode(requestObject),
+                equalTo("{\"jsonrpc\":\"2.0\",\"params\":[\"database_api\",\"get_dynamic_global_properties\","
+                        + "null],\"id\":" + requestObject.getId() + ",\"method\":\"call\"}"));
+    }
+
+    /**
+     * Test the encoding of a batch request.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testEncodeBatch() throws Exception {
+        RequestWrapperDTO firstRequestObject = createRequest(SteemApis.DATABASE_API, RequestMethods.GET_BLOCK,
+                new Object[] { 1 });
+        RequestWrapperDTO secondRequestObject = createRequest(SteemApis.DATABASE_API, RequestMethods.GET_BLOCK,
+                new Object[] { 2 });
+
+        assertThat(RequestEncoder.encode(Arrays.asList(firstRequestObject, secondRequestObject)),
+                equalTo("[" + firstRequestObject.toString() + "," + secondRequestObject.toString() + "]"));
+    }
+
+    /**
+     * Test that a request without api and method is rejected.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = SteemTransformationException.class)
+    public void testEncodeIncompleteRequest() throws Exception {
+        RequestEncoder.encode(new RequestWrapperDTO());
+    }
+
+    /**
+     * Create a new request.
+     * 
+     * @param steemApi
+     *            The api.
+     * @param apiMethod
+     *            The method.
+     * @param parameters
+     *            The additional parameters.
+     * @return The request.
+     */
+    private static RequestWrapperDTO createRequest(SteemApis steemApi, RequestMethods apiMethod,
+            Object[] parameters) {
+        RequestWrapperDTO requestObject = new RequestWrapperDTO();
+        requestObject.setSteemApi(steemApi);
+        requestObject.setApiMethod(apiMethod);
+        requestObject.setAdditionalParameters(parameters);
+
+        return requestObject;
+    }
+}
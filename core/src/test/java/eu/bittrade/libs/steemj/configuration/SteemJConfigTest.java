@@ -3,7 +3,15 @@ package eu.bittrade.libs.steemj.configuration;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.bitcoinj.core.NetworkParameters;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -22,6 +30,9 @@ public class SteemJConfigTest {
     private static final String STEEMJ_KEY_OWNER = "5JhxZZ6oGwFm2egPWyy21DWvroSoUur33sEHBamobDdSmhPN9U4";
     private static final String STEEMJ_KEY_MEMO = "5Hw3qRsC3f9yLtVazZpA8LyCUozBJq5aQv9tNNnz8fcg8BqoAWw";
 
+    private List<URI> webSocketEndpointURIs;
+    private boolean sslVerificationDisabled;
+
     @BeforeClass
     public static void setUp() {
         System.setProperty("steemj.api.username", STEEMJ_API_USERNAME);
@@ -37,6 +48,26 @@ public class SteemJConfigTest {
         SteemJConfig.getNewInstance();
     }
 
+    /**
+     * Remember the configured endpoints, as some tests change them.
+     */
+    @Before
+    public void rememberEndpoints() {
+        webSocketEndpointURIs = SteemJConfig.getInstance().getWebSocketEndpointURIs();
+        sslVerificationDisabled = SteemJConfig.getInstance().isSslVerificationDisabled();
+    }
+
+    /**
+     * Restore the endpoints, so the following tests use the original ones.
+     * 
+     * @throws Exception
+     *             If the endpoints could not be restored.
+     */
+    @After
+    public void restoreEndpoints() throws Exception {
+        SteemJConfig.getInstance().setWebSocketEndpointURIs(webSocketEndpointURIs, sslVerificationDisabled);
+    }
+
     @Test
     public void testSettingsThroughSystemProperties() {
         assertThat(SteemJConfig.getInstance().getApiUsername(), equalTo(new AccountName(STEEMJ_API_USERNAME)));
@@ -59,4 +90,45 @@ public class SteemJConfigTest {
                 .decompress().getPrivateKeyEncoded(NetworkParameters.fromID(NetworkParameters.ID_MAINNET)).toBase58(),
                 equalTo(STEEMJ_KEY_MEMO));
     }
+
+    /**
+     * Test that multiple endpoints can be configured and that the single
+     * endpoint methods are still working.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testWebSocketEndpointURIs() throws Exception {
+        URI firstNode = new URI("wss://steemd.steemit.com");
+        URI secondNode = new URI("wss://seed.bitcoiner.me");
+
+        SteemJConfig.getInstance().setWebSocketEndpointURIs(Arrays.asList(firstNode, secondNode));
+        assertThat(SteemJConfig.getInstance().getWebSocketEndpointURIs(),
+                equalTo(Arrays.asList(firstNode, secondNode)));
+        assertThat(SteemJConfig.getInstance().getWebSocketEndpointURI(), equalTo(firstNode));
+
+        SteemJConfig.getInstance().setWebSocketEndpointURI(secondNode);
+        assertThat(SteemJConfig.getInstance().getWebSocketEndpointURIs(),
+                equalTo(Collections.singletonList(secondNode)));
+    }
+
+    /**
+     * Test that an empty list of endpoints is rejected.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test(expected = URISyntaxException.class)
+    public void testEmptyWebSocketEndpointURIs() throws Exception {
+        SteemJConfig.getInstance().setWebSocketEndpointURIs(Collections.emptyList());
+    }
+
+    /**
+     * Test that at least one connection per node is required.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidConnectionsPerNode() {
+        SteemJConfig.getInstance().setConnectionsPerNode(0);
+    }
 }
@@ -0,0 +1,112 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * Test the delivery of blocks by a block streamer without a Steem Node.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AbstractBlockStreamerTest {
+    private static final long HEAD_BLOCK_NUMBER = 1000L;
+    private static final long FORK_BLOCK_NUMBER = 10L;
+
+    /**
+     * Test that a block which is replaced by a fork while it is reversible is
+     * never delivered in the {@link BlockStreamMode#IRREVERSIBLE IRREVERSIBLE}
+     * mode and that the blocks of the canonical chain are delivered instead.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testForkAboveLastIrreversibleBlock() throws Exception {
+        ForkingBlockStreamer blockStreamer = new ForkingBlockStreamer();
+        try {
+            blockStreamer.start();
+
+            assertThat(blockStreamer.deliveredAll.await(30, TimeUnit.SECONDS), equalTo(true));
+            assertThat(blockStreamer.deliveredBlockIds, contains("9", "10", "11", "12"));
+            assertThat(blockStreamer.forkRequests, equalTo(0));
+        } finally {
+            blockStreamer.close();
+        }
+    }
+
+    /**
+     * A streamer over a chain in which the block {@link #FORK_BLOCK_NUMBER} is
+     * replaced by another block, until the last irreversible block has passed
+     * it. A block is represented by its id and the id of its previous block.
+     */
+    private static class ForkingBlockStreamer extends AbstractBlockStreamer<String[]> {
+        private final List<String> deliveredBlockIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch deliveredAll = new CountDownLatch(4);
+        private volatile long lastIrreversibleBlockNumber = FORK_BLOCK_NUMBER - 1;
+        private volatile int forkRequests;
+
+        ForkingBlockStreamer() {
+            super((SteemJAsync) null, FORK_BLOCK_NUMBER - 1, 4, BlockStreamMode.IRREVERSIBLE);
+        }
+
+        @Override
+        CompletableFuture<String[]> fetchBlock(SteemJAsync steemJAsync, long blockNumber) {
+            String previousBlockId = String.valueOf(blockNumber - 1);
+            if (blockNumber == FORK_BLOCK_NUMBER && blockNumber > lastIrreversibleBlockNumber) {
+                forkRequests++;
+                return CompletableFuture.completedFuture(new String[] { blockNumber + "-fork", previousBlockId });
+            }
+
+            return CompletableFuture.completedFuture(new String[] { String.valueOf(blockNumber), previousBlockId });
+        }
+
+        @Override
+        CompletableFuture<GlobalProperties> fetchGlobalProperties(SteemJAsync steemJAsync) {
+            CompletableFuture<GlobalProperties> globalProperties = new CompletableFuture<>();
+            try {
+                globalProperties.complete(CommunicationHandler.getObjectMapper().readValue(
+                        "{\"head_block_number\":" + HEAD_BLOCK_NUMBER + ",\"last_irreversible_block_num\":"
+                                + lastIrreversibleBlockNumber + "}",
+                        GlobalProperties.class));
+            } catch (Exception e) {
+                globalProperties.completeExceptionally(e);
+            }
+
+            // The fork is resolved with the next block.
+            lastIrreversibleBlockNumber = HEAD_BLOCK_NUMBER - 1;
+            return globalProperties;
+        }
+
+        @Override
+        String getBlockId(String[] block) {
+            return block[0];
+        }
+
+        @Override
+        String getPreviousBlockId(String[] block) {
+            return block[1];
+        }
+
+        @Override
+        void deliverBlock(long blockNumber, String[] block) {
+            // Only the blocks around the fork are of interest.
+            if (deliveredAll.getCount() > 0) {
+                deliveredBlockIds.add(block[0]);
+                deliveredAll.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import eu.bittrade.libs.steemj.BaseIntegrationTest;
+import eu.bittrade.libs.steemj.IntegrationTest;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.ExtendedAccount;
+
+/**
+ * This class contains all tests connected to the {@link AccountFetcher
+ * AccountFetcher}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountFetcherIT extends BaseIntegrationTest {
+    /**
+     * Setup the test environment.
+     */
+    @BeforeClass
+    public static void init() {
+        setupIntegrationTestEnvironment();
+    }
+
+    /**
+     * Test that each account name is reported exactly once, although the
+     * names contain duplicates and are requested in multiple chunks.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testFetch() throws Exception {
+        List<AccountName> accountNames = Arrays.asList(new AccountName("dez1337"), new AccountName("steemj"),
+                new AccountName("dez1337"), new AccountName("inertia"), new AccountName("not-existing-4711"));
+        List<String> receivedAccounts = new ArrayList<>();
+        List<String> unknownAccounts = new ArrayList<>();
+
+        new AccountFetcher(steemJ, 2, 2).fetch(accountNames, new AccountListener() {
+            @Override
+            public void onAccount(ExtendedAccount account) {
+                receivedAccounts.add(account.getName().getName());
+            }
+
+            @Override
+            public void onAccountNotFound(AccountName accountName) {
+                unknownAccounts.add(accountName.getName());
+            }
+
+            @Override
+            public void onFailure(AccountName accountName, Throwable cause) {
+                throw new AssertionError("Could not request " + accountName.getName() + ".", cause);
+            }
+        }).get(1, TimeUnit.MINUTES);
+
+        receivedAccounts.sort(null);
+        assertThat(receivedAccounts.toString(), equalTo("[dez1337, inertia, steemj]"));
+        assertThat(unknownAccounts.toString(), equalTo("[not-existing-4711]"));
+    }
+}
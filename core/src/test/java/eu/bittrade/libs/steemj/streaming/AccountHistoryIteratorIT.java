@@ -0,0 +1,73 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import eu.bittrade.libs.steemj.BaseIntegrationTest;
+import eu.bittrade.libs.steemj.IntegrationTest;
+import eu.bittrade.libs.steemj.base.models.AccountHistoryEntry;
+import eu.bittrade.libs.steemj.base.models.AccountName;
+
+/**
+ * This class contains all tests connected to the
+ * {@link AccountHistoryIterator AccountHistoryIterator}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class AccountHistoryIteratorIT extends BaseIntegrationTest {
+    private static final AccountName ACCOUNT = new AccountName("dez1337");
+    private static final int NUMBER_OF_ENTRIES = 250;
+
+    /**
+     * Setup the test environment.
+     */
+    @BeforeClass
+    public static void init() {
+        setupIntegrationTestEnvironment();
+    }
+
+    /**
+     * Test that the entries are returned in order and without gaps, although
+     * the pages are requested in parallel.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testOldestFirst() throws Exception {
+        try (AccountHistoryIterator accountHistory = new AccountHistoryIterator(steemJ, ACCOUNT,
+                AccountHistoryOrder.OLDEST_FIRST, 100, 3)) {
+            for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+                assertThat(accountHistory.hasNext(), equalTo(true));
+                assertThat(accountHistory.next().getIndex(), equalTo(i));
+            }
+        }
+    }
+
+    /**
+     * Test that the history can be returned starting with the newest entry.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testNewestFirst() throws Exception {
+        int newestIndex = steemJ.getAsyncApi().getAccountHistoryPage(ACCOUNT, -1, 0).get().getLastIndex();
+
+        try (AccountHistoryIterator accountHistory = new AccountHistoryIterator(steemJ, ACCOUNT,
+                AccountHistoryOrder.NEWEST_FIRST, 100, 3)) {
+            int expectedIndex = newestIndex;
+            for (AccountHistoryEntry entry : (Iterable<AccountHistoryEntry>) accountHistory.stream()
+                    .limit(NUMBER_OF_ENTRIES)::iterator) {
+                assertThat(entry.getIndex(), equalTo(expectedIndex--));
+            }
+            assertThat(expectedIndex, equalTo(newestIndex - NUMBER_OF_ENTRIES));
+        }
+    }
+}
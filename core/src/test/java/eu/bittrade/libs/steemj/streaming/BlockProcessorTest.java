@@ -0,0 +1,348 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import eu.bittrade.libs.steemj.SteemJAsync;
+import eu.bittrade.libs.steemj.base.models.GlobalProperties;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * Test the processing of blocks and the handling of the checkpoint by a block
+ * processor without a Steem Node.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockProcessorTest {
+    private static final long HEAD_BLOCK_NUMBER = 1000L;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path checkpointFile;
+
+    /**
+     * Define the location of the checkpoint.
+     */
+    @Before
+    public void setUp() {
+        checkpointFile = temporaryFolder.getRoot().toPath().resolve("steemj.checkpoint");
+    }
+
+    /**
+     * Test that the stream starts at the block after the lowest offset and
+     * that each handler only receives the blocks it has not processed yet.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testResumeAtLowestOffset() throws Exception {
+        Checkpoint checkpoint = new Checkpoint();
+        checkpoint.setBlockNumber(5L);
+        checkpoint.setOffset("indexer", 5L);
+        checkpoint.setOffset("payments", 8L);
+        checkpoint.write(checkpointFile);
+
+        RecordingBlockHandler indexer = new RecordingBlockHandler("indexer");
+        RecordingBlockHandler payments = new RecordingBlockHandler("payments");
+        TestBlockProcessor blockProcessor = new TestBlockProcessor(checkpointFile, 10L);
+        blockProcessor.addHandler(indexer, DeliveryGuarantee.AT_LEAST_ONCE);
+        blockProcessor.addHandler(payments, DeliveryGuarantee.AT_LEAST_ONCE);
+        blockProcessor.run();
+
+        assertThat(blockProcessor.firstBlockNumber, equalTo(6L));
+        assertThat(indexer.handledBlocks, contains(6L, 7L, 8L, 9L, 10L));
+        assertThat(payments.handledBlocks, contains(9L, 10L));
+        assertThat(blockProcessor.getLastProcessedBlockNumber(), equalTo(10L));
+    }
+
+    /**
+     * Test that a block whose processing has been interrupted is only
+     * delivered again to a handler with the
+     * {@link DeliveryGuarantee#EXACTLY_ONCE EXACTLY_ONCE} guarantee, if the
+     * handler has not processed it completely.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testRedeliverPendingBlock() throws Exception {
+        Checkpoint checkpoint = new Checkpoint();
+        checkpoint.setBlockNumber(5L);
+        checkpoint.setOffset("indexer", 5L);
+        checkpoint.setOffset("payments", 5L);
+        checkpoint.setPendingBlock("indexer", 6L);
+        checkpoint.setPendingBlock("payments", 6L);
+        checkpoint.write(checkpointFile);
+
+        RecordingBlockHandler indexer = new RecordingBlockHandler("indexer");
+        indexer.processedBlock = 6L;
+        RecordingBlockHandler payments = new RecordingBlockHandler("payments");
+        TestBlockProcessor blockProcessor = new TestBlockProcessor(checkpointFile, 7L);
+        blockProcessor.addHandler(indexer, DeliveryGuarantee.EXACTLY_ONCE);
+        blockProcessor.addHandler(payments, DeliveryGuarantee.EXACTLY_ONCE);
+        blockProcessor.run();
+
+        assertThat(indexer.checkedBlocks, contains(6L));
+        assertThat(indexer.handledBlocks, contains(7L));
+        assertThat(payments.checkedBlocks, contains(6L));
+        assertThat(payments.handledBlocks, contains(6L, 7L));
+        assertThat(Checkpoint.read(checkpointFile).getPendingBlocks().isEmpty(), equalTo(true));
+    }
+
+    /**
+     * Test that the progress of a handler with the
+     * {@link DeliveryGuarantee#AT_LEAST_ONCE AT_LEAST_ONCE} guarantee is only
+     * stored after the configured number of blocks.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testCheckpointInterval() throws Exception {
+        RecordingBlockHandler indexer = new RecordingBlockHandler("indexer");
+        indexer.observedCheckpointFile = checkpointFile;
+        TestBlockProcessor blockProcessor = new TestBlockProcessor(checkpointFile, 7L);
+        blockProcessor.addHandler(indexer, DeliveryGuarantee.AT_LEAST_ONCE);
+        blockProcessor.setCheckpointInterval(3);
+        blockProcessor.run();
+
+        assertThat(indexer.handledBlocks, contains(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+        assertThat(indexer.storedOffsets, contains(null, null, null, 3L, 3L, 3L, 6L));
+    }
+
+    /**
+     * Test that a failing handler stops the processor and that the progress
+     * of all handlers is stored.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testFailingHandler() throws Exception {
+        RecordingBlockHandler indexer = new RecordingBlockHandler("indexer");
+        RecordingBlockHandler payments = new RecordingBlockHandler("payments");
+        payments.failingBlock = 4L;
+        TestBlockProcessor blockProcessor = new TestBlockProcessor(checkpointFile, 10L);
+        blockProcessor.addHandler(indexer, DeliveryGuarantee.AT_LEAST_ONCE);
+        blockProcessor.addHandler(payments, DeliveryGuarantee.AT_LEAST_ONCE);
+        blockProcessor.run();
+
+        assertThat(blockProcessor.getFailure(), sameInstance(payments.failure));
+        assertThat(indexer.handledBlocks, contains(1L, 2L, 3L, 4L));
+        assertThat(payments.handledBlocks, contains(1L, 2L, 3L));
+
+        Checkpoint checkpoint = Checkpoint.read(checkpointFile);
+        assertThat(checkpoint.getBlockNumber(), equalTo(3L));
+        assertThat(checkpoint.getOffsets().get("indexer"), equalTo(4L));
+        assertThat(checkpoint.getOffsets().get("payments"), equalTo(3L));
+    }
+
+    /**
+     * Test that a restart after a crash delivers the interrupted block again
+     * and that a handler added for the restart starts at the
+     * <code>startBlockNumber</code>.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testRestartAfterCrash() throws Exception {
+        Path crashedCheckpointFile = checkpointFile.resolveSibling("crashed.checkpoint");
+        RecordingBlockHandler payments = new RecordingBlockHandler("payments") {
+            @Override
+            public void handleBlock(long blockNumber, SignedBlockWithInfo block) throws Exception {
+                if (blockNumber == 4L) {
+                    // Keep the checkpoint as it has been stored at the time of
+                    // the crash.
+                    Files.copy(checkpointFile, crashedCheckpointFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                super.handleBlock(blockNumber, block);
+            }
+        };
+        payments.failingBlock = 4L;
+        TestBlockProcessor blockProcessor = new TestBlockProcessor(checkpointFile, 6L);
+        blockProcessor.addHandler(payments, DeliveryGuarantee.EXACTLY_ONCE);
+        blockProcessor.run();
+
+        Checkpoint crashedCheckpoint = Checkpoint.read(crashedCheckpointFile);
+        assertThat(crashedCheckpoint.getOffsets().get("payments"), equalTo(3L));
+        assertThat(crashedCheckpoint.getPendingBlocks().get("payments"), equalTo(4L));
+
+        RecordingBlockHandler restartedPayments = new RecordingBlockHandler("payments");
+        RecordingBlockHandler indexer = new RecordingBlockHandler("indexer");
+        TestBlockProcessor restartedBlockProcessor = new TestBlockProcessor(crashedCheckpointFile, 6L);
+        restartedBlockProcessor.addHandler(restartedPayments, DeliveryGuarantee.EXACTLY_ONCE);
+        restartedBlockProcessor.addHandler(indexer, DeliveryGuarantee.AT_LEAST_ONCE);
+        restartedBlockProcessor.run();
+
+        assertThat(restartedBlockProcessor.getFailure(), nullValue());
+        assertThat(restartedBlockProcessor.firstBlockNumber, equalTo(1L));
+        assertThat(restartedPayments.checkedBlocks, contains(4L));
+        assertThat(restartedPayments.handledBlocks, contains(4L, 5L, 6L));
+        assertThat(indexer.handledBlocks, contains(1L, 2L, 3L, 4L, 5L, 6L));
+        assertThat(Checkpoint.read(crashedCheckpointFile).getOffsets().get("payments"), equalTo(6L));
+    }
+
+    /**
+     * A handler which records the blocks it has received.
+     */
+    private static class RecordingBlockHandler implements BlockHandler {
+        private final String name;
+        private final List<Long> handledBlocks = new CopyOnWriteArrayList<>();
+        private final List<Long> checkedBlocks = new CopyOnWriteArrayList<>();
+        private final List<Long> storedOffsets = new CopyOnWriteArrayList<>();
+        /** The checkpoint whose offset is recorded for each block, if any. */
+        private volatile Path observedCheckpointFile;
+        /** The block that has already been processed before a restart. */
+        private volatile long processedBlock;
+        /** The block this handler fails to process. */
+        private volatile long failingBlock;
+        private volatile Exception failure;
+
+        RecordingBlockHandler(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void handleBlock(long blockNumber, SignedBlockWithInfo block) throws Exception {
+            if (blockNumber == failingBlock) {
+                failure = new IllegalStateException("The block " + blockNumber + " could not be processed.");
+                throw failure;
+            }
+            if (observedCheckpointFile != null) {
+                Checkpoint checkpoint = Checkpoint.read(observedCheckpointFile);
+                storedOffsets.add(checkpoint == null ? null : checkpoint.getOffsets().get(name));
+            }
+
+            handledBlocks.add(blockNumber);
+        }
+
+        @Override
+        public boolean isBlockProcessed(long blockNumber) throws Exception {
+            checkedBlocks.add(blockNumber);
+            return blockNumber == processedBlock;
+        }
+    }
+
+    /**
+     * A processor which streams a chain of the given length instead of
+     * requesting the blocks from a Steem Node.
+     */
+    private static class TestBlockProcessor extends BlockProcessor {
+        private final long lastBlockNumber;
+        private final CountDownLatch processedAll = new CountDownLatch(1);
+        private volatile long firstBlockNumber;
+
+        TestBlockProcessor(Path checkpointFile, long lastBlockNumber) {
+            super(null, checkpointFile, 1L);
+            this.lastBlockNumber = lastBlockNumber;
+        }
+
+        /**
+         * Process all blocks of the chain or until a handler fails and close
+         * the processor afterwards.
+         * 
+         * @throws Exception
+         *             If something went wrong.
+         */
+        void run() throws Exception {
+            try {
+                start();
+                assertThat(processedAll.await(30, TimeUnit.SECONDS), equalTo(true));
+            } finally {
+                close();
+            }
+        }
+
+        @Override
+        AbstractBlockStreamer<?> createBlockStreamer(long firstBlockNumber) {
+            this.firstBlockNumber = firstBlockNumber;
+            return new ChainBlockStreamer(this, firstBlockNumber);
+        }
+
+        @Override
+        synchronized void processBlock(long blockNumber, SignedBlockWithInfo block) {
+            super.processBlock(blockNumber, block);
+            if (blockNumber == lastBlockNumber || getFailure() != null) {
+                processedAll.countDown();
+            }
+        }
+    }
+
+    /**
+     * A streamer over a chain without forks, whose blocks are represented by
+     * their block number. The blocks after the last block of the chain are
+     * not available yet, so they are requested again until the streamer is
+     * closed.
+     */
+    private static class ChainBlockStreamer extends AbstractBlockStreamer<Long> {
+        private final TestBlockProcessor blockProcessor;
+
+        ChainBlockStreamer(TestBlockProcessor blockProcessor, long startBlockNumber) {
+            super((SteemJAsync) null, startBlockNumber, 4, BlockStreamMode.IRREVERSIBLE);
+            this.blockProcessor = blockProcessor;
+        }
+
+        @Override
+        CompletableFuture<Long> fetchBlock(SteemJAsync steemJAsync, long blockNumber) {
+            return CompletableFuture
+                    .completedFuture(blockNumber <= blockProcessor.lastBlockNumber ? blockNumber : null);
+        }
+
+        @Override
+        CompletableFuture<GlobalProperties> fetchGlobalProperties(SteemJAsync steemJAsync) {
+            CompletableFuture<GlobalProperties> globalProperties = new CompletableFuture<>();
+            try {
+                globalProperties.complete(CommunicationHandler.getObjectMapper().readValue(
+                        "{\"head_block_number\":" + HEAD_BLOCK_NUMBER + ",\"last_irreversible_block_num\":"
+                                + HEAD_BLOCK_NUMBER + "}",
+                        GlobalProperties.class));
+            } catch (Exception e) {
+                globalProperties.completeExceptionally(e);
+            }
+
+            return globalProperties;
+        }
+
+        @Override
+        String getBlockId(Long block) {
+            return String.valueOf(block);
+        }
+
+        @Override
+        String getPreviousBlockId(Long block) {
+            return String.valueOf(block - 1);
+        }
+
+        @Override
+        void deliverBlock(long blockNumber, Long block) {
+            // The handlers of this test do not look at the content of a block.
+            blockProcessor.processBlock(blockNumber, null);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import eu.bittrade.libs.steemj.BaseIntegrationTest;
+import eu.bittrade.libs.steemj.IntegrationTest;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * This class contains all tests connected to the {@link BlockStreamer
+ * BlockStreamer}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockStreamerIT extends BaseIntegrationTest {
+    private static final long START_BLOCK_NUMBER = 5681455L;
+    private static final int NUMBER_OF_BLOCKS = 200;
+
+    /**
+     * Setup the test environment.
+     */
+    @BeforeClass
+    public static void init() {
+        setupIntegrationTestEnvironment();
+    }
+
+    /**
+     * Test that the blocks are delivered in order and without gaps, although
+     * they are requested in parallel.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testBlockOrder() throws Exception {
+        List<Long> blockNumbers = new ArrayList<>();
+        List<SignedBlockWithInfo> blocks = new ArrayList<>();
+        CountDownLatch receivedAllBlocks = new CountDownLatch(NUMBER_OF_BLOCKS);
+
+        try (BlockStreamer blockStreamer = new BlockStreamer(steemJ, START_BLOCK_NUMBER, 16,
+                (blockNumber, block) -> {
+                    if (receivedAllBlocks.getCount() > 0) {
+                        blockNumbers.add(blockNumber);
+                        blocks.add(block);
+                        receivedAllBlocks.countDown();
+                    }
+                })) {
+            blockStreamer.start();
+            assertThat(receivedAllBlocks.await(2, TimeUnit.MINUTES), equalTo(true));
+        }
+
+        for (int i = 0; i < NUMBER_OF_BLOCKS; i++) {
+            assertThat(blockNumbers.get(i), equalTo(START_BLOCK_NUMBER + i));
+            if (i > 0) {
+                assertThat(blocks.get(i).getPrevious().toString(), equalTo(blocks.get(i - 1).getBlockId().toString()));
+            }
+        }
+    }
+
+    /**
+     * Test that irreversible blocks are delivered in the irreversible mode.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Category({ IntegrationTest.class })
+    @Test
+    public void testIrreversibleMode() throws Exception {
+        List<Long> blockNumbers = new ArrayList<>();
+        CountDownLatch receivedAllBlocks = new CountDownLatch(NUMBER_OF_BLOCKS);
+
+        try (BlockStreamer blockStreamer = new BlockStreamer(steemJ, START_BLOCK_NUMBER, 16,
+                BlockStreamMode.IRREVERSIBLE, (blockNumber, block) -> {
+                    if (receivedAllBlocks.getCount() > 0) {
+                        blockNumbers.add(blockNumber);
+                        receivedAllBlocks.countDown();
+                    }
+                })) {
+            blockStreamer.start();
+            assertThat(receivedAllBlocks.await(2, TimeUnit.MINUTES), equalTo(true));
+        }
+
+        for (int i = 0; i < NUMBER_OF_BLOCKS; i++) {
+            assertThat(blockNumbers.get(i), equalTo(START_BLOCK_NUMBER + i));
+        }
+    }
+}
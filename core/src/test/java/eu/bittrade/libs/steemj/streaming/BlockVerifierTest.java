@@ -0,0 +1,115 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.TestBlocks;
+import eu.bittrade.libs.steemj.base.models.Checksum;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.base.models.TransactionId;
+
+/**
+ * Test that the {@link BlockVerifier BlockVerifier} calculates the
+ * transaction ids and the transaction merkle root as the Steem Nodes do.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockVerifierTest {
+    private static final String ZERO_MERKLE_ROOT = "0000000000000000000000000000000000000000";
+    private static final String SIGNATURE = "\"" + TestBlocks.BLOCK_1_WITNESS_SIGNATURE + "\"";
+    private static final String[] TRANSACTIONS = { createTransaction("1.000 STEEM", SIGNATURE),
+            createTransaction("2.000 STEEM", ""), createTransaction("3.000 STEEM", SIGNATURE + "," + SIGNATURE) };
+    /**
+     * The ids of the {@link #TRANSACTIONS TRANSACTIONS}, calculated from their
+     * hand packed binary representation.
+     */
+    private static final List<String> TRANSACTION_IDS = Arrays.asList("88708c7786a09d0dc6e8bd05bd36027d812f0ca3",
+            "8409c13396cce1b68cc1eb733345f592cf09d936", "ce2b908122a3549023f6e1e79b28abb28d32d9ae");
+    /**
+     * The merkle root of the {@link #TRANSACTIONS TRANSACTIONS}, calculated
+     * from their hand packed binary representation.
+     */
+    private static final String MERKLE_ROOT = "e089bb5510d6b9e04bab01d5945350f17bd8249c";
+
+    /**
+     * Test that the first block of the main net is valid.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testVerifyFirstBlock() throws Exception {
+        SignedBlockWithInfo block = TestBlocks.readBlock(TestBlocks.BLOCK_1);
+
+        assertThat(block.getTransactionIds().isEmpty(), equalTo(true));
+        assertThat(block.calculateMerkleRoot(), equalTo(block.getTransactionMerkleRoot()));
+        assertThat(BlockVerifier.verify(block), equalTo(BlockVerification.VALID));
+    }
+
+    /**
+     * Test that a block with the transaction ids and the merkle root
+     * calculated by hand is valid and that other ids or merkle roots are
+     * detected.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testVerify() throws Exception {
+        SignedBlockWithInfo block = readBlock(MERKLE_ROOT, TRANSACTION_IDS);
+        for (int i = 0; i < TRANSACTION_IDS.size(); i++) {
+            assertThat(block.getTransactions().get(i).getTransactionId(),
+                    equalTo(new TransactionId(TRANSACTION_IDS.get(i))));
+        }
+        assertThat(block.calculateMerkleRoot(), equalTo(new Checksum(MERKLE_ROOT)));
+        assertThat(BlockVerifier.verify(block), equalTo(BlockVerification.VALID));
+
+        assertThat(BlockVerifier.verify(readBlock(ZERO_MERKLE_ROOT, TRANSACTION_IDS)),
+                equalTo(BlockVerification.INVALID_MERKLE_ROOT));
+        assertThat(BlockVerifier.verify(readBlock(MERKLE_ROOT, Arrays.asList(TRANSACTION_IDS.get(0),
+                TRANSACTION_IDS.get(0), TRANSACTION_IDS.get(2)))), equalTo(BlockVerification.INVALID_TRANSACTION_IDS));
+        assertThat(BlockVerifier.verify(readBlock(MERKLE_ROOT, TRANSACTION_IDS.subList(0, 2))),
+                equalTo(BlockVerification.INVALID_TRANSACTION_IDS));
+    }
+
+    /**
+     * Create a block with the header of the first block of the main net that
+     * contains the {@link #TRANSACTIONS TRANSACTIONS}.
+     * 
+     * @param merkleRoot
+     *            The transaction merkle root of the block.
+     * @param transactionIds
+     *            The transaction ids of the block.
+     * @return The block.
+     * @throws Exception
+     *             If the block could not be parsed.
+     */
+    private static SignedBlockWithInfo readBlock(String merkleRoot, List<String> transactionIds) throws Exception {
+        return TestBlocks.readBlock(TestBlocks.BLOCK_1
+                .replace("\"transaction_merkle_root\":\"" + ZERO_MERKLE_ROOT + "\"",
+                        "\"transaction_merkle_root\":\"" + merkleRoot + "\"")
+                .replace("\"transactions\":[]", "\"transactions\":[" + String.join(",", TRANSACTIONS) + "]")
+                .replace("\"transaction_ids\":[]",
+                        "\"transaction_ids\":[\"" + String.join("\",\"", transactionIds) + "\"]"));
+    }
+
+    /**
+     * Create a transaction containing a transfer of the given amount.
+     * 
+     * @param amount
+     *            The amount to transfer.
+     * @param signatures
+     *            The quoted signatures, separated by a comma.
+     * @return The JSON representation of the transaction.
+     */
+    private static String createTransaction(String amount, String signatures) {
+        return "{\"ref_block_num\":51146,\"ref_block_prefix\":4057230348,\"expiration\":\"2017-09-01T12:00:30\","
+                + "\"operations\":[[\"transfer\",{\"from\":\"dez1337\",\"to\":\"steemj\",\"amount\":\"" + amount
+                + "\",\"memo\":\"\"}]],\"extensions\":[],\"signatures\":[" + signatures + "]}";
+    }
+}
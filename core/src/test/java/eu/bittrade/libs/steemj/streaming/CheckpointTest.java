@@ -0,0 +1,53 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test that a checkpoint can be stored and read again.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class CheckpointTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that a checkpoint is replaced completely and that no temporary
+     * file is left.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testWriteAndRead() throws Exception {
+        Path checkpointFile = temporaryFolder.getRoot().toPath().resolve("steemj.checkpoint");
+        assertThat(Checkpoint.read(checkpointFile), nullValue());
+
+        Checkpoint checkpoint = new Checkpoint();
+        checkpoint.setBlockNumber(5681455L);
+        checkpoint.setOffset("indexer", 5681460L);
+        checkpoint.setOffset("payments", 5681455L);
+        checkpoint.setPendingBlock("payments", 5681456L);
+        checkpoint.write(checkpointFile);
+
+        checkpoint.setPendingBlock("payments", null);
+        checkpoint.setOffset("payments", 5681456L);
+        checkpoint.write(checkpointFile);
+
+        Checkpoint storedCheckpoint = Checkpoint.read(checkpointFile);
+        assertThat(storedCheckpoint.getBlockNumber(), equalTo(5681455L));
+        assertThat(storedCheckpoint.getOffsets().get("indexer"), equalTo(5681460L));
+        assertThat(storedCheckpoint.getOffsets().get("payments"), equalTo(5681456L));
+        assertThat(storedCheckpoint.getPendingBlocks().isEmpty(), equalTo(true));
+        assertThat(Files.exists(checkpointFile.resolveSibling("steemj.checkpoint.tmp")), equalTo(false));
+    }
+}
@@ -0,0 +1,148 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.AppliedOperation;
+import eu.bittrade.libs.steemj.base.models.operations.CustomJsonOperation;
+import eu.bittrade.libs.steemj.base.models.operations.TransferOperation;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+import eu.bittrade.libs.steemj.enums.OperationType;
+
+/**
+ * Test that the operation filter only transforms the accepted operations.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class OperationFilterTest {
+    private static final String TRANSFER = "[\"transfer\",{\"from\":\"dez1337\",\"to\":\"steemj\","
+            + "\"amount\":\"1.000 STEEM\",\"memo\":\"\"}]";
+    private static final String CUSTOM_JSON = "[\"custom_json\",{\"required_auths\":[],"
+            + "\"required_posting_auths\":[\"foobara\"],\"id\":\"follow\",\"json\":\"{}\"}]";
+    /**
+     * A comment which can't be transformed, so the test fails if the filter
+     * does not skip it.
+     */
+    private static final String INVALID_COMMENT = "[\"comment\",{\"body\":{\"unexpected\":[1,2]}}]";
+
+    /**
+     * Test the filtering of a <code>get_ops_in_block</code> result.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testReadAppliedOperations() throws Exception {
+        String result = "[" + createAppliedOperation(0, INVALID_COMMENT) + "," + createAppliedOperation(1, TRANSFER)
+                + "," + createAppliedOperation(2, CUSTOM_JSON) + "]";
+
+        OperationFilter operationFilter = new OperationFilter(
+                EnumSet.of(OperationType.TRANSFER_OPERATION, OperationType.CUSTOM_JSON_OPERATION));
+        List<AppliedOperation> appliedOperations;
+        try (JsonParser parser = createParser(result)) {
+            appliedOperations = operationFilter.readAppliedOperations(parser);
+        }
+
+        assertThat(appliedOperations.size(), equalTo(2));
+        assertThat(appliedOperations.get(0).getTrxInBlock(), equalTo(1));
+        assertThat(appliedOperations.get(0).getOp(), instanceOf(TransferOperation.class));
+        assertThat(appliedOperations.get(1).getOp(), instanceOf(CustomJsonOperation.class));
+    }
+
+    /**
+     * Test the filtering of the operations of a block by type and account.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testReadBlockOperations() throws Exception {
+        String block = "{\"previous\":\"0056c7ca0c6bd4f10a4d6c1f5ab5b1a7b4a3ed1c\","
+                + "\"timestamp\":\"2017-09-01T12:00:00\",\"witness\":\"dez1337\",\"transactions\":["
+                + createTransaction(INVALID_COMMENT + "," + TRANSFER) + "," + createTransaction(CUSTOM_JSON) + "],"
+                + "\"block_id\":\"0056c7cb9f2c1d25db1e33c1e5b01f2b6f8c8b5a\",\"transaction_ids\":["
+                + "\"6c6a1bd4c6ad1bd1ec47a8e2d6d1c0c8d3bb9a01\",\"0f5bd7f5b0f4b4d4b7b1b1c0f3fd6bc0eb6bd1a2\"]}";
+
+        OperationFilter operationFilter = new OperationFilter(
+                EnumSet.of(OperationType.TRANSFER_OPERATION, OperationType.CUSTOM_JSON_OPERATION),
+                Collections.singleton(new AccountName("foobara")));
+        BlockOperations blockOperations;
+        try (JsonParser parser = createParser(block)) {
+            blockOperations = operationFilter.readBlockOperations(parser, 5687243L);
+        }
+
+        assertThat(blockOperations.getBlockId().getNumberFromHash(), equalTo(5687243));
+        assertThat(blockOperations.getPrevious().getNumberFromHash(), equalTo(5687242));
+        assertThat(blockOperations.getOperations().size(), equalTo(1));
+
+        AppliedOperation appliedOperation = blockOperations.getOperations().get(0);
+        assertThat(appliedOperation.getBlock(), equalTo(5687243));
+        assertThat(appliedOperation.getTrxInBlock(), equalTo(1));
+        assertThat(appliedOperation.getOpInTrx(), equalTo(0));
+        assertThat(appliedOperation.getTrxId().toString(), equalTo("0f5bd7f5b0f4b4d4b7b1b1c0f3fd6bc0eb6bd1a2"));
+        assertThat(appliedOperation.getOp(), instanceOf(CustomJsonOperation.class));
+    }
+
+    /**
+     * Test the conversion of an operation type into its JSON name.
+     */
+    @Test
+    public void testGetOperationTypeName() {
+        assertThat(OperationFilter.getOperationTypeName(OperationType.CUSTOM_JSON_OPERATION),
+                equalTo("custom_json"));
+        assertThat(OperationFilter.getOperationTypeName(OperationType.LIMIT_ORDER_CREATE2_OPERATION),
+                equalTo("limit_order_create2"));
+    }
+
+    /**
+     * Create an entry of a <code>get_ops_in_block</code> result.
+     * 
+     * @param trxInBlock
+     *            The index of the transaction.
+     * @param operation
+     *            The operation.
+     * @return The JSON representation of the entry.
+     */
+    private static String createAppliedOperation(int trxInBlock, String operation) {
+        return "{\"trx_id\":\"6c6a1bd4c6ad1bd1ec47a8e2d6d1c0c8d3bb9a01\",\"block\":5687243,\"trx_in_block\":"
+                + trxInBlock + ",\"op_in_trx\":0,\"virtual_op\":0,\"timestamp\":\"2017-09-01T12:00:00\",\"op\":"
+                + operation + "}";
+    }
+
+    /**
+     * Create a transaction containing the given operations.
+     * 
+     * @param operations
+     *            The operations, separated by a comma.
+     * @return The JSON representation of the transaction.
+     */
+    private static String createTransaction(String operations) {
+        return "{\"ref_block_num\":51146,\"ref_block_prefix\":4057230348,\"expiration\":\"2017-09-01T12:00:30\","
+                + "\"operations\":[" + operations + "],\"extensions\":[],\"signatures\":[]}";
+    }
+
+    /**
+     * Create a parser positioned at the first token of the given JSON.
+     * 
+     * @param json
+     *            The JSON to parse.
+     * @return The parser.
+     * @throws Exception
+     *             If the parser could not be created.
+     */
+    private static JsonParser createParser(String json) throws Exception {
+        JsonParser parser = CommunicationHandler.getObjectMapper().getFactory().createParser(json);
+        parser.nextToken();
+        return parser;
+    }
+}
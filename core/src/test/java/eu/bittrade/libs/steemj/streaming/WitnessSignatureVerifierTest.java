@@ -0,0 +1,87 @@
+package eu.bittrade.libs.steemj.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.TestBlocks;
+import eu.bittrade.libs.steemj.base.models.PublicKey;
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+
+/**
+ * Test that the {@link WitnessSignatureVerifier WitnessSignatureVerifier}
+ * recovers the signing keys of block headers.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class WitnessSignatureVerifierTest {
+    private static final String OTHER_SIGNING_KEY = "STM6zLNtyFVToBsBZDsgMhgjpwysYVbsQD6YhP3kRkQhANUB4w7Qp";
+    private static final String EMPTY_SIGNATURE = new String(new char[130]).replace('\0', '0');
+    private static final String TIMESTAMP = "2016-03-24T16:05:00";
+
+    /**
+     * Test that the key of the "initminer" is recovered from the first block
+     * of the main net and compared with the signing key of the block.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testVerify() throws Exception {
+        SignedBlockWithInfo block = TestBlocks.readBlock(TestBlocks.BLOCK_1);
+        assertThat(block.recoverSigningKey(), equalTo(new PublicKey(TestBlocks.INITMINER_SIGNING_KEY)));
+
+        WitnessSignatureVerifier witnessSignatureVerifier = new WitnessSignatureVerifier();
+        assertThat(witnessSignatureVerifier.verify(block), equalTo(WitnessSignatureVerification.VALID));
+        assertThat(
+                witnessSignatureVerifier.verify(TestBlocks.readBlock(
+                        TestBlocks.BLOCK_1.replace(TestBlocks.INITMINER_SIGNING_KEY, OTHER_SIGNING_KEY))),
+                equalTo(WitnessSignatureVerification.WRONG_SIGNING_KEY));
+        assertThat(witnessSignatureVerifier.verify(readModifiedBlock()),
+                equalTo(WitnessSignatureVerification.WRONG_SIGNING_KEY));
+        assertThat(
+                witnessSignatureVerifier.verify(TestBlocks.readBlock(
+                        TestBlocks.BLOCK_1.replace(TestBlocks.BLOCK_1_WITNESS_SIGNATURE, EMPTY_SIGNATURE))),
+                equalTo(WitnessSignatureVerification.INVALID_SIGNATURE));
+    }
+
+    /**
+     * Test that a list of blocks is verified in parallel and in order.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testVerifyBlocks() throws Exception {
+        List<SignedBlockWithInfo> blocks = new ArrayList<>();
+        List<WitnessSignatureVerification> expectedResults = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (i % 3 == 0) {
+                blocks.add(readModifiedBlock());
+                expectedResults.add(WitnessSignatureVerification.WRONG_SIGNING_KEY);
+            } else {
+                blocks.add(TestBlocks.readBlock(TestBlocks.BLOCK_1));
+                expectedResults.add(WitnessSignatureVerification.VALID);
+            }
+        }
+
+        assertThat(new WitnessSignatureVerifier(new ForkJoinPool(4)).verify(blocks), equalTo(expectedResults));
+    }
+
+    /**
+     * Read the first block of the main net with a timestamp that does not
+     * match its witness signature.
+     * 
+     * @return The block.
+     * @throws Exception
+     *             If the block could not be parsed.
+     */
+    private static SignedBlockWithInfo readModifiedBlock() throws Exception {
+        return TestBlocks.readBlock(TestBlocks.BLOCK_1.replace(TIMESTAMP, "2016-03-24T16:05:03"));
+    }
+}
@@ -0,0 +1,78 @@
+package eu.bittrade.libs.steemj.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.bitcoinj.core.Utils;
+import org.junit.Test;
+
+import eu.bittrade.libs.steemj.base.models.AccountName;
+import eu.bittrade.libs.steemj.base.models.Asset;
+import eu.bittrade.libs.steemj.base.models.Permlink;
+import eu.bittrade.libs.steemj.base.models.operations.VoteOperation;
+import eu.bittrade.libs.steemj.enums.AssetSymbolType;
+
+/**
+ * Test that the {@link ByteSink ByteSink} creates the same binary
+ * representation as the {@link SteemJUtils SteemJUtils}.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class ByteSinkTest {
+    /**
+     * Test the primitive write methods.
+     */
+    @Test
+    public void testPrimitives() {
+        ByteSink byteSink = new ByteSink(1);
+        byteSink.writeBoolean(true);
+        byteSink.writeShort(34294);
+        byteSink.writeInt((int) 3707022213L);
+        byteSink.writeLong(-2L);
+        byteSink.writeVarInt(300);
+        byteSink.writeVarLong(1L << 35);
+        byteSink.writeString("dez1337");
+        byteSink.writeString("\u00e4");
+
+        String expected = Utils.HEX.encode(SteemJUtils.transformBooleanToByteArray(true))
+                + Utils.HEX.encode(SteemJUtils.transformShortToByteArray(34294))
+                + Utils.HEX.encode(SteemJUtils.transformIntToByteArray((int) 3707022213L))
+                + Utils.HEX.encode(SteemJUtils.transformLongToByteArray(-2L))
+                + Utils.HEX.encode(SteemJUtils.transformIntToVarIntByteArray(300))
+                + Utils.HEX.encode(SteemJUtils.transformLongToVarIntByteArray(1L << 35))
+                + Utils.HEX.encode(SteemJUtils.transformStringToVarIntByteArray("dez1337"))
+                + Utils.HEX.encode(SteemJUtils.transformStringToVarIntByteArray("\u00e4"));
+
+        assertThat(Utils.HEX.encode(byteSink.toByteArray()), equalTo(expected));
+        assertThat(byteSink.size(), equalTo(expected.length() / 2));
+
+        byteSink.reset();
+        assertThat(byteSink.toByteArray().length, equalTo(0));
+    }
+
+    /**
+     * Test that an operation is written completely and that the pooled sink
+     * can be used for nested calls.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testOperation() throws Exception {
+        VoteOperation voteOperation = new VoteOperation(new AccountName("dez1337"), new AccountName("steemj"),
+                new Permlink("steemj-v0-2-4-has-been-released-update-9"), (short) 10000);
+        Asset asset = new Asset(1000, AssetSymbolType.STEEM);
+
+        byte[] serializedContent = ByteSink.toByteArray(byteSink -> {
+            // Request another array while the pooled sink is used.
+            byteSink.writeBytes(voteOperation.toByteArray());
+            asset.writeTo(byteSink);
+        });
+
+        assertThat(Utils.HEX.encode(ByteSink.toByteArray(voteOperation)),
+                equalTo("000764657a3133333706737465656d6a28737465656d6a2d76302d322d342d6861732d6265656e2d72656c"
+                        + "65617365642d7570646174652d391027"));
+        assertThat(Utils.HEX.encode(serializedContent),
+                equalTo(Utils.HEX.encode(voteOperation.toByteArray()) + Utils.HEX.encode(asset.toByteArray())));
+    }
+}
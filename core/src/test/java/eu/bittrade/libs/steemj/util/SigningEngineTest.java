@@ -0,0 +1,73 @@
+package eu.bittrade.libs.steemj.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.Arrays;
+
+import org.bitcoinj.core.DumpedPrivateKey;
+import org.bitcoinj.core.ECKey;
+import org.bitcoinj.core.ECKey.ECDSASignature;
+import org.bitcoinj.core.Sha256Hash;
+import org.bitcoinj.core.Utils;
+import org.junit.Test;
+
+/**
+ * Test that the {@link SigningEngine SigningEngine} creates the same
+ * signatures as bitcoinj.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class SigningEngineTest {
+    private static final ECKey PRIVATE_KEY = DumpedPrivateKey
+            .fromBase58(null, "5KQwrPbwdL6PhXujxW37FSSQZ1JiwsST4cqQzDeyXtP79zkvFD3").getKey();
+
+    /**
+     * Compare the signatures and the recovery ids with the ones of
+     * {@link ECKey#sign(Sha256Hash) ECKey#sign} for several messages.
+     */
+    @Test
+    public void testSign() {
+        SigningEngine signingEngine = SigningEngine.getInstance();
+
+        for (int i = 0; i < 32; i++) {
+            byte[] messageHash = Sha256Hash.hash(new byte[] { (byte) i });
+            byte[] signature = signingEngine.sign(messageHash, PRIVATE_KEY);
+
+            ECDSASignature expectedSignature = PRIVATE_KEY.sign(Sha256Hash.wrap(messageHash));
+            int recoveryId = signature[0] - 27 - (PRIVATE_KEY.isCompressed() ? 4 : 0);
+            ECKey recoveredKey = ECKey.recoverFromSignature(recoveryId, expectedSignature,
+                    Sha256Hash.wrap(messageHash), PRIVATE_KEY.isCompressed());
+
+            assertThat(Utils.HEX.encode(Arrays.copyOfRange(signature, 1, 33)),
+                    equalTo(Utils.HEX.encode(Utils.bigIntegerToBytes(expectedSignature.r, 32))));
+            assertThat(Utils.HEX.encode(Arrays.copyOfRange(signature, 33, 65)),
+                    equalTo(Utils.HEX.encode(Utils.bigIntegerToBytes(expectedSignature.s, 32))));
+            assertThat(recoveredKey.getPubKeyPoint(), equalTo(PRIVATE_KEY.getPubKeyPoint()));
+        }
+    }
+
+    /**
+     * Test that the timestamp is increased in place until the signature is
+     * canonical.
+     */
+    @Test
+    public void testSignCanonical() {
+        SigningEngine signingEngine = SigningEngine.getInstance();
+
+        for (int i = 0; i < 32; i++) {
+            byte[] message = new byte[] { (byte) i, 0, 0, 0, 0 };
+            byte[] signature = signingEngine.signCanonical(message, 1, Arrays.asList(PRIVATE_KEY))[0];
+
+            assertThat(SigningEngine.isCanonical(signature), equalTo(true));
+            assertThat(Utils.HEX.encode(signature),
+                    equalTo(Utils.HEX.encode(signingEngine.sign(signingEngine.sha256(message), PRIVATE_KEY))));
+            for (long timestamp = 0; timestamp < Utils.readUint32(message, 1); timestamp++) {
+                byte[] previousMessage = message.clone();
+                Utils.uint32ToByteArrayLE(timestamp, previousMessage, 1);
+                assertThat(SigningEngine.isCanonical(
+                        signingEngine.sign(signingEngine.sha256(previousMessage), PRIVATE_KEY)), equalTo(false));
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package eu.bittrade.libs.steemj.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.communication.CommunicationHandler;
+
+/**
+ * A single block of a {@link BlockArchive BlockArchive}. The content of the
+ * block is not copied, but read directly from the archive file.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class ArchivedBlock {
+    private final long blockNumber;
+    private final ByteBuffer content;
+
+    /**
+     * Create a new instance.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param content
+     *            The JSON representation of the block.
+     */
+    ArchivedBlock(long blockNumber, ByteBuffer content) {
+        this.blockNumber = blockNumber;
+        this.content = content;
+    }
+
+    /**
+     * @return The number of the block.
+     */
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    /**
+     * Get the JSON representation of the block encoded as UTF-8. The returned
+     * buffer is a read only view of the archive file, so the content is not
+     * copied.
+     * 
+     * @return The JSON representation of the block.
+     */
+    public ByteBuffer getContent() {
+        return content.duplicate();
+    }
+
+    /**
+     * Transform the content of this block into an object.
+     * 
+     * @return The block.
+     * @throws IOException
+     *             If the content could not be transformed.
+     */
+    public SignedBlockWithInfo getBlock() throws IOException {
+        return CommunicationHandler.getObjectMapper().readValue(new ByteBufferBackedInputStream(getContent()),
+                SignedBlockWithInfo.class);
+    }
+}
@@ -0,0 +1,575 @@
+package eu.bittrade.libs.steemj.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.bittrade.libs.steemj.base.models.SignedBlockWithInfo;
+import eu.bittrade.libs.steemj.streaming.BlockStore;
+
+/**
+ * This class stores blocks in local files, so they don't have to be requested
+ * from a Steem Node again.
+ * 
+ * <p>
+ * The blocks are stored exactly as they have been returned by the Steem Node
+ * and are appended to segment files with a fixed maximum size. An index file
+ * contains an entry with a fixed width for each block number, which points to
+ * the position of the block in the segment files. Both the segment files and
+ * the index are memory mapped, so a block is located by a single calculation
+ * and its content is read without copying it (see
+ * {@link ArchivedBlock#getContent() getContent}).
+ * </p>
+ * 
+ * <p>
+ * The files are never modified in place, but the blocks are not written to
+ * the disk before {@link #flush()} or {@link #close()} has been called. If
+ * the process crashes, the blocks appended since the last flush may be lost,
+ * but the archive stays consistent.
+ * </p>
+ * 
+ * <p>
+ * An archive can be passed to a
+ * {@link eu.bittrade.libs.steemj.streaming.BlockStreamer BlockStreamer}, which
+ * will then read the blocks from the archive first and add the irreversible
+ * blocks it has to request from the Steem Node.
+ * </p>
+ * 
+ * Example:
+ * 
+ * <pre>
+ * try (BlockArchive blockArchive = new BlockArchive(Paths.get("blocks"))) {
+ *     for (ArchivedBlock archivedBlock : blockArchive.getBlocks(15000000L, 15001000L)) {
+ *         System.out.println(archivedBlock.getBlock().getBlockId());
+ *     }
+ * }
+ * </pre>
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockArchive implements BlockStore, Iterable<ArchivedBlock>, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BlockArchive.class);
+
+    /** The maximum size of a segment file in bytes used by default. */
+    public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024 * 1024;
+
+    private static final String INDEX_FILE_NAME = "blocks.idx";
+    /** The first bytes of the index file ("SJBA"). */
+    private static final int MAGIC_NUMBER = 0x534A4241;
+    private static final int VERSION = 1;
+    /**
+     * The header of the index file consists of the magic number, the version,
+     * the segment size and the number of the first block.
+     */
+    private static final int HEADER_SIZE = 32;
+    private static final int FIRST_BLOCK_NUMBER_POSITION = 12;
+    /**
+     * Each entry consists of the segment, the offset in the segment, the
+     * length and the checksum of the block. A length of 0 marks a missing
+     * block.
+     */
+    private static final int ENTRY_SIZE = 16;
+    /** The index is mapped in chunks of this number of entries. */
+    private static final int ENTRIES_PER_CHUNK = 1 << 16;
+    private static final int CHUNK_SIZE = ENTRIES_PER_CHUNK * ENTRY_SIZE;
+
+    private final Path directory;
+    private final Path indexFile;
+    private final int segmentSize;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> indexChunks = new ArrayList<>();
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private long firstBlockNumber;
+    private long lastBlockNumber;
+    private int writeSegment;
+    private int writePosition;
+    private boolean closed;
+
+    /**
+     * Open the archive stored in the given directory or create a new archive
+     * using the {@link #DEFAULT_SEGMENT_SIZE DEFAULT_SEGMENT_SIZE}.
+     * 
+     * @param directory
+     *            The directory containing the archive files.
+     * @throws IOException
+     *             If the archive could not be opened.
+     */
+    public BlockArchive(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Open the archive stored in the given directory or create a new archive.
+     * 
+     * @param directory
+     *            The directory containing the archive files.
+     * @param segmentSize
+     *            The maximum size of a segment file in bytes. This value is
+     *            only used for new archives, existing archives keep their
+     *            segment size.
+     * @throws IOException
+     *             If the archive could not be opened or if the directory does
+     *             not contain a valid archive.
+     * @throws IllegalArgumentException
+     *             If the segmentSize is not positive.
+     */
+    public BlockArchive(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("The segmentSize has to be greater than 0.");
+        }
+
+        Files.createDirectories(directory);
+        this.directory = directory;
+        this.indexFile = directory.resolve(INDEX_FILE_NAME);
+
+        boolean newArchive = !Files.exists(indexFile);
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+        }
+
+        if (newArchive) {
+            header.putInt(0, MAGIC_NUMBER);
+            header.putInt(4, VERSION);
+            header.putInt(8, segmentSize);
+            header.force();
+        } else if (header.getInt(0) != MAGIC_NUMBER || header.getInt(4) != VERSION) {
+            throw new IOException("The file " + indexFile + " is not a block archive index.");
+        }
+
+        this.segmentSize = header.getInt(8);
+        this.firstBlockNumber = header.getLong(FIRST_BLOCK_NUMBER_POSITION);
+        this.lastBlockNumber = firstBlockNumber - 1;
+
+        recover();
+    }
+
+    /**
+     * @return The number of the first block this archive can contain, or 0
+     *         if no block has been added yet.
+     */
+    public synchronized long getFirstBlockNumber() {
+        return firstBlockNumber;
+    }
+
+    /**
+     * @return The highest block number stored in this archive, or 0 if no
+     *         block has been added yet.
+     */
+    public synchronized long getLastBlockNumber() {
+        return Math.max(lastBlockNumber, 0);
+    }
+
+    /**
+     * Check if the given block is stored in this archive.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @return True if the block is stored.
+     */
+    public synchronized boolean containsBlock(long blockNumber) {
+        return getBlockContent(blockNumber) != null;
+    }
+
+    /**
+     * Get a stored block without transforming it.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @return The block, or null if the block is not stored.
+     */
+    public synchronized ArchivedBlock getArchivedBlock(long blockNumber) {
+        ByteBuffer content = getBlockContent(blockNumber);
+        return content == null ? null : new ArchivedBlock(blockNumber, content);
+    }
+
+    @Override
+    public SignedBlockWithInfo getBlock(long blockNumber) throws IOException {
+        ArchivedBlock archivedBlock = getArchivedBlock(blockNumber);
+        return archivedBlock == null ? null : archivedBlock.getBlock();
+    }
+
+    /**
+     * Get the stored blocks in the given range in the order of their block
+     * numbers. Missing blocks are skipped.
+     * 
+     * @param fromBlockNumber
+     *            The number of the first block (inclusive).
+     * @param toBlockNumber
+     *            The number of the last block (inclusive).
+     * @return The blocks.
+     */
+    public Iterable<ArchivedBlock> getBlocks(long fromBlockNumber, long toBlockNumber) {
+        return () -> new ArchivedBlockIterator(fromBlockNumber, toBlockNumber);
+    }
+
+    /**
+     * Iterate over all blocks stored in this archive in the order of their
+     * block numbers.
+     */
+    @Override
+    public Iterator<ArchivedBlock> iterator() {
+        return new ArchivedBlockIterator(getFirstBlockNumber(), getLastBlockNumber());
+    }
+
+    /**
+     * Add a block to this archive. The number of the first block added to a
+     * new archive defines the first block number the archive can contain.
+     * Blocks may be added in any order after that, but a block that has been
+     * stored can't be replaced.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @param content
+     *            The JSON representation of the block encoded as UTF-8.
+     * @return True if the block has been added, false if it is already
+     *         stored.
+     * @throws IOException
+     *             If a new segment file could not be created.
+     * @throws IllegalArgumentException
+     *             If the block number is lower than the first block number of
+     *             this archive or if the content is empty or larger than a
+     *             segment.
+     * @throws IllegalStateException
+     *             If the archive has been closed.
+     */
+    public synchronized boolean append(long blockNumber, ByteBuffer content) throws IOException {
+        ensureOpen();
+        if (blockNumber < 1 || (firstBlockNumber > 0 && blockNumber < firstBlockNumber)) {
+            throw new IllegalArgumentException("The block " + blockNumber + " can't be added to an archive starting at "
+                    + firstBlockNumber + ".");
+        } else if (!content.hasRemaining() || content.remaining() > segmentSize) {
+            throw new IllegalArgumentException("The size of a block has to be between 1 and " + segmentSize + ".");
+        }
+
+        if (firstBlockNumber == 0) {
+            firstBlockNumber = blockNumber;
+            lastBlockNumber = blockNumber - 1;
+            header.putLong(FIRST_BLOCK_NUMBER_POSITION, blockNumber);
+            header.force();
+        } else if (getBlockContent(blockNumber) != null) {
+            return false;
+        }
+
+        int length = content.remaining();
+        if (writePosition > segmentSize - length) {
+            // Make sure that a complete segment is on the disk before the
+            // next one is started.
+            getSegment(writeSegment, true).force();
+            writeSegment++;
+            writePosition = 0;
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(content.duplicate());
+
+        ByteBuffer segment = getSegment(writeSegment, true).duplicate();
+        segment.position(writePosition);
+        segment.put(content.duplicate());
+
+        ByteBuffer indexChunk = getIndexChunk(getEntryNumber(blockNumber), true);
+        int entryPosition = getEntryPosition(blockNumber);
+        indexChunk.putInt(entryPosition, writeSegment);
+        indexChunk.putInt(entryPosition + 4, writePosition);
+        indexChunk.putInt(entryPosition + 12, (int) checksum.getValue());
+        // The length is written last, as it marks the entry as valid.
+        indexChunk.putInt(entryPosition + 8, length);
+
+        writePosition += length;
+        lastBlockNumber = Math.max(lastBlockNumber, blockNumber);
+        return true;
+    }
+
+    /**
+     * Add a block to this archive if this archive can contain it (see
+     * {@link #append(long, ByteBuffer) append}).
+     */
+    @Override
+    public void storeBlock(long blockNumber, byte[] rawBlock) throws IOException {
+        synchronized (this) {
+            if (firstBlockNumber > 0 && blockNumber < firstBlockNumber) {
+                LOGGER.debug("Ignoring the block {} as the archive starts at block {}.", blockNumber,
+                        firstBlockNumber);
+                return;
+            }
+
+            append(blockNumber, ByteBuffer.wrap(rawBlock));
+        }
+    }
+
+    /**
+     * Write all blocks that have been added to the disk. The segments are
+     * written before the index, so the index never points to a block that
+     * has not been written.
+     * 
+     * @throws IllegalStateException
+     *             If the archive has been closed.
+     */
+    public synchronized void flush() {
+        ensureOpen();
+        if (writeSegment < segments.size() && segments.get(writeSegment) != null) {
+            segments.get(writeSegment).force();
+        }
+        for (MappedByteBuffer indexChunk : indexChunks) {
+            indexChunk.force();
+        }
+    }
+
+    /**
+     * Write all blocks to the disk and close this archive. Buffers returned
+     * by this archive must not be used anymore afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        flush();
+        closed = true;
+        indexChunks.clear();
+        segments.clear();
+    }
+
+    /**
+     * Read the index after the archive has been opened: Find the last block
+     * and the position for the next block and remove the entries of the last
+     * segment whose blocks have not been written completely.
+     * 
+     * @throws IOException
+     *             If the index could not be read.
+     */
+    private void recover() throws IOException {
+        long indexSize = Files.size(indexFile);
+        long numberOfChunks = (indexSize - HEADER_SIZE + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (firstBlockNumber == 0 || numberOfChunks < 1) {
+            return;
+        }
+        getIndexChunk((numberOfChunks - 1) * ENTRIES_PER_CHUNK, true);
+
+        // The blocks of all segments except the last one have been forced to
+        // the disk before the next segment has been started.
+        for (MappedByteBuffer indexChunk : indexChunks) {
+            for (int position = 0; position < CHUNK_SIZE; position += ENTRY_SIZE) {
+                if (indexChunk.getInt(position + 8) != 0) {
+                    writeSegment = Math.max(writeSegment, indexChunk.getInt(position));
+                }
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        long blockNumber = firstBlockNumber;
+        for (MappedByteBuffer indexChunk : indexChunks) {
+            for (int position = 0; position < CHUNK_SIZE; position += ENTRY_SIZE, blockNumber++) {
+                int length = indexChunk.getInt(position + 8);
+                if (length == 0) {
+                    continue;
+                }
+
+                int segment = indexChunk.getInt(position);
+                int offset = indexChunk.getInt(position + 4);
+                if (segment == writeSegment) {
+                    ByteBuffer content = getSegment(segment, true).duplicate();
+                    content.position(offset);
+                    content.limit(offset + length);
+                    checksum.reset();
+                    checksum.update(content);
+
+                    if ((int) checksum.getValue() != indexChunk.getInt(position + 12)) {
+                        LOGGER.warn("The block {} has not been written completely and is removed from the archive.",
+                                blockNumber);
+                        indexChunk.putInt(position + 8, 0);
+                        continue;
+                    }
+                    writePosition = Math.max(writePosition, offset + length);
+                }
+                lastBlockNumber = Math.max(lastBlockNumber, blockNumber);
+            }
+        }
+    }
+
+    /**
+     * Get the content of a block.
+     * 
+     * @param blockNumber
+     *            The number of the block.
+     * @return A read only view of the content, or null if the block is not
+     *         stored.
+     */
+    private ByteBuffer getBlockContent(long blockNumber) {
+        ensureOpen();
+        if (blockNumber < firstBlockNumber || blockNumber > lastBlockNumber) {
+            return null;
+        }
+
+        ByteBuffer indexChunk = getIndexChunk(getEntryNumber(blockNumber), false);
+        int entryPosition = getEntryPosition(blockNumber);
+        int length = indexChunk == null ? 0 : indexChunk.getInt(entryPosition + 8);
+        if (length == 0) {
+            return null;
+        }
+
+        int offset = indexChunk.getInt(entryPosition + 4);
+        ByteBuffer content;
+        try {
+            content = getSegment(indexChunk.getInt(entryPosition), false).asReadOnlyBuffer();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not open the segment of the block " + blockNumber + ".", e);
+        }
+        content.position(offset);
+        content.limit(offset + length);
+
+        return content.slice();
+    }
+
+    /**
+     * @param blockNumber
+     *            The number of a block.
+     * @return The number of the index entry of the block.
+     */
+    private long getEntryNumber(long blockNumber) {
+        return blockNumber - firstBlockNumber;
+    }
+
+    /**
+     * @param blockNumber
+     *            The number of a block.
+     * @return The position of the index entry of the block in its chunk.
+     */
+    private int getEntryPosition(long blockNumber) {
+        return (int) (getEntryNumber(blockNumber) % ENTRIES_PER_CHUNK) * ENTRY_SIZE;
+    }
+
+    /**
+     * Get the chunk of the index containing the given entry.
+     * 
+     * @param entryNumber
+     *            The number of the entry.
+     * @param create
+     *            True if the index should be extended to contain the entry.
+     * @return The chunk, or null if the index does not contain the entry.
+     */
+    private MappedByteBuffer getIndexChunk(long entryNumber, boolean create) {
+        int chunkNumber = (int) (entryNumber / ENTRIES_PER_CHUNK);
+        if (chunkNumber >= indexChunks.size()) {
+            if (!create) {
+                return null;
+            }
+
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                while (chunkNumber >= indexChunks.size()) {
+                    indexChunks.add(channel.map(MapMode.READ_WRITE,
+                            HEADER_SIZE + (long) indexChunks.size() * CHUNK_SIZE, CHUNK_SIZE));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not extend the index.", e);
+            }
+        }
+
+        return indexChunks.get(chunkNumber);
+    }
+
+    /**
+     * Get a segment. Segments are mapped on their first access.
+     * 
+     * @param segmentNumber
+     *            The number of the segment.
+     * @param writable
+     *            True if the segment is created if it does not exist.
+     * @return The segment.
+     * @throws IOException
+     *             If the segment could not be opened.
+     */
+    private MappedByteBuffer getSegment(int segmentNumber, boolean writable) throws IOException {
+        while (segmentNumber >= segments.size()) {
+            segments.add(null);
+        }
+
+        MappedByteBuffer segment = segments.get(segmentNumber);
+        if (segment == null || (writable && segment.isReadOnly())) {
+            Path segmentFile = directory.resolve(String.format("blocks-%05d.dat", segmentNumber));
+            if (writable) {
+                try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    segment = channel.map(MapMode.READ_WRITE, 0, segmentSize);
+                }
+            } else {
+                try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+                    segment = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            segments.set(segmentNumber, segment);
+        }
+
+        return segment;
+    }
+
+    /**
+     * @throws IllegalStateException
+     *             If the archive has been closed.
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The archive has been closed.");
+        }
+    }
+
+    /**
+     * Iterates over the blocks of a range and skips missing blocks.
+     */
+    private class ArchivedBlockIterator implements Iterator<ArchivedBlock> {
+        private final long toBlockNumber;
+        private long blockNumber;
+        private ArchivedBlock nextBlock;
+
+        /**
+         * Create a new instance.
+         * 
+         * @param fromBlockNumber
+         *            The number of the first block (inclusive).
+         * @param toBlockNumber
+         *            The number of the last block (inclusive).
+         */
+        ArchivedBlockIterator(long fromBlockNumber, long toBlockNumber) {
+            this.blockNumber = fromBlockNumber;
+            this.toBlockNumber = toBlockNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            synchronized (BlockArchive.this) {
+                long lastBlock = Math.min(toBlockNumber, lastBlockNumber);
+                while (nextBlock == null && blockNumber <= lastBlock) {
+                    nextBlock = getArchivedBlock(blockNumber++);
+                }
+            }
+
+            return nextBlock != null;
+        }
+
+        @Override
+        public ArchivedBlock next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            ArchivedBlock archivedBlock = nextBlock;
+            nextBlock = null;
+            return archivedBlock;
+        }
+    }
+}
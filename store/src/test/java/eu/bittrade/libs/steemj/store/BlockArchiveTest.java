@@ -0,0 +1,132 @@
+package eu.bittrade.libs.steemj.store;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test that blocks can be added to an archive and read again.
+ * 
+ * @author <a href="http://steemit.com/@dez1337">dez1337</a>
+ */
+public class BlockArchiveTest {
+    /** The first block of the Steem main net. */
+    private static final String BLOCK = "{\"previous\":\"0000000000000000000000000000000000000000\","
+            + "\"timestamp\":\"2016-03-24T16:05:00\",\"witness\":\"initminer\","
+            + "\"transaction_merkle_root\":\"0000000000000000000000000000000000000000\",\"extensions\":[],"
+            + "\"witness_signature\":\"204f8ad56a8f5cf722a02b035a61b500aa59b9519b2c33c77a80c0a714680a5a5a7a340d909d"
+            + "19996613c5e4ae92146b9add8a7a663eef37d837ef881477313043\",\"transactions\":[],"
+            + "\"block_id\":\"0000000109833ce528d5bbfb3f6225b39ee10086\","
+            + "\"signing_key\":\"STM8GC13uCZbP44HzMLV6zPZGwVQ8Nt4Kji8PapsPiNq1BK153XTX\",\"transaction_ids\":[]}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Test that blocks added in any order can be read, scanned and that they
+     * are still available after the archive has been opened again.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testAppendAndRead() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        // Use small segments, so the blocks are spread over multiple files.
+        try (BlockArchive blockArchive = new BlockArchive(directory, BLOCK.length() + 16)) {
+            assertThat(blockArchive.getBlock(1L), nullValue());
+            assertThat(blockArchive.append(1L, toContent(BLOCK)), equalTo(true));
+            assertThat(blockArchive.append(4L, toContent("block 4")), equalTo(true));
+            assertThat(blockArchive.append(3L, toContent("block 3")), equalTo(true));
+            assertThat(blockArchive.append(3L, toContent("block 3")), equalTo(false));
+            // Blocks in front of the first block are ignored by the store.
+            blockArchive.storeBlock(0L, "block 0".getBytes(StandardCharsets.UTF_8));
+
+            assertThat(blockArchive.getBlock(1L).getBlockId().getNumberFromHash(), equalTo(1));
+            assertThat(blockArchive.containsBlock(0L), equalTo(false));
+            assertThat(blockArchive.containsBlock(2L), equalTo(false));
+        }
+
+        try (BlockArchive blockArchive = new BlockArchive(directory)) {
+            assertThat(blockArchive.getFirstBlockNumber(), equalTo(1L));
+            assertThat(blockArchive.getLastBlockNumber(), equalTo(4L));
+
+            List<Long> blockNumbers = new ArrayList<>();
+            for (ArchivedBlock archivedBlock : blockArchive.getBlocks(2L, 4L)) {
+                blockNumbers.add(archivedBlock.getBlockNumber());
+                assertThat(toString(archivedBlock.getContent()),
+                        equalTo("block " + archivedBlock.getBlockNumber()));
+            }
+            assertThat(blockNumbers.toString(), equalTo("[3, 4]"));
+
+            blockArchive.append(2L, toContent("block 2"));
+            int numberOfBlocks = 0;
+            for (ArchivedBlock archivedBlock : blockArchive) {
+                assertThat(archivedBlock.getBlockNumber(), equalTo(1L + numberOfBlocks++));
+            }
+            assertThat(numberOfBlocks, equalTo(4));
+        }
+    }
+
+    /**
+     * Test that a block which has not been written completely before a crash
+     * is removed when the archive is opened again.
+     * 
+     * @throws Exception
+     *             If something went wrong.
+     */
+    @Test
+    public void testRecovery() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (BlockArchive blockArchive = new BlockArchive(directory, 64)) {
+            blockArchive.append(1L, toContent("block 1"));
+            blockArchive.append(2L, toContent("block 2"));
+        }
+
+        // Simulate that the content of the last block has not been written.
+        Path segmentFile = directory.resolve("blocks-00000.dat");
+        byte[] segment = Files.readAllBytes(segmentFile);
+        segment["block 1".length()] = 0;
+        Files.write(segmentFile, segment);
+
+        try (BlockArchive blockArchive = new BlockArchive(directory, 64)) {
+            assertThat(blockArchive.getLastBlockNumber(), equalTo(1L));
+            assertThat(blockArchive.getArchivedBlock(2L), nullValue());
+
+            blockArchive.append(2L, toContent("block 2"));
+            assertThat(toString(blockArchive.getArchivedBlock(1L).getContent()), equalTo("block 1"));
+            assertThat(toString(blockArchive.getArchivedBlock(2L).getContent()), equalTo("block 2"));
+        }
+    }
+
+    /**
+     * @param content
+     *            A string.
+     * @return The string encoded as UTF-8.
+     */
+    private static ByteBuffer toContent(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param content
+     *            The content of a block.
+     * @return The content decoded as UTF-8.
+     */
+    private static String toString(ByteBuffer content) {
+        return StandardCharsets.UTF_8.decode(content).toString();
+    }
+}